@@ -0,0 +1,20 @@
+package com.mapbox.navigation.base.internal.extensions
+
+private const val ACCESS_TOKEN_PARAMETER = "access_token="
+
+/**
+ * Appends the access token to a guidance view image URL, unless the URL already has one.
+ *
+ * The same URL is built when a guidance view is displayed and when it is prefetched,
+ * so that both are served by the same cache entry.
+ *
+ * @receiver guidance view image URL from the banner components
+ * @param accessToken Mapbox access token
+ * @return URL to request the guidance view image with
+ */
+fun String.withGuidanceViewAccessToken(accessToken: String?): String =
+    if (contains(ACCESS_TOKEN_PARAMETER)) {
+        this
+    } else {
+        plus("&$ACCESS_TOKEN_PARAMETER$accessToken")
+    }
@@ -9,6 +9,7 @@ import android.text.style.RelativeSizeSpan
 import android.text.style.StyleSpan
 import com.mapbox.navigation.base.R
 import com.mapbox.navigation.base.TimeFormat
+import com.mapbox.navigation.base.internal.extensions.inferDeviceLocale
 import com.mapbox.navigation.base.time.TimeFormattingChain
 import com.mapbox.navigation.base.time.span.SpanItem
 import com.mapbox.navigation.base.time.span.TextSpanItem
@@ -20,10 +21,27 @@ import java.util.concurrent.TimeUnit
 
 /**
  * Default Time Formatter
+ *
+ * Localized units are resolved once per locale, and remaining times are formatted once per
+ * displayed days, hours and minutes.
  */
 object TimeFormatter {
 
     private const val TIME_STRING_FORMAT = " %s "
+    private const val MAX_FORMATTED_TIMES = 32
+    private const val LOAD_FACTOR = 0.75f
+
+    private val localizedTimeUnits = HashMap<Locale, LocalizedTimeUnits>()
+    private val formattedTimesRemaining =
+        object : LinkedHashMap<TimeRemainingKey, SpannableStringBuilder>(
+            MAX_FORMATTED_TIMES,
+            LOAD_FACTOR,
+            true
+        ) {
+            override fun removeEldestEntry(
+                eldest: MutableMap.MutableEntry<TimeRemainingKey, SpannableStringBuilder>?
+            ) = size > MAX_FORMATTED_TIMES
+        }
 
     /**
      * Format time
@@ -51,7 +69,8 @@ object TimeFormatter {
      *
      * @param context Context
      * @param routeDuration route duration in seconds
-     * @return SpannableStringBuilder
+     * @param locale to format with, the device locale is used if null
+     * @return SpannableStringBuilder, a copy which shares its spans with the cached one
      */
     @JvmStatic
     fun formatTimeRemaining(
@@ -71,17 +90,52 @@ object TimeFormatter {
         val hours = hoursAndMinutes.first
         val minutes = hoursAndMinutes.second
 
-        val textSpanItems = ArrayList<SpanItem>()
-        val resources = context.resourcesWithLocale(locale)
-        formatDays(resources, days, textSpanItems)
-        formatHours(resources, hours, textSpanItems)
-        formatMinutes(resources, minutes, textSpanItems)
-        formatNoData(resources, days, hours, minutes, textSpanItems)
-        return textSpanItems.combineSpan()
+        val localeToUse = locale ?: context.inferDeviceLocale()
+        val key = TimeRemainingKey(localeToUse, days, hours, minutes)
+        val formattedTime = synchronized(formattedTimesRemaining) {
+            formattedTimesRemaining.getOrPut(key) {
+                val textSpanItems = ArrayList<SpanItem>()
+                val timeUnits = getLocalizedTimeUnits(context, localeToUse)
+                formatDays(context, localeToUse, days, textSpanItems)
+                formatHours(timeUnits, hours, textSpanItems)
+                formatMinutes(timeUnits, minutes, textSpanItems)
+                formatNoData(timeUnits, days, hours, minutes, textSpanItems)
+                textSpanItems.combineSpan()
+            }
+        }
+        return SpannableStringBuilder(formattedTime)
+    }
+
+    /**
+     * Drops the localized units and the formatted remaining times, e.g. when the resources
+     * of the app changed.
+     */
+    @JvmStatic
+    fun clearCache() {
+        synchronized(formattedTimesRemaining) {
+            formattedTimesRemaining.clear()
+            localizedTimeUnits.clear()
+        }
     }
 
-    private fun formatDays(resources: Resources, days: Long, textSpanItems: MutableList<SpanItem>) {
+    private fun getLocalizedTimeUnits(context: Context, locale: Locale): LocalizedTimeUnits =
+        localizedTimeUnits.getOrPut(locale) {
+            val resources = context.resourcesWithLocale(locale)
+            LocalizedTimeUnits(
+                String.format(TIME_STRING_FORMAT, resources.getString(R.string.mapbox_unit_hr)),
+                String.format(TIME_STRING_FORMAT, resources.getString(R.string.mapbox_unit_min))
+            )
+        }
+
+    private fun formatDays(
+        context: Context,
+        locale: Locale,
+        days: Long,
+        textSpanItems: MutableList<SpanItem>
+    ) {
         if (days != 0L) {
+            // the quantity string depends on the days, resolved when a new number of days is formatted
+            val resources = context.resourcesWithLocale(locale)
             val dayQuantityString =
                 resources.getQuantityString(R.plurals.mapbox_number_of_days, days.toInt())
             val dayString = String.format(TIME_STRING_FORMAT, dayQuantityString)
@@ -91,43 +145,37 @@ object TimeFormatter {
     }
 
     private fun formatHours(
-        resources: Resources,
+        timeUnits: LocalizedTimeUnits,
         hours: Long,
         textSpanItems: MutableList<SpanItem>
     ) {
         if (hours != 0L) {
-            val hourString =
-                String.format(TIME_STRING_FORMAT, resources.getString(R.string.mapbox_unit_hr))
             textSpanItems.add(TextSpanItem(StyleSpan(Typeface.BOLD), hours.toString()))
-            textSpanItems.add(TextSpanItem(RelativeSizeSpan(1f), hourString))
+            textSpanItems.add(TextSpanItem(RelativeSizeSpan(1f), timeUnits.hour))
         }
     }
 
     private fun formatMinutes(
-        resources: Resources,
+        timeUnits: LocalizedTimeUnits,
         minutes: Long,
         textSpanItems: MutableList<SpanItem>
     ) {
         if (minutes != 0L) {
-            val minuteString =
-                String.format(TIME_STRING_FORMAT, resources.getString(R.string.mapbox_unit_min))
             textSpanItems.add(TextSpanItem(StyleSpan(Typeface.BOLD), minutes.toString()))
-            textSpanItems.add(TextSpanItem(RelativeSizeSpan(1f), minuteString))
+            textSpanItems.add(TextSpanItem(RelativeSizeSpan(1f), timeUnits.minute))
         }
     }
 
     private fun formatNoData(
-        resources: Resources,
+        timeUnits: LocalizedTimeUnits,
         days: Long,
         hours: Long,
         minutes: Long,
         textSpanItems: MutableList<SpanItem>
     ) {
         if (days == 0L && hours == 0L && minutes == 0L) {
-            val minuteString =
-                String.format(TIME_STRING_FORMAT, resources.getString(R.string.mapbox_unit_min))
             textSpanItems.add(TextSpanItem(StyleSpan(Typeface.BOLD), 1.toString()))
-            textSpanItems.add(TextSpanItem(RelativeSizeSpan(1f), minuteString))
+            textSpanItems.add(TextSpanItem(RelativeSizeSpan(1f), timeUnits.minute))
         }
     }
 
@@ -138,6 +186,15 @@ object TimeFormatter {
         return this.createConfigurationContext(config).resources
     }
 
+    private class LocalizedTimeUnits(val hour: String, val minute: String)
+
+    private data class TimeRemainingKey(
+        val locale: Locale,
+        val days: Long,
+        val hours: Long,
+        val minutes: Long
+    )
+
     private fun getHoursAndMinutes(seconds: Long): Pair<Long, Long> {
         val initialHoursValue = TimeUnit.SECONDS.toHours(seconds)
         val leftOverSeconds = seconds - TimeUnit.HOURS.toSeconds(initialHoursValue)
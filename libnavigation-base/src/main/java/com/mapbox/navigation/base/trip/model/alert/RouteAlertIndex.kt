@@ -0,0 +1,113 @@
+package com.mapbox.navigation.base.trip.model.alert
+
+import androidx.annotation.IntRange
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.core.constants.Constants
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Resolves the geometries of the alerts of a route and finds the alerts ahead.
+ *
+ * The route geometry is decoded once, the first time a geometry is resolved, and each alert
+ * geometry is sliced from it once. Create a new instance when the route changes.
+ *
+ * @param directionsRoute the route that the alerts are a part of.
+ * @param precision precision of the polyline encoding.
+ * Possible values are [Constants.PRECISION_5] and [Constants.PRECISION_6].
+ * See [RouteOptions.Builder.geometries].
+ * @param routeAlerts alerts of the route.
+ */
+class RouteAlertIndex(
+    private val directionsRoute: DirectionsRoute,
+    @IntRange(from = 5, to = 6) private val precision: Int,
+    routeAlerts: List<RouteAlert>
+) {
+
+    private val sortedAlerts = routeAlerts.sortedBy { it.distance }
+    private val alertDistances = DoubleArray(sortedAlerts.size) { sortedAlerts[it].distance }
+    private val routeCoordinates: List<Point> by lazy {
+        LineString.fromPolyline(directionsRoute.geometry()!!, precision).coordinates()
+    }
+    private val lineStrings = ConcurrentHashMap<RouteAlertGeometry, LineString>()
+
+    /**
+     * Alerts of the route, sorted by their distance since the start of the route.
+     */
+    val routeAlerts: List<RouteAlert> get() = sortedAlerts
+
+    /**
+     * Returns a [LineString] geometry of the alert.
+     *
+     * @param alertGeometry geometry of an alert of the route.
+     */
+    fun toLineString(alertGeometry: RouteAlertGeometry): LineString =
+        lineStrings.getOrPut(alertGeometry) {
+            LineString.fromLngLats(
+                routeCoordinates.slice(
+                    alertGeometry.startGeometryIndex..alertGeometry.endGeometryIndex
+                )
+            )
+        }
+
+    /**
+     * Returns the alerts which start ahead, closest first.
+     *
+     * @param distanceTraveled distance traveled since the start of the route.
+     * @param withinMeters how far ahead to look for alerts.
+     */
+    fun alertsAhead(distanceTraveled: Double, withinMeters: Double): List<RouteAlert> {
+        check(withinMeters >= 0) {
+            "withinMeters must be greater than or equal to 0: $withinMeters"
+        }
+        val fromIndex = firstIndexAtOrAfter(distanceTraveled)
+        val toIndex = firstIndexAfter(distanceTraveled + withinMeters, fromIndex)
+        return sortedAlerts.subList(fromIndex, toIndex)
+    }
+
+    /**
+     * Returns the closest alert which starts ahead, or null if there is none.
+     *
+     * @param distanceTraveled distance traveled since the start of the route.
+     * @param withinMeters how far ahead to look for an alert.
+     */
+    fun nextAlertWithin(distanceTraveled: Double, withinMeters: Double): RouteAlert? {
+        check(withinMeters >= 0) {
+            "withinMeters must be greater than or equal to 0: $withinMeters"
+        }
+        val index = firstIndexAtOrAfter(distanceTraveled)
+        return sortedAlerts.getOrNull(index)?.takeIf {
+            it.distance <= distanceTraveled + withinMeters
+        }
+    }
+
+    private fun firstIndexAtOrAfter(distance: Double): Int {
+        var low = 0
+        var high = alertDistances.size
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (alertDistances[middle] < distance) {
+                low = middle + 1
+            } else {
+                high = middle
+            }
+        }
+        return low
+    }
+
+    private fun firstIndexAfter(distance: Double, fromIndex: Int): Int {
+        var low = fromIndex
+        var high = alertDistances.size
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (alertDistances[middle] <= distance) {
+                low = middle + 1
+            } else {
+                high = middle
+            }
+        }
+        return low
+    }
+}
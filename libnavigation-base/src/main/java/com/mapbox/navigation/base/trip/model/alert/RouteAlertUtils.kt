@@ -15,6 +15,9 @@ import com.mapbox.geojson.LineString
  * @param precision precision of the polyline encoding.
  * Possible values are [Constants.PRECISION_5] and [Constants.PRECISION_6].
  * See [RouteOptions.Builder.geometries].
+ *
+ * The route geometry is decoded on every call, use [RouteAlertIndex] to decode it once
+ * for all the alerts of a route.
  */
 fun RouteAlertGeometry.toLineString(
     directionsRoute: DirectionsRoute,
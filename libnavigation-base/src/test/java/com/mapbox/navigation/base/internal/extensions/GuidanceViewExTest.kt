@@ -0,0 +1,23 @@
+package com.mapbox.navigation.base.internal.extensions
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class GuidanceViewExTest {
+
+    @Test
+    fun `access token is appended`() {
+        val url = "https://api.mapbox.com/guidance-views/v1/1580515200/jct/CA075101?arrow_ids=CA07510E"
+
+        assertEquals("$url&access_token=pk.token", url.withGuidanceViewAccessToken("pk.token"))
+    }
+
+    @Test
+    fun `access token is appended once`() {
+        val url = "https://api.mapbox.com/guidance-views/v1/1580515200/jct/CA075101?arrow_ids=CA07510E"
+
+        val tokenUrl = url.withGuidanceViewAccessToken("pk.token")
+
+        assertEquals(tokenUrl, tokenUrl.withGuidanceViewAccessToken("pk.token"))
+    }
+}
@@ -0,0 +1,173 @@
+package com.mapbox.navigation.base.trip.model.alert
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.core.constants.Constants.PRECISION_6
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.utils.PolylineUtils
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RouteAlertIndexTest {
+
+    @Test
+    fun `alert geometry linestring matches the decoded route`() {
+        val directionsRoute = getDirectionsRoutesFromJsonResponse(
+            "mock_response_multi_leg_route_alerts_restricted_tunnel.json"
+        )
+        val alertGeometry = RouteAlertGeometry.Builder(
+            length = 43.13547754234237,
+            startCoordinate = Point.fromLngLat(17.043299, 51.117504),
+            startGeometryIndex = 2,
+            endCoordinate = Point.fromLngLat(17.043203, 51.117191),
+            endGeometryIndex = 7
+        ).build()
+        val index = RouteAlertIndex(
+            directionsRoute,
+            PRECISION_6,
+            listOf(alert(0.0, alertGeometry))
+        )
+
+        val actualLineString = index.toLineString(alertGeometry)
+
+        assertEquals(alertGeometry.toLineString(directionsRoute, PRECISION_6), actualLineString)
+    }
+
+    @Test
+    fun `route is decoded once for all the alerts`() {
+        val route = longRoute()
+        val alerts = longRouteAlerts()
+        val index = RouteAlertIndex(route, PRECISION_6, alerts)
+
+        alerts.forEach { index.toLineString(it.alertGeometry!!) }
+
+        verify(exactly = 1) { route.geometry() }
+    }
+
+    @Test
+    fun `alert geometry is resolved once`() {
+        val alerts = longRouteAlerts()
+        val index = RouteAlertIndex(longRoute(), PRECISION_6, alerts)
+
+        val first = index.toLineString(alerts[10].alertGeometry!!)
+        val second = index.toLineString(alerts[10].alertGeometry!!)
+
+        assertSame(first, second)
+    }
+
+    @Test
+    fun `alert geometries on a long route match the sliced route`() {
+        val route = longRoute()
+        val routeLineString = LineString.fromPolyline(route.geometry()!!, PRECISION_6)
+        val alerts = longRouteAlerts()
+        val index = RouteAlertIndex(route, PRECISION_6, alerts)
+
+        alerts.forEach {
+            val alertGeometry = it.alertGeometry!!
+            assertEquals(
+                alertGeometry.toLineString(routeLineString),
+                index.toLineString(alertGeometry)
+            )
+        }
+    }
+
+    @Test
+    fun `alerts are sorted by distance`() {
+        val alerts = longRouteAlerts()
+        val index = RouteAlertIndex(longRoute(), PRECISION_6, alerts.reversed())
+
+        assertEquals(alerts, index.routeAlerts)
+    }
+
+    @Test
+    fun `alerts ahead match the alerts within the distance`() {
+        val alerts = longRouteAlerts()
+        val index = RouteAlertIndex(longRoute(), PRECISION_6, alerts.shuffled())
+
+        listOf(0.0, 149.0, 150.0, 12_345.0, 44_850.0, 50_000.0).forEach { distanceTraveled ->
+            val expected = alerts.filter {
+                it.distance >= distanceTraveled && it.distance <= distanceTraveled + 1_000.0
+            }
+            assertEquals(expected, index.alertsAhead(distanceTraveled, 1_000.0))
+        }
+    }
+
+    @Test
+    fun `next alert within the distance`() {
+        val alerts = longRouteAlerts()
+        val index = RouteAlertIndex(longRoute(), PRECISION_6, alerts)
+
+        assertEquals(alerts[1], index.nextAlertWithin(151.0, 300.0))
+        assertEquals(alerts[1], index.nextAlertWithin(450.0, 0.0))
+        assertNull(index.nextAlertWithin(151.0, 100.0))
+        assertNull(index.nextAlertWithin(45_000.0, 1_000.0))
+    }
+
+    @Test
+    fun `no alerts ahead without alerts`() {
+        val index = RouteAlertIndex(longRoute(), PRECISION_6, emptyList())
+
+        assertTrue(index.alertsAhead(0.0, 1_000.0).isEmpty())
+        assertNull(index.nextAlertWithin(0.0, 1_000.0))
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `distance ahead must not be negative`() {
+        RouteAlertIndex(longRoute(), PRECISION_6, emptyList()).alertsAhead(0.0, -1.0)
+    }
+
+    /**
+     * About 50 km of route with a point every 10 m.
+     */
+    private fun longRoute(): DirectionsRoute {
+        val points = (0 until ROUTE_POINTS).map {
+            Point.fromLngLat(13.0 + it * 0.0001, 52.5 + (it % 2) * 0.00001)
+        }
+        val geometry = PolylineUtils.encode(points, PRECISION_6)
+        return mockk {
+            every { geometry() } returns geometry
+        }
+    }
+
+    /**
+     * An alert of 10 points every 300 m.
+     */
+    private fun longRouteAlerts(): List<RouteAlert> = (0 until ALERTS).map {
+        val startIndex = it * 30 + 15
+        val alertGeometry = RouteAlertGeometry.Builder(
+            length = 90.0,
+            startCoordinate = Point.fromLngLat(13.0 + startIndex * 0.0001, 52.5),
+            startGeometryIndex = startIndex,
+            endCoordinate = Point.fromLngLat(13.0 + (startIndex + 9) * 0.0001, 52.5),
+            endGeometryIndex = startIndex + 9
+        ).build()
+        alert(startIndex * 10.0, alertGeometry)
+    }
+
+    private fun alert(distance: Double, alertGeometry: RouteAlertGeometry): RouteAlert =
+        TunnelEntranceAlert.Builder(alertGeometry.startCoordinate, distance)
+            .alertGeometry(alertGeometry)
+            .build()
+
+    private fun getDirectionsRoutesFromJsonResponse(
+        fileName: String,
+        routeIndex: Int = 0
+    ): DirectionsRoute {
+        val responseJson = javaClass.classLoader?.getResourceAsStream(fileName)
+            ?.bufferedReader()
+            ?.use { it.readText() }!!
+        return DirectionsResponse.fromJson(responseJson).routes()[routeIndex]
+    }
+
+    private companion object {
+        private const val ROUTE_POINTS = 5_000
+        private const val ALERTS = 150
+    }
+}
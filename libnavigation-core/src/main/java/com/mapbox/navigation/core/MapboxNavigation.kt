@@ -29,6 +29,7 @@ import com.mapbox.navigation.core.arrival.ArrivalController
 import com.mapbox.navigation.core.arrival.ArrivalObserver
 import com.mapbox.navigation.core.arrival.ArrivalProgressObserver
 import com.mapbox.navigation.core.arrival.AutoArrivalController
+import com.mapbox.navigation.core.directions.session.DeferredRouter
 import com.mapbox.navigation.core.directions.session.DirectionsSession
 import com.mapbox.navigation.core.directions.session.RoutesObserver
 import com.mapbox.navigation.core.directions.session.RoutesRequestCallback
@@ -36,14 +37,19 @@ import com.mapbox.navigation.core.fasterroute.FasterRouteController
 import com.mapbox.navigation.core.fasterroute.FasterRouteDetector
 import com.mapbox.navigation.core.fasterroute.FasterRouteObserver
 import com.mapbox.navigation.core.fasterroute.RouteComparator
+import com.mapbox.navigation.core.history.HistoryRecorder
+import com.mapbox.navigation.core.history.HistoryRecorderOptions
 import com.mapbox.navigation.core.internal.accounts.MapboxNavigationAccounts
 import com.mapbox.navigation.core.internal.formatter.MapboxDistanceFormatter
+import com.mapbox.navigation.core.internal.telemetry.MapboxNavigationFeedbackCache
 import com.mapbox.navigation.core.reroute.MapboxRerouteController
 import com.mapbox.navigation.core.reroute.RerouteController
 import com.mapbox.navigation.core.reroute.RerouteState
 import com.mapbox.navigation.core.routeoptions.MapboxRouteOptionsUpdater
 import com.mapbox.navigation.core.routerefresh.RouteRefreshController
 import com.mapbox.navigation.core.routerefresh.RouteRefreshControllerProvider
+import com.mapbox.navigation.core.sensors.SensorEventStats
+import com.mapbox.navigation.core.sensors.SensorOptions
 import com.mapbox.navigation.core.telemetry.MapboxNavigationTelemetry
 import com.mapbox.navigation.core.telemetry.events.AppMetadata
 import com.mapbox.navigation.core.telemetry.events.FeedbackEvent
@@ -66,7 +72,6 @@ import com.mapbox.navigation.navigator.internal.MapboxNativeNavigatorImpl
 import com.mapbox.navigation.utils.internal.JobControl
 import com.mapbox.navigation.utils.internal.NetworkStatusService
 import com.mapbox.navigation.utils.internal.ThreadController
-import com.mapbox.navigation.utils.internal.ifNonNull
 import com.mapbox.navigation.utils.internal.monitorChannelWithException
 import com.mapbox.navigator.ElectronicHorizonOptions
 import com.mapbox.navigator.NavigatorConfig
@@ -142,6 +147,11 @@ class MapboxNavigation(
     private val navigationAccountsSession =
         NavigationAccountsSession(navigationOptions.applicationContext)
     private val logger: Logger
+    private val initializer: NavigationInitializer
+    private val requireTelemetry: () -> Unit = {
+        initializer.require(NavigationInitStage.TELEMETRY)
+    }
+    private val router: DeferredRouter
     private val internalRoutesObserver: RoutesObserver
     private val internalOffRouteObserver: OffRouteObserver
     private val fasterRouteController: FasterRouteController
@@ -158,6 +168,7 @@ class MapboxNavigation(
     private val navigatorConfig = NavigatorConfig(null, electronicHorizonOptions, null)
 
     private var notificationChannelField: Field? = null
+    private var historyRecorder: HistoryRecorder? = null
 
     /**
      * Reroute controller, by default uses [defaultRerouteController].
@@ -167,19 +178,24 @@ class MapboxNavigation(
 
     init {
         ThreadController.init()
+        initializer = NavigationInitializer(ThreadController.getMainScopeAndRootJob())
         logger = MapboxModuleProvider.createModule(MapboxModuleType.CommonLogger, ::paramsProvider)
-        navigator = NavigationComponentProvider.createNativeNavigator(
-            navigationOptions.deviceProfile,
-            navigatorConfig,
-            createTilesConfig()
-        )
+        navigator = NavigationInitializer.trace("CORE/navigator") {
+            NavigationComponentProvider.createNativeNavigator(
+                navigationOptions.deviceProfile,
+                navigatorConfig,
+                createTilesConfig()
+            )
+        }
         navigationSession = NavigationComponentProvider.createNavigationSession()
-        directionsSession = NavigationComponentProvider.createDirectionsSession(
-            MapboxModuleProvider.createModule(MapboxModuleType.NavigationRouter, ::paramsProvider)
-        )
+        MapboxNavigationFeedbackCache.telemetryRequirement = requireTelemetry
+        router = DeferredRouter { initializer.require(NavigationInitStage.ROUTER) }
+        directionsSession = NavigationComponentProvider.createDirectionsSession(router)
         directionsSession.registerRoutesObserver(navigationSession)
-        val notification: TripNotification = MapboxModuleProvider
-            .createModule(MapboxModuleType.NavigationTripNotification, ::paramsProvider)
+        val notification: TripNotification = NavigationInitializer.trace("CORE/notification") {
+            MapboxModuleProvider
+                .createModule(MapboxModuleType.NavigationTripNotification, ::paramsProvider)
+        }
         if (notification.javaClass.name == MAPBOX_NAVIGATION_NOTIFICATION_PACKAGE_NAME) {
             notificationChannelField =
                 notification.javaClass.getDeclaredField(MAPBOX_NOTIFICATION_ACTION_CHANNEL).apply {
@@ -191,38 +207,21 @@ class MapboxNavigation(
             notification,
             logger
         )
-        tripSession = NavigationComponentProvider.createTripSession(
-            tripService = tripService,
-            navigationOptions = navigationOptions,
-            navigator = navigator,
-            logger = logger,
-            accessToken = accessToken
-        )
+        tripSession = NavigationInitializer.trace("CORE/tripSession") {
+            NavigationComponentProvider.createTripSession(
+                tripService = tripService,
+                navigationOptions = navigationOptions,
+                navigator = navigator,
+                logger = logger,
+                accessToken = accessToken
+            )
+        }
         tripSession.registerStateObserver(navigationSession)
         navigationSession.registerNavigationSessionStateObserver(navigationAccountsSession)
 
         arrivalProgressObserver = ArrivalProgressObserver(tripSession)
         setArrivalController()
 
-        ifNonNull(accessToken) { token ->
-            logger.d(
-                MapboxNavigationTelemetry.TAG,
-                Message("MapboxMetricsReporter.init from MapboxNavigation main")
-            )
-            MapboxMetricsReporter.init(
-                navigationOptions.applicationContext,
-                token,
-                obtainUserAgent(navigationOptions.isFromNavigationUi)
-            )
-            MapboxMetricsReporter.toggleLogging(navigationOptions.isDebugLoggingEnabled)
-            MapboxNavigationTelemetry.initialize(
-                this,
-                navigationOptions,
-                MapboxMetricsReporter,
-                logger
-            )
-        }
-
         val routeOptionsProvider = MapboxRouteOptionsUpdater(logger)
 
         fasterRouteController = FasterRouteController(
@@ -254,6 +253,17 @@ class MapboxNavigation(
         internalOffRouteObserver = createInternalOffRouteObserver()
         tripSession.registerOffRouteObserver(internalOffRouteObserver)
         directionsSession.registerRoutesObserver(internalRoutesObserver)
+        initializer.markReady(NavigationInitStage.CORE)
+
+        if (accessToken == null) {
+            // the default router throws without a token, keep throwing from the constructor
+            initializer.run(NavigationInitStage.ROUTER, ::initializeRouter)
+            // telemetry is disabled without a token
+            initializer.markReady(NavigationInitStage.TELEMETRY)
+        } else {
+            initializer.defer(NavigationInitStage.ROUTER, ::initializeRouter)
+            initializer.defer(NavigationInitStage.TELEMETRY) { initializeTelemetry(accessToken) }
+        }
     }
 
     /**
@@ -372,7 +382,14 @@ class MapboxNavigation(
         navigationSession.unregisterAllNavigationSessionStateObservers()
         fasterRouteController.stop()
         routeRefreshController.stop()
-        MapboxNavigationTelemetry.unregisterListeners(this@MapboxNavigation)
+        stopHistoryRecorder()
+        if (initializer.isReady(NavigationInitStage.TELEMETRY)) {
+            MapboxNavigationTelemetry.unregisterListeners(this@MapboxNavigation)
+        }
+        if (MapboxNavigationFeedbackCache.telemetryRequirement === requireTelemetry) {
+            MapboxNavigationFeedbackCache.telemetryRequirement = null
+        }
+        initializer.cancel()
         ThreadController.cancelAllNonUICoroutines()
         ThreadController.cancelAllUICoroutines()
     }
@@ -393,6 +410,32 @@ class MapboxNavigation(
         MapboxNativeNavigatorImpl.toggleHistory(isEnabled)
     }
 
+    /**
+     * Starts a [HistoryRecorder] that continuously drains the history to rotating,
+     * compressed files on disk. Prefer it over [toggleHistory] and [retrieveHistory]
+     * for long sessions, where keeping the whole history in memory is not an option.
+     * A previously started recorder is stopped.
+     *
+     * @param historyRecorderOptions where and how the history segments are written
+     * @return the started [HistoryRecorder], used to list and export the segments
+     */
+    fun startHistoryRecorder(historyRecorderOptions: HistoryRecorderOptions): HistoryRecorder {
+        stopHistoryRecorder()
+        return HistoryRecorder(navigator, historyRecorderOptions).also { recorder ->
+            historyRecorder = recorder
+            recorder.start()
+        }
+    }
+
+    /**
+     * Stops the [HistoryRecorder] started with [startHistoryRecorder], if any.
+     * The remaining history is written and the current segment is finalized.
+     */
+    fun stopHistoryRecorder() {
+        historyRecorder?.stop()
+        historyRecorder = null
+    }
+
     /**
      * API used to artificially add debug events to logs.
      */
@@ -525,6 +568,23 @@ class MapboxNavigation(
         tripSession.unregisterStateObserver(tripSessionStateObserver)
     }
 
+    /**
+     * Registers [NavigationInitStageObserver]. Monitors the stages of the initialization, the
+     * observer is notified right away of the stages which are already ready.
+     *
+     * @see [NavigationInitStage]
+     */
+    fun registerInitStageObserver(initStageObserver: NavigationInitStageObserver) {
+        initializer.registerObserver(initStageObserver)
+    }
+
+    /**
+     * Unregisters [NavigationInitStageObserver].
+     */
+    fun unregisterInitStageObserver(initStageObserver: NavigationInitStageObserver) {
+        initializer.unregisterObserver(initStageObserver)
+    }
+
     /**
      * Set your own controller to determine when drivers arrived at stops via [ArrivalController].
      * Use [navigateNextRouteLeg] to manually move navigator to the next stop. To reset to the
@@ -681,6 +741,7 @@ class MapboxNavigation(
         feedbackSubType: Array<String>? = emptyArray(),
         appMetadata: AppMetadata? = null
     ) {
+        requireTelemetry()
         MapboxNavigationTelemetry.postUserFeedback(
             feedbackType,
             description,
@@ -818,10 +879,56 @@ class MapboxNavigation(
         tripSession.updateSensorEvent(sensorEvent)
     }
 
+    /**
+     * Sets how the events passed to [updateSensorEvent] are downsampled, filtered and batched
+     * before they reach the navigator. Use the options passed to SensorEventEmitter.
+     * Until options are set, the events of each sensor are downsampled to 50 per second, twice
+     * the default frequency of [SensorOptions], and forwarded every 200 milliseconds.
+     *
+     * @param sensorOptions the sensor options
+     */
+    fun setSensorOptions(sensorOptions: SensorOptions) {
+        tripSession.setSensorOptions(sensorOptions)
+    }
+
+    /**
+     * Provides the state of the events passed to [updateSensorEvent], for each sensor.
+     *
+     * @return the sensor event stats
+     */
+    fun getSensorEventStats(): List<SensorEventStats> = tripSession.getSensorEventStats()
+
+    private fun initializeRouter() {
+        router.attach(
+            MapboxModuleProvider.createModule(MapboxModuleType.NavigationRouter, ::paramsProvider)
+        )
+    }
+
+    private fun initializeTelemetry(token: String) {
+        logger.d(
+            MapboxNavigationTelemetry.TAG,
+            Message("MapboxMetricsReporter.init from MapboxNavigation main")
+        )
+        MapboxMetricsReporter.init(
+            navigationOptions.applicationContext,
+            token,
+            obtainUserAgent(navigationOptions.isFromNavigationUi)
+        )
+        MapboxMetricsReporter.toggleLogging(navigationOptions.isDebugLoggingEnabled)
+        MapboxNavigationTelemetry.initialize(
+            this,
+            navigationOptions,
+            MapboxMetricsReporter,
+            logger
+        )
+    }
+
     private fun createTilesConfig(): TilesConfig {
         // TODO StrictMode may report a violation as we're creating a File from the Main
-        val offlineFilesPath = OnboardRouterFiles(navigationOptions.applicationContext, logger)
-            .absolutePath(navigationOptions.onboardRouterOptions)
+        val offlineFilesPath = NavigationInitializer.trace("CORE/tilesConfig") {
+            OnboardRouterFiles(navigationOptions.applicationContext, logger)
+                .absolutePath(navigationOptions.onboardRouterOptions)
+        }
         return TilesConfig(
             offlineFilesPath,
             null,
@@ -0,0 +1,26 @@
+package com.mapbox.navigation.core
+
+/**
+ * Describes the stages of the [MapboxNavigation] initialization.
+ */
+enum class NavigationInitStage {
+    /**
+     * Stage set up while [MapboxNavigation] is constructed: the native navigator with its tiles
+     * configuration, the trip and directions sessions and the controllers.
+     */
+    CORE,
+
+    /**
+     * Stage set up on the main thread right after [MapboxNavigation] is constructed: the router
+     * and the network observer it registers. It is set up right away when routes are requested
+     * before it is ready.
+     */
+    ROUTER,
+
+    /**
+     * Stage set up on the main thread right after [MapboxNavigation] is constructed: the metrics
+     * reporter and the navigation telemetry. It is set up right away when a user feedback is
+     * posted before it is ready.
+     */
+    TELEMETRY
+}
@@ -0,0 +1,15 @@
+package com.mapbox.navigation.core
+
+/**
+ * Interface to provide opportunity to know when the stages of the [MapboxNavigation]
+ * initialization are ready.
+ */
+interface NavigationInitStageObserver {
+    /**
+     * Called when a stage of the initialization is ready, once per stage.
+     *
+     * Called on the main thread, unless the stage was run early on another thread because
+     * the app needed it there, e.g. for a route request made off the main thread.
+     */
+    fun onInitStageReady(stage: NavigationInitStage)
+}
@@ -0,0 +1,175 @@
+package com.mapbox.navigation.core
+
+import android.os.Trace
+import com.mapbox.navigation.utils.internal.JobControl
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.yield
+import java.util.EnumMap
+import java.util.EnumSet
+import java.util.concurrent.CountDownLatch
+
+/**
+ * Runs the stages of the [MapboxNavigation] initialization and notifies when they are ready.
+ *
+ * A stage either runs right away or is deferred to the main thread. The deferred stages run one
+ * per main thread message, in the order they were deferred, so that they don't hold the first
+ * frames of the app. A deferred stage runs right away when it is required before its turn.
+ * Each stage runs in a trace section named after it, so its duration shows in system traces.
+ *
+ * The stages can be required from any thread, e.g. by a route request made off the main thread.
+ * The lock is only held to claim a stage, the stage runs and the observers are notified without
+ * it, on the thread which claimed the stage. The other callers requiring a stage while it runs
+ * wait until it is ready. Observers are thus notified on the main thread, unless a stage is
+ * required from another thread.
+ *
+ * @param jobControl scope the deferred stages run in
+ */
+internal class NavigationInitializer(private val jobControl: JobControl) {
+
+    private val lock = Any()
+    private val readyStages = EnumSet.noneOf(NavigationInitStage::class.java)
+    private val deferredStages = LinkedHashMap<NavigationInitStage, () -> Unit>()
+    private val runningStages = EnumMap<NavigationInitStage, RunningStage>(
+        NavigationInitStage::class.java
+    )
+    private val observers = LinkedHashSet<NavigationInitStageObserver>()
+    private var deferredJob: Job? = null
+
+    /**
+     * Runs the stage right away.
+     */
+    fun run(stage: NavigationInitStage, block: () -> Unit) {
+        val runningStage = synchronized(lock) {
+            deferredStages.remove(stage)
+            claim(stage, block)
+        }
+        runClaimed(stage, runningStage)
+    }
+
+    /**
+     * Marks a stage which was run by the caller as ready.
+     */
+    fun markReady(stage: NavigationInitStage) {
+        val stageObservers = synchronized(lock) { setReady(stage) }
+        stageObservers.forEach { it.onInitStageReady(stage) }
+    }
+
+    /**
+     * Runs the stage on the main thread, after the caller returns.
+     */
+    fun defer(stage: NavigationInitStage, block: () -> Unit) {
+        synchronized(lock) {
+            deferredStages[stage] = block
+            if (deferredJob?.isActive != true) {
+                deferredJob = jobControl.scope.launch { runDeferredStages() }
+            }
+        }
+    }
+
+    /**
+     * Runs the stage right away if it is deferred and not run yet, or waits until it is ready
+     * if it is running on another thread.
+     */
+    fun require(stage: NavigationInitStage) {
+        val (runningStage, isClaimed) = synchronized(lock) {
+            val block = deferredStages.remove(stage)
+            if (block != null) claim(stage, block) to true else runningStages[stage] to false
+        }
+        when {
+            runningStage == null -> return
+            isClaimed -> runClaimed(stage, runningStage)
+            runningStage.thread !== Thread.currentThread() -> runningStage.latch.await()
+        }
+    }
+
+    fun isReady(stage: NavigationInitStage): Boolean = synchronized(lock) {
+        stage in readyStages
+    }
+
+    /**
+     * Registers the observer and notifies it right away of the stages which are already ready.
+     */
+    fun registerObserver(observer: NavigationInitStageObserver) {
+        val stages = synchronized(lock) {
+            if (observers.add(observer)) readyStages.toList() else emptyList()
+        }
+        stages.forEach { observer.onInitStageReady(it) }
+    }
+
+    fun unregisterObserver(observer: NavigationInitStageObserver) {
+        synchronized(lock) {
+            observers.remove(observer)
+        }
+    }
+
+    /**
+     * Drops the deferred stages which did not run yet and the observers.
+     */
+    fun cancel() {
+        synchronized(lock) {
+            deferredJob?.cancel()
+            deferredJob = null
+            deferredStages.clear()
+            observers.clear()
+        }
+    }
+
+    private suspend fun runDeferredStages() {
+        while (true) {
+            yield()
+            val stage = synchronized(lock) { deferredStages.keys.firstOrNull() } ?: return
+            require(stage)
+        }
+    }
+
+    // called with the lock held
+    private fun claim(stage: NavigationInitStage, block: () -> Unit): RunningStage =
+        RunningStage(Thread.currentThread(), block).also { runningStages[stage] = it }
+
+    // called with the lock held
+    private fun setReady(stage: NavigationInitStage): List<NavigationInitStageObserver> =
+        if (readyStages.add(stage)) observers.toList() else emptyList()
+
+    /**
+     * Runs a claimed stage and releases the callers waiting for it once it is ready,
+     * before the observers are notified.
+     */
+    private fun runClaimed(stage: NavigationInitStage, runningStage: RunningStage) {
+        var stageObservers = emptyList<NavigationInitStageObserver>()
+        try {
+            trace(stage.name, runningStage.block)
+            stageObservers = synchronized(lock) { setReady(stage) }
+        } finally {
+            synchronized(lock) {
+                runningStages.remove(stage)
+            }
+            runningStage.latch.countDown()
+        }
+        stageObservers.forEach { it.onInitStageReady(stage) }
+    }
+
+    /**
+     * @param thread the stage runs on, which doesn't wait for the stage when it requires it
+     * @param block of the stage
+     */
+    private class RunningStage(val thread: Thread, val block: () -> Unit) {
+        val latch = CountDownLatch(1)
+    }
+
+    companion object {
+        private const val TRACE_PREFIX = "MapboxNavigation#"
+
+        /**
+         * Runs the block in a trace section with the same prefix as the sections of the stages.
+         */
+        fun <T> trace(sectionName: String, block: () -> T): T {
+            Trace.beginSection("$TRACE_PREFIX$sectionName")
+            try {
+                return block()
+            } finally {
+                Trace.endSection()
+            }
+        }
+    }
+}
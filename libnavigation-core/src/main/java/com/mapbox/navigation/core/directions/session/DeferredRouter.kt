@@ -0,0 +1,49 @@
+package com.mapbox.navigation.core.directions.session
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.navigation.base.route.RouteRefreshCallback
+import com.mapbox.navigation.base.route.Router
+
+/**
+ * [Router] which is attached after it is handed to the [DirectionsSession], so that the router
+ * module can be created after the navigation is constructed.
+ *
+ * @param onRouterRequired called when the router is used before it is attached, it must attach it
+ */
+internal class DeferredRouter(private val onRouterRequired: () -> Unit) : Router {
+
+    @Volatile
+    private var router: Router? = null
+
+    fun attach(router: Router) {
+        this.router = router
+    }
+
+    override fun getRoute(routeOptions: RouteOptions, callback: Router.Callback) {
+        requireRouter().getRoute(routeOptions, callback)
+    }
+
+    override fun cancel() {
+        router?.cancel()
+    }
+
+    override fun getRouteRefresh(
+        route: DirectionsRoute,
+        legIndex: Int,
+        callback: RouteRefreshCallback
+    ) {
+        requireRouter().getRouteRefresh(route, legIndex, callback)
+    }
+
+    override fun shutdown() {
+        router?.shutdown()
+    }
+
+    private fun requireRouter(): Router {
+        if (router == null) {
+            onRouterRequired()
+        }
+        return checkNotNull(router) { "router must be attached when it is required" }
+    }
+}
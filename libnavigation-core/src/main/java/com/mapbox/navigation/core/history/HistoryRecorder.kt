@@ -0,0 +1,238 @@
+package com.mapbox.navigation.core.history
+
+import com.mapbox.navigation.core.MapboxNavigation
+import com.mapbox.navigation.navigator.internal.MapboxNativeNavigator
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
+import com.mapbox.navigation.utils.internal.Time
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.isActive
+import kotlinx.coroutines.launch
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.Executors
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Continuously records the navigator history to rotating files on disk, so that the history
+ * does not grow in memory during long sessions. Use [MapboxNavigation.startHistoryRecorder]
+ * to create one.
+ *
+ * Every [HistoryRecorderOptions.drainIntervalMillis] the history is drained from the navigator
+ * on a dedicated background thread and appended to the current segment as a gzip member holding one
+ * history json per line, the same json returned by [MapboxNavigation.retrieveHistory].
+ * A segment is finalized once it reaches [HistoryRecorderOptions.maxSegmentBytes], only the
+ * last [HistoryRecorderOptions.maxSegments] finalized segments are kept.
+ *
+ * The segment being written has the [IN_PROGRESS_SUFFIX] and is only renamed once it has
+ * been synced to disk. Segments left in progress by a process that died are finalized
+ * the next time the recorder starts.
+ */
+class HistoryRecorder internal constructor(
+    private val navigator: MapboxNativeNavigator,
+    /**
+     * Options used to record the history
+     */
+    val options: HistoryRecorderOptions,
+    private val time: Time = Time.SystemImpl,
+    private val ioJobControl: JobControl = SupervisorJob().let { job ->
+        JobControl(job, CoroutineScope(job + HistoryDispatcher))
+    },
+    private val mainJobControl: JobControl = ThreadController.getMainScopeAndRootJob()
+) {
+
+    @Volatile
+    private var drainJob: Job? = null
+    private var currentSegment: File? = null
+    private var segmentCount = 0
+
+    /**
+     * Enables history recording and starts draining it to disk periodically.
+     * Calling this when the recorder is already started has no effect.
+     */
+    fun start() {
+        if (drainJob?.isActive == true) {
+            return
+        }
+        drainJob = ioJobControl.scope.launch {
+            options.directory.mkdirs()
+            finalizeInProgressSegments()
+            navigator.toggleHistory(true)
+            while (isActive) {
+                delay(options.drainIntervalMillis)
+                drainHistory(keepRecording = true)
+            }
+        }
+    }
+
+    /**
+     * Drains the remaining history, finalizes the current segment and disables history recording.
+     */
+    fun stop() {
+        drainJob?.cancel()
+        drainJob = null
+        ioJobControl.scope.launch {
+            drainHistory(keepRecording = false)
+            finalizeCurrentSegment()
+        }
+    }
+
+    /**
+     * Lists the finalized history segments, oldest first.
+     * Each segment is a gzip file with one history json per line.
+     *
+     * @return finalized segment [File]s
+     */
+    fun listSegments(): List<File> {
+        return options.directory
+            .listFiles { file -> file.isFinalizedSegment() }
+            ?.sortedBy { it.name }
+            ?: emptyList()
+    }
+
+    /**
+     * Drains the history recorded so far and finalizes the current segment, then exports all
+     * finalized segments into the [destination] file. Gzip members can be concatenated, so
+     * the exported file is a single gzip file with one history json per line.
+     *
+     * @param destination file the segments are exported to
+     * @param callback notified on the main thread when the export is done
+     */
+    fun exportSegments(destination: File, callback: HistoryExportCallback) {
+        ioJobControl.scope.launch {
+            val result = try {
+                drainHistory(keepRecording = drainJob?.isActive == true)
+                finalizeCurrentSegment()
+                writeSegments(destination)
+                null
+            } catch (exception: IOException) {
+                exception
+            }
+            mainJobControl.scope.launch {
+                if (result == null) {
+                    callback.onExported(destination)
+                } else {
+                    callback.onFailure(result)
+                }
+            }
+        }
+    }
+
+    private fun drainHistory(keepRecording: Boolean) {
+        val history = navigator.getHistory()
+        navigator.toggleHistory(false)
+        if (keepRecording) {
+            navigator.toggleHistory(true)
+        }
+        if (history.isNotBlank()) {
+            try {
+                appendToSegment(history)
+            } catch (exception: IOException) {
+                // The drained history is dropped, the next drain tries again.
+            }
+        }
+    }
+
+    private fun appendToSegment(history: String) {
+        val segment = currentSegment ?: newSegment().also { currentSegment = it }
+        FileOutputStream(segment, true).use { fileOutputStream ->
+            val gzipOutputStream = GZIPOutputStream(fileOutputStream)
+            gzipOutputStream.write(history.toByteArray(Charsets.UTF_8))
+            gzipOutputStream.write(LINE_SEPARATOR)
+            gzipOutputStream.finish()
+            fileOutputStream.flush()
+            fileOutputStream.fd.sync()
+        }
+        if (segment.length() >= options.maxSegmentBytes) {
+            finalizeCurrentSegment()
+        }
+    }
+
+    private fun newSegment(): File {
+        val name = String.format(SEGMENT_NAME_FORMAT, time.millis(), segmentCount++)
+        return File(options.directory, name + SEGMENT_SUFFIX + IN_PROGRESS_SUFFIX)
+    }
+
+    private fun finalizeCurrentSegment() {
+        currentSegment?.let { finalizeSegment(it) }
+        currentSegment = null
+        deleteExpiredSegments()
+    }
+
+    private fun finalizeInProgressSegments() {
+        options.directory
+            .listFiles { file -> file.name.endsWith(IN_PROGRESS_SUFFIX) }
+            ?.forEach { finalizeSegment(it) }
+        deleteExpiredSegments()
+    }
+
+    private fun finalizeSegment(segment: File) {
+        if (segment.length() == 0L) {
+            segment.delete()
+            return
+        }
+        val finalized = File(segment.parentFile, segment.name.removeSuffix(IN_PROGRESS_SUFFIX))
+        segment.renameTo(finalized)
+    }
+
+    private fun deleteExpiredSegments() {
+        val segments = listSegments()
+        val expiredCount = segments.size - options.maxSegments
+        if (expiredCount > 0) {
+            segments.take(expiredCount).forEach { it.delete() }
+        }
+    }
+
+    private fun writeSegments(destination: File) {
+        FileOutputStream(destination).use { outputStream ->
+            listSegments().forEach { segment ->
+                segment.inputStream().use { it.copyTo(outputStream) }
+            }
+        }
+    }
+
+    private fun File.isFinalizedSegment(): Boolean {
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)
+    }
+
+    /**
+     * Callback for [exportSegments]
+     */
+    interface HistoryExportCallback {
+
+        /**
+         * Called when all finalized segments were exported.
+         *
+         * @param file the exported gzip file
+         */
+        fun onExported(file: File)
+
+        /**
+         * Called when the export failed.
+         *
+         * @param throwable the reason of the failure
+         */
+        fun onFailure(throwable: Throwable)
+    }
+
+    companion object {
+        private val HistoryDispatcher: CoroutineDispatcher =
+            Executors.newSingleThreadExecutor().asCoroutineDispatcher()
+
+        private const val SEGMENT_PREFIX = "history_"
+        private const val SEGMENT_NAME_FORMAT = "$SEGMENT_PREFIX%013d_%05d"
+        private const val SEGMENT_SUFFIX = ".json.gz"
+        private const val LINE_SEPARATOR = '\n'.toInt()
+
+        /**
+         * Suffix of the segment that is still being written
+         */
+        const val IN_PROGRESS_SUFFIX = ".part"
+    }
+}
@@ -0,0 +1,132 @@
+package com.mapbox.navigation.core.history
+
+import java.io.File
+import java.util.concurrent.TimeUnit
+
+/**
+ * Options for the [HistoryRecorder]. These control how often the history is drained
+ * from the navigator, how large each segment file may get and how many are kept.
+ *
+ * @param directory the directory where the history segments are written
+ * @param drainIntervalMillis how often the history is drained from the navigator to disk
+ * @param maxSegmentBytes compressed size after which a segment is finalized and a new one started
+ * @param maxSegments number of finalized segments kept, the oldest ones are deleted first
+ */
+class HistoryRecorderOptions private constructor(
+    val directory: File,
+    val drainIntervalMillis: Long,
+    val maxSegmentBytes: Long,
+    val maxSegments: Int
+) {
+    /**
+     * @return the builder that created the [HistoryRecorderOptions]
+     */
+    fun toBuilder(): Builder = Builder(directory).apply {
+        drainIntervalMillis(drainIntervalMillis)
+        maxSegmentBytes(maxSegmentBytes)
+        maxSegments(maxSegments)
+    }
+
+    /**
+     * Regenerate whenever a change is made
+     */
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (javaClass != other?.javaClass) return false
+
+        other as HistoryRecorderOptions
+
+        if (directory != other.directory) return false
+        if (drainIntervalMillis != other.drainIntervalMillis) return false
+        if (maxSegmentBytes != other.maxSegmentBytes) return false
+        if (maxSegments != other.maxSegments) return false
+
+        return true
+    }
+
+    /**
+     * Regenerate whenever a change is made
+     */
+    override fun hashCode(): Int {
+        var result = directory.hashCode()
+        result = 31 * result + drainIntervalMillis.hashCode()
+        result = 31 * result + maxSegmentBytes.hashCode()
+        result = 31 * result + maxSegments
+        return result
+    }
+
+    /**
+     * Returns a string representation of the object.
+     */
+    override fun toString(): String {
+        return "HistoryRecorderOptions(" +
+            "directory=$directory, " +
+            "drainIntervalMillis=$drainIntervalMillis, " +
+            "maxSegmentBytes=$maxSegmentBytes, " +
+            "maxSegments=$maxSegments" +
+            ")"
+    }
+
+    /**
+     * Used to build [HistoryRecorderOptions].
+     *
+     * @param directory the directory where the history segments are written
+     */
+    class Builder(private val directory: File) {
+        private var drainIntervalMillis = TimeUnit.MINUTES.toMillis(1)
+        private var maxSegmentBytes = 2L * 1024 * 1024
+        private var maxSegments = 24
+
+        /**
+         * Build your [HistoryRecorderOptions].
+         *
+         * @return [HistoryRecorderOptions]
+         */
+        fun build(): HistoryRecorderOptions {
+            check(drainIntervalMillis > 0) {
+                "drainIntervalMillis must be greater than 0: $drainIntervalMillis"
+            }
+            check(maxSegmentBytes > 0) { "maxSegmentBytes must be greater than 0: $maxSegmentBytes" }
+            check(maxSegments > 0) { "maxSegments must be greater than 0: $maxSegments" }
+            return HistoryRecorderOptions(
+                directory = directory,
+                drainIntervalMillis = drainIntervalMillis,
+                maxSegmentBytes = maxSegmentBytes,
+                maxSegments = maxSegments
+            )
+        }
+
+        /**
+         * How often the history is drained from the navigator to disk
+         *
+         * @param drainIntervalMillis
+         * @return [Builder]
+         */
+        fun drainIntervalMillis(drainIntervalMillis: Long): Builder {
+            this.drainIntervalMillis = drainIntervalMillis
+            return this
+        }
+
+        /**
+         * Compressed size after which a segment is finalized and a new one is started
+         *
+         * @param maxSegmentBytes
+         * @return [Builder]
+         */
+        fun maxSegmentBytes(maxSegmentBytes: Long): Builder {
+            this.maxSegmentBytes = maxSegmentBytes
+            return this
+        }
+
+        /**
+         * Number of finalized segments that are kept on disk
+         *
+         * @param maxSegments
+         * @return [Builder]
+         */
+        fun maxSegments(maxSegments: Int): Builder {
+            this.maxSegments = maxSegments
+            return this
+        }
+    }
+}
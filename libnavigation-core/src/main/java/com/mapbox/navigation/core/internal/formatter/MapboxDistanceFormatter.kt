@@ -18,6 +18,9 @@ import com.mapbox.turf.TurfConstants
 import com.mapbox.turf.TurfConversion
 import java.text.NumberFormat
 import java.util.Locale
+import kotlin.math.abs
+import kotlin.math.pow
+import kotlin.math.rint
 import kotlin.math.roundToInt
 
 /**
@@ -26,6 +29,9 @@ import kotlin.math.roundToInt
  *
  * This constructor will infer device language and unit type using the device locale.
  *
+ * Localized unit strings and number formats are resolved once, and distances are formatted once
+ * per rounded value, so formatting the same rounded distance on every route progress is a lookup.
+ *
  * @param applicationContext from which to get localized strings from
  * @param locale the locale to use for localization of distance resources
  * @param unitType to use, or UNDEFINED to use default for locale country
@@ -48,9 +54,41 @@ class MapboxDistanceFormatter private constructor(
         else -> TurfConstants.UNIT_KILOMETERS
     }
 
+    private val localizedResources: Resources by lazy {
+        applicationContext.resourcesWithLocale(locale)
+    }
+    private val smallUnitString: String by lazy { getUnitString(localizedResources, smallUnit) }
+    private val largeUnitString: String by lazy { getUnitString(localizedResources, largeUnit) }
+
+    // indexed by the maximum fraction digits
+    private val largeUnitNumberFormats: Array<NumberFormat> by lazy {
+        Array(MAX_FRACTION_DIGITS + 1) { maxFractionDigits ->
+            NumberFormat.getNumberInstance(locale).also {
+                it.maximumFractionDigits = maxFractionDigits
+            }
+        }
+    }
+
+    private val formattedDistances = object : LinkedHashMap<Long, SpannableString>(
+        MAX_FORMATTED_DISTANCES,
+        LOAD_FACTOR,
+        true
+    ) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Long, SpannableString>?) =
+            size > MAX_FORMATTED_DISTANCES
+    }
+
     companion object {
         private const val smallDistanceUpperThresholdInMeters = 400.0
         private const val mediumDistanceUpperThresholdInMeters = 10000.0
+
+        private const val MAX_FRACTION_DIGITS = 1
+        private const val MAX_FORMATTED_DISTANCES = 64
+        private const val LOAD_FACTOR = 0.75f
+        // kinds of formatted distances, the small unit and the large unit per fraction digits
+        private const val DISTANCE_KINDS = MAX_FRACTION_DIGITS + 2
+        private const val SMALL_UNIT_KIND = MAX_FRACTION_DIGITS + 1
+        private const val MAX_MEMOIZED_VALUE = Long.MAX_VALUE / DISTANCE_KINDS
     }
 
     /**
@@ -69,50 +107,75 @@ class MapboxDistanceFormatter private constructor(
      * relative size of .65 times the size of the number
      */
     override fun formatDistance(distance: Double): SpannableString {
-        val distanceAndSuffix = when (distance) {
+        return when (distance) {
             !in 0.0..Double.MAX_VALUE -> {
-                formatDistanceAndSuffixForSmallUnit(0.0)
+                formatDistanceForSmallUnit(0.0)
             }
             in 0.0..smallDistanceUpperThresholdInMeters -> {
-                formatDistanceAndSuffixForSmallUnit(distance)
+                formatDistanceForSmallUnit(distance)
             }
             in smallDistanceUpperThresholdInMeters..mediumDistanceUpperThresholdInMeters -> {
-                formatDistanceAndSuffixForLargeUnit(distance, 1)
+                formatDistanceForLargeUnit(distance, 1)
             }
             else -> {
-                formatDistanceAndSuffixForLargeUnit(distance, 0)
+                formatDistanceForLargeUnit(distance, 0)
             }
         }
-        return getSpannableDistanceString(distanceAndSuffix)
     }
 
-    private fun formatDistanceAndSuffixForSmallUnit(distance: Double): Pair<String, String> {
+    private fun formatDistanceForSmallUnit(distance: Double): SpannableString {
         val distanceUnit = TurfConversion.convertLength(
             distance,
             TurfConstants.UNIT_METERS,
             smallUnit
         )
-        val resources = applicationContext.resourcesWithLocale(locale)
-        val unitStringSuffix = getUnitString(resources, smallUnit)
         val roundedNumber = distanceUnit.roundToInt() / roundingIncrement * roundingIncrement
         val roundedValue =
-            (if (roundedNumber < roundingIncrement) roundingIncrement else roundedNumber)
-                .toString()
-        return Pair(roundedValue, unitStringSuffix)
+            if (roundedNumber < roundingIncrement) roundingIncrement else roundedNumber
+        return getFormattedDistance(roundedValue.toLong(), SMALL_UNIT_KIND) {
+            Pair(roundedValue.toString(), smallUnitString)
+        }
     }
 
-    private fun formatDistanceAndSuffixForLargeUnit(
+    private fun formatDistanceForLargeUnit(
         distance: Double,
         maxFractionDigits: Int
-    ): Pair<String, String> {
-        val resources = applicationContext.resourcesWithLocale(locale)
-        val unitStringSuffix = getUnitString(resources, largeUnit)
+    ): SpannableString {
         val distanceUnit =
             TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, largeUnit)
-        val roundedValue = NumberFormat.getNumberInstance(locale).also {
-            it.maximumFractionDigits = maxFractionDigits
-        }.format(distanceUnit)
-        return Pair(roundedValue, unitStringSuffix)
+        // the distance is formatted from its value rounded to the fraction digits,
+        // so that every distance rounding to it is formatted the same
+        val scale = 10.0.pow(maxFractionDigits)
+        val roundedDistance = rint(distanceUnit * scale)
+        return getFormattedDistance(roundedDistance.toLong(), maxFractionDigits) {
+            val roundedValue = synchronized(largeUnitNumberFormats) {
+                largeUnitNumberFormats[maxFractionDigits].format(roundedDistance / scale)
+            }
+            Pair(roundedValue, largeUnitString)
+        }
+    }
+
+    /**
+     * @param roundedValue distance as it is displayed, scaled to an integer
+     * @param kind the unit and fraction digits used to display the distance
+     * @param distanceAndSuffix formats the distance if it wasn't formatted before
+     * @return a copy of the formatted distance, which shares its spans
+     */
+    private fun getFormattedDistance(
+        roundedValue: Long,
+        kind: Int,
+        distanceAndSuffix: () -> Pair<String, String>
+    ): SpannableString {
+        if (abs(roundedValue) > MAX_MEMOIZED_VALUE) {
+            return getSpannableDistanceString(distanceAndSuffix())
+        }
+        val key = roundedValue * DISTANCE_KINDS + kind
+        val formattedDistance = synchronized(formattedDistances) {
+            formattedDistances.getOrPut(key) {
+                getSpannableDistanceString(distanceAndSuffix())
+            }
+        }
+        return SpannableString(formattedDistance)
     }
 
     /**
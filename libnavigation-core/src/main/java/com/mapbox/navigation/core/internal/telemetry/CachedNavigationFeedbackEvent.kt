@@ -1,6 +1,7 @@
 package com.mapbox.navigation.core.internal.telemetry
 
 import com.mapbox.navigation.core.telemetry.events.FeedbackEvent
+import java.io.File
 
 /**
  * A cache version of an internal MapboxTelemetry feedback event.
@@ -8,7 +9,7 @@ import com.mapbox.navigation.core.telemetry.events.FeedbackEvent
  *
  * @param feedbackId the key of the feedback
  * @param feedbackType one of [FeedbackEvent.Type]
- * @param screenshot encoded screenshot (optional)
+ * @param screenshot file holding the encoded screenshot (optional), it is deleted once the feedback is posted
  * @param description the user's additional comment about the feedback (optional)
  * @param feedbackSubType array of [FeedbackEvent.Description] (optional)
  */
@@ -16,7 +17,7 @@ data class CachedNavigationFeedbackEvent @JvmOverloads internal constructor(
     val feedbackId: String,
     @FeedbackEvent.Type
     val feedbackType: String,
-    val screenshot: String,
+    val screenshot: File?,
     var description: String? = null,
     val feedbackSubType: MutableSet<String> = HashSet()
 )
@@ -4,12 +4,14 @@ import com.mapbox.navigation.core.MapboxNavigation
 import com.mapbox.navigation.core.telemetry.MapboxNavigationTelemetry
 import com.mapbox.navigation.core.telemetry.events.AppMetadata
 import com.mapbox.navigation.core.telemetry.events.FeedbackEvent
+import java.io.File
 
 /**
  * This object is only intent to be used internally and subject to change in future.
  *
  * This object is only a wrapper of [MapboxNavigationTelemetry] to cache/retrieve/post a navigation.feedback event.
- * It must be used after [MapboxNavigationTelemetry.initialize] has been called.
+ * It must be used while a [MapboxNavigation] instance exists, its telemetry is initialized right away
+ * if the initialization was deferred.
  *
  * A complete feedback cache flow will be:
  * 1. [cacheUserFeedback] to generate a navigation.feedback event in [MapboxNavigationTelemetry] internally.
@@ -25,6 +27,13 @@ import com.mapbox.navigation.core.telemetry.events.FeedbackEvent
  */
 object MapboxNavigationFeedbackCache {
 
+    /**
+     * Initializes the telemetry of the current [MapboxNavigation] if it was deferred,
+     * set by the instance until it is destroyed.
+     */
+    @Volatile
+    internal var telemetryRequirement: (() -> Unit)? = null
+
     /**
      * Create and cache a user feedback about an issue or problem with the Navigation SDK.
      *
@@ -35,7 +44,8 @@ object MapboxNavigationFeedbackCache {
      * @param feedbackType one of [FeedbackEvent.Type]
      * @param description description message
      * @param feedbackSource one of [FeedbackEvent.Source]
-     * @param screenshot encoded screenshot (optional)
+     * @param screenshot file holding the encoded screenshot (optional). The file is only read
+     * when the feedback is posted and it is deleted once the feedback is posted or dropped.
      * @param feedbackSubType array of [FeedbackEvent.Description] (optional)
      * @param appMetadata [AppMetadata] information (optional)
      *
@@ -47,10 +57,11 @@ object MapboxNavigationFeedbackCache {
         @FeedbackEvent.Type feedbackType: String,
         description: String,
         @FeedbackEvent.Source feedbackSource: String,
-        screenshot: String?,
+        screenshot: File?,
         feedbackSubType: Array<String>? = emptyArray(),
         appMetadata: AppMetadata? = null
     ) {
+        telemetryRequirement?.invoke()
         MapboxNavigationTelemetry.cacheUserFeedback(
             feedbackType,
             description,
@@ -72,6 +83,7 @@ object MapboxNavigationFeedbackCache {
      * @return a list of [CachedNavigationFeedbackEvent]s
      */
     fun getCachedUserFeedback(): List<CachedNavigationFeedbackEvent> {
+        telemetryRequirement?.invoke()
         return MapboxNavigationTelemetry.getCachedUserFeedback()
     }
 
@@ -98,6 +110,7 @@ object MapboxNavigationFeedbackCache {
      * @see [getCachedUserFeedback]
      */
     fun postCachedUserFeedback(cachedFeedbackEventList: List<CachedNavigationFeedbackEvent>) {
+        telemetryRequirement?.invoke()
         MapboxNavigationTelemetry.postCachedUserFeedback(cachedFeedbackEventList)
     }
 }
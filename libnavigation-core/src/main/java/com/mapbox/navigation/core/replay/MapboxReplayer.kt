@@ -45,6 +45,19 @@ class MapboxReplayer {
         replayEvents.events.clear()
     }
 
+    /**
+     * Removes the given events if they have already been played. Use this when pushing
+     * events continuously, to keep the memory of a long replay bounded. Events pushed by
+     * others are kept, so pass only the events you pushed.
+     * Note that [durationSeconds] and [seekTo] are relative to the remaining events.
+     *
+     * @param events the events to remove once played, compared by identity
+     * @return the number of events removed
+     */
+    fun clearPlayedEvents(events: Collection<ReplayEventBase>): Int {
+        return replayEventSimulator.clearPlayedEvents(events)
+    }
+
     /**
      * Register replay event observers.
      *
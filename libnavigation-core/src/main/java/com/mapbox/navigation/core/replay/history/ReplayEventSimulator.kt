@@ -8,6 +8,8 @@ import kotlinx.coroutines.cancelChildren
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.isActive
 import kotlinx.coroutines.launch
+import java.util.Collections
+import java.util.IdentityHashMap
 import kotlin.math.max
 import kotlin.math.roundToLong
 
@@ -67,6 +69,17 @@ internal class ReplayEventSimulator(
         resetSimulatorClock()
     }
 
+    fun clearPlayedEvents(events: Collection<ReplayEventBase>): Int {
+        val clearableEvents = Collections.newSetFromMap(IdentityHashMap<ReplayEventBase, Boolean>())
+        clearableEvents.addAll(events)
+        val playedEvents = replayEvents.events.subList(0, pivotIndex)
+        val playedCount = playedEvents.size
+        playedEvents.removeAll { it in clearableEvents }
+        val clearedCount = playedCount - playedEvents.size
+        pivotIndex -= clearedCount
+        return clearedCount
+    }
+
     fun playbackSpeed(scale: Double) {
         simulatorTimeScale = scale
         resetSimulatorClock()
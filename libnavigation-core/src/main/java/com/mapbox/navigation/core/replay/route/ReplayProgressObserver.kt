@@ -20,6 +20,7 @@ class ReplayProgressObserver(
 ) : RouteProgressObserver {
 
     private val replayRouteMapper = ReplayRouteMapper()
+    private val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer)
     private var currentRouteLeg: RouteLeg? = null
 
     /**
@@ -47,11 +48,8 @@ class ReplayProgressObserver(
 
     private fun onRouteLegChanged(routeProgressRouteLeg: RouteLeg?) {
         if (routeProgressRouteLeg != null) {
-            val replayEvents = replayRouteMapper.mapRouteLegGeometry(routeProgressRouteLeg)
-            if (replayEvents.isNotEmpty()) {
-                mapboxReplayer.pushEvents(replayEvents)
-                mapboxReplayer.seekTo(replayEvents.first())
-            }
+            val replayEvents = replayRouteMapper.streamRouteLegGeometry(routeProgressRouteLeg)
+            replayRouteFeeder.feed(replayEvents)
         }
     }
 }
@@ -25,8 +25,23 @@ internal class ReplayRouteDriver {
      * @return [ReplayRouteLocation] [List]
      */
     fun driveGeometry(options: ReplayRouteOptions, geometry: String): List<ReplayRouteLocation> {
+        return driveGeometrySequence(options, geometry).toList()
+    }
+
+    /**
+     * Given a geometry polyline, lazily simulate the locations needed to drive the geometry.
+     * Locations are interpolated as the [Sequence] is iterated, so it must only be iterated once.
+     *
+     * @param options allow you to control the driver and car behavior
+     * @param geometry polyline string at [DirectionsCriteria.GEOMETRY_POLYLINE6]
+     * @return [ReplayRouteLocation] [Sequence]
+     */
+    fun driveGeometrySequence(
+        options: ReplayRouteOptions,
+        geometry: String
+    ): Sequence<ReplayRouteLocation> {
         val coordinates = LineString.fromPolyline(geometry, 6).coordinates()
-        return drivePointList(options, coordinates)
+        return drivePointSequence(options, coordinates)
     }
 
     /**
@@ -40,14 +55,28 @@ internal class ReplayRouteDriver {
         options: ReplayRouteOptions,
         points: List<Point>
     ): List<ReplayRouteLocation> {
+        return drivePointSequence(options, points).toList()
+    }
+
+    /**
+     * Given a list of location points, lazily simulate the locations needed to drive the points.
+     * The speed profile is computed up front from the significant turns of the route, while the
+     * once per second locations are only interpolated when the [Sequence] is iterated.
+     *
+     * @param options allow you to control the driver and car behavior
+     * @param points list of points describing a route
+     * @return [ReplayRouteLocation] [Sequence]
+     */
+    fun drivePointSequence(
+        options: ReplayRouteOptions,
+        points: List<Point>
+    ): Sequence<ReplayRouteLocation> {
         val distinctPoints = routeSmoother.distinctPoints(points)
-        if (distinctPoints.size < 2) return emptyList()
+        if (distinctPoints.size < 2) return emptySequence()
 
         val smoothLocations = routeInterpolator.createSpeedProfile(options, distinctPoints)
         val replayRouteLocations = interpolateLocations(options, distinctPoints, smoothLocations)
-        routeInterpolator.createBearingProfile(replayRouteLocations)
-
-        return replayRouteLocations
+        return routeInterpolator.createBearingProfile(replayRouteLocations)
     }
 
     /**
@@ -122,9 +151,8 @@ internal class ReplayRouteDriver {
         options: ReplayRouteOptions,
         distinctPoints: List<Point>,
         smoothLocations: List<ReplayRouteLocation>
-    ): List<ReplayRouteLocation> {
-        val replayRouteLocations = mutableListOf<ReplayRouteLocation>()
-        replayRouteLocations.addLocation(smoothLocations.first())
+    ): Sequence<ReplayRouteLocation> = sequence {
+        yield(smoothLocations.first().withNextTime())
 
         for (i in 0 until smoothLocations.lastIndex) {
             val segmentStart = smoothLocations[i]
@@ -134,15 +162,15 @@ internal class ReplayRouteDriver {
                 segmentStart.routeIndex!!,
                 segmentEnd.routeIndex!!
             )
-            replayRouteLocations.addInterpolatedLocations(
-                options,
-                segmentRoute,
-                segmentStart,
-                segmentEnd
+            yieldAll(
+                interpolatedLocations(
+                    options,
+                    segmentRoute,
+                    segmentStart,
+                    segmentEnd
+                )
             )
         }
-
-        return replayRouteLocations
     }
 
     private fun MutableList<ReplayRouteLocation>.addInterpolatedLocations(
@@ -151,6 +179,16 @@ internal class ReplayRouteDriver {
         segmentStart: ReplayRouteLocation,
         segmentEnd: ReplayRouteLocation
     ) {
+        interpolatedLocations(options, segmentRoute, segmentStart, segmentEnd)
+            .forEach { add(it) }
+    }
+
+    private fun interpolatedLocations(
+        options: ReplayRouteOptions,
+        segmentRoute: List<Point>,
+        segmentStart: ReplayRouteLocation,
+        segmentEnd: ReplayRouteLocation
+    ): Sequence<ReplayRouteLocation> = sequence {
         val segmentDistance = TurfMeasurement.length(segmentRoute, TurfConstants.UNIT_METERS)
         val segment = routeInterpolator.interpolateSpeed(
             options,
@@ -166,13 +204,17 @@ internal class ReplayRouteDriver {
             val location = ReplayRouteLocation(null, point)
             location.distance = step.positionMeters
             location.speedMps = step.speedMps
-            addLocation(location)
+            yield(location.withNextTime())
         }
     }
 
     private fun MutableList<ReplayRouteLocation>.addLocation(location: ReplayRouteLocation) {
-        location.timeMillis = timeMillis
-        add(location)
-        timeMillis += 1000L
+        add(location.withNextTime())
+    }
+
+    private fun ReplayRouteLocation.withNextTime(): ReplayRouteLocation {
+        timeMillis = this@ReplayRouteDriver.timeMillis
+        this@ReplayRouteDriver.timeMillis += 1000L
+        return this
     }
 }
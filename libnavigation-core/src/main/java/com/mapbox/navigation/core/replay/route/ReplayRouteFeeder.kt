@@ -0,0 +1,89 @@
+package com.mapbox.navigation.core.replay.route
+
+import com.mapbox.navigation.core.replay.MapboxReplayer
+import com.mapbox.navigation.core.replay.history.ReplayEventBase
+import com.mapbox.navigation.core.replay.history.ReplayEventsObserver
+import java.util.ArrayDeque
+
+/**
+ * Feeds a lazily simulated drive, such as [ReplayRouteMapper.streamDirectionsRouteLegs],
+ * to the [MapboxReplayer] one chunk at a time. Whenever fewer than [chunkSize] fed events
+ * are waiting to be played, the played fed events are cleared and the next chunk is pushed.
+ * This keeps the memory of long simulated trips flat regardless of the route length.
+ * Events pushed to the [MapboxReplayer] by others are not cleared.
+ *
+ * @param mapboxReplayer the replayer that plays the fed events
+ * @param chunkSize the number of events pushed to the [MapboxReplayer] at a time
+ */
+class ReplayRouteFeeder @JvmOverloads constructor(
+    private val mapboxReplayer: MapboxReplayer,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : ReplayEventsObserver {
+
+    private var replayEvents: Iterator<ReplayEventBase> = emptyList<ReplayEventBase>().iterator()
+    private var pendingEvents = 0
+
+    // Events pushed and not cleared yet, they are played and cleared in this order.
+    private val pushedEvents = ArrayDeque<ReplayEventBase>()
+
+    init {
+        check(chunkSize > 0) { "chunkSize must be greater than 0: $chunkSize" }
+    }
+
+    /**
+     * Start feeding the [MapboxReplayer] with the replay events. The first chunk is pushed
+     * immediately and the [MapboxReplayer] seeks to its first event. Any previously fed
+     * events that have not been pushed yet are dropped.
+     *
+     * @param replayEvents the events to be replayed, in chronological order
+     */
+    fun feed(replayEvents: Sequence<ReplayEventBase>) {
+        this.replayEvents = replayEvents.iterator()
+        pendingEvents = 0
+        mapboxReplayer.registerObserver(this)
+        val firstChunk = pushNextChunk()
+        firstChunk.firstOrNull()?.let { mapboxReplayer.seekTo(it) }
+    }
+
+    /**
+     * Stop feeding the [MapboxReplayer]. Events that were already pushed will still be played.
+     */
+    fun stop() {
+        mapboxReplayer.unregisterObserver(this)
+        replayEvents = emptyList<ReplayEventBase>().iterator()
+        pendingEvents = 0
+        pushedEvents.clear()
+    }
+
+    /**
+     * Called by the [MapboxReplayer] when events are played.
+     * Pushes the next chunk when running low on events.
+     *
+     * @param events the events that were played
+     */
+    override fun replayEvents(events: List<ReplayEventBase>) {
+        pendingEvents = (pendingEvents - events.size).coerceAtLeast(0)
+        if (pendingEvents < chunkSize && replayEvents.hasNext()) {
+            val clearedEvents = mapboxReplayer.clearPlayedEvents(pushedEvents)
+            repeat(clearedEvents) { pushedEvents.removeFirst() }
+            pushNextChunk()
+        }
+    }
+
+    private fun pushNextChunk(): List<ReplayEventBase> {
+        val chunk = ArrayList<ReplayEventBase>(chunkSize)
+        while (chunk.size < chunkSize && replayEvents.hasNext()) {
+            chunk.add(replayEvents.next())
+        }
+        if (chunk.isNotEmpty()) {
+            mapboxReplayer.pushEvents(chunk)
+            pushedEvents.addAll(chunk)
+            pendingEvents += chunk.size
+        }
+        return chunk
+    }
+
+    private companion object {
+        private const val DEFAULT_CHUNK_SIZE = 120
+    }
+}
@@ -67,13 +67,12 @@ internal class ReplayRouteInterpolator {
      */
     fun createBearingProfile(replayRouteLocations: List<ReplayRouteLocation>) {
         if (replayRouteLocations.size < 2) return
-        val lookAhead = 2
         var bearing = TurfMeasurement.bearing(
             replayRouteLocations[0].point,
             replayRouteLocations[1].point
         )
         replayRouteLocations.forEachIndexed { index, location ->
-            val nextIndex = min(index + lookAhead, replayRouteLocations.lastIndex)
+            val nextIndex = min(index + BEARING_LOOK_AHEAD, replayRouteLocations.lastIndex)
             if (index < nextIndex) {
                 val fromPoint = location.point
                 val toPoint = replayRouteLocations[nextIndex].point
@@ -83,6 +82,34 @@ internal class ReplayRouteInterpolator {
         }
     }
 
+    /**
+     * Lazy version of [createBearingProfile]. Only keeps the look ahead window of locations
+     * in memory, each location's bearing points to the location two steps ahead.
+     */
+    fun createBearingProfile(
+        replayRouteLocations: Sequence<ReplayRouteLocation>
+    ): Sequence<ReplayRouteLocation> = sequence {
+        val window = ArrayDeque<ReplayRouteLocation>(BEARING_LOOK_AHEAD + 1)
+        replayRouteLocations.forEach { location ->
+            window.addLast(location)
+            if (window.size > BEARING_LOOK_AHEAD) {
+                val current = window.removeFirst()
+                current.bearing = TurfMeasurement.bearing(current.point, location.point)
+                yield(current)
+            }
+        }
+        if (window.size == BEARING_LOOK_AHEAD) {
+            val current = window.removeFirst()
+            val last = window.removeFirst()
+            current.bearing = TurfMeasurement.bearing(current.point, last.point)
+            last.bearing = current.bearing
+            yield(current)
+            yield(last)
+        } else {
+            yieldAll(window)
+        }
+    }
+
     private fun estimateSpeedStep(
         options: ReplayRouteOptions,
         speedSteps: MutableList<ReplayRouteStep>,
@@ -236,4 +263,8 @@ internal class ReplayRouteInterpolator {
         } while (distanceToStop < distance)
         return currentVelocity
     }
+
+    private companion object {
+        private const val BEARING_LOOK_AHEAD = 2
+    }
 }
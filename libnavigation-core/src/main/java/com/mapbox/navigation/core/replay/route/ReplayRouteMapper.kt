@@ -50,6 +50,18 @@ class ReplayRouteMapper @JvmOverloads constructor(
      * @return [ReplayEventBase] [List]
      */
     fun mapDirectionsRouteGeometry(directionsRoute: DirectionsRoute): List<ReplayEventBase> {
+        return streamDirectionsRouteGeometry(directionsRoute).toList()
+    }
+
+    /**
+     * Lazy version of [mapDirectionsRouteGeometry]. The replay events are only simulated
+     * as the [Sequence] is iterated, so long routes can be fed to the [MapboxReplayer] in
+     * chunks with the [ReplayRouteFeeder]. The sequence must only be iterated once.
+     *
+     * @param directionsRoute the [DirectionsRoute] containing information about a route
+     * @return [ReplayEventBase] [Sequence]
+     */
+    fun streamDirectionsRouteGeometry(directionsRoute: DirectionsRoute): Sequence<ReplayEventBase> {
         val geometries = directionsRoute.routeOptions()?.geometries()
         val usesPolyline6 = geometries?.contains(DirectionsCriteria.GEOMETRY_POLYLINE6) ?: false
         if (!usesPolyline6) {
@@ -58,8 +70,22 @@ class ReplayRouteMapper @JvmOverloads constructor(
                 Message("Make sure that the route's geometry is encoded with polyline6'")
             )
         }
-        val geometry = directionsRoute.geometry() ?: return emptyList()
-        return mapGeometry(geometry)
+        val geometry = directionsRoute.geometry() ?: return emptySequence()
+        return streamGeometry(geometry)
+    }
+
+    /**
+     * Lazily simulate a driver navigating each [RouteLeg] of the [DirectionsRoute], one leg
+     * at a time. A leg's [LegStep.geometry] is only decoded once the previous leg has
+     * been driven, so the memory needed does not grow with the number of legs.
+     * The sequence must only be iterated once.
+     *
+     * @param directionsRoute the [DirectionsRoute] containing information about a route
+     * @return [ReplayEventBase] [Sequence]
+     */
+    fun streamDirectionsRouteLegs(directionsRoute: DirectionsRoute): Sequence<ReplayEventBase> {
+        val routeLegs = directionsRoute.legs() ?: return emptySequence()
+        return routeLegs.asSequence().flatMap { routeLeg -> streamRouteLegGeometry(routeLeg) }
     }
 
     /**
@@ -70,16 +96,22 @@ class ReplayRouteMapper @JvmOverloads constructor(
      * @return [ReplayEventBase] [List]
      */
     fun mapRouteLegGeometry(routeLeg: RouteLeg): List<ReplayEventBase> {
-        val replayEvents = mutableListOf<ReplayEventBase>()
-        routeLeg.steps()?.flatMap { legStep ->
-            val geometry = legStep.geometry() ?: return emptyList()
+        return streamRouteLegGeometry(routeLeg).toList()
+    }
+
+    /**
+     * Lazy version of [mapRouteLegGeometry]. The sequence must only be iterated once.
+     *
+     * @param routeLeg the [RouteLeg] that is converted to replay events
+     * @return [ReplayEventBase] [Sequence]
+     */
+    fun streamRouteLegGeometry(routeLeg: RouteLeg): Sequence<ReplayEventBase> {
+        val points = routeLeg.steps()?.flatMap { legStep ->
+            val geometry = legStep.geometry() ?: return emptySequence()
             PolylineUtils.decode(geometry, 6)
-        }?.also { points ->
-            replayRouteDriver.drivePointList(options, points)
-                .map { mapToUpdateLocation(it) }
-                .forEach { replayEvents.add(it) }
-        }
-        return replayEvents
+        } ?: return emptySequence()
+        return replayRouteDriver.drivePointSequence(options, points)
+            .map { mapToUpdateLocation(it) }
     }
 
     /**
@@ -89,7 +121,17 @@ class ReplayRouteMapper @JvmOverloads constructor(
      * @return [ReplayEventBase] [List]
      */
     fun mapGeometry(geometry: String): List<ReplayEventBase> {
-        return replayRouteDriver.driveGeometry(options, geometry)
+        return streamGeometry(geometry).toList()
+    }
+
+    /**
+     * Lazy version of [mapGeometry]. The sequence must only be iterated once.
+     *
+     * @param geometry is a [DirectionsCriteria.GEOMETRY_POLYLINE6]
+     * @return [ReplayEventBase] [Sequence]
+     */
+    fun streamGeometry(geometry: String): Sequence<ReplayEventBase> {
+        return replayRouteDriver.driveGeometrySequence(options, geometry)
             .map { mapToUpdateLocation(it) }
     }
 
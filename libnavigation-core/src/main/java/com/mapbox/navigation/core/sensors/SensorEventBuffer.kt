@@ -0,0 +1,239 @@
+package com.mapbox.navigation.core.sensors
+
+import com.mapbox.navigator.SensorData
+import com.mapbox.navigator.SensorType
+import java.util.Date
+import java.util.concurrent.TimeUnit
+import kotlin.math.ceil
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Buffers sensor events between two batches forwarded to the navigator.
+ *
+ * Every sensor gets a ring buffer of primitive arrays, so adding an event doesn't allocate.
+ * Events arriving faster than [SensorOptions.signalsPerSecond] are downsampled, their values
+ * still feed the low-pass filter. When a ring buffer is full the oldest event is dropped.
+ *
+ * Until [setOptions] is called, events are downsampled to [DEFAULT_SIGNALS_PER_SECOND], twice
+ * the default rate of the [SensorEventEmitter], so that apps registering sensors at their fastest
+ * rate don't flood the navigator while apps using the default rate keep all their events.
+ *
+ * Events are added from the sensor thread and drained from a worker thread.
+ */
+internal class SensorEventBuffer {
+
+    private val sensorBuffers = HashMap<Int, SensorRingBuffer>()
+    private var minIntervalNanos = 0L
+    private var capacity = MIN_CAPACITY
+    private var lowPassFilterFactor = 1f
+    private var hasPendingEvents = false
+
+    /**
+     * How long events are buffered before they should be drained.
+     */
+    @Volatile
+    var batchIntervalMillis = DEFAULT_BATCH_INTERVAL_MILLIS
+        private set
+
+    init {
+        configure(DEFAULT_SIGNALS_PER_SECOND, DEFAULT_BATCH_INTERVAL_MILLIS, 1f)
+    }
+
+    /**
+     * Applies new options, buffered events and counters are reset.
+     */
+    @Synchronized
+    fun setOptions(options: SensorOptions) {
+        configure(
+            options.signalsPerSecond,
+            options.batchIntervalMillis,
+            options.lowPassFilterFactor
+        )
+    }
+
+    /**
+     * @param androidSensorType the [android.hardware.Sensor] type
+     * @param sensorType the navigator sensor type
+     * @param timestampNanos the event timestamp
+     * @param values the event values, they are copied
+     * @return true if this is the first event buffered since the last [drain],
+     * a drain should then be scheduled in [batchIntervalMillis]
+     */
+    @Synchronized
+    fun add(
+        androidSensorType: Int,
+        sensorType: SensorType,
+        timestampNanos: Long,
+        values: FloatArray
+    ): Boolean {
+        val buffer = sensorBuffers.getOrPut(androidSensorType) {
+            SensorRingBuffer(androidSensorType, sensorType, capacity)
+        }
+        if (!buffer.add(timestampNanos, values, minIntervalNanos, lowPassFilterFactor)) {
+            return false
+        }
+        val isFirst = !hasPendingEvents
+        hasPendingEvents = true
+        return isFirst
+    }
+
+    /**
+     * @return the buffered events of all the sensors, ordered by timestamp
+     */
+    @Synchronized
+    fun drain(): List<SensorData> {
+        hasPendingEvents = false
+        val sensorData = ArrayList<SensorData>()
+        sensorBuffers.values.forEach { it.drainTo(sensorData) }
+        sensorData.sortBy { it.elapsedTimeNanos }
+        return sensorData
+    }
+
+    /**
+     * Drops the buffered events, counters are kept.
+     */
+    @Synchronized
+    fun clear() {
+        hasPendingEvents = false
+        sensorBuffers.values.forEach { it.clear() }
+    }
+
+    @Synchronized
+    fun stats(): List<SensorEventStats> {
+        return sensorBuffers.values.map { it.stats() }
+    }
+
+    private fun configure(
+        signalsPerSecond: Int,
+        batchIntervalMillis: Long,
+        lowPassFilterFactor: Float
+    ) {
+        // Sensors deliver with jitter around the requested rate, an event is only downsampled
+        // when it arrives clearly faster than the target rate.
+        val intervalNanos = TimeUnit.SECONDS.toNanos(1) / signalsPerSecond
+        minIntervalNanos = (intervalNanos * DOWNSAMPLE_TOLERANCE).toLong()
+        this.batchIntervalMillis = batchIntervalMillis
+        this.lowPassFilterFactor = lowPassFilterFactor
+        val eventsPerBatch = signalsPerSecond * batchIntervalMillis / MILLIS_PER_SECOND
+        capacity = max(MIN_CAPACITY, ceil(eventsPerBatch * CAPACITY_FACTOR).toInt())
+        sensorBuffers.clear()
+        hasPendingEvents = false
+    }
+
+    private class SensorRingBuffer(
+        private val androidSensorType: Int,
+        private val sensorType: SensorType,
+        private val capacity: Int
+    ) {
+        private val timestamps = LongArray(capacity)
+        private val wallTimes = LongArray(capacity)
+        private val valueCounts = IntArray(capacity)
+        private val values = FloatArray(capacity * MAX_VALUES)
+        private val filteredValues = FloatArray(MAX_VALUES)
+        private var head = 0
+        private var size = 0
+
+        private var lastAcceptedNanos = 0L
+        private var firstNanos = 0L
+        private var lastNanos = 0L
+        private var receivedCount = 0L
+        private var downsampledCount = 0L
+        private var droppedCount = 0L
+        private var forwardedCount = 0L
+
+        /**
+         * @return true if the event was buffered, false if it was downsampled
+         */
+        fun add(
+            timestampNanos: Long,
+            eventValues: FloatArray,
+            minIntervalNanos: Long,
+            lowPassFilterFactor: Float
+        ): Boolean {
+            val isFirst = receivedCount++ == 0L
+            val valueCount = min(eventValues.size, MAX_VALUES)
+            for (index in 0 until valueCount) {
+                filteredValues[index] = if (isFirst) {
+                    eventValues[index]
+                } else {
+                    filteredValues[index] +
+                        lowPassFilterFactor * (eventValues[index] - filteredValues[index])
+                }
+            }
+            if (isFirst) {
+                firstNanos = timestampNanos
+            } else if (timestampNanos - lastAcceptedNanos < minIntervalNanos) {
+                lastNanos = timestampNanos
+                downsampledCount++
+                return false
+            }
+            lastNanos = timestampNanos
+            lastAcceptedNanos = timestampNanos
+
+            if (size == capacity) {
+                head = (head + 1) % capacity
+                size--
+                droppedCount++
+            }
+            val slot = (head + size) % capacity
+            timestamps[slot] = timestampNanos
+            wallTimes[slot] = System.currentTimeMillis()
+            valueCounts[slot] = valueCount
+            filteredValues.copyInto(values, slot * MAX_VALUES, 0, valueCount)
+            size++
+            return true
+        }
+
+        fun drainTo(sensorData: MutableList<SensorData>) {
+            for (offset in 0 until size) {
+                val slot = (head + offset) % capacity
+                val from = slot * MAX_VALUES
+                val eventValues = ArrayList<Float>(valueCounts[slot])
+                for (index in from until from + valueCounts[slot]) {
+                    eventValues.add(values[index])
+                }
+                sensorData.add(
+                    SensorData(sensorType, Date(wallTimes[slot]), timestamps[slot], eventValues)
+                )
+            }
+            forwardedCount += size
+            clear()
+        }
+
+        fun clear() {
+            head = 0
+            size = 0
+        }
+
+        fun stats(): SensorEventStats {
+            val seconds = (lastNanos - firstNanos).toDouble() / TimeUnit.SECONDS.toNanos(1)
+            return SensorEventStats(
+                androidSensorType,
+                receivedCount,
+                downsampledCount,
+                droppedCount,
+                forwardedCount,
+                if (seconds > 0) (receivedCount - 1) / seconds else 0.0,
+                if (seconds > 0) forwardedCount / seconds else 0.0
+            )
+        }
+    }
+
+    internal companion object {
+        /**
+         * Target rate until options are set.
+         */
+        const val DEFAULT_SIGNALS_PER_SECOND = 50
+        private const val DEFAULT_BATCH_INTERVAL_MILLIS = 200L
+
+        /**
+         * Most values of the supported sensors, uncalibrated sensors report 6 values.
+         */
+        private const val MAX_VALUES = 6
+        private const val MIN_CAPACITY = 4
+        private const val CAPACITY_FACTOR = 2.0
+        private const val MILLIS_PER_SECOND = 1000.0
+        private const val DOWNSAMPLE_TOLERANCE = 0.8
+    }
+}
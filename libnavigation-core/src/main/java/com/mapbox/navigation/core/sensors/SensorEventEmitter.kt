@@ -7,7 +7,9 @@ import android.hardware.SensorManager
 
 /**
  * This class makes it simple to register listeners to the [SensorManager]. Use [start] to
- * register and pass the [SensorEvent]s to [MapboxNavigation.updateSensorEvent].
+ * register and pass the [SensorEvent]s to [MapboxNavigation.updateSensorEvent]. Pass the same
+ * [SensorOptions] to [MapboxNavigation.setSensorOptions] so that the events are downsampled
+ * and batched accordingly.
  *
  * @param sensorManager [SensorManager]
  */
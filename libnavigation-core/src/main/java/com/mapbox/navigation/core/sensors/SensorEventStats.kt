@@ -0,0 +1,23 @@
+package com.mapbox.navigation.core.sensors
+
+/**
+ * State of the events of one sensor passed to [MapboxNavigation.updateSensorEvent].
+ *
+ * @param sensorType the Android sensor type, like [android.hardware.Sensor.TYPE_ACCELEROMETER]
+ * @param receivedEvents number of events received
+ * @param downsampledEvents number of events dropped because they arrived faster than
+ * [SensorOptions.signalsPerSecond]
+ * @param droppedEvents number of events dropped because the buffer was full
+ * @param forwardedEvents number of events forwarded to the navigator
+ * @param receivedRate events received per second
+ * @param forwardedRate events forwarded to the navigator per second
+ */
+data class SensorEventStats(
+    val sensorType: Int,
+    val receivedEvents: Long,
+    val downsampledEvents: Long,
+    val droppedEvents: Long,
+    val forwardedEvents: Long,
+    val receivedRate: Double,
+    val forwardedRate: Double
+)
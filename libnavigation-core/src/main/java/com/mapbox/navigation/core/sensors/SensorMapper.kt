@@ -1,13 +1,10 @@
 package com.mapbox.navigation.core.sensors
 
 import android.hardware.Sensor
-import android.hardware.SensorEvent
 import android.os.Build
 import com.mapbox.base.common.logger.Logger
 import com.mapbox.base.common.logger.model.Message
-import com.mapbox.navigator.SensorData
 import com.mapbox.navigator.SensorType
-import java.util.Date
 
 internal object SensorMapper {
 
@@ -28,17 +25,6 @@ internal object SensorMapper {
         return supportedSensors
     }
 
-    fun toSensorData(sensorEvent: SensorEvent, logger: Logger): SensorData? {
-        val sensorType = toSensorType(sensorEvent.sensor, logger)
-            ?: return null
-        return SensorData(
-            sensorType,
-            Date(),
-            sensorEvent.timestamp,
-            sensorEvent.values.toList()
-        )
-    }
-
     fun toSensorType(sensor: Sensor, logger: Logger): SensorType? {
         return when (sensor.type) {
             Sensor.TYPE_ACCELEROMETER -> SensorType.ACCELEROMETER
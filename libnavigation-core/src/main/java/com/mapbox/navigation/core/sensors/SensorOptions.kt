@@ -4,12 +4,22 @@ package com.mapbox.navigation.core.sensors
  * Options for the [SensorEventEmitter]. Use this to decide which sensors are
  * enabled and the frequency.
  *
+ * Pass the same options to [MapboxNavigation.setSensorOptions] so that the events are
+ * downsampled to the frequency, filtered and forwarded to the navigator in batches. Without them
+ * the events are downsampled to 50 per second, twice the default frequency.
+ *
  * @param enableSensorTypes set of enabled sensors
- * @param signalsPerSecond signals per second received from sensors
+ * @param signalsPerSecond signals per second received from sensors, events of a sensor arriving
+ * faster are dropped
+ * @param batchIntervalMillis how long events are buffered before being forwarded to the navigator
+ * @param lowPassFilterFactor smoothing factor of the low-pass filter applied to the sensor values,
+ * in the range (0, 1]. 1 disables the filter
  */
 class SensorOptions private constructor(
     val enableSensorTypes: Set<Int>,
-    val signalsPerSecond: Int
+    val signalsPerSecond: Int,
+    val batchIntervalMillis: Long,
+    val lowPassFilterFactor: Float
 ) {
     /**
      * @return the builder that created the [SensorOptions]
@@ -17,6 +27,8 @@ class SensorOptions private constructor(
     fun toBuilder(): Builder = Builder().apply {
         enableSensorTypes(enableSensorTypes)
         signalsPerSecond(signalsPerSecond)
+        batchIntervalMillis(batchIntervalMillis)
+        lowPassFilterFactor(lowPassFilterFactor)
     }
 
     /**
@@ -30,6 +42,8 @@ class SensorOptions private constructor(
 
         if (enableSensorTypes != other.enableSensorTypes) return false
         if (signalsPerSecond != other.signalsPerSecond) return false
+        if (batchIntervalMillis != other.batchIntervalMillis) return false
+        if (lowPassFilterFactor != other.lowPassFilterFactor) return false
 
         return true
     }
@@ -40,6 +54,8 @@ class SensorOptions private constructor(
     override fun hashCode(): Int {
         var result = enableSensorTypes.hashCode()
         result = 31 * result + signalsPerSecond
+        result = 31 * result + batchIntervalMillis.hashCode()
+        result = 31 * result + lowPassFilterFactor.hashCode()
         return result
     }
 
@@ -49,7 +65,9 @@ class SensorOptions private constructor(
     override fun toString(): String {
         return "SensorOptions(" +
             "enableSensorTypes=$enableSensorTypes, " +
-            "signalsPerSecond=$signalsPerSecond" +
+            "signalsPerSecond=$signalsPerSecond, " +
+            "batchIntervalMillis=$batchIntervalMillis, " +
+            "lowPassFilterFactor=$lowPassFilterFactor" +
             ")"
     }
 
@@ -59,6 +77,8 @@ class SensorOptions private constructor(
     class Builder {
         private var enableSensorTypes: Set<Int> = emptySet()
         private var signalsPerSecond: Int = 25
+        private var batchIntervalMillis: Long = 200
+        private var lowPassFilterFactor: Float = 1f
 
         /**
          * Set a set of sensors that will be handled
@@ -83,15 +103,49 @@ class SensorOptions private constructor(
             return this
         }
 
+        /**
+         * How long sensor events are buffered before being forwarded to the navigator
+         *
+         * @param batchIntervalMillis buffering interval in milliseconds
+         * @return Builder
+         */
+        fun batchIntervalMillis(batchIntervalMillis: Long): Builder {
+            this.batchIntervalMillis = batchIntervalMillis
+            return this
+        }
+
+        /**
+         * Smoothing factor of the low-pass filter applied to the sensor values. Lower values
+         * smooth more, 1 disables the filter
+         *
+         * @param lowPassFilterFactor in the range (0, 1]
+         * @return Builder
+         */
+        fun lowPassFilterFactor(lowPassFilterFactor: Float): Builder {
+            this.lowPassFilterFactor = lowPassFilterFactor
+            return this
+        }
+
         /**
          * Build a new instance of [SensorOptions]
          *
          * @return SensorOptions
          */
         fun build(): SensorOptions {
+            check(signalsPerSecond > 0) {
+                "signalsPerSecond must be greater than 0: $signalsPerSecond"
+            }
+            check(batchIntervalMillis > 0) {
+                "batchIntervalMillis must be greater than 0: $batchIntervalMillis"
+            }
+            check(lowPassFilterFactor > 0f && lowPassFilterFactor <= 1f) {
+                "lowPassFilterFactor must be in the range (0, 1]: $lowPassFilterFactor"
+            }
             return SensorOptions(
                 enableSensorTypes = enableSensorTypes,
-                signalsPerSecond = signalsPerSecond
+                signalsPerSecond = signalsPerSecond,
+                batchIntervalMillis = batchIntervalMillis,
+                lowPassFilterFactor = lowPassFilterFactor
             )
         }
     }
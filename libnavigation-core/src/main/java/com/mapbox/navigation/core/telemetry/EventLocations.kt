@@ -2,18 +2,16 @@ package com.mapbox.navigation.core.telemetry
 
 import android.location.Location
 
+/**
+ * An event waiting for its post event locations.
+ *
+ * @param eventIndex index of the first location received after the event was created
+ */
 internal class EventLocations(
-    private val preEventLocations: List<Location>,
-    private val postEventLocations: MutableList<Location>,
+    val eventIndex: Long,
     private val onBufferFull: (List<Location>, List<Location>) -> Unit
 ) {
-    fun onBufferFull() {
-        onBufferFull(preEventLocations, postEventLocations)
+    fun onBufferFull(preEventLocations: List<Location>, postEventLocations: List<Location>) {
+        onBufferFull.invoke(preEventLocations, postEventLocations)
     }
-
-    fun addPostEventLocation(location: Location) {
-        postEventLocations.add(location)
-    }
-
-    fun postEventLocationsSize() = postEventLocations.size
 }
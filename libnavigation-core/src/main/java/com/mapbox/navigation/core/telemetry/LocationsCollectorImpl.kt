@@ -4,7 +4,17 @@ import android.location.Location
 import com.mapbox.base.common.logger.Logger
 import com.mapbox.base.common.logger.model.Message
 import com.mapbox.navigation.core.telemetry.MapboxNavigationTelemetry.TAG
+import java.util.concurrent.ConcurrentLinkedQueue
 
+/**
+ * Collects the locations before and after telemetry events.
+ *
+ * All locations go to a single ring buffer that is large enough to hold both the pre event
+ * and the post event locations of the oldest pending event. Pending events only keep the index
+ * of the location they were created at, so a new location costs the same regardless of the
+ * number of pending events. Events are completed in order, events that complete on the same
+ * location share the same immutable snapshot.
+ */
 internal class LocationsCollectorImpl(
     private val logger: Logger?
 ) : LocationsCollector {
@@ -13,65 +23,79 @@ internal class LocationsCollectorImpl(
         private const val LOCATION_BUFFER_MAX_SIZE = 20
     }
 
-    private val locationsBuffer = mutableListOf<Location>()
-    private val eventsLocationsBuffer = mutableListOf<EventLocations>()
+    private val locationsBuffer = LocationsRingBuffer(LOCATION_BUFFER_MAX_SIZE * 2)
+    private val eventsLocationsBuffer = ConcurrentLinkedQueue<EventLocations>()
 
     override val lastLocation: Location?
-        get() = locationsBuffer.lastOrNull()
+        get() = locationsBuffer.lastLocation
 
-    private fun accumulatePostEventLocation(location: Location) {
-        val iterator = eventsLocationsBuffer.iterator()
-        while (iterator.hasNext()) {
-            iterator.next().let {
-                it.addPostEventLocation(location)
-                if (it.postEventLocationsSize() >= LOCATION_BUFFER_MAX_SIZE) {
-                    it.onBufferFull()
-                    iterator.remove()
-                }
+    private fun accumulatePostEventLocation() {
+        val locationsCount = locationsBuffer.count
+        var snapshot: EventLocationsSnapshot? = null
+        while (true) {
+            val eventLocations = eventsLocationsBuffer.peek() ?: return
+            val postEventEndIndex = eventLocations.eventIndex + LOCATION_BUFFER_MAX_SIZE
+            if (postEventEndIndex > locationsCount) {
+                return
             }
-        }
-    }
-
-    private fun accumulateLocation(location: Location) {
-        locationsBuffer.run {
-            if (size >= LOCATION_BUFFER_MAX_SIZE) {
-                removeAt(0)
-            }
-            add(location)
+            eventsLocationsBuffer.poll()
+            snapshot = snapshot.reuseOrCreate(eventLocations.eventIndex, postEventEndIndex)
+            eventLocations.onBufferFull(snapshot.preEventLocations, snapshot.postEventLocations)
         }
     }
 
     override fun collectLocations(
         onBufferFull: (List<Location>, List<Location>) -> Unit
     ) {
-        eventsLocationsBuffer.add(
-            EventLocations(
-                locationsBuffer.getCopy(),
-                mutableListOf(),
-                onBufferFull
-            )
-        )
+        eventsLocationsBuffer.add(EventLocations(locationsBuffer.count, onBufferFull))
     }
 
     override fun flushBuffers() {
         logger?.d(TAG, Message("flush buffer. Pending events = ${eventsLocationsBuffer.size}"))
-        eventsLocationsBuffer.forEach { it.onBufferFull() }
-        eventsLocationsBuffer.clear()
+        val locationsCount = locationsBuffer.count
+        var snapshot: EventLocationsSnapshot? = null
+        while (true) {
+            val eventLocations = eventsLocationsBuffer.poll() ?: return
+            snapshot = snapshot.reuseOrCreate(eventLocations.eventIndex, locationsCount)
+            eventLocations.onBufferFull(snapshot.preEventLocations, snapshot.postEventLocations)
+        }
     }
 
     override fun onRawLocationChanged(rawLocation: Location) {
-        accumulateLocation(rawLocation)
-        accumulatePostEventLocation(rawLocation)
+        locationsBuffer.append(rawLocation)
+        accumulatePostEventLocation()
     }
 
     override fun onEnhancedLocationChanged(enhancedLocation: Location, keyPoints: List<Location>) {
         // Do nothing
     }
 
-    @Synchronized
-    private fun <T> MutableList<T>.getCopy(): List<T> {
-        return mutableListOf<T>().also {
-            it.addAll(this)
+    private fun EventLocationsSnapshot?.reuseOrCreate(
+        eventIndex: Long,
+        postEventEndIndex: Long
+    ): EventLocationsSnapshot {
+        if (this != null &&
+            this.eventIndex == eventIndex &&
+            this.postEventEndIndex == postEventEndIndex
+        ) {
+            return this
         }
+        val preEventStartIndex = (eventIndex - LOCATION_BUFFER_MAX_SIZE)
+            .coerceAtLeast(locationsBuffer.firstIndex)
+        val locations = locationsBuffer.snapshot(preEventStartIndex, postEventEndIndex)
+        val preEventSize = (eventIndex - preEventStartIndex).toInt().coerceIn(0, locations.size)
+        return EventLocationsSnapshot(
+            eventIndex,
+            postEventEndIndex,
+            locations.subList(0, preEventSize),
+            locations.subList(preEventSize, locations.size)
+        )
     }
+
+    private class EventLocationsSnapshot(
+        val eventIndex: Long,
+        val postEventEndIndex: Long,
+        val preEventLocations: List<Location>,
+        val postEventLocations: List<Location>
+    )
 }
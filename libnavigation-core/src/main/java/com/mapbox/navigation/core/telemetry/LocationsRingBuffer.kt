@@ -0,0 +1,60 @@
+package com.mapbox.navigation.core.telemetry
+
+import android.location.Location
+import java.util.Collections
+
+/**
+ * Fixed capacity buffer of the most recent locations. Every appended location gets
+ * a sequential index, so that ranges of locations can be referenced without copying them.
+ *
+ * Appending is lock-free and meant to be done by a single writer, the [count] is published
+ * after the location is written so readers never observe a partially appended location.
+ */
+internal class LocationsRingBuffer(private val capacity: Int) {
+
+    private val locations = arrayOfNulls<Location>(capacity)
+
+    /**
+     * Number of locations appended so far, which is also the index of the next location.
+     */
+    @Volatile
+    var count = 0L
+        private set
+
+    val lastLocation: Location?
+        get() {
+            val count = this.count
+            return if (count == 0L) null else locations[slot(count - 1)]
+        }
+
+    /**
+     * Index of the oldest location still held by the buffer.
+     */
+    val firstIndex: Long
+        get() = (count - capacity).coerceAtLeast(0L)
+
+    fun append(location: Location) {
+        val count = this.count
+        locations[slot(count)] = location
+        this.count = count + 1
+    }
+
+    /**
+     * Immutable copy of the locations from [fromIndex] inclusive to [toIndex] exclusive.
+     * Indices outside of the buffer are clamped to the locations still held.
+     */
+    fun snapshot(fromIndex: Long, toIndex: Long): List<Location> {
+        val from = fromIndex.coerceAtLeast(firstIndex)
+        val to = toIndex.coerceAtMost(count)
+        if (from >= to) {
+            return emptyList()
+        }
+        val snapshot = ArrayList<Location>((to - from).toInt())
+        for (index in from until to) {
+            snapshot.add(locations[slot(index)]!!)
+        }
+        return Collections.unmodifiableList(snapshot)
+    }
+
+    private fun slot(index: Long): Int = (index % capacity).toInt()
+}
@@ -4,6 +4,7 @@ import android.app.Application
 import android.content.Context
 import android.location.Location
 import android.os.Build
+import android.util.Base64
 import com.mapbox.android.core.location.LocationEngine
 import com.mapbox.android.telemetry.AppUserTurnstile
 import com.mapbox.android.telemetry.TelemetryUtils.generateCreateDateFormatted
@@ -47,8 +48,17 @@ import com.mapbox.navigation.core.trip.session.OffRouteObserver
 import com.mapbox.navigation.core.trip.session.RouteProgressObserver
 import com.mapbox.navigation.metrics.MapboxMetricsReporter
 import com.mapbox.navigation.metrics.internal.event.NavigationAppUserTurnstileEvent
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
 import com.mapbox.navigation.utils.internal.Time
 import com.mapbox.navigation.utils.internal.ifNonNull
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+import java.io.File
+import java.io.IOException
 import java.util.Date
 
 private data class DynamicSessionValues(
@@ -128,6 +138,10 @@ internal object MapboxNavigationTelemetry :
     private lateinit var sdkIdentifier: String
     private var logger: Logger? = null
     private val feedbackEventCacheMap = LinkedHashMap<String, NavigationFeedbackEvent>()
+    private val feedbackScreenshotFiles = HashMap<String, File>()
+    private val feedbackJobControl: JobControl = SupervisorJob().let { job ->
+        JobControl(job, CoroutineScope(job + Dispatchers.Main))
+    }
 
     private var needHandleReroute = false
     private var sessionState: NavigationSession.State = IDLE
@@ -160,6 +174,7 @@ internal object MapboxNavigationTelemetry :
         }
         metricsReporter = reporter
         feedbackEventCacheMap.clear()
+        deleteFeedbackScreenshotFiles()
 
         registerListeners(mapboxNavigation)
         postTurnstileEvent()
@@ -195,7 +210,7 @@ internal object MapboxNavigationTelemetry :
         @FeedbackEvent.Type feedbackType: String,
         description: String,
         @FeedbackEvent.Source feedbackSource: String,
-        screenshot: String?,
+        screenshot: File?,
         feedbackSubType: Array<String>?,
         appMetadata: AppMetadata?
     ) {
@@ -203,11 +218,12 @@ internal object MapboxNavigationTelemetry :
             feedbackType,
             description,
             feedbackSource,
-            screenshot,
+            null,
             feedbackSubType,
             appMetadata,
             {
                 feedbackEventCacheMap[it.feedbackId] = it
+                screenshot?.let { file -> feedbackScreenshotFiles[it.feedbackId] = file }
             },
             {
                 feedbackEventCacheMap[it.feedbackId]?.let { cachedEvent ->
@@ -221,24 +237,69 @@ internal object MapboxNavigationTelemetry :
     fun getCachedUserFeedback(): List<CachedNavigationFeedbackEvent> {
         locationsCollector.flushBuffers()
         return feedbackEventCacheMap.map {
-            it.value.getCachedNavigationFeedbackEvent()
+            it.value.getCachedNavigationFeedbackEvent(feedbackScreenshotFiles[it.key])
         }
     }
 
     fun postCachedUserFeedback(cachedFeedbackEventList: List<CachedNavigationFeedbackEvent>) {
         log("post cached user feedback events")
         val feedbackEventCache = LinkedHashMap(feedbackEventCacheMap)
-        feedbackEventCacheMap.clear()
+        val screenshotFiles = HashMap(feedbackScreenshotFiles)
 
-        cachedFeedbackEventList.forEach { cachedFeedback ->
-            sendEvent(
-                feedbackEventCache[cachedFeedback.feedbackId]?.apply {
-                    update(cachedFeedback)
-                } ?: return@forEach
-            )
+        val feedbackEvents = cachedFeedbackEventList.mapNotNull { cachedFeedback ->
+            feedbackEventCache[cachedFeedback.feedbackId]?.apply { update(cachedFeedback) }
+        }
+        if (screenshotFiles.isEmpty()) {
+            feedbackEvents.forEach { sendEvent(it) }
+            removeCachedUserFeedback(feedbackEventCache.keys)
+            return
+        }
+        feedbackJobControl.scope.launch {
+            withContext(ThreadController.IODispatcher) {
+                feedbackEvents.forEach {
+                    it.screenshot = screenshotFiles[it.feedbackId]?.readScreenshot()
+                }
+            }
+            feedbackEvents.forEach { sendEvent(it) }
+            val sentScreenshotFiles = removeCachedUserFeedback(feedbackEventCache.keys)
+            withContext(ThreadController.IODispatcher) {
+                sentScreenshotFiles.forEach { it.delete() }
+            }
+        }
+    }
+
+    /**
+     * Removes the posted feedback from the cache once it's sent.
+     *
+     * @return the screenshot files of the removed feedback, to be deleted
+     */
+    private fun removeCachedUserFeedback(feedbackIds: Set<String>): List<File> {
+        return feedbackIds.mapNotNull { feedbackId ->
+            feedbackEventCacheMap.remove(feedbackId)
+            feedbackScreenshotFiles.remove(feedbackId)
         }
     }
 
+    /**
+     * The screenshot is only read from disk and encoded on a background thread right before the
+     * feedback is sent, so that cached feedback doesn't keep encoded screenshots in memory.
+     * The feedback with screenshots is sent once they are encoded, after the events reported
+     * in the meantime. That runs on [feedbackJobControl], which the destruction of
+     * [MapboxNavigation] does not cancel, so that feedback posted right before is still sent.
+     */
+    private fun File.readScreenshot(): String? =
+        try {
+            Base64.encodeToString(readBytes(), Base64.DEFAULT)
+        } catch (exception: IOException) {
+            logger?.e(TAG, Message("Feedback screenshot could not be read"), exception)
+            null
+        }
+
+    private fun deleteFeedbackScreenshotFiles() {
+        feedbackScreenshotFiles.values.forEach { it.delete() }
+        feedbackScreenshotFiles.clear()
+    }
+
     private fun createUserFeedback(
         @FeedbackEvent.Type feedbackType: String,
         description: String,
@@ -3,6 +3,7 @@ package com.mapbox.navigation.core.telemetry.events
 import android.annotation.SuppressLint
 import com.mapbox.navigation.base.metrics.NavigationMetrics
 import com.mapbox.navigation.core.internal.telemetry.CachedNavigationFeedbackEvent
+import java.io.File
 
 @SuppressLint("ParcelCreator")
 internal class NavigationFeedbackEvent(
@@ -28,11 +29,11 @@ internal class NavigationFeedbackEvent(
 
     override fun getEventName(): String = NavigationMetrics.FEEDBACK
 
-    fun getCachedNavigationFeedbackEvent() =
+    fun getCachedNavigationFeedbackEvent(screenshotFile: File?) =
         CachedNavigationFeedbackEvent(
             feedbackId,
             feedbackType ?: "",
-            screenshot ?: "",
+            screenshotFile,
             description,
             HashSet(feedbackSubType?.toSet() ?: emptySet())
         )
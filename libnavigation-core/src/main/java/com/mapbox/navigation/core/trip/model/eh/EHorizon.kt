@@ -23,6 +23,7 @@ import java.util.LinkedList
  * The EHorizon is a simple tree structure that can be navigated easily by traversing the Edges and
  * their outgoing connections. This can be done by simply looping over the Edges or using a Visitor.
  * For common cases, a number of utilities have been added which are described below.
+ * Edges are indexed by id when the EHorizon is created, so looking up an edge takes constant time.
  *
  * @param start [Edge]
  */
@@ -30,24 +31,56 @@ class EHorizon internal constructor(
     val start: Edge
 ) {
 
+    /**
+     * All edges of the horizon in breadth-first order, along with their depth from [start].
+     */
+    private val edges: List<Edge>
+    private val depths: IntArray
+    private val edgeIndex: EdgeIndex
+    private val mppPaths: List<List<Edge>> by lazy { mpp(start) }
+    private val edgesHashCode: Int by lazy { edges.hashCode() }
+    private val mppRangeIndex: MppRangeIndex by lazy { MppRangeIndex(mainMpp()) }
+
+    init {
+        val edges = ArrayList<Edge>()
+        val depths = ArrayList<Int>()
+        edges.add(start)
+        depths.add(0)
+        var index = 0
+        while (index < edges.size) {
+            val depth = depths[index] + 1
+            edges[index++].out.forEach {
+                edges.add(it)
+                depths.add(depth)
+            }
+        }
+        this.edges = edges
+        this.depths = depths.toIntArray()
+        this.edgeIndex = EdgeIndex(edges)
+    }
+
     /**
      * Get the current edge given the position
      *
      * @return current Edge given the position
      */
     fun current(position: EHorizonPosition): Edge {
-        val visitedEdges = LinkedList<Edge>()
-        visitedEdges.push(start)
-        while (visitedEdges.isNotEmpty()) {
-            val current = visitedEdges.poll()
-            if (current.id != position.edgeId) {
-                val mppEdges = current.out.filter { it.isMpp() }
-                visitedEdges.addAll(mppEdges)
-            } else {
-                return current
-            }
+        val edge = edge(position.edgeId)
+        if (edge == null || (!edge.isMpp() && edge !== start)) {
+            throw IllegalArgumentException("No edge with id ${position.edgeId}")
         }
-        throw IllegalArgumentException("No edge with id ${position.edgeId}")
+        return edge
+    }
+
+    /**
+     * Get any edge of the [EHorizon] in constant time.
+     *
+     * @param edgeId the Edge id
+     * @return the Edge with the id, null if the [EHorizon] doesn't contain it
+     */
+    fun edge(edgeId: Long): Edge? {
+        val position = edgeIndex.positionOf(edgeId)
+        return if (position < 0) null else edges[position]
     }
 
     /**
@@ -56,7 +89,7 @@ class EHorizon internal constructor(
      * @return entire MPP from the [EHorizon] as a list of ordered Edges
      */
     fun mpp(): List<List<Edge>> {
-        return mpp(start)
+        return mppPaths
     }
 
     /**
@@ -65,7 +98,35 @@ class EHorizon internal constructor(
      * @return the Edges starting at the current edge
      */
     fun mpp(position: EHorizonPosition): List<List<Edge>> {
-        return mpp(current(position))
+        val current = current(position)
+        if (current === start) {
+            return mppPaths
+        }
+        if (!start.isMpp()) {
+            return mpp(current)
+        }
+        // the precomputed paths start at the start edge, so the current edge is at its depth
+        val depth = depths[edgeIndex.positionOf(current.id)]
+        return mppPaths.mapNotNull { path ->
+            if (path.size > depth && path[depth] === current) {
+                path.subList(depth, path.size)
+            } else {
+                null
+            }
+        }
+    }
+
+    /**
+     * Get an [EHorizonLookAhead] to query the road ahead of the [EHorizonPosition] along the
+     * main MPP, which follows the most probable outgoing Edge at each intersection.
+     * The tables backing the queries are built on the first call and shared by all the
+     * look-aheads of this [EHorizon].
+     *
+     * @param position the current position
+     * @return the look-ahead at the position
+     */
+    fun lookAhead(position: EHorizonPosition): EHorizonLookAhead {
+        return EHorizonLookAhead(mppRangeIndex, position)
     }
 
     /**
@@ -77,7 +138,8 @@ class EHorizon internal constructor(
 
         other as EHorizon
 
-        if (start != other.start) return false
+        // edges are compared one by one without recursing through the tree
+        if (edges != other.edges) return false
 
         return true
     }
@@ -86,7 +148,7 @@ class EHorizon internal constructor(
      * Regenerate whenever a change is made
      */
     override fun hashCode(): Int {
-        return start.hashCode()
+        return edgesHashCode
     }
 
     /**
@@ -98,11 +160,22 @@ class EHorizon internal constructor(
             ")"
     }
 
+    private fun mainMpp(): List<Edge> {
+        if (!start.isMpp()) return emptyList()
+        val path = ArrayList<Edge>()
+        var edge: Edge? = start
+        while (edge != null) {
+            path.add(edge)
+            edge = edge.out.firstOrNull { it.isMpp() }
+        }
+        return path
+    }
+
     private fun mpp(start: Edge): List<List<Edge>> {
         // if it is not MPP return empty list
         if (!start.isMpp()) return emptyList()
         if (start.out.isEmpty()) return listOf(listOf(start))
-        val result = LinkedList<LinkedList<Edge>>()
+        val result = ArrayList<List<Edge>>()
         // traverse through MPP nodes until a tip is found
         val visitedEdges = LinkedList(start.out.filter { c -> c.isMpp() })
         while (visitedEdges.isNotEmpty()) {
@@ -118,7 +191,7 @@ class EHorizon internal constructor(
                     if (b == start) break
                     b = b.parent
                 }
-                result.add(path)
+                result.add(ArrayList(path))
             } else {
                 // push all MPP children to stack
                 visitedEdges.addAll(current.out.filter { c -> c.isMpp() })
@@ -0,0 +1,71 @@
+package com.mapbox.navigation.core.trip.model.eh
+
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import com.mapbox.navigator.ElectronicHorizonEdge
+
+/**
+ * Keeps the road data mapped for the edges of the previous horizon, keyed by edge id.
+ * The names, road class and geometry of a directed edge don't change between horizon updates,
+ * so they are only mapped the first time the edge shows up and shared by the following updates.
+ * Geometries are only mapped when they are accessed.
+ *
+ * Only the edges of the latest mapped horizon are kept.
+ */
+internal class EHorizonEdgeCache {
+
+    private var entries = HashMap<Long, Entry>()
+    private var nextEntries = HashMap<Long, Entry>()
+
+    fun entry(edge: ElectronicHorizonEdge): Entry {
+        val cached = nextEntries[edge.id] ?: entries[edge.id]
+        val entry = if (cached != null && cached.matches(edge)) cached else Entry(edge)
+        nextEntries[edge.id] = entry
+        return entry
+    }
+
+    /**
+     * Drops the edges that were not part of the horizon mapped since the last call.
+     */
+    fun onHorizonMapped() {
+        val entries = this.entries
+        this.entries = nextEntries
+        entries.clear()
+        nextEntries = entries
+    }
+
+    class Entry(edge: ElectronicHorizonEdge) {
+        private val pointCount = edge.geometry?.size ?: NO_GEOMETRY
+        private val frc = edge.frc
+        val functionalRoadClass = EHorizonMapper.mapToFunctionalRoadClass(edge.frc)
+        val names = edge.names.map { NameInfo(it.name, it.shielded) }
+        val geometry: Lazy<LineString?> = mapGeometry(edge.geometry)
+
+        fun matches(edge: ElectronicHorizonEdge): Boolean {
+            return (edge.geometry?.size ?: NO_GEOMETRY) == pointCount &&
+                edge.frc == frc &&
+                namesMatch(edge)
+        }
+
+        private fun namesMatch(edge: ElectronicHorizonEdge): Boolean {
+            if (edge.names.size != names.size) return false
+            edge.names.forEachIndexed { index, roadName ->
+                val name = names[index]
+                if (roadName.name != name.name || roadName.shielded != name.shielded) return false
+            }
+            return true
+        }
+
+        private fun mapGeometry(points: List<Point>?): Lazy<LineString?> {
+            return if (points == null) {
+                lazyOf(null)
+            } else {
+                lazy(LazyThreadSafetyMode.PUBLICATION) { LineString.fromLngLats(points) }
+            }
+        }
+
+        private companion object {
+            private const val NO_GEOMETRY = -1
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.mapbox.navigation.core.trip.model.eh
+
+import kotlin.math.max
+
+/**
+ * Answers questions about the road ahead along the most probable path (MPP) of an [EHorizon],
+ * like the minimum speed limit in the next 2 km or the distance to the next tunnel.
+ *
+ * Distances along the MPP and the range tables are computed once per [EHorizon] and shared
+ * by all of its look-aheads, range queries take logarithmic time. Call [updatePosition]
+ * for every new [EHorizonPosition] of the same [EHorizon], which takes constant time.
+ * Use [EHorizon.lookAhead] to create one.
+ *
+ * All the distances are in meters from the current position. Queries return empty results
+ * while the position is not on the MPP.
+ */
+class EHorizonLookAhead internal constructor(
+    private val mppIndex: MppRangeIndex,
+    position: EHorizonPosition
+) {
+
+    private var currentIndex = NOT_ON_MPP
+    private var currentDistance = 0.0
+
+    init {
+        updatePosition(position)
+    }
+
+    /**
+     * Moves the look-ahead to a new position on the same [EHorizon].
+     *
+     * @param position the new position
+     * @return true if the position is on the MPP, false otherwise
+     */
+    fun updatePosition(position: EHorizonPosition): Boolean {
+        val index = mppIndex.indexOf(position.edgeId)
+        if (index < 0) {
+            currentIndex = NOT_ON_MPP
+            return false
+        }
+        val edgeLength = mppIndex.edges[index].length
+        currentIndex = index
+        currentDistance = mppIndex.startDistance(index) +
+            position.percentAlong.coerceIn(0.0, 1.0) * edgeLength
+        return true
+    }
+
+    /**
+     * @return true if the current position is on the MPP
+     */
+    fun isOnMpp(): Boolean = currentIndex != NOT_ON_MPP
+
+    /**
+     * @return distance left until the end of the MPP, 0 if the position is not on the MPP
+     */
+    fun distanceToEnd(): Double {
+        if (!isOnMpp()) return 0.0
+        return mppIndex.length - currentDistance
+    }
+
+    /**
+     * @param distance distance ahead
+     * @return the Edges overlapping the distance ahead, starting with the current Edge
+     */
+    fun edgesAhead(distance: Double): List<Edge> {
+        if (!isOnMpp()) return emptyList()
+        return mppIndex.edges.subList(currentIndex, lastIndex(distance) + 1)
+    }
+
+    /**
+     * @param distance distance ahead
+     * @return the minimum speed limit in m/s, null if none of the Edges has a speed limit
+     */
+    fun minSpeedLimit(distance: Double): Double? {
+        if (!isOnMpp()) return null
+        return mppIndex.minSpeedLimit(currentIndex, lastIndex(distance))
+    }
+
+    /**
+     * @param distance distance ahead
+     * @return the maximum binned curvature (0-15), null if the position is not on the MPP
+     */
+    fun maxCurvature(distance: Double): Byte? {
+        if (!isOnMpp()) return null
+        return mppIndex.maxCurvature(currentIndex, lastIndex(distance))
+    }
+
+    /**
+     * @param distance distance ahead
+     * @return the [FunctionalRoadClass]es of the Edges within the distance
+     */
+    fun roadClasses(distance: Double): Set<String> {
+        if (!isOnMpp()) return emptySet()
+        val attributes = mppIndex.attributes(currentIndex, lastIndex(distance))
+        return MppRangeIndex.ROAD_CLASSES.filterTo(LinkedHashSet()) { roadClass ->
+            (attributes and MppRangeIndex.roadClassAttribute(roadClass)) != 0
+        }
+    }
+
+    /**
+     * @param distance distance ahead
+     * @return true if there is a bridge within the distance
+     */
+    fun hasBridge(distance: Double): Boolean = hasAttribute(distance, MppRangeIndex.BRIDGE)
+
+    /**
+     * @param distance distance ahead
+     * @return true if there is a tunnel within the distance
+     */
+    fun hasTunnel(distance: Double): Boolean = hasAttribute(distance, MppRangeIndex.TUNNEL)
+
+    /**
+     * @param distance distance ahead
+     * @return true if there is a toll road within the distance
+     */
+    fun hasToll(distance: Double): Boolean = hasAttribute(distance, MppRangeIndex.TOLL)
+
+    /**
+     * @return distance to the next bridge, 0 if on a bridge, null if there is none on the MPP
+     */
+    fun distanceToNextBridge(): Double? = distanceToNext(MppRangeIndex.BRIDGE)
+
+    /**
+     * @return distance to the next tunnel, 0 if in a tunnel, null if there is none on the MPP
+     */
+    fun distanceToNextTunnel(): Double? = distanceToNext(MppRangeIndex.TUNNEL)
+
+    /**
+     * @return distance to the next toll road, 0 if on a toll road, null if there is none on the MPP
+     */
+    fun distanceToNextToll(): Double? = distanceToNext(MppRangeIndex.TOLL)
+
+    private fun hasAttribute(distance: Double, attribute: Int): Boolean {
+        if (!isOnMpp()) return false
+        return (mppIndex.attributes(currentIndex, lastIndex(distance)) and attribute) != 0
+    }
+
+    private fun distanceToNext(attribute: Int): Double? {
+        if (!isOnMpp()) return null
+        val index = mppIndex.indexOfNext(currentIndex, attribute)
+        return when {
+            index < 0 -> null
+            index == currentIndex -> 0.0
+            else -> mppIndex.startDistance(index) - currentDistance
+        }
+    }
+
+    private fun lastIndex(distance: Double): Int {
+        return max(currentIndex, mppIndex.indexAt(currentDistance + distance))
+    }
+
+    private companion object {
+        private const val NOT_ON_MPP = -1
+    }
+}
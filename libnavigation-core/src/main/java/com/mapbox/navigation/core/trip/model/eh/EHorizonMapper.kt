@@ -1,14 +1,10 @@
 package com.mapbox.navigation.core.trip.model.eh
 
-import com.mapbox.geojson.LineString
-import com.mapbox.geojson.Point
-import com.mapbox.navigation.utils.internal.ifNonNull
 import com.mapbox.navigator.ElectronicHorizon
 import com.mapbox.navigator.ElectronicHorizonEdge
 import com.mapbox.navigator.ElectronicHorizonResultType
 import com.mapbox.navigator.FRC
 import com.mapbox.navigator.GraphPosition
-import com.mapbox.navigator.RoadNameInfo
 
 /**
  * This class is responsible for converting nav native into
@@ -28,9 +24,15 @@ internal object EHorizonMapper {
 
     /**
      * Map the electronic horizon graph.
+     *
+     * @param edgeCache road data of the previously mapped edges, reused for the unchanged edges
      */
-    fun mapToEHorizon(electronicHorizon: ElectronicHorizon): EHorizon {
-        val startEdge = electronicHorizon.start.mapToEdge(null)
+    fun mapToEHorizon(
+        electronicHorizon: ElectronicHorizon,
+        edgeCache: EHorizonEdgeCache = EHorizonEdgeCache()
+    ): EHorizon {
+        val startEdge = electronicHorizon.start.mapToEdge(null, edgeCache)
+        edgeCache.onHorizonMapped()
         return EHorizon(startEdge)
     }
 
@@ -46,9 +48,11 @@ internal object EHorizonMapper {
 
     /**
      * Recursively map each edge of the graph.
+     * Edges are linked to their parent, so they are always created, only the road data is reused.
      */
-    private fun ElectronicHorizonEdge.mapToEdge(parent: Edge?): Edge {
-        val outgoingEdges = mutableListOf<Edge>()
+    private fun ElectronicHorizonEdge.mapToEdge(parent: Edge?, edgeCache: EHorizonEdgeCache): Edge {
+        val cachedEdge = edgeCache.entry(this)
+        val outgoingEdges = ArrayList<Edge>(out.size)
         val edge = Edge(
             id,
             level,
@@ -57,16 +61,16 @@ internal object EHorizonMapper {
             length,
             outgoingEdges,
             parent,
-            mapToFunctionalRoadClass(frc),
+            cachedEdge.functionalRoadClass,
             speed,
             ramp,
             motorway,
             bridge,
             tunnel,
             toll,
-            mapNames(names),
+            cachedEdge.names,
             curvature,
-            mapGeometry(geometry),
+            cachedEdge.geometry,
             speedLimit,
             laneCount,
             meanElevation,
@@ -74,7 +78,7 @@ internal object EHorizonMapper {
             stateCode
         )
         // Recursively map the outgoing edges
-        out.forEach { outgoingEdges.add(it.mapToEdge(edge)) }
+        out.forEach { outgoingEdges.add(it.mapToEdge(edge, edgeCache)) }
         return edge
     }
 
@@ -90,25 +94,4 @@ internal object EHorizonMapper {
             FRC.SERVICE_OTHER -> FunctionalRoadClass.SERVICE_OTHER
         }
     }
-
-    private fun mapNames(names: List<RoadNameInfo>): List<NameInfo> {
-        val namesNamesInfo = mutableListOf<NameInfo>()
-        for (roadNameInfo in names) {
-            namesNamesInfo.add(roadNameInfo.mapToNameInfo())
-        }
-        return namesNamesInfo.toList()
-    }
-
-    private fun RoadNameInfo.mapToNameInfo(): NameInfo {
-        return NameInfo(
-            name,
-            shielded
-        )
-    }
-
-    private fun mapGeometry(geometry: List<Point>?): LineString? {
-        return ifNonNull(geometry) { coordinates ->
-            LineString.fromLngLats(coordinates)
-        }
-    }
 }
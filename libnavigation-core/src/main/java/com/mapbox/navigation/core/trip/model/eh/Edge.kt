@@ -24,7 +24,7 @@ import com.mapbox.geojson.LineString
  * @param toll is the edge a toll road?
  * @param names an array of road names
  * @param curvature binned number denoting the curvature degree of the edge (0-15)
- * @param geometry optional geometry if requested
+ * @param geometry optional geometry if requested, it is only mapped the first time it's accessed
  * @param speedLimit max speed of the edge (speed limit) in m/s
  * @param laneCount the number of lanes on the edge (does not change mid-edge)
  * @param meanElevation mean elevation along the edge in meters
@@ -48,7 +48,7 @@ class Edge internal constructor(
     val toll: Boolean,
     val names: List<NameInfo>,
     val curvature: Byte,
-    val geometry: LineString?,
+    geometry: Lazy<LineString?>,
     val speedLimit: Double?,
     val laneCount: Byte?,
     val meanElevation: Double?,
@@ -56,6 +56,13 @@ class Edge internal constructor(
     val stateCode: String?
 ) {
 
+    private val geometryLoader = geometry
+
+    /**
+     * Optional geometry if requested
+     */
+    val geometry: LineString? by geometry
+
     /**
      * @return true if the Edge is the most probable path (MPP), false if not
      */
@@ -77,7 +84,7 @@ class Edge internal constructor(
         if (probability != other.probability) return false
         if (heading != other.heading) return false
         if (length != other.length) return false
-        if (out != other.out) return false
+        if (!out.hasSameIds(other.out)) return false
         if (parent?.id != other.parent?.id) return false
         if (functionRoadClass != other.functionRoadClass) return false
         if (speed != other.speed) return false
@@ -88,7 +95,8 @@ class Edge internal constructor(
         if (toll != other.toll) return false
         if (names != other.names) return false
         if (curvature != other.curvature) return false
-        if (geometry != other.geometry) return false
+        // edges mapped from the same cached geometry are equal without mapping it
+        if (geometryLoader !== other.geometryLoader && geometry != other.geometry) return false
         if (speedLimit != other.speedLimit) return false
         if (laneCount != other.laneCount) return false
         if (meanElevation != other.meanElevation) return false
@@ -107,7 +115,7 @@ class Edge internal constructor(
         result = 31 * result + probability.hashCode()
         result = 31 * result + heading.hashCode()
         result = 31 * result + length.hashCode()
-        result = 31 * result + out.hashCode()
+        result = 31 * result + out.size
         result = 31 * result + parent?.id.hashCode()
         result = 31 * result + functionRoadClass.hashCode()
         result = 31 * result + speed.hashCode()
@@ -118,7 +126,6 @@ class Edge internal constructor(
         result = 31 * result + toll.hashCode()
         result = 31 * result + names.hashCode()
         result = 31 * result + curvature.hashCode()
-        result = 31 * result + geometry.hashCode()
         result = 31 * result + speedLimit.hashCode()
         result = 31 * result + laneCount.hashCode()
         result = 31 * result + meanElevation.hashCode()
@@ -127,6 +134,18 @@ class Edge internal constructor(
         return result
     }
 
+    /**
+     * Outgoing edges are compared by id, so that comparing two edges doesn't recurse
+     * through the whole subtree.
+     */
+    private fun List<Edge>.hasSameIds(other: List<Edge>): Boolean {
+        if (size != other.size) return false
+        for (index in indices) {
+            if (this[index].id != other[index].id) return false
+        }
+        return true
+    }
+
     /**
      * Returns a string representation of the object.
      */
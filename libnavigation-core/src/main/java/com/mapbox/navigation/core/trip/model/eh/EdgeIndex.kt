@@ -0,0 +1,57 @@
+package com.mapbox.navigation.core.trip.model.eh
+
+/**
+ * Open addressing map from an [Edge.id] to the position of the edge in a list of edges.
+ * Ids are kept in a primitive array, so lookups take constant time and don't box the ids.
+ */
+internal class EdgeIndex(edges: List<Edge>) {
+
+    private val mask: Int
+    private val ids: LongArray
+    private val positions: IntArray
+
+    init {
+        var capacity = MIN_CAPACITY
+        while (capacity < edges.size * 2) {
+            capacity = capacity shl 1
+        }
+        mask = capacity - 1
+        ids = LongArray(capacity)
+        positions = IntArray(capacity) { EMPTY }
+        edges.forEachIndexed { position, edge ->
+            var slot = slot(edge.id)
+            while (positions[slot] != EMPTY && ids[slot] != edge.id) {
+                slot = (slot + 1) and mask
+            }
+            if (positions[slot] == EMPTY) {
+                ids[slot] = edge.id
+                positions[slot] = position
+            }
+        }
+    }
+
+    /**
+     * @return the position of the first edge with the [id], or -1 if there is none
+     */
+    fun positionOf(id: Long): Int {
+        var slot = slot(id)
+        while (positions[slot] != EMPTY) {
+            if (ids[slot] == id) {
+                return positions[slot]
+            }
+            slot = (slot + 1) and mask
+        }
+        return EMPTY
+    }
+
+    private fun slot(id: Long): Int {
+        val hash = (id xor (id ushr 32)).toInt() * HASH_MULTIPLIER
+        return (hash xor (hash ushr 16)) and mask
+    }
+
+    private companion object {
+        private const val EMPTY = -1
+        private const val MIN_CAPACITY = 16
+        private const val HASH_MULTIPLIER = -0x61c88647
+    }
+}
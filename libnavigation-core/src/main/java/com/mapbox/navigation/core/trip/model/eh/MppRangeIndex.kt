@@ -0,0 +1,193 @@
+package com.mapbox.navigation.core.trip.model.eh
+
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Precomputed tables over the most probable path (MPP) of an [EHorizon], so that range queries
+ * over a distance along the MPP take logarithmic time.
+ *
+ * The tables are immutable, they are built once per [EHorizon] and shared by all of its
+ * [EHorizonLookAhead]s.
+ *
+ * @param edges the MPP edges in driving order
+ */
+internal class MppRangeIndex(val edges: List<Edge>) {
+
+    private val edgeIndex = EdgeIndex(edges)
+
+    /**
+     * Distance from the start of the MPP to the start of each edge, with the total length last.
+     */
+    private val startDistances = DoubleArray(edges.size + 1)
+    private val speedLimits: MinRangeTree
+    private val negatedCurvatures: MinRangeTree
+    private val attributeTree: OrRangeTree
+
+    init {
+        val speedLimitValues = DoubleArray(edges.size)
+        val negatedCurvatureValues = DoubleArray(edges.size)
+        val attributeValues = IntArray(edges.size)
+        edges.forEachIndexed { index, edge ->
+            startDistances[index + 1] = startDistances[index] + edge.length
+            speedLimitValues[index] = edge.speedLimit ?: Double.POSITIVE_INFINITY
+            negatedCurvatureValues[index] = -edge.curvature.toDouble()
+            attributeValues[index] = edge.attributes()
+        }
+        speedLimits = MinRangeTree(speedLimitValues)
+        negatedCurvatures = MinRangeTree(negatedCurvatureValues)
+        attributeTree = OrRangeTree(attributeValues)
+    }
+
+    val length: Double
+        get() = startDistances[edges.size]
+
+    fun indexOf(edgeId: Long): Int = edgeIndex.positionOf(edgeId)
+
+    fun startDistance(index: Int): Double = startDistances[index]
+
+    /**
+     * @return index of the edge at the [distance] from the start of the MPP, clamped to the last edge
+     */
+    fun indexAt(distance: Double): Int {
+        var low = 0
+        var high = edges.size - 1
+        while (low < high) {
+            val middle = (low + high + 1) ushr 1
+            if (startDistances[middle] <= distance) {
+                low = middle
+            } else {
+                high = middle - 1
+            }
+        }
+        return low
+    }
+
+    fun minSpeedLimit(fromIndex: Int, toIndex: Int): Double? {
+        val speedLimit = speedLimits.rangeMin(fromIndex, toIndex + 1)
+        return if (speedLimit == Double.POSITIVE_INFINITY) null else speedLimit
+    }
+
+    fun maxCurvature(fromIndex: Int, toIndex: Int): Byte {
+        return (-negatedCurvatures.rangeMin(fromIndex, toIndex + 1)).toByte()
+    }
+
+    fun attributes(fromIndex: Int, toIndex: Int): Int {
+        return attributeTree.rangeOr(fromIndex, toIndex + 1)
+    }
+
+    /**
+     * @return index of the first edge from [fromIndex] having any of the [attributes], -1 if none
+     */
+    fun indexOfNext(fromIndex: Int, attributes: Int): Int {
+        return attributeTree.firstIndexOf(fromIndex, attributes)
+    }
+
+    private fun Edge.attributes(): Int {
+        var attributes = roadClassAttribute(functionRoadClass)
+        if (bridge) attributes = attributes or BRIDGE
+        if (tunnel) attributes = attributes or TUNNEL
+        if (toll) attributes = attributes or TOLL
+        return attributes
+    }
+
+    /**
+     * Iterative segment tree returning the minimum of a range.
+     */
+    private class MinRangeTree(values: DoubleArray) {
+
+        private val size = values.size
+        private val tree = DoubleArray(size * 2)
+
+        init {
+            values.copyInto(tree, size)
+            for (index in size - 1 downTo 1) {
+                tree[index] = min(tree[index * 2], tree[index * 2 + 1])
+            }
+        }
+
+        fun rangeMin(fromIndex: Int, toIndex: Int): Double {
+            var result = Double.POSITIVE_INFINITY
+            var left = fromIndex + size
+            var right = toIndex + size
+            while (left < right) {
+                if ((left and 1) == 1) result = min(result, tree[left++])
+                if ((right and 1) == 1) result = min(result, tree[--right])
+                left = left shr 1
+                right = right shr 1
+            }
+            return result
+        }
+    }
+
+    /**
+     * Segment tree over bit sets, returning the union of a range.
+     * Uses a power of two size so that the first match can be found by descending the tree.
+     */
+    private class OrRangeTree(values: IntArray) {
+
+        private val size = Integer.highestOneBit(max(1, values.size * 2 - 1))
+        private val tree = IntArray(size * 2)
+
+        init {
+            values.copyInto(tree, size)
+            for (index in size - 1 downTo 1) {
+                tree[index] = tree[index * 2] or tree[index * 2 + 1]
+            }
+        }
+
+        fun rangeOr(fromIndex: Int, toIndex: Int): Int {
+            var result = 0
+            var left = fromIndex + size
+            var right = toIndex + size
+            while (left < right) {
+                if ((left and 1) == 1) result = result or tree[left++]
+                if ((right and 1) == 1) result = result or tree[--right]
+                left = left shr 1
+                right = right shr 1
+            }
+            return result
+        }
+
+        fun firstIndexOf(fromIndex: Int, bits: Int): Int {
+            if (fromIndex >= size) return -1
+            var node = fromIndex + size
+            // climb until a subtree on the right of the start contains the bits
+            while ((tree[node] and bits) == 0) {
+                while ((node and 1) == 1) {
+                    node = node shr 1
+                    if (node == 0) return -1
+                }
+                node++
+            }
+            // descend to the leftmost leaf containing the bits
+            while (node < size) {
+                node = if ((tree[node * 2] and bits) != 0) node * 2 else node * 2 + 1
+            }
+            return node - size
+        }
+    }
+
+    companion object {
+        const val BRIDGE = 1
+        const val TUNNEL = 1 shl 1
+        const val TOLL = 1 shl 2
+        private const val ROAD_CLASS_SHIFT = 3
+
+        val ROAD_CLASSES = listOf(
+            FunctionalRoadClass.MOTORWAY,
+            FunctionalRoadClass.TRUNK,
+            FunctionalRoadClass.PRIMARY,
+            FunctionalRoadClass.SECONDARY,
+            FunctionalRoadClass.TERTIARY,
+            FunctionalRoadClass.UNCLASSIFIED,
+            FunctionalRoadClass.RESIDENTIAL,
+            FunctionalRoadClass.SERVICE_OTHER
+        )
+
+        fun roadClassAttribute(roadClass: String): Int {
+            val index = ROAD_CLASSES.indexOf(roadClass)
+            return if (index < 0) 0 else 1 shl (ROAD_CLASS_SHIFT + index)
+        }
+    }
+}
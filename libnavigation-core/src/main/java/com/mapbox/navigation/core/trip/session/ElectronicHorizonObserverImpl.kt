@@ -1,6 +1,7 @@
 package com.mapbox.navigation.core.trip.session
 
 import com.mapbox.navigation.core.trip.model.eh.EHorizon
+import com.mapbox.navigation.core.trip.model.eh.EHorizonEdgeCache
 import com.mapbox.navigation.core.trip.model.eh.EHorizonMapper
 import com.mapbox.navigation.core.trip.model.eh.EHorizonPosition
 import com.mapbox.navigation.utils.internal.JobControl
@@ -18,6 +19,7 @@ internal class ElectronicHorizonObserverImpl(
 ) : ElectronicHorizonObserver() {
 
     val eHorizonObservers = CopyOnWriteArraySet<EHorizonObserver>()
+    private val edgeCache = EHorizonEdgeCache()
     var currentHorizon: EHorizon? = null
     var currentType: String? = null
     var currentPosition: EHorizonPosition? = null
@@ -26,7 +28,7 @@ internal class ElectronicHorizonObserverImpl(
         horizon: ElectronicHorizon,
         type: ElectronicHorizonResultType
     ) {
-        val eHorizon = EHorizonMapper.mapToEHorizon(horizon)
+        val eHorizon = EHorizonMapper.mapToEHorizon(horizon, edgeCache)
         val resultType = EHorizonMapper.mapToEHorizonResultType(type)
         jobController.scope.launch {
             currentHorizon = eHorizon
@@ -11,12 +11,16 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.VoiceInstructions
 import com.mapbox.base.common.logger.Logger
 import com.mapbox.base.common.logger.model.Message
+import com.mapbox.navigation.base.internal.extensions.withGuidanceViewAccessToken
 import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.trip.model.RouteLegProgress
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.base.trip.model.alert.RouteAlert
 import com.mapbox.navigation.core.navigator.getMapMatcherResult
+import com.mapbox.navigation.core.sensors.SensorEventBuffer
+import com.mapbox.navigation.core.sensors.SensorEventStats
 import com.mapbox.navigation.core.sensors.SensorMapper
+import com.mapbox.navigation.core.sensors.SensorOptions
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.navigator.internal.MapboxNativeNavigator
 import com.mapbox.navigation.navigator.internal.MapboxNativeNavigatorImpl
@@ -101,6 +105,7 @@ internal class MapboxTripSession(
     private val routeAlertsObservers = CopyOnWriteArraySet<RouteAlertsObserver>()
     private val electronicHorizonObserver = ElectronicHorizonObserverImpl(mainJobController)
     private val mapMatcherResultObservers = CopyOnWriteArraySet<MapMatcherResultObserver>()
+    private val sensorEventBuffer = SensorEventBuffer()
 
     private val bannerInstructionEvent = BannerInstructionEvent()
     private val voiceInstructionEvent = VoiceInstructionEvent()
@@ -206,6 +211,7 @@ internal class MapboxTripSession(
         electronicHorizonObserver.currentHorizon = null
         electronicHorizonObserver.currentType = null
         electronicHorizonObserver.currentPosition = null
+        sensorEventBuffer.clear()
     }
 
     /**
@@ -375,14 +381,38 @@ internal class MapboxTripSession(
     }
 
     /**
-     * Sensor event consumed by native
+     * Sensor event consumed by native. Events are buffered on the calling thread
+     * and forwarded to the navigator in batches.
      */
     override fun updateSensorEvent(sensorEvent: SensorEvent) {
-        SensorMapper.toSensorData(sensorEvent, logger)?.let { sensorData ->
-            navigator.updateSensorData(sensorData)
+        val sensor = sensorEvent.sensor
+        val sensorType = SensorMapper.toSensorType(sensor, logger) ?: return
+        val isFirstBufferedEvent = sensorEventBuffer.add(
+            sensor.type,
+            sensorType,
+            sensorEvent.timestamp,
+            sensorEvent.values
+        )
+        if (isFirstBufferedEvent) {
+            ioJobController.scope.launch {
+                delay(sensorEventBuffer.batchIntervalMillis)
+                navigator.updateSensorData(sensorEventBuffer.drain())
+            }
         }
     }
 
+    /**
+     * Sets how sensor events are downsampled, filtered and batched
+     */
+    override fun setSensorOptions(sensorOptions: SensorOptions) {
+        sensorEventBuffer.setOptions(sensorOptions)
+    }
+
+    /**
+     * Provides the state of the sensor events of each sensor
+     */
+    override fun getSensorEventStats(): List<SensorEventStats> = sensorEventBuffer.stats()
+
     /**
      * Follows a new leg of the already loaded directions.
      * Returns an initialized navigation status if no errors occurred
@@ -564,7 +594,7 @@ internal class MapboxTripSession(
                         component.takeIf { it.type() == BannerComponents.GUIDANCE_VIEW }?.let { c ->
                             components[index] =
                                 c.toBuilder()
-                                    .imageUrl(c.imageUrl()?.plus("&access_token=$accessToken"))
+                                    .imageUrl(c.imageUrl()?.withGuidanceViewAccessToken(accessToken))
                                     .build()
                         }
                     }
@@ -4,6 +4,8 @@ import android.hardware.SensorEvent
 import android.location.Location
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.core.sensors.SensorEventStats
+import com.mapbox.navigation.core.sensors.SensorOptions
 import com.mapbox.navigation.core.trip.service.TripService
 
 internal interface TripSession {
@@ -44,6 +46,8 @@ internal interface TripSession {
     fun unregisterAllVoiceInstructionsObservers()
 
     fun updateSensorEvent(sensorEvent: SensorEvent)
+    fun setSensorOptions(sensorOptions: SensorOptions)
+    fun getSensorEventStats(): List<SensorEventStats>
     fun updateLegIndex(legIndex: Int): Boolean
 
     fun registerRouteAlertsObserver(routeAlertsObserver: RouteAlertsObserver)
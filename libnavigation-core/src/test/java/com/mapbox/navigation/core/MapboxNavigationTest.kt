@@ -29,6 +29,7 @@ import com.mapbox.navigation.core.reroute.RerouteState
 import com.mapbox.navigation.core.routerefresh.RouteRefreshController
 import com.mapbox.navigation.core.routerefresh.RouteRefreshControllerProvider
 import com.mapbox.navigation.core.telemetry.MapboxNavigationTelemetry
+import com.mapbox.navigation.core.telemetry.events.FeedbackEvent
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.core.trip.session.MapMatcherResultObserver
 import com.mapbox.navigation.core.trip.session.OffRouteObserver
@@ -49,6 +50,7 @@ import io.mockk.verifyOrder
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.InternalCoroutinesApi
 import org.junit.After
+import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotNull
 import org.junit.Before
 import org.junit.BeforeClass
@@ -406,6 +408,79 @@ class MapboxNavigationTest {
         unmockkObject(MapboxNavigationTelemetry)
     }
 
+    @Test
+    fun init_coreStageIsReady_routerAndTelemetryStagesAreDeferred() {
+        mapboxNavigation.onDestroy()
+        coroutineRule.testDispatcher.pauseDispatcher()
+        val stages = mutableListOf<NavigationInitStage>()
+
+        val navigation = MapboxNavigation(navigationOptions)
+        navigation.registerInitStageObserver(
+            object : NavigationInitStageObserver {
+                override fun onInitStageReady(stage: NavigationInitStage) {
+                    stages.add(stage)
+                }
+            }
+        )
+
+        assertEquals(listOf(NavigationInitStage.CORE), stages)
+        verify(exactly = 1) {
+            MapboxModuleProvider.createModule<Router>(MapboxModuleType.NavigationRouter, any())
+        }
+
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertEquals(
+            listOf(
+                NavigationInitStage.CORE,
+                NavigationInitStage.ROUTER,
+                NavigationInitStage.TELEMETRY
+            ),
+            stages
+        )
+        verify(exactly = 2) {
+            MapboxModuleProvider.createModule<Router>(MapboxModuleType.NavigationRouter, any())
+        }
+
+        navigation.onDestroy()
+    }
+
+    @Test
+    fun postUserFeedback_beforeTelemetryStage_telemetryStageIsReady() {
+        mapboxNavigation.onDestroy()
+        mockkObject(MapboxNavigationTelemetry)
+        every {
+            MapboxNavigationTelemetry.postUserFeedback(any(), any(), any(), any(), any(), any())
+        } returns Unit
+        coroutineRule.testDispatcher.pauseDispatcher()
+        val stages = mutableListOf<NavigationInitStage>()
+        val navigation = MapboxNavigation(navigationOptions)
+        navigation.registerInitStageObserver(
+            object : NavigationInitStageObserver {
+                override fun onInitStageReady(stage: NavigationInitStage) {
+                    stages.add(stage)
+                }
+            }
+        )
+
+        navigation.postUserFeedback(
+            FeedbackEvent.GENERAL_ISSUE,
+            "description",
+            FeedbackEvent.UI,
+            null
+        )
+
+        assertEquals(listOf(NavigationInitStage.CORE, NavigationInitStage.TELEMETRY), stages)
+        verifyOrder {
+            MapboxNavigationTelemetry.initialize(navigation, any(), any(), any(), any())
+            MapboxNavigationTelemetry.postUserFeedback(any(), any(), any(), any(), any(), any())
+        }
+
+        coroutineRule.testDispatcher.resumeDispatcher()
+        navigation.onDestroy()
+        unmockkObject(MapboxNavigationTelemetry)
+    }
+
     @Test
     fun fasterRoute_noRouteOptions_noRequest() {
         every { directionsSession.getRouteOptions() } returns null
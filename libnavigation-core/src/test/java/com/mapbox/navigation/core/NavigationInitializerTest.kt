@@ -0,0 +1,174 @@
+package com.mapbox.navigation.core
+
+import com.mapbox.navigation.testing.MainCoroutineRule
+import com.mapbox.navigation.utils.internal.ThreadController
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.concurrent.thread
+
+@ExperimentalCoroutinesApi
+class NavigationInitializerTest {
+
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
+    private val stages = mutableListOf<NavigationInitStage>()
+    private val observer = object : NavigationInitStageObserver {
+        override fun onInitStageReady(stage: NavigationInitStage) {
+            stages.add(stage)
+        }
+    }
+    private lateinit var initializer: NavigationInitializer
+
+    @Before
+    fun setUp() {
+        coroutineRule.testDispatcher.pauseDispatcher()
+        initializer = NavigationInitializer(ThreadController.getMainScopeAndRootJob())
+        initializer.registerObserver(observer)
+    }
+
+    @After
+    fun tearDown() {
+        initializer.cancel()
+        ThreadController.cancelAllUICoroutines()
+    }
+
+    @Test
+    fun `stage which is run is ready right away`() {
+        var ran = false
+
+        initializer.run(NavigationInitStage.CORE) { ran = true }
+
+        assertTrue(ran)
+        assertTrue(initializer.isReady(NavigationInitStage.CORE))
+        assertEquals(listOf(NavigationInitStage.CORE), stages)
+    }
+
+    @Test
+    fun `deferred stages run in order after the caller returns`() {
+        val ran = mutableListOf<NavigationInitStage>()
+
+        initializer.defer(NavigationInitStage.ROUTER) { ran.add(NavigationInitStage.ROUTER) }
+        initializer.defer(NavigationInitStage.TELEMETRY) { ran.add(NavigationInitStage.TELEMETRY) }
+        assertTrue(ran.isEmpty())
+        assertFalse(initializer.isReady(NavigationInitStage.ROUTER))
+
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        val expected = listOf(NavigationInitStage.ROUTER, NavigationInitStage.TELEMETRY)
+        assertEquals(expected, ran)
+        assertEquals(expected, stages)
+    }
+
+    @Test
+    fun `required stage runs right away and only once`() {
+        var runs = 0
+        initializer.defer(NavigationInitStage.ROUTER) { runs++ }
+
+        initializer.require(NavigationInitStage.ROUTER)
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertEquals(1, runs)
+        assertEquals(listOf(NavigationInitStage.ROUTER), stages)
+    }
+
+    @Test
+    fun `stage required from other threads runs once and is ready when require returns`() {
+        val runs = AtomicInteger()
+        val readyAfterRequire = CopyOnWriteArrayList<Boolean>()
+        initializer.defer(NavigationInitStage.ROUTER) {
+            Thread.sleep(50)
+            runs.incrementAndGet()
+        }
+
+        val threads = List(2) {
+            thread {
+                initializer.require(NavigationInitStage.ROUTER)
+                readyAfterRequire.add(initializer.isReady(NavigationInitStage.ROUTER))
+            }
+        }
+        threads.forEach { it.join() }
+
+        assertEquals(1, runs.get())
+        assertEquals(listOf(true, true), readyAfterRequire)
+    }
+
+    @Test
+    fun `stage running on another thread does not block the other calls`() {
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        initializer.defer(NavigationInitStage.ROUTER) {
+            started.countDown()
+            release.await()
+        }
+        val routerThread = thread { initializer.require(NavigationInitStage.ROUTER) }
+        started.await()
+
+        initializer.markReady(NavigationInitStage.CORE)
+        val routerReady = initializer.isReady(NavigationInitStage.ROUTER)
+        release.countDown()
+        routerThread.join()
+
+        assertFalse(routerReady)
+        assertEquals(listOf(NavigationInitStage.CORE, NavigationInitStage.ROUTER), stages)
+    }
+
+    @Test
+    fun `stage required again while it runs on the same thread does not wait`() {
+        var runs = 0
+        initializer.defer(NavigationInitStage.ROUTER) {
+            runs++
+            initializer.require(NavigationInitStage.ROUTER)
+        }
+
+        initializer.require(NavigationInitStage.ROUTER)
+
+        assertEquals(1, runs)
+        assertTrue(initializer.isReady(NavigationInitStage.ROUTER))
+    }
+
+    @Test
+    fun `observer registered late is notified of the ready stages`() {
+        val lateStages = mutableListOf<NavigationInitStage>()
+        initializer.markReady(NavigationInitStage.CORE)
+
+        initializer.registerObserver(
+            object : NavigationInitStageObserver {
+                override fun onInitStageReady(stage: NavigationInitStage) {
+                    lateStages.add(stage)
+                }
+            }
+        )
+
+        assertEquals(listOf(NavigationInitStage.CORE), lateStages)
+    }
+
+    @Test
+    fun `stage is notified once`() {
+        initializer.markReady(NavigationInitStage.CORE)
+        initializer.markReady(NavigationInitStage.CORE)
+
+        assertEquals(listOf(NavigationInitStage.CORE), stages)
+    }
+
+    @Test
+    fun `deferred stages do not run after cancel`() {
+        var ran = false
+        initializer.defer(NavigationInitStage.TELEMETRY) { ran = true }
+
+        initializer.cancel()
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertFalse(ran)
+        assertFalse(initializer.isReady(NavigationInitStage.TELEMETRY))
+    }
+}
@@ -0,0 +1,185 @@
+package com.mapbox.navigation.core.history
+
+import com.mapbox.navigation.navigator.internal.MapboxNativeNavigator
+import com.mapbox.navigation.testing.MainCoroutineRule
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.Time
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import io.mockk.verifyOrder
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.SupervisorJob
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.util.zip.GZIPInputStream
+
+@ExperimentalCoroutinesApi
+class HistoryRecorderTest {
+
+    @get:Rule
+    val coroutineRule = MainCoroutineRule()
+
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private var historyCount = 0
+    private val navigator: MapboxNativeNavigator = mockk(relaxed = true) {
+        every { getHistory() } answers { """{"events":[${historyCount++}]}""" }
+    }
+    private var timeMillis = 1000L
+    private val time: Time = mockk {
+        every { millis() } answers { timeMillis++ }
+    }
+    private val jobControl = testJobControl()
+
+    @Test
+    fun `should enable history recording on start`() = coroutineRule.runBlockingTest {
+        val historyRecorder = historyRecorder(defaultOptions().build())
+
+        historyRecorder.start()
+
+        verify { navigator.toggleHistory(true) }
+        historyRecorder.stop()
+    }
+
+    @Test
+    fun `should drain history into an in progress segment`() = coroutineRule.runBlockingTest {
+        val historyRecorder = historyRecorder(defaultOptions().build())
+
+        historyRecorder.start()
+        advanceTimeBy(DRAIN_INTERVAL_MILLIS)
+
+        val files = temporaryFolder.root.listFiles()!!.toList()
+        assertEquals(1, files.size)
+        assertTrue(files[0].name.endsWith(HistoryRecorder.IN_PROGRESS_SUFFIX))
+        assertTrue(historyRecorder.listSegments().isEmpty())
+        verifyOrder {
+            navigator.toggleHistory(true)
+            navigator.getHistory()
+            navigator.toggleHistory(false)
+            navigator.toggleHistory(true)
+        }
+        historyRecorder.stop()
+    }
+
+    @Test
+    fun `should finalize the segment on stop`() = coroutineRule.runBlockingTest {
+        val historyRecorder = historyRecorder(defaultOptions().build())
+
+        historyRecorder.start()
+        advanceTimeBy(DRAIN_INTERVAL_MILLIS * 3)
+        historyRecorder.stop()
+
+        val segments = historyRecorder.listSegments()
+        assertEquals(1, segments.size)
+        val expected = List(4) { """{"events":[$it]}""" }
+        assertEquals(expected, segments[0].readHistory())
+    }
+
+    @Test
+    fun `should rotate segments when they reach the max size`() = coroutineRule.runBlockingTest {
+        val options = defaultOptions().maxSegmentBytes(1).build()
+        val historyRecorder = historyRecorder(options)
+
+        historyRecorder.start()
+        advanceTimeBy(DRAIN_INTERVAL_MILLIS * 3)
+
+        val segments = historyRecorder.listSegments()
+        assertEquals(3, segments.size)
+        assertEquals(listOf("""{"events":[0]}"""), segments[0].readHistory())
+        assertEquals(listOf("""{"events":[2]}"""), segments[2].readHistory())
+        historyRecorder.stop()
+    }
+
+    @Test
+    fun `should only keep the max segments`() = coroutineRule.runBlockingTest {
+        val options = defaultOptions().maxSegmentBytes(1).maxSegments(2).build()
+        val historyRecorder = historyRecorder(options)
+
+        historyRecorder.start()
+        advanceTimeBy(DRAIN_INTERVAL_MILLIS * 5)
+
+        val segments = historyRecorder.listSegments()
+        assertEquals(2, segments.size)
+        assertEquals(listOf("""{"events":[3]}"""), segments[0].readHistory())
+        assertEquals(listOf("""{"events":[4]}"""), segments[1].readHistory())
+        historyRecorder.stop()
+    }
+
+    @Test
+    fun `should finalize segments left in progress on start`() = coroutineRule.runBlockingTest {
+        val firstRecorder = historyRecorder(defaultOptions().build())
+        firstRecorder.start()
+        advanceTimeBy(DRAIN_INTERVAL_MILLIS)
+        jobControl.job.cancel()
+
+        val secondRecorder = historyRecorder(defaultOptions().build(), testJobControl())
+        secondRecorder.start()
+
+        val segments = secondRecorder.listSegments()
+        assertEquals(1, segments.size)
+        assertEquals(listOf("""{"events":[0]}"""), segments[0].readHistory())
+        secondRecorder.stop()
+    }
+
+    @Test
+    fun `should export all segments into a single file`() = coroutineRule.runBlockingTest {
+        val options = defaultOptions().maxSegmentBytes(1).build()
+        val historyRecorder = historyRecorder(options)
+        val destination = File(temporaryFolder.newFolder(), "export.json.gz")
+        val exported = mutableListOf<File>()
+
+        historyRecorder.start()
+        advanceTimeBy(DRAIN_INTERVAL_MILLIS * 2)
+        historyRecorder.exportSegments(
+            destination,
+            object : HistoryRecorder.HistoryExportCallback {
+                override fun onExported(file: File) {
+                    exported.add(file)
+                }
+
+                override fun onFailure(throwable: Throwable) {
+                    throw throwable
+                }
+            }
+        )
+
+        assertEquals(listOf(destination), exported)
+        assertEquals(
+            listOf("""{"events":[0]}""", """{"events":[1]}""", """{"events":[2]}"""),
+            destination.readHistory()
+        )
+        historyRecorder.stop()
+    }
+
+    private fun historyRecorder(
+        options: HistoryRecorderOptions,
+        ioJobControl: JobControl = jobControl
+    ) = HistoryRecorder(
+        navigator,
+        options,
+        time,
+        ioJobControl,
+        testJobControl()
+    )
+
+    private fun testJobControl(): JobControl = SupervisorJob().let { job ->
+        JobControl(job, CoroutineScope(job + coroutineRule.testDispatcher))
+    }
+
+    private fun defaultOptions() = HistoryRecorderOptions.Builder(temporaryFolder.root)
+        .drainIntervalMillis(DRAIN_INTERVAL_MILLIS)
+
+    private fun File.readHistory(): List<String> =
+        GZIPInputStream(inputStream()).bufferedReader().use { it.readLines() }
+
+    private companion object {
+        private const val DRAIN_INTERVAL_MILLIS = 1000L
+    }
+}
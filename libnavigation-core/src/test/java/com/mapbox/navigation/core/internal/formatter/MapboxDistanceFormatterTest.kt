@@ -13,8 +13,10 @@ import com.mapbox.navigation.core.Rounding.INCREMENT_FIVE
 import com.mapbox.navigation.testing.BuilderTest
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.spyk
 import io.mockk.verify
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -240,6 +242,38 @@ class MapboxDistanceFormatterTest :
         assertEquals("12 mérföld", result.toString())
     }
 
+    @Config(qualifiers = "en")
+    @Test
+    fun formatDistanceResolvesLocalizedResourcesOnce() {
+        val context = spyk(ctx)
+        every { context.applicationContext } returns context
+        val formatter = MapboxDistanceFormatter.Builder(context)
+            .unitType(METRIC)
+            .roundingIncrement(INCREMENT_FIFTY)
+            .build()
+
+        repeat(100) { formatter.formatDistance(10.0 + it * 200) }
+
+        verify(exactly = 1) { context.createConfigurationContext(any()) }
+    }
+
+    @Config(qualifiers = "en")
+    @Test
+    fun formatDistanceSameRoundedDistanceIsFormattedOnce() {
+        val formatter = MapboxDistanceFormatter.Builder(ctx)
+            .unitType(METRIC)
+            .roundingIncrement(INCREMENT_FIFTY)
+            .build()
+
+        val first = formatter.formatDistance(1234.0)
+        val second = formatter.formatDistance(1249.0)
+
+        assertEquals("1.2 km", first.toString())
+        assertEquals("1.2 km", second.toString())
+        assertNotSame(first, second)
+        assertEquals(2, second.getSpans(0, second.count(), Object::class.java).size)
+    }
+
     @Test
     fun builderUsesApplicationContext() {
         val mockContext = mockk<Context>()
@@ -361,6 +361,46 @@ class MapboxReplayerTest {
         assertEquals(1580777614.085, events[1].eventTimestamp, 0.001)
     }
 
+    @Test
+    fun `clearPlayedEvents should remove played events and continue playing`() =
+        coroutineRule.runBlockingTest {
+            val testEvents = List(20) { ReplayEventGetStatus(it.toDouble()) }
+            val timeCapture = mutableListOf<ReplayEventBase>()
+            mapboxReplayer.registerObserver(
+                object : ReplayEventsObserver {
+                    override fun replayEvents(events: List<ReplayEventBase>) {
+                        timeCapture.addAll(events)
+                    }
+                }
+            )
+
+            mapboxReplayer.pushEvents(testEvents)
+            mapboxReplayer.play()
+            advanceTimeMillis(3000)
+            val clearedEvents = mapboxReplayer.clearPlayedEvents(testEvents)
+            advanceTimeMillis(2000)
+            mapboxReplayer.stop()
+
+            assertEquals(3, clearedEvents)
+            assertEquals(16.0, mapboxReplayer.durationSeconds(), 0.0)
+            assertEquals(listOf(0.0, 1.0, 2.0, 3.0), timeCapture.take(4).map { it.eventTimestamp })
+        }
+
+    @Test
+    fun `clearPlayedEvents should keep played events which were not given`() =
+        coroutineRule.runBlockingTest {
+            val testEvents = List(20) { ReplayEventGetStatus(it.toDouble()) }
+
+            mapboxReplayer.pushEvents(testEvents)
+            mapboxReplayer.play()
+            advanceTimeMillis(3000)
+            val clearedEvents = mapboxReplayer.clearPlayedEvents(testEvents.drop(1))
+            mapboxReplayer.stop()
+
+            assertEquals(2, clearedEvents)
+            assertEquals(19.0, mapboxReplayer.durationSeconds(), 0.0)
+        }
+
     @Test
     fun `playbackSpeed should play one event per second at 1_0 playbackSpeed`() =
         coroutineRule.runBlockingTest {
@@ -132,6 +132,41 @@ class ReplayRouteDriverTest {
         assertEquals(0.0, locations.last().speedMps, 0.1)
     }
 
+    @Test
+    fun `driveGeometrySequence should match driveGeometry`() {
+        val geometry =
+            """qnq_gAxdhmhFuvBlJe@?qC^^`GD|@bBpq@pB~{@om@xCqL\"""
+
+        val locations = ReplayRouteDriver().driveGeometry(defaultOptions, geometry)
+        val sequence = ReplayRouteDriver().driveGeometrySequence(defaultOptions, geometry)
+
+        val sequenceLocations = sequence.toList()
+        assertEquals(locations.size, sequenceLocations.size)
+        locations.zip(sequenceLocations).forEach { (expected, actual) ->
+            assertEquals(expected.point, actual.point)
+            assertEquals(expected.timeMillis, actual.timeMillis)
+            assertEquals(expected.speedMps, actual.speedMps, 0.0001)
+            assertEquals(expected.bearing, actual.bearing, 0.0001)
+        }
+    }
+
+    @Test
+    fun `drivePointSequence should not interpolate until iterated`() {
+        val points =
+            LineString.fromJson(resourceAsString("look_ahead_for_future_slow_downs_test.txt"))
+
+        val sequence = replayRouteDriver.drivePointSequence(defaultOptions, points.coordinates())
+        val firstLocations = sequence.take(3).toList()
+        val nextLocations = replayRouteDriver.driveGeometry(
+            defaultOptions,
+            """qnq_gAxdhmhFuvBlJe@?qC^"""
+        )
+
+        assertEquals(listOf(0L, 1000L, 2000L), firstLocations.map { it.timeMillis })
+        // The bearing looks two locations ahead
+        assertEquals(5000L, nextLocations.first().timeMillis)
+    }
+
     @Test
     fun `mapRouteLegAnnotation should successfully map route leg annotations`() {
         val routeLeg: RouteLeg =
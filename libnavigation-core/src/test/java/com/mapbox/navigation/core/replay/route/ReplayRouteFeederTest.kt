@@ -0,0 +1,106 @@
+package com.mapbox.navigation.core.replay.route
+
+import com.mapbox.navigation.core.replay.MapboxReplayer
+import com.mapbox.navigation.core.replay.history.ReplayEventBase
+import com.mapbox.navigation.core.replay.history.ReplayEventGetStatus
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class ReplayRouteFeederTest {
+
+    private val pushedEvents = mutableListOf<List<ReplayEventBase>>()
+    private val clearableEvents = mutableListOf<List<ReplayEventBase>>()
+    private var clearedEventsCount = 0
+    private val mapboxReplayer: MapboxReplayer = mockk(relaxed = true) {
+        val eventsSlot = slot<List<ReplayEventBase>>()
+        every { pushEvents(capture(eventsSlot)) } answers {
+            pushedEvents.add(eventsSlot.captured)
+            self as MapboxReplayer
+        }
+        every { clearPlayedEvents(any()) } answers {
+            clearableEvents.add(firstArg<Collection<ReplayEventBase>>().toList())
+            clearedEventsCount
+        }
+    }
+
+    @Test
+    fun `should push first chunk and seek to it`() {
+        val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer, chunkSize = 10)
+
+        replayRouteFeeder.feed(replayEvents(25))
+
+        assertEquals(1, pushedEvents.size)
+        assertEquals(10, pushedEvents[0].size)
+        verify { mapboxReplayer.registerObserver(replayRouteFeeder) }
+        verify { mapboxReplayer.seekTo(pushedEvents[0][0]) }
+    }
+
+    @Test
+    fun `should only iterate the events that are pushed`() {
+        var iteratedEvents = 0
+        val replayEvents = replayEvents(1000).onEach { iteratedEvents++ }
+        val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer, chunkSize = 10)
+
+        replayRouteFeeder.feed(replayEvents)
+
+        assertEquals(10, iteratedEvents)
+    }
+
+    @Test
+    fun `should push next chunk and clear played events when running low`() {
+        val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer, chunkSize = 10)
+        replayRouteFeeder.feed(replayEvents(25))
+
+        replayRouteFeeder.replayEvents(pushedEvents[0].take(5))
+
+        assertEquals(2, pushedEvents.size)
+        assertEquals(10, pushedEvents[1].size)
+        assertEquals(10.0, pushedEvents[1][0].eventTimestamp, 0.0)
+        assertEquals(listOf(pushedEvents[0]), clearableEvents)
+    }
+
+    @Test
+    fun `should only clear the pushed events which were not cleared yet`() {
+        val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer, chunkSize = 10)
+        replayRouteFeeder.feed(replayEvents(40))
+        clearedEventsCount = 5
+        replayRouteFeeder.replayEvents(pushedEvents[0].take(5))
+
+        replayRouteFeeder.replayEvents(pushedEvents[0].drop(5) + pushedEvents[1].take(5))
+
+        val expected = pushedEvents[0].drop(5) + pushedEvents[1]
+        assertEquals(expected, clearableEvents[1])
+    }
+
+    @Test
+    fun `should not push while enough events are pending`() {
+        val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer, chunkSize = 10)
+        replayRouteFeeder.feed(replayEvents(40))
+        replayRouteFeeder.replayEvents(pushedEvents[0].take(1))
+
+        replayRouteFeeder.replayEvents(pushedEvents[0].subList(1, 5))
+
+        assertEquals(2, pushedEvents.size)
+    }
+
+    @Test
+    fun `should stop pushing events after stop`() {
+        val replayRouteFeeder = ReplayRouteFeeder(mapboxReplayer, chunkSize = 10)
+        replayRouteFeeder.feed(replayEvents(25))
+
+        replayRouteFeeder.stop()
+        replayRouteFeeder.replayEvents(pushedEvents[0])
+
+        assertEquals(1, pushedEvents.size)
+        verify { mapboxReplayer.unregisterObserver(replayRouteFeeder) }
+    }
+
+    private fun replayEvents(count: Int): Sequence<ReplayEventBase> =
+        generateSequence(0) { it + 1 }
+            .take(count)
+            .map { ReplayEventGetStatus(it.toDouble()) }
+}
@@ -0,0 +1,163 @@
+package com.mapbox.navigation.core.sensors
+
+import android.hardware.Sensor
+import com.mapbox.navigator.SensorType
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class SensorEventBufferTest {
+
+    @Test
+    fun `only the first event since the last drain requests a drain`() {
+        val buffer = buffer(options(signalsPerSecond = 1000))
+
+        assertTrue(addAccelerometer(buffer, 0L))
+        assertFalse(addAccelerometer(buffer, millis(10)))
+        buffer.drain()
+
+        assertTrue(addAccelerometer(buffer, millis(20)))
+    }
+
+    @Test
+    fun `events faster than signals per second are downsampled`() {
+        val buffer = buffer(options(signalsPerSecond = 10))
+
+        listOf(0L, 50L, 100L, 120L, 200L).forEach { addAccelerometer(buffer, millis(it)) }
+
+        val sensorData = buffer.drain()
+        assertEquals(
+            listOf(0L, millis(100), millis(200)),
+            sensorData.map { it.elapsedTimeNanos }
+        )
+        val stats = buffer.stats().single()
+        assertEquals(5L, stats.receivedEvents)
+        assertEquals(2L, stats.downsampledEvents)
+        assertEquals(3L, stats.forwardedEvents)
+        assertEquals(20.0, stats.receivedRate, 0.0001)
+        assertEquals(15.0, stats.forwardedRate, 0.0001)
+    }
+
+    @Test
+    fun `oldest events are dropped when the buffer is full`() {
+        val buffer = buffer(options(signalsPerSecond = 10, batchIntervalMillis = 200))
+
+        (0L until 6L).forEach { addAccelerometer(buffer, millis(it * 100)) }
+
+        val sensorData = buffer.drain()
+        assertEquals(
+            listOf(millis(200), millis(300), millis(400), millis(500)),
+            sensorData.map { it.elapsedTimeNanos }
+        )
+        assertEquals(2L, buffer.stats().single().droppedEvents)
+    }
+
+    @Test
+    fun `low pass filter smooths the values`() {
+        val buffer = buffer(
+            options(signalsPerSecond = 1000, lowPassFilterFactor = 0.5f)
+        )
+
+        buffer.add(TYPE, SensorType.ACCELEROMETER, 0L, floatArrayOf(0f, 4f))
+        buffer.add(TYPE, SensorType.ACCELEROMETER, millis(10), floatArrayOf(10f, 4f))
+
+        val sensorData = buffer.drain()
+        assertEquals(listOf(0f, 4f), sensorData[0].values)
+        assertEquals(listOf(5f, 4f), sensorData[1].values)
+    }
+
+    @Test
+    fun `values are copied`() {
+        val buffer = buffer(options(signalsPerSecond = 1000))
+        val values = floatArrayOf(1f, 2f, 3f)
+
+        buffer.add(TYPE, SensorType.ACCELEROMETER, 0L, values)
+        values[0] = 100f
+
+        assertEquals(listOf(1f, 2f, 3f), buffer.drain().single().values)
+    }
+
+    @Test
+    fun `drained events of all sensors are ordered by timestamp`() {
+        val buffer = buffer(options(signalsPerSecond = 1000))
+
+        buffer.add(TYPE, SensorType.ACCELEROMETER, millis(10), floatArrayOf(1f))
+        buffer.add(Sensor.TYPE_GYROSCOPE, SensorType.GYROSCOPE, millis(5), floatArrayOf(1f))
+        buffer.add(TYPE, SensorType.ACCELEROMETER, millis(20), floatArrayOf(1f))
+
+        val sensorData = buffer.drain()
+        assertEquals(
+            listOf(SensorType.GYROSCOPE, SensorType.ACCELEROMETER, SensorType.ACCELEROMETER),
+            sensorData.map { it.sensorType }
+        )
+        assertTrue(buffer.drain().isEmpty())
+        assertEquals(2, buffer.stats().size)
+    }
+
+    @Test
+    fun `clear drops buffered events`() {
+        val buffer = buffer(options(signalsPerSecond = 1000))
+        addAccelerometer(buffer, 0L)
+
+        buffer.clear()
+
+        assertTrue(buffer.drain().isEmpty())
+        assertTrue(addAccelerometer(buffer, millis(10)))
+    }
+
+    @Test
+    fun `events at the target rate with jitter are not downsampled`() {
+        val buffer = buffer(options(signalsPerSecond = 25))
+
+        listOf(0L, 42L, 80L, 118L, 162L, 200L).forEach { addAccelerometer(buffer, millis(it)) }
+
+        assertEquals(6, buffer.drain().size)
+        assertEquals(0L, buffer.stats().single().downsampledEvents)
+    }
+
+    @Test
+    fun `events are downsampled to the default rate without options`() {
+        val buffer = SensorEventBuffer()
+
+        (0L until 20L).forEach { addAccelerometer(buffer, millis(it * 5)) }
+
+        assertEquals(
+            listOf(0L, millis(20), millis(40), millis(60), millis(80)),
+            buffer.drain().map { it.elapsedTimeNanos }
+        )
+        assertEquals(200L, buffer.batchIntervalMillis)
+    }
+
+    @Test
+    fun `events at the default emitter rate are not downsampled without options`() {
+        val buffer = SensorEventBuffer()
+
+        listOf(0L, 42L, 80L, 118L, 162L, 200L).forEach { addAccelerometer(buffer, millis(it)) }
+
+        assertEquals(6, buffer.drain().size)
+        assertEquals(0L, buffer.stats().single().downsampledEvents)
+    }
+
+    private fun buffer(options: SensorOptions) = SensorEventBuffer().apply { setOptions(options) }
+
+    private fun addAccelerometer(buffer: SensorEventBuffer, timestampNanos: Long): Boolean {
+        return buffer.add(TYPE, SensorType.ACCELEROMETER, timestampNanos, floatArrayOf(1f, 2f, 3f))
+    }
+
+    private fun options(
+        signalsPerSecond: Int,
+        batchIntervalMillis: Long = 1000,
+        lowPassFilterFactor: Float = 1f
+    ) = SensorOptions.Builder()
+        .signalsPerSecond(signalsPerSecond)
+        .batchIntervalMillis(batchIntervalMillis)
+        .lowPassFilterFactor(lowPassFilterFactor)
+        .build()
+
+    private fun millis(millis: Long) = millis * 1_000_000
+
+    private companion object {
+        private const val TYPE = Sensor.TYPE_ACCELEROMETER
+    }
+}
@@ -12,6 +12,13 @@ class SensorOptionsTest : BuilderTest<SensorOptions, SensorOptions.Builder>() {
         return SensorOptions.Builder()
             .enableSensorTypes(mockk(relaxed = true))
             .signalsPerSecond(123)
+            .batchIntervalMillis(500)
+            .lowPassFilterFactor(0.5f)
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `low pass filter factor out of range throws`() {
+        SensorOptions.Builder().lowPassFilterFactor(0f).build()
     }
 
     @Test
@@ -6,6 +6,7 @@ import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.runBlocking
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
 import org.junit.Test
 
 @ExperimentalCoroutinesApi
@@ -123,4 +124,40 @@ class LocationsCollectorTest {
 
         locationsCollector.flushBuffers()
     }
+
+    @Test
+    fun pendingEventsCompleteInOrder() {
+        val completedEvents = mutableListOf<Int>()
+        repeat(100) { event ->
+            locationsCollector.collectLocations { _, _ -> completedEvents.add(event) }
+            locationsCollector.onRawLocationChanged(mockk())
+        }
+
+        assertEquals((0 until 81).toList(), completedEvents)
+
+        locationsCollector.flushBuffers()
+
+        assertEquals((0 until 100).toList(), completedEvents)
+    }
+
+    @Test
+    fun eventsCollectedTogetherShareLocations() {
+        val preEventBuffers = mutableListOf<List<Location>>()
+        val postEventBuffers = mutableListOf<List<Location>>()
+        repeat(5) { locationsCollector.onRawLocationChanged(mockk()) }
+        repeat(3) {
+            locationsCollector.collectLocations { preLocations, postLocations ->
+                preEventBuffers.add(preLocations)
+                postEventBuffers.add(postLocations)
+            }
+        }
+
+        repeat(20) { locationsCollector.onRawLocationChanged(mockk()) }
+
+        assertEquals(3, preEventBuffers.size)
+        assertSame(preEventBuffers[0], preEventBuffers[2])
+        assertSame(postEventBuffers[0], postEventBuffers[2])
+        assertEquals(5, preEventBuffers[0].size)
+        assertEquals(20, postEventBuffers[0].size)
+    }
 }
@@ -0,0 +1,60 @@
+package com.mapbox.navigation.core.telemetry
+
+import android.location.Location
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class LocationsRingBufferTest {
+
+    private val locationsRingBuffer = LocationsRingBuffer(4)
+
+    @Test
+    fun `should be empty by default`() {
+        assertEquals(0L, locationsRingBuffer.count)
+        assertNull(locationsRingBuffer.lastLocation)
+        assertTrue(locationsRingBuffer.snapshot(0, 4).isEmpty())
+    }
+
+    @Test
+    fun `should keep the last location`() {
+        val locations = List(6) { mockk<Location>() }
+
+        locations.forEach { locationsRingBuffer.append(it) }
+
+        assertEquals(6L, locationsRingBuffer.count)
+        assertEquals(locations.last(), locationsRingBuffer.lastLocation)
+    }
+
+    @Test
+    fun `should snapshot a range of locations`() {
+        val locations = List(3) { mockk<Location>() }
+
+        locations.forEach { locationsRingBuffer.append(it) }
+
+        assertEquals(locations.subList(1, 3), locationsRingBuffer.snapshot(1, 3))
+    }
+
+    @Test
+    fun `should clamp snapshots to the locations held`() {
+        val locations = List(7) { mockk<Location>() }
+
+        locations.forEach { locationsRingBuffer.append(it) }
+
+        assertEquals(3L, locationsRingBuffer.firstIndex)
+        assertEquals(locations.subList(3, 7), locationsRingBuffer.snapshot(0, 10))
+    }
+
+    @Test
+    fun `snapshots should not change when locations are appended`() {
+        val locations = List(8) { mockk<Location>() }
+        locations.take(4).forEach { locationsRingBuffer.append(it) }
+
+        val snapshot = locationsRingBuffer.snapshot(0, 4)
+        locations.drop(4).forEach { locationsRingBuffer.append(it) }
+
+        assertEquals(locations.subList(0, 4), snapshot)
+    }
+}
@@ -7,6 +7,7 @@ import android.content.SharedPreferences
 import android.location.Location
 import android.media.AudioManager
 import android.telephony.TelephonyManager
+import android.util.Base64
 import com.mapbox.android.telemetry.AppUserTurnstile
 import com.mapbox.android.telemetry.MapboxTelemetryConstants
 import com.mapbox.api.directions.v5.models.DirectionsRoute
@@ -49,18 +50,23 @@ import io.mockk.every
 import io.mockk.just
 import io.mockk.mockk
 import io.mockk.mockkObject
+import io.mockk.mockkStatic
 import io.mockk.unmockkObject
+import io.mockk.unmockkStatic
 import io.mockk.verify
 import junit.framework.TestCase.assertEquals
+import junit.framework.TestCase.assertFalse
 import junit.framework.TestCase.assertNotSame
 import junit.framework.TestCase.assertTrue
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.InternalCoroutinesApi
 import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancelChildren
 import org.junit.After
 import org.junit.Rule
 import org.junit.Test
+import java.io.File
 
 @InternalCoroutinesApi
 @ExperimentalCoroutinesApi
@@ -391,6 +397,54 @@ class MapboxNavigationTelemetryTest {
         )
     }
 
+    @Test
+    fun cache_feedback_screenshot_read_from_file_when_posted() {
+        baseMock()
+        mockkStatic(Base64::class)
+        every { Base64.encodeToString(any(), any()) } returns "encodedScreenshot"
+        val screenshotFile = File.createTempFile("screenshot", ".jpg").apply {
+            writeBytes(byteArrayOf(1, 2, 3))
+        }
+
+        baseInitialization()
+        cacheUserFeedback(screenshot = screenshotFile)
+        val cachedFeedbackEvents = MapboxNavigationTelemetry.getCachedUserFeedback()
+        assertEquals(screenshotFile, cachedFeedbackEvents[0].screenshot)
+        postCachedUserFeedback(cachedFeedbackEvents)
+
+        val events = mutableListOf<MetricEvent>()
+        verify { MapboxMetricsReporter.addEvent(capture(events)) }
+        val feedbackEvent = events.last() as NavigationFeedbackEvent
+        assertEquals("encodedScreenshot", feedbackEvent.screenshot)
+        assertFalse(screenshotFile.exists())
+        unmockkStatic(Base64::class)
+    }
+
+    @Test
+    fun cache_feedback_with_screenshot_sent_when_ui_coroutines_cancelled_after_post() {
+        baseMock()
+        mockkStatic(Base64::class)
+        every { Base64.encodeToString(any(), any()) } returns "encodedScreenshot"
+        val screenshotFile = File.createTempFile("screenshot", ".jpg").apply {
+            writeBytes(byteArrayOf(1, 2, 3))
+        }
+
+        baseInitialization()
+        cacheUserFeedback(screenshot = screenshotFile)
+        coroutineRule.testDispatcher.pauseDispatcher()
+        postCachedUserFeedback()
+        parentJob.cancelChildren()
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        val events = mutableListOf<MetricEvent>()
+        verify { MapboxMetricsReporter.addEvent(capture(events)) }
+        val feedbackEvent = events.last() as NavigationFeedbackEvent
+        assertEquals("encodedScreenshot", feedbackEvent.screenshot)
+        assertFalse(screenshotFile.exists())
+        assertTrue(MapboxNavigationTelemetry.getCachedUserFeedback().isEmpty())
+        unmockkStatic(Base64::class)
+    }
+
     @Test
     fun cache_feedback_not_send_on_session_stop() {
         baseMock()
@@ -494,7 +548,7 @@ class MapboxNavigationTelemetryTest {
                         CachedNavigationFeedbackEvent(
                             "",
                             FeedbackEvent.ROAD_CLOSED,
-                            "",
+                            null,
                             "a feedback that not created by telemetry " +
                                 "will be dropped and not be sent",
                             HashSet()
@@ -954,6 +1008,7 @@ class MapboxNavigationTelemetryTest {
     private fun baseMock() {
         mockkObject(ThreadController)
         every { ThreadController.getMainScopeAndRootJob() } returns JobControl(parentJob, testScope)
+        every { ThreadController.IODispatcher } returns coroutineRule.testDispatcher
 
         mockMetricsReporter()
         mockContext()
@@ -1109,7 +1164,7 @@ class MapboxNavigationTelemetryTest {
         feedbackType: String = "",
         description: String = "",
         feedbackSource: String = "",
-        screenshot: String? = null,
+        screenshot: File? = null,
         feedbackSubType: Array<String> = emptyArray(),
         appMetadata: AppMetadata? = null
     ) {
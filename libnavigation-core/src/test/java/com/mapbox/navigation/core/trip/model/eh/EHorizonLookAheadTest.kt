@@ -0,0 +1,200 @@
+package com.mapbox.navigation.core.trip.model.eh
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class EHorizonLookAheadTest {
+
+    private val eHorizon = EHorizon(mppChain())
+
+    @Test
+    fun `min speed limit covers the edges within the distance`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.5))
+
+        assertEquals(25.0, lookAhead.minSpeedLimit(100.0))
+        assertEquals(25.0, lookAhead.minSpeedLimit(200.0))
+        assertEquals(15.0, lookAhead.minSpeedLimit(300.0))
+        assertEquals(15.0, lookAhead.minSpeedLimit(10_000.0))
+    }
+
+    @Test
+    fun `min speed limit is null when no edge has a speed limit`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(6L, 0.0))
+
+        assertNull(lookAhead.minSpeedLimit(50.0))
+    }
+
+    @Test
+    fun `max curvature covers the edges within the distance`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.5))
+
+        assertEquals(3.toByte(), lookAhead.maxCurvature(100.0))
+        assertEquals(7.toByte(), lookAhead.maxCurvature(300.0))
+    }
+
+    @Test
+    fun `road classes cover the edges within the distance`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.5))
+
+        assertEquals(setOf(FunctionalRoadClass.PRIMARY), lookAhead.roadClasses(100.0))
+        assertEquals(
+            setOf(FunctionalRoadClass.MOTORWAY, FunctionalRoadClass.PRIMARY),
+            lookAhead.roadClasses(300.0)
+        )
+    }
+
+    @Test
+    fun `attributes ignore the branches off the mpp`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.5))
+
+        assertTrue(lookAhead.hasBridge(100.0))
+        assertFalse(lookAhead.hasTunnel(200.0))
+        assertTrue(lookAhead.hasTunnel(260.0))
+        assertFalse(lookAhead.hasToll(400.0))
+        assertTrue(lookAhead.hasToll(460.0))
+    }
+
+    @Test
+    fun `distance to next attribute is measured from the position`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.5))
+
+        assertEquals(50.0, lookAhead.distanceToNextBridge()!!, DELTA)
+        assertEquals(250.0, lookAhead.distanceToNextTunnel()!!, DELTA)
+        assertEquals(450.0, lookAhead.distanceToNextToll()!!, DELTA)
+        assertEquals(550.0, lookAhead.distanceToEnd(), DELTA)
+    }
+
+    @Test
+    fun `distance to next attribute is zero on an edge with the attribute`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(2L, 0.5))
+
+        assertEquals(0.0, lookAhead.distanceToNextBridge()!!, DELTA)
+    }
+
+    @Test
+    fun `distance to next attribute is null once it is behind`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(5L, 0.0))
+
+        assertNull(lookAhead.distanceToNextBridge())
+        assertNull(lookAhead.distanceToNextTunnel())
+        assertEquals(100.0, lookAhead.distanceToNextToll()!!, DELTA)
+    }
+
+    @Test
+    fun `edges ahead start at the current edge`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.5))
+
+        assertEquals(listOf(1L, 2L), lookAhead.edgesAhead(140.0).map { it.id })
+    }
+
+    @Test
+    fun `update position moves along the mpp`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.0))
+
+        assertTrue(lookAhead.updatePosition(EHorizonPosition(3L, 0.5)))
+
+        assertEquals(250.0, lookAhead.distanceToNextToll()!!, DELTA)
+        assertEquals(15.0, lookAhead.minSpeedLimit(100.0))
+    }
+
+    @Test
+    fun `queries are empty when the position is off the mpp`() {
+        val lookAhead = eHorizon.lookAhead(EHorizonPosition(1L, 0.0))
+
+        assertFalse(lookAhead.updatePosition(EHorizonPosition(BRANCH_ID, 0.0)))
+
+        assertFalse(lookAhead.isOnMpp())
+        assertNull(lookAhead.minSpeedLimit(100.0))
+        assertNull(lookAhead.distanceToNextTunnel())
+        assertTrue(lookAhead.edgesAhead(100.0).isEmpty())
+    }
+
+    @Test
+    fun `queries are empty when the horizon has no mpp`() {
+        val start = edge(1L, 1, null, mutableListOf(), EdgeSpec(speedLimit = 10.0))
+        val lookAhead = EHorizon(start).lookAhead(EHorizonPosition(1L, 0.0))
+
+        assertFalse(lookAhead.isOnMpp())
+        assertNull(lookAhead.minSpeedLimit(100.0))
+        assertTrue(lookAhead.roadClasses(100.0).isEmpty())
+    }
+
+    /**
+     * Builds an mpp of 100 meters long edges with ids 1 to 6, and a branch with a tunnel
+     * off the first edge.
+     */
+    private fun mppChain(): Edge {
+        val specs = listOf(
+            EdgeSpec(speedLimit = 25.0, curvature = 1),
+            EdgeSpec(curvature = 3, bridge = true),
+            EdgeSpec(FunctionalRoadClass.MOTORWAY, speedLimit = 30.0),
+            EdgeSpec(FunctionalRoadClass.MOTORWAY, speedLimit = 15.0, curvature = 7, tunnel = true),
+            EdgeSpec(FunctionalRoadClass.SECONDARY, speedLimit = 20.0, curvature = 2),
+            EdgeSpec(FunctionalRoadClass.SECONDARY, toll = true)
+        )
+        val startOut = mutableListOf<Edge>()
+        val start = edge(1L, 0, null, startOut, specs[0])
+        var parent = start
+        var parentOut = startOut
+        specs.drop(1).forEachIndexed { index, spec ->
+            val out = mutableListOf<Edge>()
+            val edge = edge(index + 2L, 0, parent, out, spec)
+            parentOut.add(edge)
+            parent = edge
+            parentOut = out
+        }
+        startOut.add(
+            edge(BRANCH_ID, 1, start, mutableListOf(), EdgeSpec(speedLimit = 5.0, tunnel = true))
+        )
+        return start
+    }
+
+    private fun edge(
+        id: Long,
+        level: Byte,
+        parent: Edge?,
+        out: List<Edge>,
+        spec: EdgeSpec
+    ) = Edge(
+        id,
+        level,
+        1.0,
+        0.0,
+        EDGE_LENGTH,
+        out,
+        parent,
+        spec.functionalRoadClass,
+        10.0,
+        false,
+        false,
+        spec.bridge,
+        spec.tunnel,
+        spec.toll,
+        emptyList(),
+        spec.curvature,
+        lazyOf(null),
+        spec.speedLimit,
+        null,
+        null,
+        null,
+        null
+    )
+
+    private class EdgeSpec(
+        val functionalRoadClass: String = FunctionalRoadClass.PRIMARY,
+        val speedLimit: Double? = null,
+        val curvature: Byte = 0,
+        val bridge: Boolean = false,
+        val tunnel: Boolean = false,
+        val toll: Boolean = false
+    )
+
+    private companion object {
+        private const val EDGE_LENGTH = 100.0
+        private const val BRANCH_ID = 100L
+        private const val DELTA = 0.0001
+    }
+}
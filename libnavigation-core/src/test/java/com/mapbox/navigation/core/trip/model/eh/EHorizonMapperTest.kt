@@ -5,13 +5,23 @@ import com.mapbox.navigator.FRC
 import com.mapbox.navigator.GraphPosition
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.mockkObject
+import io.mockk.unmockkObject
+import io.mockk.verify
+import org.junit.After
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
 import org.junit.Assert.assertTrue
 import org.junit.Test
 
 class EHorizonMapperTest {
 
+    @After
+    fun tearDown() {
+        unmockkObject(EHorizonMapper)
+    }
+
     @Test
     fun `mapToEHorizonResultType should convert to types`() {
         assertEquals(
@@ -162,4 +172,30 @@ class EHorizonMapperTest {
 
         assertTrue(stringValue.length > 5000)
     }
+
+    @Test
+    fun `mapToEHorizon should reuse road data of cached edges`() {
+        val edgeCache = EHorizonEdgeCache()
+        mockkObject(EHorizonMapper)
+
+        val first = EHorizonMapper.mapToEHorizon(EHorizonTestUtil.loadLongBranch(), edgeCache)
+        val second = EHorizonMapper.mapToEHorizon(EHorizonTestUtil.loadLongBranch(), edgeCache)
+
+        assertEquals(first, second)
+        assertSame(first.start.names, second.start.names)
+        assertSame(first.start.geometry, second.start.geometry)
+        verify(exactly = 15) { EHorizonMapper.mapToFunctionalRoadClass(any()) }
+    }
+
+    @Test
+    fun `mapToEHorizon should only cache edges of the latest horizon`() {
+        val edgeCache = EHorizonEdgeCache()
+        mockkObject(EHorizonMapper)
+
+        EHorizonMapper.mapToEHorizon(EHorizonTestUtil.loadSmallGraph(), edgeCache)
+        EHorizonMapper.mapToEHorizon(EHorizonTestUtil.loadLongBranch(), edgeCache)
+        EHorizonMapper.mapToEHorizon(EHorizonTestUtil.loadSmallGraph(), edgeCache)
+
+        verify(exactly = 19) { EHorizonMapper.mapToFunctionalRoadClass(any()) }
+    }
 }
@@ -3,6 +3,9 @@ package com.mapbox.navigation.core.trip.model.eh
 import io.mockk.every
 import io.mockk.mockk
 import junit.framework.Assert.assertEquals
+import junit.framework.Assert.assertNull
+import junit.framework.Assert.assertTrue
+import org.junit.Assert.assertNotEquals
 import org.junit.Test
 
 class EHorizonTest {
@@ -34,4 +37,138 @@ class EHorizonTest {
             }
         )
     }
+
+    @Test
+    fun `edge returns every edge of a wide horizon`() {
+        val eHorizon = EHorizon(wideEdge(WIDE_HORIZON_DEPTH))
+        val ids = mutableListOf<Long>()
+        collectIds(eHorizon.start, ids)
+
+        ids.forEach { id ->
+            assertEquals(id, eHorizon.edge(id)?.id)
+        }
+        assertNull(eHorizon.edge(-1L))
+    }
+
+    @Test
+    fun `current returns mpp edge of a wide horizon`() {
+        val eHorizon = EHorizon(wideEdge(WIDE_HORIZON_DEPTH))
+        val mppEdge = eHorizon.start.out[0]
+
+        assertEquals(mppEdge, eHorizon.current(position(mppEdge.id)))
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun `current throws when the edge is not on the mpp`() {
+        val eHorizon = EHorizon(wideEdge(WIDE_HORIZON_DEPTH))
+        val branch = eHorizon.start.out.first { !it.isMpp() }
+
+        eHorizon.current(position(branch.id))
+    }
+
+    @Test
+    fun `mpp from position starts at the current edge`() {
+        val electronicHorizon = EHorizonTestUtil.loadLongBranch()
+        val eHorizon = EHorizonMapper.mapToEHorizon(electronicHorizon)
+        val current = eHorizon.current(position(2452997120465L))
+
+        val mpp = eHorizon.mpp(position(2452997120465L))
+
+        assertTrue(mpp.isNotEmpty())
+        mpp.forEach { path ->
+            assertEquals(current, path.first())
+            assertTrue(eHorizon.mpp().any { it.containsAll(path) })
+        }
+    }
+
+    @Test
+    fun `horizons with the same edges are equal`() {
+        val eHorizon = EHorizon(wideEdge(WIDE_HORIZON_DEPTH))
+        val other = EHorizon(wideEdge(WIDE_HORIZON_DEPTH))
+
+        assertEquals(eHorizon, other)
+        assertEquals(eHorizon.hashCode(), other.hashCode())
+    }
+
+    @Test
+    fun `horizons with a different leaf are not equal`() {
+        val eHorizon = EHorizon(wideEdge(WIDE_HORIZON_DEPTH))
+        val other = EHorizon(wideEdge(WIDE_HORIZON_DEPTH, leafProbability = 0.5))
+
+        assertEquals(eHorizon.start, other.start)
+        assertNotEquals(eHorizon, other)
+    }
+
+    private fun position(edgeId: Long) = EHorizonPosition(edgeId, 0.0)
+
+    private fun collectIds(edge: Edge, ids: MutableList<Long>) {
+        ids.add(edge.id)
+        edge.out.forEach { collectIds(it, ids) }
+    }
+
+    /**
+     * Builds a horizon where every edge has [WIDE_HORIZON_EXPANSION] outgoing edges,
+     * the first outgoing edge of an mpp edge is the mpp.
+     */
+    private fun wideEdge(
+        depth: Int,
+        id: Long = 1L,
+        level: Byte = 0,
+        parent: Edge? = null,
+        leafProbability: Double = 1.0
+    ): Edge {
+        val out = mutableListOf<Edge>()
+        val edge = edge(id, level, parent, if (depth == 0) leafProbability else 1.0, out)
+        if (depth > 0) {
+            repeat(WIDE_HORIZON_EXPANSION) { index ->
+                val childLevel = if (level == 0.toByte() && index == 0) 0 else level + 1
+                out.add(
+                    wideEdge(
+                        depth - 1,
+                        id * WIDE_HORIZON_EXPANSION + index,
+                        childLevel.toByte(),
+                        edge,
+                        leafProbability
+                    )
+                )
+            }
+        }
+        return edge
+    }
+
+    private fun edge(
+        id: Long,
+        level: Byte,
+        parent: Edge?,
+        probability: Double,
+        out: List<Edge>
+    ) = Edge(
+        id,
+        level,
+        probability,
+        0.0,
+        10.0,
+        out,
+        parent,
+        FunctionalRoadClass.PRIMARY,
+        10.0,
+        false,
+        false,
+        false,
+        false,
+        false,
+        emptyList(),
+        0,
+        lazyOf(null),
+        null,
+        null,
+        null,
+        null,
+        null
+    )
+
+    private companion object {
+        private const val WIDE_HORIZON_EXPANSION = 3
+        private const val WIDE_HORIZON_DEPTH = 6
+    }
 }
@@ -1,6 +1,8 @@
 package com.mapbox.navigation.core.trip.session
 
 import android.content.Context
+import android.hardware.Sensor
+import android.hardware.SensorEvent
 import android.location.Location
 import android.os.Looper
 import com.mapbox.android.core.location.LocationEngine
@@ -17,6 +19,7 @@ import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.base.trip.model.alert.RouteAlert
 import com.mapbox.navigation.core.navigator.getMapMatcherResult
+import com.mapbox.navigation.core.sensors.SensorOptions
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.navigator.internal.MapboxNativeNavigator
 import com.mapbox.navigation.navigator.internal.RouteInitInfo
@@ -24,6 +27,7 @@ import com.mapbox.navigation.navigator.internal.TripStatus
 import com.mapbox.navigation.testing.MainCoroutineRule
 import com.mapbox.navigation.utils.internal.JobControl
 import com.mapbox.navigation.utils.internal.ThreadController
+import com.mapbox.navigator.SensorData
 import io.mockk.clearMocks
 import io.mockk.coEvery
 import io.mockk.coVerify
@@ -176,6 +180,28 @@ class MapboxTripSessionTest {
         assertEquals(route, tripSession.route)
     }
 
+    @Test
+    fun sensorEventsAreForwardedInBatches() = coroutineRule.runBlockingTest {
+        coEvery { navigator.updateSensorData(any()) } returns 0
+        val sensorData = slot<List<SensorData>>()
+        tripSession.setSensorOptions(
+            SensorOptions.Builder()
+                .signalsPerSecond(100)
+                .batchIntervalMillis(200)
+                .build()
+        )
+
+        tripSession.updateSensorEvent(mockSensorEvent(0L))
+        tripSession.updateSensorEvent(mockSensorEvent(10_000_000L))
+        tripSession.updateSensorEvent(mockSensorEvent(20_000_000L))
+        coVerify(exactly = 0) { navigator.updateSensorData(any()) }
+        advanceTimeBy(200)
+
+        coVerify(exactly = 1) { navigator.updateSensorData(capture(sensorData)) }
+        assertEquals(3, sensorData.captured.size)
+        assertEquals(3L, tripSession.getSensorEventStats().single().forwardedEvents)
+    }
+
     @Test
     fun locationObserverSuccess() = coroutineRule.runBlockingTest {
         tripSession.start()
@@ -1162,6 +1188,16 @@ class MapboxTripSessionTest {
         parentJob.cancelAndJoin()
     }
 
+    private fun mockSensorEvent(timestamp: Long): SensorEvent {
+        val sensor: Sensor = mockk(relaxed = true)
+        every { sensor.type } returns Sensor.TYPE_ACCELEROMETER
+        val sensorEvent: SensorEvent = mockk(relaxed = true)
+        SensorEvent::class.java.getField("sensor").set(sensorEvent, sensor)
+        SensorEvent::class.java.getField("timestamp").set(sensorEvent, timestamp)
+        SensorEvent::class.java.getField("values").set(sensorEvent, floatArrayOf(1f, 2f, 3f))
+        return sensorEvent
+    }
+
     private fun getBannerComponent() =
         BannerComponents.builder()
             .text("some text")
@@ -2,27 +2,60 @@ package com.mapbox.navigation.metrics
 
 import android.content.Context
 import com.google.gson.Gson
+import com.mapbox.android.telemetry.Event
 import com.mapbox.android.telemetry.MapboxTelemetry
 import com.mapbox.navigation.base.metrics.MetricEvent
 import com.mapbox.navigation.base.metrics.MetricsObserver
 import com.mapbox.navigation.base.metrics.MetricsReporter
 import com.mapbox.navigation.metrics.extensions.toTelemetryEvent
+import com.mapbox.navigation.metrics.internal.MetricsEventJournal
+import com.mapbox.navigation.metrics.internal.MetricsEventQueue
 import com.mapbox.navigation.utils.internal.JobControl
 import com.mapbox.navigation.utils.internal.ThreadController
-import kotlinx.coroutines.cancelChildren
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
+import java.io.File
+import java.util.concurrent.Executors
 
 /**
  * Default implementation of [MetricsReporter] interface.
+ *
+ * Events are queued in a bounded queue and handed over to Mapbox Telemetry in batches,
+ * either when 20 events are queued or 30 seconds after the first queued event.
+ * Events are queued on the calling thread, in the order they are reported, and are handed over
+ * on a single background thread. Queued events are also written to disk on that thread until
+ * they are handed over, so that the events of a killed process are sent after the next [init].
+ * Events are neither written nor kept on disk while the user opted out of telemetry.
+ * Use [getQueueStats] to monitor the queue.
  */
 object MapboxMetricsReporter : MetricsReporter {
 
+    private const val QUEUE_CAPACITY = 200
+    private const val BATCH_SIZE = 20
+    internal const val FLUSH_INTERVAL_MILLIS = 30_000L
+    private const val JOURNAL_FILE_NAME = "mapbox_navigation_metrics_queue"
+
+    private val MetricsDispatcher: CoroutineDispatcher =
+        Executors.newSingleThreadExecutor().asCoroutineDispatcher()
+
     private val gson = Gson()
     private lateinit var mapboxTelemetry: MapboxTelemetry
 
     @Volatile
     private var metricsObserver: MetricsObserver? = null
-    private var ioJobController: JobControl = ThreadController.getIOScopeAndRootJob()
+    private var jobController: JobControl = SupervisorJob().let { job ->
+        JobControl(job, CoroutineScope(job + MetricsDispatcher))
+    }
+    private var eventQueue = MetricsEventQueue(QUEUE_CAPACITY)
+
+    @Volatile
+    private var eventJournal: MetricsEventJournal? = null
+    private var flushJob: Job? = null
 
     /**
      * Initialize [mapboxTelemetry] that need to send event to Mapbox Telemetry server.
@@ -39,6 +72,15 @@ object MapboxMetricsReporter : MetricsReporter {
     ) {
         mapboxTelemetry = MapboxTelemetry(context, accessToken, userAgent)
         mapboxTelemetry.enable()
+        val eventJournal = MetricsEventJournal(
+            File(context.filesDir, JOURNAL_FILE_NAME),
+            gson,
+            QUEUE_CAPACITY
+        )
+        this.eventJournal = eventJournal
+        jobController.scope.launch {
+            offerRestoredEvents(eventJournal.restore())
+        }
     }
 
     // For test purposes only
@@ -47,7 +89,10 @@ object MapboxMetricsReporter : MetricsReporter {
         threadController: ThreadController
     ) {
         this.mapboxTelemetry = mapboxTelemetry
-        this.ioJobController = threadController.getMainScopeAndRootJob()
+        this.jobController = threadController.getMainScopeAndRootJob()
+        this.eventQueue = MetricsEventQueue(QUEUE_CAPACITY)
+        this.eventJournal = null
+        this.flushJob = null
         mapboxTelemetry.enable()
     }
 
@@ -63,26 +108,65 @@ object MapboxMetricsReporter : MetricsReporter {
 
     /**
      * Disables metrics reporting and ends [mapboxTelemetry] session.
-     * This method also removes metrics observer and stops background thread used for
-     * events dispatching.
+     * This method also removes metrics observer and sends the queued events on the background
+     * thread used for events dispatching, before [mapboxTelemetry] is disabled.
      */
     @JvmStatic
     fun disable() {
         removeObserver()
-        mapboxTelemetry.disable()
-        ioJobController.job.cancelChildren()
+        cancelScheduledFlush()
+        val mapboxTelemetry = this.mapboxTelemetry
+        jobController.scope.launch {
+            flush(mapboxTelemetry)
+            mapboxTelemetry.disable()
+        }
+    }
+
+    /**
+     * Current state of the queue of events waiting to be sent to Mapbox Telemetry.
+     *
+     * @return [MetricsQueueStats]
+     */
+    @JvmStatic
+    fun getQueueStats(): MetricsQueueStats {
+        val eventQueue = this.eventQueue
+        return MetricsQueueStats(
+            eventQueue.size,
+            eventQueue.droppedCount,
+            eventQueue.drainedCount
+        )
     }
 
     /**
      * Adds an event to the metrics reporter when this event occurs.
+     * The event is queued right away and only serialized on a background thread,
+     * for the journal and for the [MetricsObserver] if there is one.
      */
     override fun addEvent(metricEvent: MetricEvent) {
-        metricEvent.toTelemetryEvent()?.let {
-            mapboxTelemetry.push(it)
+        metricEvent.toTelemetryEvent()?.let { event ->
+            val queueSize = eventQueue.offer(event)
+            eventJournal?.let { eventJournal ->
+                // flushes run on the same thread, an event drained in the meantime isn't journaled
+                jobController.scope.launch {
+                    val restoredEvents = eventJournal.onEventReported(
+                        metricEvent.metricName,
+                        event,
+                        eventQueue.contains(event)
+                    )
+                    offerRestoredEvents(restoredEvents)
+                }
+            }
+            if (queueSize >= BATCH_SIZE) {
+                jobController.scope.launch { flush(mapboxTelemetry) }
+            } else {
+                scheduleFlush()
+            }
         }
 
-        ioJobController.scope.launch {
-            metricsObserver?.onMetricUpdated(metricEvent.metricName, metricEvent.toJson(gson))
+        if (metricsObserver != null) {
+            jobController.scope.launch {
+                metricsObserver?.onMetricUpdated(metricEvent.metricName, metricEvent.toJson(gson))
+            }
         }
     }
 
@@ -99,4 +183,39 @@ object MapboxMetricsReporter : MetricsReporter {
     override fun removeObserver() {
         this.metricsObserver = null
     }
+
+    private fun offerRestoredEvents(restoredEvents: List<Event>) {
+        if (restoredEvents.isNotEmpty()) {
+            restoredEvents.forEach { eventQueue.offer(it) }
+            scheduleFlush()
+        }
+    }
+
+    @Synchronized
+    private fun scheduleFlush() {
+        if (flushJob?.isActive == true) {
+            return
+        }
+        flushJob = jobController.scope.launch {
+            delay(FLUSH_INTERVAL_MILLIS)
+            flush(mapboxTelemetry)
+        }
+    }
+
+    @Synchronized
+    private fun cancelScheduledFlush() {
+        flushJob?.cancel()
+        flushJob = null
+    }
+
+    /**
+     * Hands the queued events over to [mapboxTelemetry]. Runs on the background thread,
+     * so that batches are handed over in the order they were queued.
+     * [mapboxTelemetry] only rejects events when the user opted out of telemetry.
+     */
+    private fun flush(mapboxTelemetry: MapboxTelemetry) {
+        val events = eventQueue.drain()
+        val rejectedCount = events.count { !mapboxTelemetry.push(it) }
+        eventJournal?.onFlushed(events, isTelemetryEnabled = rejectedCount == 0)
+    }
 }
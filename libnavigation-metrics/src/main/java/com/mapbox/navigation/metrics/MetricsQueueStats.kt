@@ -0,0 +1,14 @@
+package com.mapbox.navigation.metrics
+
+/**
+ * State of the events queued by [MapboxMetricsReporter] for Mapbox Telemetry.
+ *
+ * @param queueDepth number of events waiting to be sent
+ * @param droppedEvents number of events dropped because the queue was full
+ * @param sentEvents number of events handed over to Mapbox Telemetry
+ */
+data class MetricsQueueStats(
+    val queueDepth: Int,
+    val droppedEvents: Long,
+    val sentEvents: Long
+)
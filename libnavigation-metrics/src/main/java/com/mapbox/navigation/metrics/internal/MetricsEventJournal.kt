@@ -0,0 +1,201 @@
+package com.mapbox.navigation.metrics.internal
+
+import com.google.gson.Gson
+import com.google.gson.JsonParseException
+import com.mapbox.android.telemetry.Event
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.Writer
+import java.util.Collections
+import java.util.IdentityHashMap
+
+/**
+ * File holding the events of the queue that were not handed over to Mapbox Telemetry yet,
+ * so that the next process sends them if this one is killed. Events are appended when they
+ * are queued and the file is rewritten without them once they are handed over.
+ *
+ * Every line holds the type of the event, which is the name of the metric it was reported for,
+ * and the event json. Event classes live in the modules reporting the events, so a restored
+ * line is decoded with the class of the first event of the same type reported by this process.
+ *
+ * Nothing is written while Mapbox Telemetry rejects events, i.e. while the user opted out of
+ * telemetry, and the file is deleted when that's found out, so that the events of the opted
+ * out user are never sent later on.
+ *
+ * Lines that can't be restored, e.g. a line cut short by a crash, are skipped.
+ *
+ * @param file the journal
+ * @param gson used to write and read the events
+ * @param capacity maximum number of journaled events, the oldest are dropped first
+ */
+internal class MetricsEventJournal(
+    private val file: File,
+    private val gson: Gson,
+    private val capacity: Int
+) {
+
+    private val eventTypes = HashMap<String, Class<out Event>>()
+    private val entries = ArrayDeque<JournalEntry>()
+    private var isTelemetryEnabled = true
+
+    /**
+     * Reads the events left by a previous process.
+     *
+     * @return the restored events of the types that were already reported by this process,
+     * the others are returned by [onEventReported]
+     */
+    @Synchronized
+    fun restore(): List<Event> {
+        read().forEach { addEntry(it) }
+        return eventTypes.keys.toList().flatMap { takeRestoredEvents(it) }
+    }
+
+    /**
+     * Records the type of a reported event and appends the event if it's still queued.
+     *
+     * @param isQueued false if the event was already handed over or dropped from the queue
+     * @return the restored events of that type that were not returned yet
+     */
+    @Synchronized
+    fun onEventReported(type: String, event: Event, isQueued: Boolean): List<Event> {
+        if (isQueued && isTelemetryEnabled) {
+            val entry = JournalEntry(type, gson.toJson(event), event)
+            addEntry(entry)
+            appendEntry(entry)
+        }
+        if (eventTypes[type] == event.javaClass) {
+            return emptyList()
+        }
+        eventTypes[type] = event.javaClass
+        return takeRestoredEvents(type)
+    }
+
+    /**
+     * Removes the events handed over to Mapbox Telemetry.
+     *
+     * @param flushed the events handed over to Mapbox Telemetry
+     * @param isTelemetryEnabled false if Mapbox Telemetry rejected events, the journal is then
+     * deleted and nothing is written until events are accepted again
+     */
+    @Synchronized
+    fun onFlushed(flushed: List<Event>, isTelemetryEnabled: Boolean) {
+        if (flushed.isEmpty()) {
+            return
+        }
+        this.isTelemetryEnabled = isTelemetryEnabled
+        if (!isTelemetryEnabled) {
+            entries.clear()
+            file.delete()
+            return
+        }
+        val flushedEvents = flushed.toIdentitySet()
+        entries.removeAll { entry -> entry.event?.let { it in flushedEvents } == true }
+        rewrite()
+    }
+
+    private fun addEntry(entry: JournalEntry) {
+        if (entries.size == capacity) {
+            entries.removeFirst()
+        }
+        entries.addLast(entry)
+    }
+
+    private fun takeRestoredEvents(type: String): List<Event> {
+        val eventClass = eventTypes[type] ?: return emptyList()
+        val restoredEvents = ArrayList<Event>()
+        val iterator = entries.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.event != null || entry.type != type) {
+                continue
+            }
+            val event = try {
+                gson.fromJson(entry.json, eventClass)
+            } catch (exception: JsonParseException) {
+                null
+            }
+            if (event != null) {
+                entry.event = event
+                restoredEvents.add(event)
+            } else {
+                iterator.remove()
+            }
+        }
+        return restoredEvents
+    }
+
+    private fun read(): List<JournalEntry> {
+        if (!file.exists()) {
+            return emptyList()
+        }
+        return try {
+            file.bufferedReader().useLines { lines ->
+                lines.mapNotNull { it.toJournalEntry() }.toList()
+            }
+        } catch (exception: IOException) {
+            emptyList()
+        }
+    }
+
+    private fun appendEntry(entry: JournalEntry) {
+        try {
+            file.parentFile?.mkdirs()
+            FileOutputStream(file, true).bufferedWriter().use { writer ->
+                writer.writeEntry(entry)
+            }
+        } catch (exception: IOException) {
+            // The event is lost if the process is killed, as it would be without the journal.
+        }
+    }
+
+    /**
+     * Writes the remaining entries to a temporary file first, so that a crash doesn't leave
+     * a partly written journal.
+     */
+    private fun rewrite() {
+        if (entries.isEmpty()) {
+            file.delete()
+            return
+        }
+        val tempFile = File(file.path + TEMP_FILE_SUFFIX)
+        try {
+            tempFile.bufferedWriter().use { writer ->
+                entries.forEach { writer.writeEntry(it) }
+            }
+            if (!tempFile.renameTo(file)) {
+                tempFile.delete()
+            }
+        } catch (exception: IOException) {
+            tempFile.delete()
+        }
+    }
+
+    private fun Writer.writeEntry(entry: JournalEntry) {
+        write(entry.type)
+        append(SEPARATOR)
+        write(entry.json)
+        append('\n')
+    }
+
+    private fun String.toJournalEntry(): JournalEntry? {
+        val separatorIndex = indexOf(SEPARATOR)
+        if (separatorIndex <= 0 || separatorIndex == lastIndex) {
+            return null
+        }
+        return JournalEntry(substring(0, separatorIndex), substring(separatorIndex + 1), null)
+    }
+
+    private fun List<Event>.toIdentitySet(): MutableSet<Event> =
+        Collections.newSetFromMap(IdentityHashMap<Event, Boolean>()).also { it.addAll(this) }
+
+    /**
+     * @param event the queued event, null for a restored line whose type wasn't reported yet
+     */
+    private class JournalEntry(val type: String, val json: String, var event: Event?)
+
+    private companion object {
+        private const val SEPARATOR = '\t'
+        private const val TEMP_FILE_SUFFIX = ".tmp"
+    }
+}
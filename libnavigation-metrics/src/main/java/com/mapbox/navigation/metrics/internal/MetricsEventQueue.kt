@@ -0,0 +1,66 @@
+package com.mapbox.navigation.metrics.internal
+
+import com.mapbox.android.telemetry.Event
+
+/**
+ * Bounded queue of events waiting to be sent to Mapbox Telemetry. When the queue is full
+ * the oldest event is dropped.
+ *
+ * All methods are synchronized and only keep references, so events can be offered
+ * from any thread.
+ */
+internal class MetricsEventQueue(private val capacity: Int) {
+
+    private val events = ArrayDeque<Event>(capacity)
+
+    /**
+     * Number of events dropped because the queue was full.
+     */
+    var droppedCount = 0L
+        @Synchronized get
+        private set
+
+    /**
+     * Number of events drained from the queue.
+     */
+    var drainedCount = 0L
+        @Synchronized get
+        private set
+
+    val size: Int
+        @Synchronized get() = events.size
+
+    /**
+     * Adds an event to the queue, dropping the oldest one if the queue is full.
+     *
+     * @return the size of the queue
+     */
+    @Synchronized
+    fun offer(event: Event): Int {
+        if (events.size == capacity) {
+            events.removeFirst()
+            droppedCount++
+        }
+        events.addLast(event)
+        return events.size
+    }
+
+    /**
+     * @return true if the event is queued, events are compared by identity
+     */
+    @Synchronized
+    fun contains(event: Event): Boolean = events.any { it === event }
+
+    /**
+     * Removes all queued events.
+     *
+     * @return the removed events, oldest first
+     */
+    @Synchronized
+    fun drain(): List<Event> {
+        val batch = events.toList()
+        events.clear()
+        drainedCount += batch.size
+        return batch
+    }
+}
@@ -5,19 +5,17 @@ import com.google.gson.Gson
 import com.mapbox.android.telemetry.Event
 import com.mapbox.android.telemetry.MapboxTelemetry
 import com.mapbox.navigation.base.metrics.MetricEvent
+import com.mapbox.navigation.base.metrics.MetricsObserver
 import com.mapbox.navigation.base.metrics.NavigationMetrics
 import com.mapbox.navigation.metrics.extensions.toTelemetryEvent
 import com.mapbox.navigation.testing.MainCoroutineRule
-import com.mapbox.navigation.utils.internal.JobControl
 import com.mapbox.navigation.utils.internal.ThreadController
 import io.mockk.every
 import io.mockk.mockk
-import io.mockk.mockkObject
-import io.mockk.unmockkObject
 import io.mockk.verify
-import kotlinx.coroutines.CoroutineScope
+import io.mockk.verifyOrder
 import kotlinx.coroutines.ExperimentalCoroutinesApi
-import kotlinx.coroutines.SupervisorJob
+import org.junit.Assert.assertEquals
 import org.junit.Rule
 import org.junit.Test
 
@@ -47,22 +45,113 @@ class MapboxMetricsReporterTest {
 
     @Test
     fun telemetryPushCalledWhenAddValidEvent() = coroutineRule.runBlockingTest {
-        mockkObject(ThreadController)
-        mockIOScopeAndRootJob()
         val mapboxTelemetry = initMetricsReporterWithTelemetry()
         val metricEvent = StubNavigationEvent(NavigationMetrics.ARRIVE)
         val event = metricEvent.toTelemetryEvent()
 
         MapboxMetricsReporter.addEvent(metricEvent)
+        advanceTimeBy(MapboxMetricsReporter.FLUSH_INTERVAL_MILLIS)
 
         verify { mapboxTelemetry.push(event) }
-        unmockkObject(ThreadController)
+    }
+
+    @Test
+    fun telemetryPushDelayedUntilFlushInterval() = coroutineRule.runBlockingTest {
+        val mapboxTelemetry = initMetricsReporterWithTelemetry()
+        val metricEvent = StubNavigationEvent(NavigationMetrics.ARRIVE)
+
+        MapboxMetricsReporter.addEvent(metricEvent)
+        advanceTimeBy(MapboxMetricsReporter.FLUSH_INTERVAL_MILLIS - 1)
+
+        verify(exactly = 0) { mapboxTelemetry.push(any()) }
+        assertEquals(1, MapboxMetricsReporter.getQueueStats().queueDepth)
+        advanceTimeBy(1)
+        verify(exactly = 1) { mapboxTelemetry.push(metricEvent) }
+        assertEquals(MetricsQueueStats(0, 0, 1), MapboxMetricsReporter.getQueueStats())
+    }
+
+    @Test
+    fun telemetryPushCalledWhenBatchIsFull() = coroutineRule.runBlockingTest {
+        val mapboxTelemetry = initMetricsReporterWithTelemetry()
+        val metricEvents = List(20) { StubNavigationEvent(NavigationMetrics.DEPART) }
+
+        metricEvents.forEach { MapboxMetricsReporter.addEvent(it) }
+
+        metricEvents.forEach { verify(exactly = 1) { mapboxTelemetry.push(it) } }
+        assertEquals(0, MapboxMetricsReporter.getQueueStats().queueDepth)
+    }
+
+    @Test
+    fun telemetryPushCalledInEventsOrder() = coroutineRule.runBlockingTest {
+        val mapboxTelemetry = initMetricsReporterWithTelemetry()
+        val metricEvents = List(3) { StubNavigationEvent(NavigationMetrics.DEPART) }
+
+        metricEvents.forEach { MapboxMetricsReporter.addEvent(it) }
+        advanceTimeBy(MapboxMetricsReporter.FLUSH_INTERVAL_MILLIS)
+
+        verifyOrder {
+            mapboxTelemetry.push(metricEvents[0])
+            mapboxTelemetry.push(metricEvents[1])
+            mapboxTelemetry.push(metricEvents[2])
+        }
+    }
+
+    @Test
+    fun eventQueuedOnCallerThread() {
+        initMetricsReporterWithTelemetry()
+        coroutineRule.testDispatcher.pauseDispatcher()
+
+        MapboxMetricsReporter.addEvent(StubNavigationEvent(NavigationMetrics.ARRIVE))
+
+        assertEquals(1, MapboxMetricsReporter.getQueueStats().queueDepth)
+        coroutineRule.testDispatcher.resumeDispatcher()
+    }
+
+    @Test
+    fun queuedEventsPushedWhenReporterDisable() = coroutineRule.runBlockingTest {
+        val mapboxTelemetry = initMetricsReporterWithTelemetry()
+        val metricEvent = StubNavigationEvent(NavigationMetrics.ARRIVE)
+
+        MapboxMetricsReporter.addEvent(metricEvent)
+        MapboxMetricsReporter.disable()
+
+        verifyOrder {
+            mapboxTelemetry.push(metricEvent)
+            mapboxTelemetry.disable()
+        }
+    }
+
+    @Test
+    fun eventNotSerializedWithoutObserver() = coroutineRule.runBlockingTest {
+        initMetricsReporterWithTelemetry()
+        MapboxMetricsReporter.removeObserver()
+        val metricEvent = mockk<MetricEvent>(relaxed = true) {
+            every { metricName } returns "some_event"
+        }
+
+        MapboxMetricsReporter.addEvent(metricEvent)
+
+        verify(exactly = 0) { metricEvent.toJson(any()) }
+    }
+
+    @Test
+    fun eventSerializedForObserver() = coroutineRule.runBlockingTest {
+        initMetricsReporterWithTelemetry()
+        val metricsObserver = mockk<MetricsObserver>(relaxed = true)
+        MapboxMetricsReporter.setMetricsObserver(metricsObserver)
+        val metricEvent = mockk<MetricEvent> {
+            every { metricName } returns "some_event"
+            every { toJson(any()) } returns "{}"
+        }
+
+        MapboxMetricsReporter.addEvent(metricEvent)
+
+        verify { metricsObserver.onMetricUpdated("some_event", "{}") }
+        MapboxMetricsReporter.removeObserver()
     }
 
     @Test
     fun telemetryPushCalledWhenAddInvalidEvent() = coroutineRule.runBlockingTest {
-        mockkObject(ThreadController)
-        mockIOScopeAndRootJob()
         val mapboxTelemetry = initMetricsReporterWithTelemetry()
         val metricEvent = StubNavigationEvent("some_event")
         val event = metricEvent.toTelemetryEvent()
@@ -70,7 +159,6 @@ class MapboxMetricsReporterTest {
         MapboxMetricsReporter.addEvent(metricEvent)
 
         verify(exactly = 0) { mapboxTelemetry.push(event) }
-        unmockkObject(ThreadController)
     }
 
     @Test
@@ -98,12 +186,6 @@ class MapboxMetricsReporterTest {
         return mapboxTelemetry
     }
 
-    private fun mockIOScopeAndRootJob() {
-        val parentJob = SupervisorJob()
-        val testScope = CoroutineScope(parentJob + coroutineRule.testDispatcher)
-        every { ThreadController.getIOScopeAndRootJob() } returns JobControl(parentJob, testScope)
-    }
-
     private class StubNavigationEvent(
         override val metricName: String
     ) : Event(), MetricEvent {
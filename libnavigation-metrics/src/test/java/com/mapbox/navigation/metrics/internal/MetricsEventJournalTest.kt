@@ -0,0 +1,175 @@
+package com.mapbox.navigation.metrics.internal
+
+import android.os.Parcel
+import com.google.gson.Gson
+import com.mapbox.android.telemetry.Event
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+
+class MetricsEventJournalTest {
+
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private val gson = Gson()
+
+    @Test
+    fun queuedEventAppendedWhenReported() {
+        val file = journalFile()
+        val journal = journal(file)
+
+        journal.onEventReported(TYPE, StubEvent("first"), isQueued = true)
+
+        assertEquals(1, file.readLines().size)
+    }
+
+    @Test
+    fun eventNotAppendedWhenNoLongerQueued() {
+        val file = journalFile()
+        val journal = journal(file)
+
+        journal.onEventReported(TYPE, StubEvent("first"), isQueued = false)
+
+        assertFalse(file.exists())
+    }
+
+    @Test
+    fun flushedEventsRemoved() {
+        val file = journalFile()
+        val journal = journal(file)
+        val flushed = StubEvent("flushed")
+        val queued = StubEvent("queued")
+        journal.onEventReported(TYPE, flushed, isQueued = true)
+        journal.onEventReported(TYPE, queued, isQueued = true)
+
+        journal.onFlushed(listOf(flushed), isTelemetryEnabled = true)
+
+        assertEquals(listOf("queued"), restoreNames(file))
+        journal.onFlushed(listOf(queued), isTelemetryEnabled = true)
+        assertFalse(file.exists())
+    }
+
+    @Test
+    fun queuedEventsRestoredWhenTypeIsReported() {
+        val file = journalFile()
+        journal(file).onEventReported(TYPE, StubEvent("queued"), isQueued = true)
+
+        val restoredJournal = journal(file)
+
+        assertTrue(restoredJournal.restore().isEmpty())
+        assertEquals(
+            listOf("queued"),
+            restoredJournal.onEventReported(TYPE, StubEvent("new"), isQueued = true)
+                .map { it.name() }
+        )
+        assertTrue(
+            restoredJournal.onEventReported(TYPE, StubEvent("other"), isQueued = true).isEmpty()
+        )
+    }
+
+    @Test
+    fun eventsRestoredRightAwayWhenTypeIsAlreadyReported() {
+        val file = journalFile()
+        journal(file).onEventReported(TYPE, StubEvent("queued"), isQueued = true)
+        val restoredJournal = journal(file)
+        restoredJournal.onEventReported(TYPE, StubEvent("new"), isQueued = false)
+
+        val restored = restoredJournal.restore()
+
+        assertEquals(listOf("queued"), restored.map { it.name() })
+    }
+
+    @Test
+    fun restoredEventsRemovedOnceFlushed() {
+        val file = journalFile()
+        journal(file).onEventReported(TYPE, StubEvent("queued"), isQueued = true)
+        val restoredJournal = journal(file)
+        restoredJournal.restore()
+        val restored = restoredJournal.onEventReported(TYPE, StubEvent("new"), isQueued = false)
+
+        restoredJournal.onFlushed(restored, isTelemetryEnabled = true)
+
+        assertFalse(file.exists())
+    }
+
+    @Test
+    fun restoredLinesOfUnreportedTypesKept() {
+        val file = journalFile()
+        journal(file).onEventReported(TYPE, StubEvent("queued"), isQueued = true)
+        val restoredJournal = journal(file)
+        restoredJournal.restore()
+        val other = StubEvent("other")
+        restoredJournal.onEventReported(OTHER_TYPE, other, isQueued = true)
+
+        restoredJournal.onFlushed(listOf(other), isTelemetryEnabled = true)
+
+        assertEquals(listOf("queued"), restoreNames(file))
+    }
+
+    @Test
+    fun journalDeletedWhenTelemetryRejectsEvents() {
+        val file = journalFile()
+        val journal = journal(file)
+        val rejected = StubEvent("rejected")
+        journal.onEventReported(TYPE, rejected, isQueued = true)
+
+        journal.onFlushed(listOf(rejected), isTelemetryEnabled = false)
+        journal.onEventReported(TYPE, StubEvent("next"), isQueued = true)
+
+        assertFalse(file.exists())
+    }
+
+    @Test
+    fun oldestEventsDroppedOverCapacity() {
+        val file = journalFile()
+        val journal = journal(file)
+        val events = List(CAPACITY + 1) { StubEvent("event$it") }
+        events.forEach { journal.onEventReported(TYPE, it, isQueued = true) }
+
+        journal.onFlushed(listOf(events.last()), isTelemetryEnabled = true)
+
+        assertEquals(events.drop(1).dropLast(1).map { it.name }, restoreNames(file))
+    }
+
+    @Test
+    fun corruptedJournalLinesSkipped() {
+        val file = journalFile()
+        journal(file).onEventReported(TYPE, StubEvent("first"), isQueued = true)
+        file.appendText("no separator\n")
+        file.appendText("$TYPE\t{\"name\":")
+
+        assertEquals(listOf("first"), restoreNames(file))
+    }
+
+    private fun journal(file: File) = MetricsEventJournal(file, gson, CAPACITY)
+
+    private fun restoreNames(file: File): List<String> {
+        val journal = journal(file)
+        journal.restore()
+        return journal.onEventReported(TYPE, StubEvent("new"), isQueued = false)
+            .map { it.name() }
+    }
+
+    private fun journalFile() = File(temporaryFolder.root, JOURNAL_FILE_NAME)
+
+    private fun Event.name() = (this as StubEvent).name
+
+    private class StubEvent(val name: String) : Event() {
+
+        override fun writeToParcel(dest: Parcel?, flags: Int) {}
+
+        override fun describeContents(): Int = 0
+    }
+
+    private companion object {
+        private const val TYPE = "navigation.stub"
+        private const val OTHER_TYPE = "navigation.other"
+        private const val CAPACITY = 3
+        private const val JOURNAL_FILE_NAME = "metrics_queue"
+    }
+}
@@ -0,0 +1,61 @@
+package com.mapbox.navigation.metrics.internal
+
+import android.os.Parcel
+import com.mapbox.android.telemetry.Event
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class MetricsEventQueueTest {
+
+    @Test
+    fun drainReturnsEventsInOrder() {
+        val queue = MetricsEventQueue(CAPACITY)
+        val events = List(3) { StubEvent("event_$it") }
+
+        events.forEach { queue.offer(it) }
+
+        assertEquals(events, queue.drain())
+        assertEquals(0, queue.size)
+        assertEquals(3, queue.drainedCount)
+    }
+
+    @Test
+    fun oldestEventsDroppedWhenFull() {
+        val queue = MetricsEventQueue(CAPACITY)
+        val events = List(CAPACITY + 2) { StubEvent("event_$it") }
+
+        events.forEach { queue.offer(it) }
+
+        assertEquals(CAPACITY, queue.size)
+        assertEquals(2, queue.droppedCount)
+        assertEquals(events.drop(2), queue.drain())
+    }
+
+    @Test
+    fun drainedAndDroppedEventsNotContained() {
+        val queue = MetricsEventQueue(1)
+        val dropped = StubEvent("dropped")
+        val drained = StubEvent("drained")
+        queue.offer(dropped)
+        queue.offer(drained)
+
+        assertTrue(queue.contains(drained))
+        queue.drain()
+
+        assertFalse(queue.contains(dropped))
+        assertFalse(queue.contains(drained))
+    }
+
+    private class StubEvent(val name: String) : Event() {
+
+        override fun writeToParcel(dest: Parcel?, flags: Int) {}
+
+        override fun describeContents(): Int = 0
+    }
+
+    private companion object {
+        private const val CAPACITY = 5
+    }
+}
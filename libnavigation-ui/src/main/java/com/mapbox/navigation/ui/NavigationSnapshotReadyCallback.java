@@ -44,8 +44,7 @@ class NavigationSnapshotReadyCallback implements MapboxMap.SnapshotReadyCallback
     MapView mapView = navigationView.findViewById(R.id.navigationMapView);
     mapView.setVisibility(View.INVISIBLE);
     Bitmap capture = ViewUtils.captureView(mapView);
-    String encoded = ViewUtils.encodeView(capture);
-    navigationViewModel.updateFeedbackScreenshot(encoded);
+    navigationViewModel.updateFeedbackScreenshot(capture);
   }
 
   private void resetViewVisibility(@NonNull ImageView screenshotView) {
@@ -996,6 +996,7 @@ public class NavigationView extends CoordinatorLayout implements LifecycleOwner,
   private void establish(@NonNull NavigationViewOptions options) {
     establishDistanceFormatter();
     establishTimeFormat(options);
+    establishAccessToken();
   }
 
   private void establishDistanceFormatter() {
@@ -1004,6 +1005,13 @@ public class NavigationView extends CoordinatorLayout implements LifecycleOwner,
     summaryBottomSheet.setDistanceFormatter(formatter);
   }
 
+  private void establishAccessToken() {
+    MapboxNavigation navigation = navigationViewModel.retrieveNavigation();
+    if (navigation != null) {
+      instructionView.setAccessToken(navigation.getNavigationOptions().getAccessToken());
+    }
+  }
+
   private void establishTimeFormat(@NonNull NavigationViewOptions options) {
     @TimeFormat.Type
     int timeFormatType = options.navigationOptions().getTimeFormatType();
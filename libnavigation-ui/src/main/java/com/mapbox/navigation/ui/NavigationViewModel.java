@@ -2,6 +2,7 @@ package com.mapbox.navigation.ui;
 
 import android.annotation.SuppressLint;
 import android.app.Application;
+import android.graphics.Bitmap;
 import android.location.Location;
 
 import androidx.annotation.IntDef;
@@ -47,6 +48,7 @@ import com.mapbox.navigation.ui.camera.DynamicCamera;
 import com.mapbox.navigation.ui.feedback.FeedbackBottomSheet;
 import com.mapbox.navigation.ui.feedback.FeedbackItem;
 import com.mapbox.navigation.ui.internal.ConnectivityStatusProvider;
+import com.mapbox.navigation.ui.internal.utils.ScreenshotEncoder;
 import com.mapbox.navigation.ui.voice.NavigationSpeechPlayer;
 import com.mapbox.navigation.ui.voice.SpeechPlayer;
 import com.mapbox.navigation.ui.voice.SpeechPlayerProvider;
@@ -73,8 +75,10 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private static final String OKHTTP_INSTRUCTION_CACHE = "okhttp-instruction-cache";
   private static final long TEN_MEGABYTE_CACHE_SIZE = 10 * 1024 * 1024;
+  private static final String FEEDBACK_SCREENSHOTS_DIRECTORY = "mapbox-feedback-screenshots";
 
   private final MutableLiveData<SpeedLimit> onSpeedLimit = new MutableLiveData<>();
+  private final LiveData<SpeedLimit> distinctSpeedLimit = NavigationViewModelStream.distinct(onSpeedLimit);
   private final MutableLiveData<RouteProgress> routeProgress = new MutableLiveData<>();
   private final MutableLiveData<BannerInstructions> bannerInstructions = new MutableLiveData<>();
   private final MutableLiveData<Boolean> isOffRoute = new MutableLiveData<>();
@@ -94,12 +98,16 @@ public class NavigationViewModel extends AndroidViewModel {
   private VoiceInstructionLoader voiceInstructionLoader;
   @Nullable
   private VoiceInstructionCache voiceInstructionCache;
-  private int voiceInstructionsToAnnounce = 0;
   @Nullable
   private FeedbackItem feedbackItem;
   @Nullable
   private String feedbackEncodedScreenShot;
   @Nullable
+  private File feedbackScreenshotFile;
+  private boolean isFeedbackScreenshotReady;
+  @Nullable
+  private ScreenshotEncoder screenshotEncoder;
+  @Nullable
   private String language;
   @Nullable
   private DistanceFormatter distanceFormatter;
@@ -227,9 +235,25 @@ public class NavigationViewModel extends AndroidViewModel {
     voiceInstructionCache.initCache(options.directionsRoute());
   }
 
-  void updateFeedbackScreenshot(String screenshot) {
-    feedbackEncodedScreenShot = screenshot;
-    sendFeedback();
+  /**
+   * Encodes the capture on a background thread. When the feedback is cached for the detailed
+   * feedback flow, the capture is encoded to a file, so that cached feedback doesn't keep
+   * encoded screenshots in memory.
+   *
+   * @param capture of the map
+   */
+  void updateFeedbackScreenshot(@NonNull Bitmap capture) {
+    if (enableDetailedFeedbackAfterNavigation) {
+      retrieveScreenshotEncoder().encodeToFile(capture, file -> {
+        feedbackScreenshotFile = file;
+        onFeedbackScreenshotReady();
+      });
+    } else {
+      retrieveScreenshotEncoder().encodeToBase64(capture, encoded -> {
+        feedbackEncodedScreenShot = encoded;
+        onFeedbackScreenshotReady();
+      });
+    }
   }
 
   void onDetailedFeedbackFlowFinished() {
@@ -264,6 +288,9 @@ public class NavigationViewModel extends AndroidViewModel {
 
   void updateRouteProgress(RouteProgress routeProgress) {
     this.routeProgress.setValue(routeProgress);
+    if (voiceInstructionCache != null) {
+      voiceInstructionCache.cache(routeProgress.getDistanceTraveled());
+    }
   }
 
   void updateLocation(Location location) {
@@ -323,7 +350,7 @@ public class NavigationViewModel extends AndroidViewModel {
 
   @NonNull
   public LiveData<SpeedLimit> retrieveOnSpeedLimit() {
-    return onSpeedLimit;
+    return distinctSpeedLimit;
   }
 
   boolean enableDetailedFeedbackFlowAfterTbt() {
@@ -407,7 +434,7 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private void initializeVoiceInstructionCache() {
     ConnectivityStatusProvider connectivityStatus = new ConnectivityStatusProvider(getApplication());
-    voiceInstructionCache = new VoiceInstructionCache(navigation, voiceInstructionLoader, connectivityStatus);
+    voiceInstructionCache = new VoiceInstructionCache(voiceInstructionLoader, connectivityStatus);
   }
 
   @NonNull
@@ -454,17 +481,19 @@ public class NavigationViewModel extends AndroidViewModel {
   private synchronized void sendFeedback() {
     if (feedbackItem != null && (ARRIVAL_FEEDBACK_GOOD.equals(feedbackItem.getFeedbackType())
             || ARRIVAL_FEEDBACK_NOT_GOOD.equals(feedbackItem.getFeedbackType())
-            || !TextUtils.isEmpty(feedbackEncodedScreenShot))) {
+            || isFeedbackScreenshotReady)) {
       if (navigation != null) {
         if (enableDetailedFeedbackAfterNavigation) {
           MapboxNavigationFeedbackCache.INSTANCE.cacheUserFeedback(
                   feedbackItem.getFeedbackType(),
                   feedbackItem.getDescription(),
                   UI,
-                  feedbackEncodedScreenShot,
+                  feedbackScreenshotFile,
                   feedbackItem.getFeedbackSubType().toArray(new String[0]),
                   null
           );
+          // the file is owned by the feedback cache from now on
+          feedbackScreenshotFile = null;
         } else {
           navigation.postUserFeedback(
                   feedbackItem.getFeedbackType(),
@@ -484,7 +513,29 @@ public class NavigationViewModel extends AndroidViewModel {
     }
   }
 
+  private void onFeedbackScreenshotReady() {
+    isFeedbackScreenshotReady = true;
+    sendFeedback();
+  }
+
+  @NonNull
+  private ScreenshotEncoder retrieveScreenshotEncoder() {
+    if (screenshotEncoder == null) {
+      File directory = new File(getApplication().getCacheDir(), FEEDBACK_SCREENSHOTS_DIRECTORY);
+      screenshotEncoder = new ScreenshotEncoder(directory);
+    }
+    return screenshotEncoder;
+  }
+
   private void clearFeedback() {
+    if (screenshotEncoder != null) {
+      screenshotEncoder.cancel();
+    }
+    if (feedbackScreenshotFile != null) {
+      feedbackScreenshotFile.delete();
+      feedbackScreenshotFile = null;
+    }
+    isFeedbackScreenshotReady = false;
     feedbackItem = null;
     feedbackEncodedScreenShot = null;
     feedbackFlowStatus.setValue(FEEDBACK_FLOW_IDLE);
@@ -495,9 +546,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private VoiceInstructionsObserver voiceInstructionsObserver = new VoiceInstructionsObserver() {
     @Override
     public void onNewVoiceInstructions(@NotNull VoiceInstructions voiceInstructions) {
-      voiceInstructionCache.cache();
-      voiceInstructionsToAnnounce++;
-      voiceInstructionCache.update(voiceInstructionsToAnnounce);
       speechPlayer.play(retrieveAnnouncementFromSpeechEvent(voiceInstructions));
     }
   };
@@ -538,6 +586,9 @@ public class NavigationViewModel extends AndroidViewModel {
   private RoutesObserver routesObserver = routes -> {
     if (routes.size() > 0) {
       route.setValue(routes.get(0));
+      if (voiceInstructionCache != null) {
+        voiceInstructionCache.initCache(routes.get(0));
+      }
       RouteOptions routeOptions = routes.get(0).routeOptions();
       if (routeOptions != null) {
         destination.setValue(routeOptions.coordinates().get(routes.get(0).routeOptions().coordinates().size() - 1));
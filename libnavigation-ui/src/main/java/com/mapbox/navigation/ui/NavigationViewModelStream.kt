@@ -0,0 +1,122 @@
+package com.mapbox.navigation.ui
+
+import android.os.SystemClock
+import androidx.lifecycle.LiveData
+import androidx.lifecycle.MediatorLiveData
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+
+/**
+ * Output of the [NavigationViewModel] that refreshes at its own rate.
+ *
+ * The source values received while waiting for the next refresh are conflated, only the latest
+ * one is mapped. The mapping runs off the main thread and the result is emitted only if its key
+ * differs from the key of the last emitted value, so that the views don't lay out unchanged
+ * content. Like any [LiveData], the source is observed only while the stream has active
+ * observers.
+ *
+ * @param source values to map
+ * @param refreshIntervalMillis minimum time between two mappings, 0 to map every source value
+ * @param mapper maps a source value to the emitted value, or to null to skip it
+ * @param keySelector key two emitted values are compared by
+ * @param elapsedRealtimeMillis monotonic clock the refresh interval is measured with
+ * @param mapDispatcher dispatcher the mapping runs on, null to map on the main thread
+ */
+internal class NavigationViewModelStream<S, T> @JvmOverloads constructor(
+    private val source: LiveData<S>,
+    private val refreshIntervalMillis: Long,
+    private val mapper: (S) -> T?,
+    private val keySelector: (T) -> Any? = { it },
+    private val elapsedRealtimeMillis: () -> Long = { SystemClock.elapsedRealtime() },
+    private val mapDispatcher: CoroutineDispatcher? = ThreadController.IODispatcher
+) : MediatorLiveData<T>() {
+
+    private val jobControl: JobControl = ThreadController.getMainScopeAndRootJob()
+    private var refreshJob: Job? = null
+    private var pendingValue: S? = null
+    private var hasPendingValue = false
+    private var lastRefreshMillis = NO_REFRESH
+    private var hasEmittedKey = false
+    private var lastEmittedKey: Any? = null
+
+    init {
+        check(refreshIntervalMillis >= 0) {
+            "refreshIntervalMillis must be greater than or equal to 0: $refreshIntervalMillis"
+        }
+    }
+
+    /**
+     * Emits the next mapped value even if its key is unchanged, e.g. after the views were cleared.
+     */
+    fun invalidate() {
+        hasEmittedKey = false
+        lastEmittedKey = null
+    }
+
+    override fun onActive() {
+        super.onActive()
+        addSource(source) { onSourceChanged(it) }
+    }
+
+    override fun onInactive() {
+        super.onInactive()
+        removeSource(source)
+        refreshJob?.cancel()
+        refreshJob = null
+        pendingValue = null
+        hasPendingValue = false
+    }
+
+    private fun onSourceChanged(value: S) {
+        pendingValue = value
+        hasPendingValue = true
+        if (refreshJob?.isActive == true) {
+            return
+        }
+        refreshJob = jobControl.scope.launch { refresh() }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private suspend fun refresh() {
+        while (hasPendingValue) {
+            val waitMillis = lastRefreshMillis + refreshIntervalMillis - elapsedRealtimeMillis()
+            if (lastRefreshMillis != NO_REFRESH && waitMillis > 0) {
+                delay(waitMillis)
+            }
+            val sourceValue = pendingValue as S
+            pendingValue = null
+            hasPendingValue = false
+            lastRefreshMillis = elapsedRealtimeMillis()
+            val mapped = map(sourceValue) ?: continue
+            val key = keySelector(mapped)
+            if (!hasEmittedKey || key != lastEmittedKey) {
+                hasEmittedKey = true
+                lastEmittedKey = key
+                value = mapped
+            }
+        }
+    }
+
+    private suspend fun map(sourceValue: S): T? =
+        if (mapDispatcher == null) {
+            mapper(sourceValue)
+        } else {
+            withContext(mapDispatcher) { mapper(sourceValue) }
+        }
+
+    companion object {
+        private const val NO_REFRESH = -1L
+
+        /**
+         * @return a stream which emits the values of the source which differ from the last one
+         */
+        @JvmStatic
+        fun <T> distinct(source: LiveData<T>): NavigationViewModelStream<T, T> =
+            NavigationViewModelStream(source, 0L, { it }, mapDispatcher = null)
+    }
+}
@@ -6,7 +6,6 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
-import com.mapbox.navigation.core.MapboxNavigation;
 import com.mapbox.navigation.ui.internal.ConnectivityStatusProvider;
 import com.mapbox.navigation.ui.voice.VoiceInstructionLoader;
 
@@ -15,29 +14,49 @@ import org.jetbrains.annotations.TestOnly;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Prefetches the SSML voice instructions of the route ahead of the user, so that they are
+ * in the voice instruction disk cache when they are announced.
+ * <p>
+ * The instructions are ordered by the distance along the route where they are announced.
+ * Every instruction announced within {@link #PREFETCH_DISTANCE_METERS} of the distance traveled
+ * is prefetched, as well as the next {@link #MIN_INSTRUCTIONS_AHEAD} instructions, since
+ * announcements are further apart on highways.
+ * <p>
+ * The next {@link #UPCOMING_INSTRUCTIONS} instructions to be announced are handed to the loader as they
+ * change, so that the speech player can prepare the next one before it is triggered.
+ */
 class VoiceInstructionCache {
 
-  private static final int MAX_VOICE_INSTRUCTIONS_TO_CACHE = 10;
-  private static final int VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD = 5;
-  private final MapboxNavigation navigation;
+  private static final double PREFETCH_DISTANCE_METERS = 3000;
+  private static final int MIN_INSTRUCTIONS_AHEAD = 3;
+  private static final int UPCOMING_INSTRUCTIONS = 2;
   private final VoiceInstructionLoader voiceInstructionLoader;
   private final ConnectivityStatusProvider connectivityStatus;
-  private int totalVoiceInstructions = 0;
-  private int currentVoiceInstructionsCachedIndex = 0;
-  private boolean isVoiceInstructionsToCacheThresholdReached = true;
-
-  VoiceInstructionCache(MapboxNavigation navigation, VoiceInstructionLoader voiceInstructionLoader,
+  private final List<String> instructions = new ArrayList<>();
+  @NonNull
+  private double[] announcementDistances = new double[0];
+  private int nextInstructionToCache = 0;
+  private int nextInstructionAhead = 0;
+  private int upcomingInstructionsStart = -1;
+
+  VoiceInstructionCache(VoiceInstructionLoader voiceInstructionLoader,
                         ConnectivityStatusProvider connectivityStatus) {
-    this.navigation = navigation;
     this.voiceInstructionLoader = voiceInstructionLoader;
     this.connectivityStatus = connectivityStatus;
   }
 
   void initCache(@NonNull DirectionsRoute route) {
-    totalVoiceInstructions = 0;
+    instructions.clear();
+    nextInstructionToCache = 0;
+    nextInstructionAhead = 0;
+    upcomingInstructionsStart = -1;
+    List<Double> distances = new ArrayList<>();
+    double stepStartDistance = 0;
 
     List<RouteLeg> routeLegs = route.legs();
     if (routeLegs == null) {
+      announcementDistances = new double[0];
       return;
     }
 
@@ -60,40 +79,72 @@ class VoiceInstructionCache {
 
         List<VoiceInstructions> voiceInstructions = step.voiceInstructions();
         if (voiceInstructions != null) {
-          totalVoiceInstructions += voiceInstructions.size();
+          for (VoiceInstructions voiceInstruction : voiceInstructions) {
+            addInstruction(voiceInstruction, stepStartDistance, step.distance(), distances);
+          }
         }
+        stepStartDistance += step.distance();
       }
     }
+
+    announcementDistances = new double[distances.size()];
+    for (int i = 0; i < distances.size(); i++) {
+      announcementDistances[i] = distances.get(i);
+    }
   }
 
-  void cache() {
-    if (!connectivityStatus.isConnected()) {
+  /**
+   * Prefetches the instructions announced ahead of the distance traveled, which were not
+   * prefetched yet. Cheap to call on every route progress.
+   *
+   * @param distanceTraveled distance traveled along the route in meters
+   */
+  void cache(double distanceTraveled) {
+    while (nextInstructionAhead < announcementDistances.length
+        && announcementDistances[nextInstructionAhead] < distanceTraveled) {
+      nextInstructionAhead++;
+    }
+    updateUpcomingInstructions();
+    int end = nextInstructionToCache;
+    int minEnd = Math.min(nextInstructionAhead + MIN_INSTRUCTIONS_AHEAD, announcementDistances.length);
+    while (end < announcementDistances.length
+        && (end < minEnd || announcementDistances[end] <= distanceTraveled + PREFETCH_DISTANCE_METERS)) {
+      end++;
+    }
+    if (end == nextInstructionToCache || !connectivityStatus.isConnected()) {
       return;
     }
 
-    if (isVoiceInstructionsToCacheThresholdReached) {
-      isVoiceInstructionsToCacheThresholdReached = false;
-      voiceInstructionLoader.evictVoiceInstructions();
-      List<String> voiceInstructionsToCache = new ArrayList<>();
-      for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-        voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-        currentVoiceInstructionsCachedIndex++;
-        if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-          break;
-        }
-      }
-      voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+    voiceInstructionLoader.evictVoiceInstructions();
+    voiceInstructionLoader.cacheInstructions(new ArrayList<>(instructions.subList(nextInstructionToCache, end)));
+    nextInstructionToCache = end;
+  }
+
+  private void updateUpcomingInstructions() {
+    if (upcomingInstructionsStart == nextInstructionAhead || instructions.isEmpty()) {
+      return;
     }
+    upcomingInstructionsStart = nextInstructionAhead;
+    int end = Math.min(nextInstructionAhead + UPCOMING_INSTRUCTIONS, instructions.size());
+    voiceInstructionLoader.setUpcomingInstructions(new ArrayList<>(instructions.subList(nextInstructionAhead, end)));
   }
 
-  void update(int voiceInstructionsToAnnounce) {
-    if (voiceInstructionsToAnnounce % VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD == 0) {
-      isVoiceInstructionsToCacheThresholdReached = true;
+  private void addInstruction(@NonNull VoiceInstructions voiceInstruction, double stepStartDistance,
+                              double stepDistance, @NonNull List<Double> distances) {
+    String ssmlAnnouncement = voiceInstruction.ssmlAnnouncement();
+    Double distanceAlongGeometry = voiceInstruction.distanceAlongGeometry();
+    if (ssmlAnnouncement == null || distanceAlongGeometry == null) {
+      return;
     }
+    double distance = stepStartDistance + Math.max(0, stepDistance - distanceAlongGeometry);
+    // announcements of a step are ordered, keep the list sorted if the data is not
+    int previous = distances.size() - 1;
+    distances.add(previous >= 0 ? Math.max(distance, distances.get(previous)) : distance);
+    instructions.add(ssmlAnnouncement);
   }
 
   @TestOnly
   int getTotalVoiceInstructionNumber() {
-    return totalVoiceInstructions;
+    return instructions.size();
   }
 }
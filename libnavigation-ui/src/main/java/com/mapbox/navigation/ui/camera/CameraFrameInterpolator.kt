@@ -0,0 +1,121 @@
+package com.mapbox.navigation.ui.camera
+
+import kotlin.math.abs
+import kotlin.math.exp
+import kotlin.math.sign
+
+/**
+ * Zoom and tilt of the camera.
+ */
+internal data class CameraZoomTilt(
+    val zoom: Double,
+    val tilt: Double
+)
+
+/**
+ * Moves the zoom and tilt of the camera towards their target on each frame.
+ *
+ * The camera covers the same fraction of the remaining distance in the same time, whatever the
+ * frame rate is, and at least the threshold per frame. A frame is skipped when both the zoom and
+ * the tilt are within their threshold of the target, so that a camera which reached its target
+ * doesn't produce any update.
+ *
+ * @param zoomSmoothingMillis time in which the zoom covers about two thirds of the distance
+ * to its target
+ * @param tiltSmoothingMillis time in which the tilt covers about two thirds of the distance
+ * to its target
+ * @param zoomThreshold smallest zoom change applied to the camera
+ * @param tiltThreshold smallest tilt change, in degrees, applied to the camera
+ */
+internal class CameraFrameInterpolator(
+    private val zoomSmoothingMillis: Double = DEFAULT_ZOOM_SMOOTHING_MILLIS,
+    private val tiltSmoothingMillis: Double = DEFAULT_TILT_SMOOTHING_MILLIS,
+    private val zoomThreshold: Double = DEFAULT_ZOOM_THRESHOLD,
+    private val tiltThreshold: Double = DEFAULT_TILT_THRESHOLD
+) {
+
+    private var target: CameraZoomTilt? = null
+    private var lastFrameTimeNanos = NO_FRAME
+
+    init {
+        check(zoomSmoothingMillis > 0) {
+            "zoomSmoothingMillis must be greater than 0: $zoomSmoothingMillis"
+        }
+        check(tiltSmoothingMillis > 0) {
+            "tiltSmoothingMillis must be greater than 0: $tiltSmoothingMillis"
+        }
+    }
+
+    fun updateTarget(target: CameraZoomTilt) {
+        this.target = target
+    }
+
+    /**
+     * @param frameTimeNanos time of the frame, as given by the frame clock
+     * @param current zoom and tilt of the camera
+     * @return zoom and tilt the camera should move to on this frame, or null if the camera
+     * doesn't have to move
+     */
+    fun onFrame(frameTimeNanos: Long, current: CameraZoomTilt): CameraZoomTilt? {
+        val target = target ?: return null
+        val frameMillis = frameDurationMillis(frameTimeNanos)
+        lastFrameTimeNanos = frameTimeNanos
+
+        val zoom = step(current.zoom, target.zoom, frameMillis, zoomSmoothingMillis, zoomThreshold)
+        val tilt = step(current.tilt, target.tilt, frameMillis, tiltSmoothingMillis, tiltThreshold)
+        if (zoom == current.zoom && tilt == current.tilt) {
+            lastFrameTimeNanos = NO_FRAME
+            return null
+        }
+        return CameraZoomTilt(zoom, tilt)
+    }
+
+    /**
+     * Forgets the target, e.g. when the camera stops tracking.
+     */
+    fun reset() {
+        target = null
+        lastFrameTimeNanos = NO_FRAME
+    }
+
+    /**
+     * The first frame after the camera was idle has no previous frame to measure against.
+     */
+    private fun frameDurationMillis(frameTimeNanos: Long): Double {
+        if (lastFrameTimeNanos == NO_FRAME) {
+            return NOMINAL_FRAME_MILLIS
+        }
+        val frameMillis = (frameTimeNanos - lastFrameTimeNanos) / NANOS_PER_MILLI
+        return frameMillis.coerceIn(0.0, MAX_FRAME_MILLIS)
+    }
+
+    private fun step(
+        current: Double,
+        target: Double,
+        frameMillis: Double,
+        smoothingMillis: Double,
+        threshold: Double
+    ): Double {
+        val remaining = target - current
+        if (abs(remaining) < threshold) {
+            return current
+        }
+        val next = current + remaining * (1 - exp(-frameMillis / smoothingMillis))
+        return when {
+            abs(target - next) < threshold -> target
+            abs(next - current) < threshold -> current + threshold * sign(remaining)
+            else -> next
+        }
+    }
+
+    private companion object {
+        private const val DEFAULT_ZOOM_SMOOTHING_MILLIS = 300.0
+        private const val DEFAULT_TILT_SMOOTHING_MILLIS = 750.0
+        private const val DEFAULT_ZOOM_THRESHOLD = 0.001
+        private const val DEFAULT_TILT_THRESHOLD = 0.05
+        private const val NOMINAL_FRAME_MILLIS = 16.0
+        private const val MAX_FRAME_MILLIS = 100.0
+        private const val NANOS_PER_MILLI = 1_000_000.0
+        private const val NO_FRAME = -1L
+    }
+}
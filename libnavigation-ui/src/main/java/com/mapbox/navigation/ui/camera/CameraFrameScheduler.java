@@ -0,0 +1,52 @@
+package com.mapbox.navigation.ui.camera;
+
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Runs the camera updates on the display frames.
+ * <p>
+ * Any number of requests between two frames results in a single {@link OnCameraFrameListener#onCameraFrame(long)}.
+ */
+class CameraFrameScheduler {
+
+  private final OnCameraFrameListener listener;
+  private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      isFrameRequested = false;
+      if (listener.onCameraFrame(frameTimeNanos)) {
+        requestFrame();
+      }
+    }
+  };
+  private boolean isFrameRequested;
+
+  CameraFrameScheduler(@NonNull OnCameraFrameListener listener) {
+    this.listener = listener;
+  }
+
+  void requestFrame() {
+    if (!isFrameRequested) {
+      isFrameRequested = true;
+      Choreographer.getInstance().postFrameCallback(frameCallback);
+    }
+  }
+
+  void cancel() {
+    if (isFrameRequested) {
+      isFrameRequested = false;
+      Choreographer.getInstance().removeFrameCallback(frameCallback);
+    }
+  }
+
+  interface OnCameraFrameListener {
+
+    /**
+     * @param frameTimeNanos time of the frame
+     * @return true if the camera needs another frame
+     */
+    boolean onCameraFrame(long frameTimeNanos);
+  }
+}
@@ -91,6 +91,17 @@ public class NavigationCamera {
   private boolean isCameraResetting;
   private CameraAnimationDelegate animationDelegate;
   private Camera camera;
+  private final CameraFrameInterpolator frameInterpolator = new CameraFrameInterpolator();
+  private final CameraFrameScheduler frameScheduler;
+  private boolean hasNewRouteInformation;
+
+  private final CameraFrameScheduler.OnCameraFrameListener cameraFrameListener =
+      new CameraFrameScheduler.OnCameraFrameListener() {
+        @Override
+        public boolean onCameraFrame(long frameTimeNanos) {
+          return adjustCameraOnFrame(frameTimeNanos);
+        }
+      };
 
   @NonNull
   @VisibleForTesting
@@ -98,7 +109,7 @@ public class NavigationCamera {
     @Override
     public void onRouteProgressChanged(@NotNull RouteProgress routeProgress) {
       NavigationCamera.this.currentRouteProgress = routeProgress;
-      tryToBuildRouteInformationAndAdjustCamera();
+      requestCameraFrame();
     }
   };
 
@@ -116,7 +127,7 @@ public class NavigationCamera {
         @NotNull List<? extends Location> keyPoints
     ) {
       NavigationCamera.this.currentLocation = enhancedLocation;
-      tryToBuildRouteInformationAndAdjustCamera();
+      requestCameraFrame();
     }
   };
 
@@ -133,17 +144,19 @@ public class NavigationCamera {
     this.animationDelegate = new CameraAnimationDelegate(mapboxMap);
     this.locationComponent.addOnCameraTrackingChangedListener(cameraTrackingChangedListener);
     this.camera = new DynamicCamera(mapboxMap);
+    this.frameScheduler = new CameraFrameScheduler(cameraFrameListener);
   }
 
   @TestOnly
   NavigationCamera(@NonNull MapboxMap mapboxMap, @NonNull MapboxNavigation navigation,
-                   @NonNull LocationComponent locationComponent) {
+                   @NonNull LocationComponent locationComponent, @NonNull CameraFrameScheduler frameScheduler) {
     this.mapboxMap = mapboxMap;
     this.navigation = navigation;
     this.locationComponent = locationComponent;
     this.animationDelegate = new CameraAnimationDelegate(mapboxMap);
     this.locationComponent.addOnCameraTrackingChangedListener(cameraTrackingChangedListener);
     this.camera = new DynamicCamera(mapboxMap);
+    this.frameScheduler = frameScheduler;
   }
 
   /**
@@ -323,6 +336,7 @@ public class NavigationCamera {
       navigation.unregisterRouteProgressObserver(routeProgressObserver);
       navigation.unregisterLocationObserver(locationObserver);
     }
+    frameScheduler.cancel();
   }
 
   /**
@@ -345,6 +359,7 @@ public class NavigationCamera {
     if (navigation != null) {
       navigation.unregisterRouteProgressObserver(routeProgressObserver);
     }
+    frameScheduler.cancel();
   }
 
   /**
@@ -425,14 +440,46 @@ public class NavigationCamera {
     this.isCameraResetting = isResetting;
   }
 
-  private void tryToBuildRouteInformationAndAdjustCamera() {
+  /**
+   * Location and route progress updates are coalesced, the camera is adjusted at most once per frame.
+   */
+  private void requestCameraFrame() {
     if (isTrackingEnabled() && currentRouteProgress != null) {
+      hasNewRouteInformation = true;
+      frameScheduler.requestFrame();
+    }
+  }
+
+  private boolean adjustCameraOnFrame(long frameTimeNanos) {
+    if (!isTrackingEnabled()) {
+      frameInterpolator.reset();
+      return false;
+    }
+    if (hasNewRouteInformation) {
+      hasNewRouteInformation = false;
       currentRouteInformation =
           new RouteInformation(null, currentLocation, currentRouteProgress);
       if (!isCameraResetting) {
-        adjustCameraFromLocation(currentRouteInformation);
+        frameInterpolator.updateTarget(
+            new CameraZoomTilt(camera.zoom(currentRouteInformation), camera.tilt(currentRouteInformation))
+        );
       }
     }
+    if (isCameraResetting) {
+      return false;
+    }
+    CameraPosition position = mapboxMap.getCameraPosition();
+    CameraZoomTilt zoomTilt =
+        frameInterpolator.onFrame(frameTimeNanos, new CameraZoomTilt(position.zoom, position.tilt));
+    if (zoomTilt == null) {
+      return false;
+    }
+    CameraPosition framePosition = new CameraPosition.Builder(position)
+        .zoom(zoomTilt.getZoom())
+        .tilt(zoomTilt.getTilt())
+        .build();
+    mapboxMap.moveCamera(CameraUpdateFactory.newCameraPosition(framePosition));
+    return true;
   }
 
   /**
@@ -565,13 +612,6 @@ public class NavigationCamera {
     locationComponent.tiltWhileTracking(tilt, getTiltAnimationDuration(tilt));
   }
 
-  private void adjustCameraFromLocation(@NonNull RouteInformation routeInformation) {
-    float tilt = (float) camera.tilt(routeInformation);
-    double zoom = camera.zoom(routeInformation);
-    locationComponent.zoomWhileTracking(zoom, getZoomAnimationDuration(zoom));
-    locationComponent.tiltWhileTracking(tilt, getTiltAnimationDuration(tilt));
-  }
-
   private long getZoomAnimationDuration(double zoom) {
     double zoomDiff = Math.abs(mapboxMap.getCameraPosition().zoom - zoom);
     return (long) MathUtils.clamp(
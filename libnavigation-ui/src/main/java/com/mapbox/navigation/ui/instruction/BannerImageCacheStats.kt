@@ -0,0 +1,22 @@
+package com.mapbox.navigation.ui.instruction
+
+/**
+ * State of the banner images cached by [InstructionView].
+ *
+ * @param shieldHits number of shields loaded from the memory cache
+ * @param shieldMisses number of shields which were not in the memory cache
+ * @param shieldBytes size of the shield memory cache
+ * @param guidanceViewHits number of guidance views loaded from the memory cache
+ * @param guidanceViewMisses number of guidance views which were not in the memory cache
+ * @param guidanceViewBytes size of the guidance view memory cache
+ * @param prefetchedImages number of images requested ahead of their banner instructions
+ */
+data class BannerImageCacheStats(
+    val shieldHits: Long,
+    val shieldMisses: Long,
+    val shieldBytes: Int,
+    val guidanceViewHits: Long,
+    val guidanceViewMisses: Long,
+    val guidanceViewBytes: Int,
+    val prefetchedImages: Long
+)
@@ -0,0 +1,14 @@
+package com.mapbox.navigation.ui.instruction
+
+/**
+ * Listener of the banner images requested ahead of their banner instructions.
+ */
+interface BannerImagePrefetchListener {
+
+    /**
+     * Triggered when an image could not be prefetched.
+     *
+     * @param url the URL of the image, the base URL for a shield
+     */
+    fun onPrefetchFailed(url: String)
+}
@@ -0,0 +1,144 @@
+package com.mapbox.navigation.ui.instruction
+
+import com.mapbox.api.directions.v5.models.BannerComponents
+import com.mapbox.api.directions.v5.models.BannerText
+import com.mapbox.api.directions.v5.models.BannerView
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.navigation.base.internal.extensions.withGuidanceViewAccessToken
+import com.mapbox.navigation.base.trip.model.RouteProgress
+
+/**
+ * Image URLs of the banner instructions ahead on the route.
+ *
+ * @param shieldBaseUrls shield base URLs, without the density suffix
+ * @param guidanceViewUrls guidance view URLs, with the access token
+ */
+internal data class BannerImageUrls(
+    val shieldBaseUrls: List<String>,
+    val guidanceViewUrls: List<String>
+)
+
+/**
+ * Walks the banner instructions of the route a distance ahead of the current position and
+ * collects the shield and guidance view image URLs which were not collected yet.
+ * Guidance view URLs are only collected with an access token.
+ *
+ * @param maxCollectedUrls number of URLs remembered to skip the ones already collected
+ */
+internal class BannerImageUrlCollector(private val maxCollectedUrls: Int = MAX_COLLECTED_URLS) {
+
+    private val collectedUrls = object : LinkedHashMap<String, Boolean>(
+        maxCollectedUrls,
+        LOAD_FACTOR,
+        true
+    ) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, Boolean>?) =
+            size > maxCollectedUrls
+    }
+
+    init {
+        check(maxCollectedUrls > 0) { "maxCollectedUrls must be greater than 0: $maxCollectedUrls" }
+    }
+
+    /**
+     * @param routeProgress current progress on the route
+     * @param lookaheadMeters distance ahead of the current position to collect the images of
+     * @param accessToken Mapbox access token appended to the guidance view URLs, they are not
+     * collected without it
+     * @return image URLs which were not collected before
+     */
+    @Synchronized
+    fun collect(
+        routeProgress: RouteProgress,
+        lookaheadMeters: Double,
+        accessToken: String?
+    ): BannerImageUrls {
+        val shieldBaseUrls = mutableListOf<String>()
+        val guidanceViewUrls = mutableListOf<String>()
+        val legProgress = routeProgress.currentLegProgress ?: return EMPTY
+        val legs = routeProgress.route.legs() ?: return EMPTY
+        val currentStepIndex = legProgress.currentStepProgress?.stepIndex ?: 0
+        var distanceAhead = -(legProgress.currentStepProgress?.distanceTraveled ?: 0f).toDouble()
+
+        for (legIndex in legProgress.legIndex until legs.size) {
+            val steps = legs[legIndex].steps() ?: continue
+            val firstStepIndex = if (legIndex == legProgress.legIndex) currentStepIndex else 0
+            for (stepIndex in firstStepIndex until steps.size) {
+                if (distanceAhead > lookaheadMeters) {
+                    return BannerImageUrls(shieldBaseUrls, guidanceViewUrls)
+                }
+                val step = steps[stepIndex]
+                collectStep(step, accessToken, shieldBaseUrls, guidanceViewUrls)
+                distanceAhead += step.distance()
+            }
+        }
+        return BannerImageUrls(shieldBaseUrls, guidanceViewUrls)
+    }
+
+    /**
+     * Forgets the collected URLs, e.g. when the route changes.
+     */
+    @Synchronized
+    fun reset() {
+        collectedUrls.clear()
+    }
+
+    /**
+     * Forgets a collected URL, so that it's collected again, e.g. when its image failed to load.
+     */
+    @Synchronized
+    fun forget(url: String) {
+        collectedUrls.remove(url)
+    }
+
+    private fun collectStep(
+        step: LegStep,
+        accessToken: String?,
+        shieldBaseUrls: MutableList<String>,
+        guidanceViewUrls: MutableList<String>
+    ) {
+        step.bannerInstructions()?.forEach { bannerInstructions ->
+            collectShields(bannerInstructions.primary(), shieldBaseUrls)
+            collectShields(bannerInstructions.secondary(), shieldBaseUrls)
+            collectShields(bannerInstructions.sub(), shieldBaseUrls)
+            if (accessToken != null) {
+                collectGuidanceViews(bannerInstructions.view(), accessToken, guidanceViewUrls)
+            }
+        }
+    }
+
+    private fun collectGuidanceViews(
+        bannerView: BannerView?,
+        accessToken: String,
+        guidanceViewUrls: MutableList<String>
+    ) {
+        bannerView?.components()?.forEach { component ->
+            if (component.type() == BannerComponents.GUIDANCE_VIEW) {
+                component.imageUrl()?.let { imageUrl ->
+                    addIfNew(imageUrl.withGuidanceViewAccessToken(accessToken), guidanceViewUrls)
+                }
+            }
+        }
+    }
+
+    private fun collectShields(bannerText: BannerText?, shieldBaseUrls: MutableList<String>) {
+        bannerText?.components()?.forEach { component ->
+            val imageBaseUrl = component.imageBaseUrl()
+            if (!imageBaseUrl.isNullOrEmpty()) {
+                addIfNew(imageBaseUrl, shieldBaseUrls)
+            }
+        }
+    }
+
+    private fun addIfNew(url: String, urls: MutableList<String>) {
+        if (collectedUrls.put(url, true) == null) {
+            urls.add(url)
+        }
+    }
+
+    private companion object {
+        private const val MAX_COLLECTED_URLS = 256
+        private const val LOAD_FACTOR = 0.75f
+        private val EMPTY = BannerImageUrls(emptyList(), emptyList())
+    }
+}
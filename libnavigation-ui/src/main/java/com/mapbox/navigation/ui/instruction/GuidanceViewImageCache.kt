@@ -0,0 +1,57 @@
+package com.mapbox.navigation.ui.instruction
+
+import android.graphics.Bitmap
+import android.util.LruCache
+import okhttp3.Cache
+import okhttp3.OkHttpClient
+import java.io.File
+
+/**
+ * Guidance view images shared by the [GuidanceViewImageProvider]s, so that an image prefetched
+ * ahead of a junction is displayed without waiting on the network.
+ *
+ * Decoded images are kept in memory and the downloaded ones on disk, both bounded in bytes.
+ */
+internal object GuidanceViewImageCache {
+
+    private const val MEMORY_CACHE_MAX_BYTES = 8 * 1024 * 1024
+    private const val DISK_CACHE_MAX_BYTES = 20L * 1024 * 1024
+    private const val DISK_CACHE_DIRECTORY = "mapbox_guidance_views"
+
+    private val images = object : LruCache<String, Bitmap>(MEMORY_CACHE_MAX_BYTES) {
+        override fun sizeOf(key: String, value: Bitmap): Int = value.byteCount
+    }
+    private var diskCache: Cache? = null
+
+    /**
+     * @return the decoded image of the URL, or null if it isn't cached
+     */
+    fun get(url: String): Bitmap? = images.get(url)
+
+    fun put(url: String, bitmap: Bitmap) {
+        images.put(url, bitmap)
+    }
+
+    fun hitCount(): Long = images.hitCount().toLong()
+
+    fun missCount(): Long = images.missCount().toLong()
+
+    fun sizeBytes(): Int = images.size()
+
+    /**
+     * Adds the disk cache to the client. A single disk cache is opened for the whole process,
+     * in the cache directory of the first context.
+     */
+    @Synchronized
+    fun withDiskCache(builder: OkHttpClient.Builder, cacheDirectory: File): OkHttpClient.Builder {
+        val cache = diskCache ?: Cache(
+            File(cacheDirectory, DISK_CACHE_DIRECTORY),
+            DISK_CACHE_MAX_BYTES
+        ).also { diskCache = it }
+        return builder.cache(cache)
+    }
+
+    fun clear() {
+        images.evictAll()
+    }
+}
@@ -16,27 +16,51 @@ import okhttp3.Interceptor
 import okhttp3.OkHttpClient
 import okhttp3.Request
 import okhttp3.Response
+import java.io.File
 import java.io.IOException
 import kotlin.coroutines.suspendCoroutine
 
 /**
  * The class serves as a medium to emit bitmaps for the respective guidance view URL embedded in
  * [BannerInstructions]
+ *
+ * Images are shared by all the providers through a memory cache, and a disk cache when a
+ * cache directory is provided, so that prefetched images are displayed without a request.
+ *
+ * @param cacheDirectory directory of the disk cache, images are only cached in memory if null
  * @constructor
  */
-class GuidanceViewImageProvider {
+class GuidanceViewImageProvider @JvmOverloads constructor(cacheDirectory: File? = null) {
 
     private companion object {
         private const val USER_AGENT_KEY = "User-Agent"
         private const val USER_AGENT_VALUE = "MapboxJava/"
+        private const val CACHE_CONTROL_KEY = "Cache-Control"
+        private const val CACHE_CONTROL_VALUE = "public, max-age=86400"
         private const val ERROR_VIEW_IMAGE_URL_NULL = "Guidance View Image URL is null"
     }
 
     private val mainJobController: JobControl by lazy { ThreadController.getMainScopeAndRootJob() }
+    private val ioJobController: JobControl by lazy { ThreadController.getIOScopeAndRootJob() }
+    private var prefetchedGuidanceViews = 0L
     private val okHttpClient = OkHttpClient.Builder().addInterceptor { chain: Interceptor.Chain ->
         chain.proceed(
             chain.request().newBuilder().addHeader(USER_AGENT_KEY, USER_AGENT_VALUE).build()
         )
+    }.apply {
+        ifNonNull(cacheDirectory) { directory ->
+            GuidanceViewImageCache.withDiskCache(this, directory)
+            // guidance view URLs are versioned, the images can be stored when the response
+            // doesn't tell how long they are valid
+            addNetworkInterceptor { chain: Interceptor.Chain ->
+                val response = chain.proceed(chain.request())
+                if (response.isSuccessful && response.header(CACHE_CONTROL_KEY) == null) {
+                    response.newBuilder().header(CACHE_CONTROL_KEY, CACHE_CONTROL_VALUE).build()
+                } else {
+                    response
+                }
+            }
+        }
     }.build()
 
     /**
@@ -55,11 +79,16 @@ class GuidanceViewImageProvider {
                 components.forEach { component ->
                     component.takeIf { it.type() == BannerComponents.GUIDANCE_VIEW }?.let {
                         ifNonNull(it.imageUrl()) { url ->
-                            mainJobController.scope.launch {
-                                val response = getBitmap(url)
-                                response.bitmap?.let { b ->
-                                    callback.onGuidanceImageReady(b)
-                                } ?: callback.onFailure(response.error)
+                            val cachedBitmap = GuidanceViewImageCache.get(url)
+                            if (cachedBitmap != null) {
+                                callback.onGuidanceImageReady(cachedBitmap)
+                            } else {
+                                mainJobController.scope.launch {
+                                    val response = getBitmap(url)
+                                    response.bitmap?.let { b ->
+                                        callback.onGuidanceImageReady(b)
+                                    } ?: callback.onFailure(response.error)
+                                }
                             }
                         } ?: callback.onFailure(ERROR_VIEW_IMAGE_URL_NULL)
                     }
@@ -68,6 +97,33 @@ class GuidanceViewImageProvider {
         } ?: callback.onNoGuidanceImageUrl()
     }
 
+    /**
+     * Downloads and decodes the guidance view images in the background, so that they are
+     * displayed without delay when their banner instructions are reached.
+     *
+     * @param urls guidance view image URLs, with the access token
+     * @param listener notified on a background thread of the images that could not be fetched
+     */
+    @JvmOverloads
+    fun prefetchGuidanceViews(urls: List<String>, listener: BannerImagePrefetchListener? = null) {
+        if (urls.isEmpty()) {
+            return
+        }
+        prefetchedGuidanceViews += urls.size
+        ioJobController.scope.launch {
+            urls.forEach { url ->
+                if (getBitmap(url).bitmap == null) {
+                    listener?.onPrefetchFailed(url)
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of guidance view images requested by [prefetchGuidanceViews]
+     */
+    fun retrievePrefetchedGuidanceViews(): Long = prefetchedGuidanceViews
+
     /**
      * The API allows you to cancel the rendering of guidance view.
      */
@@ -86,12 +142,10 @@ class GuidanceViewImageProvider {
                         }
 
                         override fun onResponse(call: Call, response: Response) {
-                            resumeCoroutine(
-                                GuidanceViewImageResponse(
-                                    BitmapFactory.decodeStream(response.body()?.byteStream()),
-                                    response.message()
-                                )
-                            )
+                            val bitmap = BitmapFactory.decodeStream(response.body()?.byteStream())
+                            response.close()
+                            bitmap?.let { b -> GuidanceViewImageCache.put(url, b) }
+                            resumeCoroutine(GuidanceViewImageResponse(bitmap, response.message()))
                         }
 
                         private fun resumeCoroutine(result: GuidanceViewImageResponse) {
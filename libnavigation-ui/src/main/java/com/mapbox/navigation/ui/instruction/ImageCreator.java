@@ -11,10 +11,12 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.BannerComponents;
-import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
-import com.mapbox.api.directions.v5.models.LegStep;
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.LruCache;
+import com.squareup.picasso.OkHttp3Downloader;
 import com.squareup.picasso.Picasso;
+import com.squareup.picasso.StatsSnapshot;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,12 +33,15 @@ import java.util.List;
  */
 class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier> {
 
+  private static final int SHIELD_MEMORY_CACHE_MAX_BYTES = 2 * 1024 * 1024;
+  private static final long SHIELD_DISK_CACHE_MAX_BYTES = 10L * 1024 * 1024;
   private static ImageCreator instance;
   private boolean isInitialized;
   private Picasso picassoImageLoader;
   private List<InstructionTarget> targets;
   private UrlDensityMap urlDensityMap;
   private List<BannerShield> bannerShieldList;
+  private long prefetchedShields;
 
   private ImageCreator(ImageVerifier imageVerifier) {
     super(imageVerifier);
@@ -91,16 +96,44 @@ class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier> {
   }
 
   /**
-   * Will pre-fetch images for a given {@link LegStep}.
+   * Will pre-fetch the shields of the banner instructions ahead on the route.
    * <p>
    * If loaded successfully, this will allow the images to be displayed
    * without delay in the {@link InstructionView}.
    *
-   * @param legStep providing the image Urls
+   * @param shieldBaseUrls shield base URLs, the density suffix of the display is appended
+   * @param listener notified of the shields that could not be fetched
    */
-  void prefetchImageCache(LegStep legStep) {
+  void prefetchImageCache(@NonNull List<String> shieldBaseUrls, @Nullable final BannerImagePrefetchListener listener) {
     checkIsInitialized();
-    fetchInstructions(legStep);
+    for (final String shieldBaseUrl : shieldBaseUrls) {
+      picassoImageLoader.load(urlDensityMap.get(shieldBaseUrl)).fetch(new Callback() {
+        @Override
+        public void onSuccess() {
+        }
+
+        @Override
+        public void onError(Exception exception) {
+          if (listener != null) {
+            listener.onPrefetchFailed(shieldBaseUrl);
+          }
+        }
+      });
+      prefetchedShields++;
+    }
+  }
+
+  /**
+   * @return state of the shield memory cache
+   */
+  @NonNull
+  StatsSnapshot retrieveCacheStats() {
+    checkIsInitialized();
+    return picassoImageLoader.getSnapshot();
+  }
+
+  long retrievePrefetchedShields() {
+    return prefetchedShields;
   }
 
   void shutdown() {
@@ -125,7 +158,9 @@ class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier> {
   }
 
   private void initializePicasso(@NonNull Context context) {
-    Picasso.Builder builder = new Picasso.Builder(context);
+    Picasso.Builder builder = new Picasso.Builder(context)
+        .memoryCache(new LruCache(SHIELD_MEMORY_CACHE_MAX_BYTES))
+        .downloader(new OkHttp3Downloader(context, SHIELD_DISK_CACHE_MAX_BYTES));
     picassoImageLoader = builder.build();
   }
 
@@ -137,51 +172,16 @@ class ImageCreator extends NodeCreator<BannerComponentNode, ImageVerifier> {
     bannerShieldList = new ArrayList<>();
   }
 
-  private void fetchInstructions(@Nullable LegStep legStep) {
-    if (legStep == null || legStep.bannerInstructions() == null
-        || legStep.bannerInstructions().isEmpty()) {
-      return;
-    }
-
-    List<BannerInstructions> bannerInstructionList = new ArrayList<>(legStep.bannerInstructions());
-    for (BannerInstructions instructions : bannerInstructionList) {
-      if (hasComponents(instructions.primary())) {
-        fetchImageBaseUrls(instructions.primary());
-      }
-      if (hasComponents(instructions.secondary())) {
-        fetchImageBaseUrls(instructions.secondary());
-      }
-    }
-  }
-
   private void updateShieldUrlIndices(@NonNull List<BannerComponentNode> bannerComponentNodes) {
     for (BannerShield bannerShield : bannerShieldList) {
       bannerShield.setStartIndex(bannerComponentNodes.get(bannerShield.getNodeIndex()).startIndex);
     }
   }
 
-  private boolean hasComponents(@Nullable BannerText bannerText) {
-    return bannerText != null && bannerText.components() != null && !bannerText.components().isEmpty();
-  }
-
   private boolean hasImages() {
     return !bannerShieldList.isEmpty();
   }
 
-  /**
-   * Takes a given {@link BannerText} and fetches a valid
-   * imageBaseUrl if one is found.
-   *
-   * @param bannerText to provide the base URL
-   */
-  private void fetchImageBaseUrls(@NonNull BannerText bannerText) {
-    for (BannerComponents components : bannerText.components()) {
-      if (nodeVerifier.hasImageUrl(components)) {
-        picassoImageLoader.load(urlDensityMap.get(components.imageBaseUrl())).fetch();
-      }
-    }
-  }
-
   private void createTargets(@NonNull TextView textView) {
     Spannable instructionSpannable = new SpannableString(textView.getText());
 
@@ -39,11 +39,13 @@ import androidx.transition.TransitionManager;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.ManeuverModifier;
 import com.mapbox.navigation.ui.R;
 import com.mapbox.navigation.base.formatter.DistanceFormatter;
 import com.mapbox.navigation.base.internal.extensions.ContextEx;
+import com.mapbox.navigation.base.trip.model.RouteLegProgress;
 import com.mapbox.navigation.base.trip.model.RouteProgress;
 import com.mapbox.navigation.core.MapboxNavigation;
 import com.mapbox.navigation.core.Rounding;
@@ -66,8 +68,10 @@ import com.mapbox.navigation.ui.internal.utils.ViewUtils;
 import com.mapbox.navigation.ui.listeners.InstructionListListener;
 
 import com.mapbox.navigation.utils.internal.PrimitivesEx;
+import com.squareup.picasso.StatsSnapshot;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Locale;
 
 import timber.log.Timber;
@@ -93,6 +97,8 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
   private static final String COMPONENT_TYPE_LANE = "lane";
   private static final long GUIDANCE_VIEW_TRANSITION_SPEED = 900L;
   private static final double MAXIMUM_PRIMARY_INSTRUCTION_TEXT_WIDTH_RATIO_IN_LANDSCAPE = 0.75;
+  private static final int PRELOADED_MANEUVER_ICON_STEPS = 3;
+  private static final double DEFAULT_IMAGE_PREFETCH_DISTANCE = 2000;
 
   private ManeuverView maneuverView;
   private TextView stepDistanceText;
@@ -129,7 +135,20 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
   private FeedbackButton feedbackButton;
   private LifecycleOwner lifecycleOwner;
   @NonNull
-  private GuidanceViewImageProvider guidanceViewImageProvider = new GuidanceViewImageProvider();
+  private GuidanceViewImageProvider guidanceViewImageProvider =
+      new GuidanceViewImageProvider(getContext().getCacheDir());
+  private final BannerImageUrlCollector bannerImageUrlCollector = new BannerImageUrlCollector();
+  private double imagePrefetchDistance = DEFAULT_IMAGE_PREFETCH_DISTANCE;
+  @Nullable
+  private String accessToken;
+  @Nullable
+  private DirectionsRoute prefetchedRoute;
+  private final BannerImagePrefetchListener bannerImagePrefetchListener = new BannerImagePrefetchListener() {
+    @Override
+    public void onPrefetchFailed(@NonNull String url) {
+      bannerImageUrlCollector.forget(url);
+    }
+  };
   @NonNull
   private GuidanceViewImageProvider.OnGuidanceImageDownload callback =
     new GuidanceViewImageProvider.OnGuidanceImageDownload() {
@@ -262,6 +281,8 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
       navigationViewModel.retrieveIsOffRoute().removeObservers(lifecycleOwner);
     }
     ImageCreator.getInstance().shutdown();
+    bannerImageUrlCollector.reset();
+    GuidanceViewImageCache.INSTANCE.clear();
   }
 
   /**
@@ -457,6 +478,48 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
     }
   }
 
+  /**
+   * Sets the distance ahead on the route for which the shields and guidance view images of the
+   * banner instructions are fetched before they are displayed. Defaults to 2000 meters.
+   *
+   * @param imagePrefetchDistance distance in meters
+   */
+  public void setImagePrefetchDistance(double imagePrefetchDistance) {
+    this.imagePrefetchDistance = imagePrefetchDistance;
+  }
+
+  /**
+   * Sets the Mapbox access token appended to the guidance view images fetched ahead on the route.
+   * Use the access token of the NavigationOptions, so that the prefetched images are the ones
+   * displayed. Guidance view images are not fetched ahead without it.
+   *
+   * @param accessToken Mapbox access token
+   */
+  public void setAccessToken(@Nullable String accessToken) {
+    this.accessToken = accessToken;
+  }
+
+  /**
+   * Returns the state of the shield and guidance view image caches.
+   *
+   * @return cache statistics
+   */
+  @NonNull
+  public BannerImageCacheStats retrieveBannerImageCacheStats() {
+    ImageCreator imageCreator = ImageCreator.getInstance();
+    StatsSnapshot shieldStats = imageCreator.retrieveCacheStats();
+    GuidanceViewImageCache guidanceViewCache = GuidanceViewImageCache.INSTANCE;
+    return new BannerImageCacheStats(
+      shieldStats.cacheHits,
+      shieldStats.cacheMisses,
+      shieldStats.size,
+      guidanceViewCache.hitCount(),
+      guidanceViewCache.missCount(),
+      guidanceViewCache.sizeBytes(),
+      imageCreator.retrievePrefetchedShields() + guidanceViewImageProvider.retrievePrefetchedGuidanceViews()
+    );
+  }
+
   /**
    * Set the listener which will be called when GuidanceView visibility changes
    *
@@ -968,9 +1031,35 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
     updateDistanceText(model);
     updateInstructionList(model);
     if (newStep(model.retrieveProgress())) {
-      LegStep upComingStep = model.retrieveProgress().getCurrentLegProgress().getUpcomingStep();
-      ImageCreator.getInstance().prefetchImageCache(upComingStep);
+      prefetchBannerImages(model.retrieveProgress());
+      preloadManeuverIcons(model.retrieveProgress());
+    }
+  }
+
+  private void prefetchBannerImages(@NonNull RouteProgress routeProgress) {
+    if (prefetchedRoute != routeProgress.getRoute()) {
+      prefetchedRoute = routeProgress.getRoute();
+      bannerImageUrlCollector.reset();
     }
+    BannerImageUrls imageUrls =
+        bannerImageUrlCollector.collect(routeProgress, imagePrefetchDistance, accessToken);
+    ImageCreator.getInstance().prefetchImageCache(imageUrls.getShieldBaseUrls(), bannerImagePrefetchListener);
+    guidanceViewImageProvider.prefetchGuidanceViews(imageUrls.getGuidanceViewUrls(), bannerImagePrefetchListener);
+  }
+
+  private void preloadManeuverIcons(@NonNull RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.getCurrentLegProgress();
+    if (legProgress == null || legProgress.getRouteLeg() == null
+        || legProgress.getCurrentStepProgress() == null) {
+      return;
+    }
+    List<LegStep> steps = legProgress.getRouteLeg().steps();
+    if (steps == null) {
+      return;
+    }
+    int fromIndex = Math.min(legProgress.getCurrentStepProgress().getStepIndex() + 1, steps.size());
+    int toIndex = Math.min(fromIndex + PRELOADED_MANEUVER_ICON_STEPS, steps.size());
+    maneuverView.preloadManeuverIcons(steps.subList(fromIndex, toIndex));
   }
 
   /**
@@ -1080,7 +1169,6 @@ public class InstructionView extends RelativeLayout implements LifecycleObserver
   private void updateInstructionList(@NonNull InstructionModel model) {
     RouteProgress routeProgress = model.retrieveProgress();
     boolean isListShowing = instructionListLayout.getVisibility() == VISIBLE;
-    rvInstructions.stopScroll();
     instructionListAdapter.updateBannerListWith(routeProgress, isListShowing);
   }
 
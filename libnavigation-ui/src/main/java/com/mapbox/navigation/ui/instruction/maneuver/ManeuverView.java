@@ -2,9 +2,9 @@ package com.mapbox.navigation.ui.instruction.maneuver;
 
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PointF;
-import android.graphics.drawable.Drawable;
 import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
@@ -14,23 +14,31 @@ import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
-import androidx.core.util.Pair;
 
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.ManeuverModifier;
 import com.mapbox.api.directions.v5.models.StepManeuver;
 import com.mapbox.navigation.ui.R;
-import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconDrawer;
+import com.mapbox.navigation.utils.internal.PrimitivesEx;
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconAtlas;
 import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper;
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconSpec;
 import com.mapbox.navigation.utils.internal.maneuver.ManeuversStyleKit;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
-import static com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.MANEUVER_ICON_DRAWER_MAP;
-import static com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.MANEUVER_TYPES_WITH_NULL_MODIFIERS;
 import static com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.ROUNDABOUT_MANEUVER_TYPES;
 
 
 /**
  * A view that draws a maneuver arrow indicating the upcoming maneuver.
+ * <p>
+ * Maneuver icons are rasterized once by {@link ManeuverIconAtlas} and shared with the other
+ * maneuver views and the trip notification.
  */
 public class ManeuverView extends View {
 
@@ -46,8 +54,6 @@ public class ManeuverView extends View {
   private int secondaryColor;
   @Nullable
   private Float roundaboutAngle = null;
-  @Nullable
-  private Pair<String, String> maneuverTypeAndModifier = new Pair<>(null, null);
   private PointF size;
   private String drivingSide = ManeuverModifier.RIGHT;
 
@@ -106,11 +112,6 @@ public class ManeuverView extends View {
     if (isNewTypeOrModifier(maneuverType, maneuverModifier)) {
       this.maneuverType = maneuverType;
       this.maneuverModifier = maneuverModifier;
-      if (checkManeuverTypeWithNullModifier(maneuverType)) {
-        return;
-      }
-      maneuverType = checkManeuverModifier(maneuverType, maneuverModifier);
-      maneuverTypeAndModifier = new Pair<>(maneuverType, maneuverModifier);
       invalidate();
     }
   }
@@ -196,31 +197,58 @@ public class ManeuverView extends View {
       return;
     }
 
-    if (maneuverType == null) {
+    if (maneuverType == null || size == null) {
       return;
     }
 
-    ManeuverIconDrawer maneuverIconDrawer = MANEUVER_ICON_DRAWER_MAP.get(maneuverTypeAndModifier);
-    if (maneuverIconDrawer != null) {
-      // FIXME temp solution, data issue: roundabout turn 360 degree are set with null angle
-      if (StepManeuver.ROUNDABOUT.equals(maneuverType) && roundaboutAngle == null) {
-        Drawable left = getResources()
-          .getDrawable(ManeuverIconHelper.provideGenericRoundabout(drivingSide));
-        left.setBounds(0, 0, getWidth(), getHeight());
-        left.draw(canvas);
-      } else  {
-        maneuverIconDrawer.drawManeuverIcon(
-          canvas,
-          primaryColor,
-          secondaryColor,
-          size,
-          ManeuverIconHelper.adjustRoundaboutAngle(roundaboutAngle != null ? roundaboutAngle : 0)
-        );
+    Bitmap maneuverIcon = ManeuverIconAtlas.getManeuverIcon(getContext(), buildIconSpec(
+      maneuverType, maneuverModifier, drivingSide, roundaboutAngle));
+    if (maneuverIcon != null) {
+      canvas.drawBitmap(maneuverIcon, 0, 0, null);
+    }
+  }
+
+  /**
+   * Rasterizes the maneuver icons of the provided steps in the background, so that they are
+   * drawn right away when the steps are reached.
+   * <p>
+   * Icons are rasterized with the current size and colors of this view, this is a no-op
+   * until the view is measured.
+   *
+   * @param steps upcoming steps
+   */
+  public void preloadManeuverIcons(@NonNull List<LegStep> steps) {
+    if (size == null || steps.isEmpty()) {
+      return;
+    }
+    List<ManeuverIconSpec> specs = new ArrayList<>(steps.size());
+    for (LegStep step : steps) {
+      List<BannerInstructions> bannerInstructions = step.bannerInstructions();
+      if (bannerInstructions == null || bannerInstructions.isEmpty()) {
+        continue;
       }
+      BannerText primary = bannerInstructions.get(0).primary();
+      String stepDrivingSide = step.drivingSide() != null ? step.drivingSide() : ManeuverModifier.RIGHT;
+      Float stepRoundaboutAngle = PrimitivesEx.toFloatOrNull(primary.degrees());
+      specs.add(buildIconSpec(primary.type(), primary.modifier(), stepDrivingSide, stepRoundaboutAngle));
     }
+    ManeuverIconAtlas.preloadManeuverIcons(getContext(), specs);
+  }
 
-    boolean flip = ManeuverIconHelper.isManeuverIconNeedFlip(maneuverType, maneuverModifier, drivingSide);
-    setScaleX(flip ? -1 : 1);
+  @NonNull
+  private ManeuverIconSpec buildIconSpec(@Nullable String maneuverType, @Nullable String maneuverModifier,
+                                         @NonNull String drivingSide, @Nullable Float roundaboutAngle) {
+    return new ManeuverIconSpec(
+      maneuverType,
+      maneuverModifier,
+      drivingSide,
+      roundaboutAngle,
+      (int) size.x,
+      (int) size.y,
+      primaryColor,
+      secondaryColor,
+      ManeuverIconHelper.adjustRoundaboutAngle(0f)
+    );
   }
 
   private void initializeColorFrom(AttributeSet attributeSet) {
@@ -240,23 +268,6 @@ public class ManeuverView extends View {
       || !TextUtils.equals(this.maneuverModifier, maneuverModifier);
   }
 
-  private boolean checkManeuverTypeWithNullModifier(String maneuverType) {
-    if (MANEUVER_TYPES_WITH_NULL_MODIFIERS.contains(maneuverType)) {
-      maneuverTypeAndModifier = new Pair<>(maneuverType, null);
-      invalidate();
-      return true;
-    }
-    return false;
-  }
-
-  @Nullable
-  private String checkManeuverModifier(@NonNull String maneuverType, @Nullable String maneuverModifier) {
-    if (!maneuverType.contentEquals(StepManeuver.ARRIVE) && maneuverModifier != null) {
-      maneuverType = null;
-    }
-    return maneuverType;
-  }
-
   private void updateRoundaboutAngle(float roundaboutAngle) {
     this.roundaboutAngle = ManeuverIconHelper.adjustRoundaboutAngle(roundaboutAngle);
   }
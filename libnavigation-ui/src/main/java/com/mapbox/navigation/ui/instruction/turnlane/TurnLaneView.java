@@ -1,8 +1,10 @@
 package com.mapbox.navigation.ui.instruction.turnlane;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
+import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -14,6 +16,8 @@ import androidx.vectordrawable.graphics.drawable.VectorDrawableCompat;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.navigation.ui.internal.instruction.turnlane.TurnLaneDrawableMap;
 import com.mapbox.navigation.ui.internal.instruction.turnlane.TurnLaneViewData;
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconAtlas;
+import com.mapbox.navigation.utils.internal.maneuver.TurnLaneIconSpec;
 
 /**
  * Use this view to render turn lane data.
@@ -89,13 +93,36 @@ public class TurnLaneView extends AppCompatImageView {
 
   private void drawFor(@NonNull BannerComponents lane,
                        @NonNull TurnLaneViewData drawData, Integer resId, @StyleRes int turnLaneViewStyle) {
+    Bitmap turnLaneIcon = findTurnLaneIcon(resId, turnLaneViewStyle);
+    if (turnLaneIcon != null) {
+      setImageBitmap(turnLaneIcon);
+    } else {
+      setImageDrawable(createTurnLaneDrawable(resId, turnLaneViewStyle));
+    }
+    setAlpha(!lane.active() ? HALF_OPACITY : FULL_OPACITY);
+    setScaleX(drawData.shouldBeFlipped() ? SCALE_FLIPPED : SCALE_NORMAL);
+  }
+
+  /**
+   * Turn lane icons are rasterized once for the fixed size of the view and shared
+   * by all the turn lane views.
+   */
+  @Nullable
+  private Bitmap findTurnLaneIcon(final int resId, @StyleRes final int turnLaneViewStyle) {
+    ViewGroup.LayoutParams layoutParams = getLayoutParams();
+    if (layoutParams == null || layoutParams.width <= 0 || layoutParams.height <= 0) {
+      return null;
+    }
+    TurnLaneIconSpec spec = new TurnLaneIconSpec(resId, turnLaneViewStyle, layoutParams.width, layoutParams.height);
+    return ManeuverIconAtlas.getTurnLaneIcon(spec, () -> createTurnLaneDrawable(resId, turnLaneViewStyle));
+  }
+
+  @Nullable
+  private Drawable createTurnLaneDrawable(int resId, @StyleRes int turnLaneViewStyle) {
     final ContextThemeWrapper contextThemeWrapper =
         new ContextThemeWrapper(getContext(), turnLaneViewStyle);
-    final Drawable turnLaneDrawable = VectorDrawableCompat.create(
+    return VectorDrawableCompat.create(
         getResources(), resId, contextThemeWrapper.getTheme()
     );
-    setImageDrawable(turnLaneDrawable);
-    setAlpha(!lane.active() ? HALF_OPACITY : FULL_OPACITY);
-    setScaleX(drawData.shouldBeFlipped() ? SCALE_FLIPPED : SCALE_NORMAL);
   }
 }
@@ -55,7 +55,7 @@ class FeedbackDetailsFragment : DialogFragment() {
                         )
                     )
                 }
-                screenshotView.setImageBitmap(ViewUtils.decodeScreenshot(it.screenshot))
+                screenshotView.setImageBitmap(ViewUtils.decodeScreenshotFile(it.screenshot))
                 feedbackBottomSheetTitleText.text = buildTitleText(
                     FeedbackHelper.getFeedbackText(it.feedbackType, requireContext())
                         .replace("\n", " "),
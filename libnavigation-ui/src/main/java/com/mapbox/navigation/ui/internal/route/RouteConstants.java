@@ -56,4 +56,5 @@ public class RouteConstants {
   public static final double ROUTE_LINE_UPDATE_MAX_DISTANCE_THRESHOLD_IN_METERS = 3.0;
   public static final int DEFAULT_ROUTE_SOURCES_MAX_ZOOM = 16;
   public static final float DEFAULT_ROUTE_SOURCES_TOLERANCE = 0.375f;
+  public static final int DEFAULT_MANEUVER_ARROW_COUNT = 1;
 }
@@ -23,6 +23,7 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
 
   public InstructionListAdapter(DistanceFormatter distanceFormatter) {
     presenter = new InstructionListPresenter(distanceFormatter);
+    setHasStableIds(true);
   }
 
   @NonNull
@@ -46,6 +47,17 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
     return presenter.retrieveBannerInstructionListSize();
   }
 
+  @Override
+  public long getItemId(int position) {
+    return presenter.retrieveItemId(position);
+  }
+
+  @Override
+  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+    super.onDetachedFromRecyclerView(recyclerView);
+    presenter.cancel();
+  }
+
   @Override
   public void onViewDetachedFromWindow(@NonNull InstructionViewHolder holder) {
     super.onViewDetachedFromWindow(holder);
@@ -0,0 +1,96 @@
+package com.mapbox.navigation.ui.internal.summary
+
+import androidx.recyclerview.widget.DiffUtil
+import com.mapbox.api.directions.v5.models.BannerInstructions
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.cancelChildren
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+
+/**
+ * Row of the instruction list.
+ *
+ * @param id stable id of the row, built from the leg, step and banner indices
+ * @param bannerInstructions instructions shown in the row
+ */
+internal class InstructionListRow(
+    val id: Long,
+    val bannerInstructions: BannerInstructions
+) {
+
+    companion object {
+        private const val LEG_SHIFT = 40
+        private const val STEP_SHIFT = 20
+
+        @JvmStatic
+        fun buildId(legIndex: Int, stepIndex: Int, bannerIndex: Int): Long =
+            (legIndex.toLong() shl LEG_SHIFT) or
+                (stepIndex.toLong() shl STEP_SHIFT) or
+                bannerIndex.toLong()
+    }
+}
+
+/**
+ * Receives the result of an instruction list diff, on the main thread.
+ */
+internal interface OnInstructionListDiffedCallback {
+    fun onInstructionListDiffed(rows: List<InstructionListRow>, result: DiffUtil.DiffResult)
+}
+
+/**
+ * Calculates the difference between two instruction lists off the main thread.
+ *
+ * Only the result of the latest submitted list is delivered, the results of the lists submitted
+ * before it are dropped.
+ *
+ * @param diffDispatcher dispatcher the difference is calculated on
+ */
+internal class InstructionListDiffer @JvmOverloads constructor(
+    private val diffDispatcher: CoroutineDispatcher = ThreadController.IODispatcher
+) {
+
+    private val jobControl: JobControl = ThreadController.getMainScopeAndRootJob()
+    private var generation = 0
+
+    fun submit(
+        oldRows: List<InstructionListRow>,
+        newRows: List<InstructionListRow>,
+        callback: OnInstructionListDiffedCallback
+    ) {
+        val submittedGeneration = ++generation
+        jobControl.scope.launch {
+            val result = withContext(diffDispatcher) {
+                DiffUtil.calculateDiff(RowDiffCallback(oldRows, newRows))
+            }
+            if (submittedGeneration == generation) {
+                callback.onInstructionListDiffed(newRows, result)
+            }
+        }
+    }
+
+    fun cancel() {
+        generation++
+        jobControl.job.cancelChildren()
+    }
+
+    private class RowDiffCallback(
+        private val oldRows: List<InstructionListRow>,
+        private val newRows: List<InstructionListRow>
+    ) : DiffUtil.Callback() {
+
+        override fun getOldListSize(): Int = oldRows.size
+
+        override fun getNewListSize(): Int = newRows.size
+
+        override fun areItemsTheSame(oldItemPosition: Int, newItemPosition: Int): Boolean =
+            oldRows[oldItemPosition].id == newRows[newItemPosition].id
+
+        override fun areContentsTheSame(oldItemPosition: Int, newItemPosition: Int): Boolean {
+            val oldInstructions = oldRows[oldItemPosition].bannerInstructions
+            val newInstructions = newRows[newItemPosition].bannerInstructions
+            return oldInstructions === newInstructions || oldInstructions == newInstructions
+        }
+    }
+}
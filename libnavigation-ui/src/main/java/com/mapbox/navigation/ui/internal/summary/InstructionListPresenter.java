@@ -8,6 +8,7 @@ import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.DiffUtil;
 
 import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.navigation.base.formatter.DistanceFormatter;
@@ -20,7 +21,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
-class InstructionListPresenter {
+class InstructionListPresenter implements OnInstructionListDiffedCallback {
 
   private static final int TWO_LINES = 2;
   private static final int ONE_LINE = 1;
@@ -28,36 +29,81 @@ class InstructionListPresenter {
   private static final float ONE_LINE_BIAS = 0.5f;
   private static final int FIRST_INSTRUCTION_INDEX = 0;
   private DistanceFormatter distanceFormatter;
-  private List<BannerInstructions> instructions;
+  @NonNull
+  private final InstructionListDiffer differ;
+  @NonNull
+  private List<InstructionListRow> rows = new ArrayList<>();
   @Nullable
   private String drivingSide;
+  @Nullable
+  private InstructionListAdapter adapter;
+  @Nullable
+  private DirectionsRoute submittedRoute;
+  private int submittedLegIndex;
+  @Nullable
+  private BannerInstructions submittedBannerInstructions;
 
   InstructionListPresenter(DistanceFormatter distanceFormatter) {
+    this(distanceFormatter, new InstructionListDiffer());
+  }
+
+  InstructionListPresenter(DistanceFormatter distanceFormatter, @NonNull InstructionListDiffer differ) {
     this.distanceFormatter = distanceFormatter;
-    instructions = new ArrayList<>();
+    this.differ = differ;
   }
 
   void onBindInstructionListViewAtPosition(int position, @NonNull InstructionListView listView) {
-    BannerInstructions bannerInstructions = instructions.get(position);
+    BannerInstructions bannerInstructions = rows.get(position).getBannerInstructions();
     double distance = bannerInstructions.distanceAlongGeometry();
     SpannableString distanceText = distanceFormatter.formatDistance(distance);
     updateListView(listView, bannerInstructions, distanceText);
   }
 
   int retrieveBannerInstructionListSize() {
-    return instructions.size();
+    return rows.size();
   }
 
+  long retrieveItemId(int position) {
+    return rows.get(position).getId();
+  }
+
+  /**
+   * The list only changes when the route, the leg or the current banner instructions change,
+   * the progress updates in between don't cost anything. Otherwise, the new rows are diffed
+   * against the shown ones off the main thread.
+   */
   void update(@NonNull RouteProgress routeProgress, @NonNull InstructionListAdapter adapter) {
+    final RouteLegProgress legProgress = routeProgress.getCurrentLegProgress();
+    final BannerInstructions currentBannerInstructions = findCurrentBannerInstructions(
+        legProgress.getCurrentStepProgress().getStep(),
+        legProgress.getCurrentStepProgress().getDistanceRemaining()
+    );
+    if (!isStructureChanged(routeProgress, currentBannerInstructions)) {
+      return;
+    }
+    submittedRoute = routeProgress.getRoute();
+    submittedLegIndex = legProgress.getLegIndex();
+    submittedBannerInstructions = currentBannerInstructions;
+    this.adapter = adapter;
+
+    final List<InstructionListRow> routeRows = buildRowsFrom(legProgress);
+    final List<InstructionListRow> filteredRows = filterRowsAfter(currentBannerInstructions, routeRows);
     drivingSide = getDrivingSide(routeProgress);
-    final List<BannerInstructions> routeInstructions = getBannerInstructionsFromRouteProgress(routeProgress);
-    final List<BannerInstructions> filteredRouteInstructions = filterListAfterStep(routeProgress, routeInstructions);
+    differ.submit(rows, filteredRows, this);
+  }
+
+  @Override
+  public void onInstructionListDiffed(@NonNull List<InstructionListRow> rows, @NonNull DiffUtil.DiffResult result) {
+    this.rows = rows;
+    if (adapter != null) {
+      result.dispatchUpdatesTo(adapter);
+    }
+  }
 
-    final List<BannerInstructions> oldItems = new ArrayList<>(instructions);
-    final DiffUtil.DiffResult result = DiffUtil.calculateDiff(getDiffCallback(oldItems, filteredRouteInstructions));
-    instructions.clear();
-    instructions.addAll(filteredRouteInstructions);
-    result.dispatchUpdatesTo(adapter);
+  void cancel() {
+    differ.cancel();
+    submittedRoute = null;
+    submittedBannerInstructions = null;
   }
 
   void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
@@ -133,46 +179,46 @@ class InstructionListPresenter {
     }
   }
 
+  private boolean isStructureChanged(@NonNull RouteProgress routeProgress,
+                                     @Nullable BannerInstructions currentBannerInstructions) {
+    return submittedRoute != routeProgress.getRoute()
+        || submittedLegIndex != routeProgress.getCurrentLegProgress().getLegIndex()
+        || submittedBannerInstructions != currentBannerInstructions;
+  }
+
   @NonNull
-  private List<BannerInstructions> getBannerInstructionsFromRouteProgress(@NonNull final RouteProgress routeProgress) {
-    final List<BannerInstructions> instructions = new ArrayList<>();
-    final RouteLeg routeLeg = routeProgress.getCurrentLegProgress().getRouteLeg();
+  private List<InstructionListRow> buildRowsFrom(@NonNull final RouteLegProgress legProgress) {
+    final List<InstructionListRow> rows = new ArrayList<>();
+    final RouteLeg routeLeg = legProgress.getRouteLeg();
     if (routeLeg != null) {
       final List<LegStep> steps = routeLeg.steps();
       if (steps != null) {
-        for (LegStep step : steps) {
-          final List<BannerInstructions> bannerInstructions = step.bannerInstructions();
-          if (bannerInstructions != null) {
-            instructions.addAll(bannerInstructions);
+        for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+          final List<BannerInstructions> bannerInstructions = steps.get(stepIndex).bannerInstructions();
+          if (bannerInstructions == null) {
+            continue;
+          }
+          for (int bannerIndex = 0; bannerIndex < bannerInstructions.size(); bannerIndex++) {
+            long id = InstructionListRow.buildId(legProgress.getLegIndex(), stepIndex, bannerIndex);
+            rows.add(new InstructionListRow(id, bannerInstructions.get(bannerIndex)));
           }
         }
       }
     }
-    return instructions;
+    return rows;
   }
 
   @NonNull
-  private List<BannerInstructions> filterListAfterStep(
-          @NonNull final RouteProgress routeProgress,
-          @NonNull final List<BannerInstructions> bannerInstructions
+  private List<InstructionListRow> filterRowsAfter(
+          @Nullable final BannerInstructions currentBannerInstructions,
+          @NonNull final List<InstructionListRow> rows
   ) {
-    final RouteLegProgress legProgress = routeProgress.getCurrentLegProgress();
-    final LegStep currentStep = legProgress.getCurrentStepProgress().getStep();
-    final double stepDistanceRemaining = legProgress.getCurrentStepProgress().getDistanceRemaining();
-    final BannerInstructions currentBannerInstructions = findCurrentBannerInstructions(
-            currentStep, stepDistanceRemaining
-    );
-
-    if (!bannerInstructions.contains(currentBannerInstructions)) {
-      return bannerInstructions;
-    } else {
-      int currentInstructionIndex = bannerInstructions.indexOf(currentBannerInstructions);
-      if (currentInstructionIndex + 1 <= bannerInstructions.size()) {
-        return bannerInstructions.subList(currentInstructionIndex + 1, bannerInstructions.size());
-      } else {
-        return new ArrayList<>();
+    for (int index = 0; index < rows.size(); index++) {
+      if (rows.get(index).getBannerInstructions().equals(currentBannerInstructions)) {
+        return new ArrayList<>(rows.subList(index + 1, rows.size()));
       }
     }
+    return rows;
   }
 
   /**
@@ -215,38 +261,4 @@ class InstructionListPresenter {
           instructions,
           nextInstructions
   ) -> Double.compare(instructions.distanceAlongGeometry(), nextInstructions.distanceAlongGeometry());
-
-  @NonNull
-  private DiffUtil.Callback getDiffCallback(
-          @NonNull final List<BannerInstructions> oldItems,
-          @NonNull final List<BannerInstructions> updatedInstructions
-  ) {
-    return new DiffUtil.Callback() {
-      @Override
-      public int getOldListSize() {
-        return oldItems.size();
-      }
-
-      @Override
-      public int getNewListSize() {
-        return updatedInstructions.size();
-      }
-
-      @Override
-      public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-        return bannerInstructionsComparator.compare(
-                oldItems.get(oldItemPosition),
-                updatedInstructions.get(newItemPosition)
-        ) == 0;
-      }
-
-      @Override
-      public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-        return bannerInstructionsComparator.compare(
-                oldItems.get(oldItemPosition),
-                updatedInstructions.get(newItemPosition)
-        ) == 0;
-      }
-    };
-  }
 }
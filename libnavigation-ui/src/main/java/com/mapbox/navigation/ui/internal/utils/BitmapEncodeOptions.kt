@@ -1,9 +1,18 @@
 package com.mapbox.navigation.ui.internal.utils
 
+import android.graphics.Bitmap
+
 const val DEFAULT_BITMAP_ENCODE_WIDTH = 250
 const val DEFAULT_BITMAP_ENCODE_COMPRESS_QUALITY = 20
+const val DEFAULT_BITMAP_ENCODE_MAX_BYTES = 50 * 1024
+val DEFAULT_BITMAP_ENCODE_FORMAT = Bitmap.CompressFormat.JPEG
 
-class BitmapEncodeOptions private constructor(val width: Int, val compressQuality: Int) {
+class BitmapEncodeOptions private constructor(
+    val width: Int,
+    val compressQuality: Int,
+    val maxBytes: Int,
+    val format: Bitmap.CompressFormat
+) {
 
     /**
      * @return builder matching the one used to create this instance
@@ -11,6 +20,8 @@ class BitmapEncodeOptions private constructor(val width: Int, val compressQualit
     fun toBuilder() = Builder()
         .compressQuality(compressQuality)
         .width(width)
+        .maxBytes(maxBytes)
+        .format(format)
 
     override fun equals(other: Any?): Boolean {
         if (this === other) return true
@@ -20,6 +31,8 @@ class BitmapEncodeOptions private constructor(val width: Int, val compressQualit
 
         if (width != other.width) return false
         if (compressQuality != other.compressQuality) return false
+        if (maxBytes != other.maxBytes) return false
+        if (format != other.format) return false
 
         return true
     }
@@ -27,16 +40,25 @@ class BitmapEncodeOptions private constructor(val width: Int, val compressQualit
     override fun hashCode(): Int {
         var result = width
         result = 31 * result + compressQuality
+        result = 31 * result + maxBytes
+        result = 31 * result + format.hashCode()
         return result
     }
 
     override fun toString(): String {
-        return "BitmapEncodeOptions(width=$width, compressQuality=$compressQuality)"
+        return "BitmapEncodeOptions(" +
+            "width=$width, " +
+            "compressQuality=$compressQuality, " +
+            "maxBytes=$maxBytes, " +
+            "format=$format" +
+            ")"
     }
 
     class Builder {
         private var width: Int = DEFAULT_BITMAP_ENCODE_WIDTH
         private var compressQuality: Int = DEFAULT_BITMAP_ENCODE_COMPRESS_QUALITY
+        private var maxBytes: Int = DEFAULT_BITMAP_ENCODE_MAX_BYTES
+        private var format: Bitmap.CompressFormat = DEFAULT_BITMAP_ENCODE_FORMAT
 
         fun width(width: Int) = apply {
             if (width <= 0) {
@@ -52,8 +74,23 @@ class BitmapEncodeOptions private constructor(val width: Int, val compressQualit
             this.compressQuality = compressQuality
         }
 
+        /**
+         * Byte budget of the encoded bitmap. When the encoded bitmap is bigger, the quality
+         * and then the width are lowered until it fits or can't be lowered anymore.
+         */
+        fun maxBytes(maxBytes: Int) = apply {
+            if (maxBytes <= 0) {
+                throw IllegalArgumentException("maxBytes must be > 0")
+            }
+            this.maxBytes = maxBytes
+        }
+
+        fun format(format: Bitmap.CompressFormat) = apply {
+            this.format = format
+        }
+
         fun build(): BitmapEncodeOptions {
-            return BitmapEncodeOptions(width, compressQuality)
+            return BitmapEncodeOptions(width, compressQuality, maxBytes, format)
         }
     }
 }
@@ -0,0 +1,133 @@
+package com.mapbox.navigation.ui.internal.utils
+
+import android.graphics.Bitmap
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
+import kotlinx.coroutines.cancelChildren
+import kotlinx.coroutines.isActive
+import kotlinx.coroutines.launch
+import java.io.File
+import java.io.IOException
+import java.util.Collections
+import java.util.UUID
+
+/**
+ * Encodes map captures on a background thread, so that scaling, compressing and Base64
+ * encoding don't block the main thread. Results are delivered on the main thread.
+ * The encoder must be used from the main thread.
+ *
+ * Files left in the [directory] by a previous process, e.g. one killed before the feedback
+ * was sent, are deleted when the first encoder of this process is created for the directory.
+ *
+ * @param directory where [encodeToFile] writes the encoded captures
+ * @param options used to encode the captures
+ */
+class ScreenshotEncoder @JvmOverloads constructor(
+    private val directory: File,
+    private val options: BitmapEncodeOptions = BitmapEncodeOptions.Builder().build(),
+    private val ioJobControl: JobControl = ThreadController.getIOScopeAndRootJob(),
+    private val mainJobControl: JobControl = ThreadController.getMainScopeAndRootJob()
+) {
+
+    // Incremented by cancel, results of the encodings started before are dropped.
+    private var generation = 0
+
+    init {
+        if (sweptDirectories.add(directory)) {
+            ioJobControl.scope.launch { deleteStaleFiles() }
+        }
+    }
+
+    /**
+     * Encodes the capture into a Base64 string.
+     *
+     * @param capture the bitmap to encode, must not be recycled until the callback is called
+     * @param callback receives the encoded capture
+     */
+    fun encodeToBase64(capture: Bitmap, callback: Callback<String>) {
+        encode(callback, onDropped = {}) {
+            ViewUtils.encodeView(capture, options)
+        }
+    }
+
+    /**
+     * Encodes the capture into a new file in the [directory], which keeps the encoded capture
+     * off the heap. The file should be deleted by the owner once it's no longer needed.
+     *
+     * @param capture the bitmap to encode, must not be recycled until the callback is called
+     * @param callback receives the file, or null if it couldn't be written. The file of a
+     * cancelled encoding is deleted.
+     */
+    fun encodeToFile(capture: Bitmap, callback: Callback<File>) {
+        encode(callback, onDropped = { it?.delete() }) {
+            val data = ViewUtils.compressView(capture, options)
+            directory.mkdirs()
+            File(directory, "$processFilePrefix${UUID.randomUUID()}.${options.format.extension()}")
+                .apply { writeBytes(data) }
+        }
+    }
+
+    /**
+     * Cancels pending encodings, their callbacks won't be called, even if their result is
+     * already waiting to be delivered.
+     */
+    fun cancel() {
+        generation++
+        ioJobControl.job.cancelChildren()
+    }
+
+    private fun <T> encode(callback: Callback<T>, onDropped: (T?) -> Unit, encoder: () -> T) {
+        val encodingGeneration = generation
+        ioJobControl.scope.launch {
+            val result = try {
+                encoder()
+            } catch (exception: IOException) {
+                null
+            }
+            if (!isActive) {
+                onDropped(result)
+                return@launch
+            }
+            mainJobControl.scope.launch {
+                if (encodingGeneration == generation) {
+                    callback.onEncoded(result)
+                } else {
+                    onDropped(result)
+                }
+            }
+        }
+    }
+
+    private fun deleteStaleFiles() {
+        directory.listFiles()
+            ?.filterNot { it.name.startsWith(processFilePrefix) }
+            ?.forEach { it.delete() }
+    }
+
+    private fun Bitmap.CompressFormat.extension(): String = when (this) {
+        Bitmap.CompressFormat.PNG -> "png"
+        Bitmap.CompressFormat.JPEG -> "jpg"
+        else -> "webp"
+    }
+
+    /**
+     * Receives the result of an encoding.
+     */
+    interface Callback<T> {
+
+        /**
+         * Called on the main thread once the capture is encoded.
+         *
+         * @param result the encoded capture, null if the encoding failed
+         */
+        fun onEncoded(result: T?)
+    }
+
+    private companion object {
+        private const val FILE_PREFIX = "screenshot_"
+
+        // files of other processes are stale, nothing references them any more
+        private val processFilePrefix = "$FILE_PREFIX${UUID.randomUUID()}_"
+        private val sweptDirectories = Collections.synchronizedSet(HashSet<File>())
+    }
+}
@@ -13,9 +13,13 @@ import androidx.annotation.Nullable;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 
 public class ViewUtils {
 
+  private static final int MIN_BUDGET_COMPRESS_QUALITY = 5;
+  private static final int MIN_BUDGET_WIDTH = 64;
+
   public static Bitmap captureView(@NonNull View view) {
     View rootView = view.getRootView();
     rootView.setDrawingCacheEnabled(true);
@@ -29,18 +33,50 @@ public class ViewUtils {
   }
 
   public static String encodeView(@NonNull Bitmap capture, @NonNull BitmapEncodeOptions options) {
+    // Convert to base64 encoded string
+    byte[] data = compressView(capture, options);
+    return Base64.encodeToString(data, Base64.DEFAULT);
+  }
+
+  /**
+   * Scales and compresses the capture so that it fits in {@link BitmapEncodeOptions#getMaxBytes()}.
+   * The quality is lowered first, for lossy formats, then the width, until the capture fits
+   * or the minimum quality and width are reached.
+   * <p>
+   * This is CPU heavy and should not be called on the main thread.
+   *
+   * @param capture bitmap to compress
+   * @param options encode options
+   * @return the compressed bitmap
+   */
+  @NonNull
+  public static byte[] compressView(@NonNull Bitmap capture, @NonNull BitmapEncodeOptions options) {
+    boolean isLossy = options.getFormat() != Bitmap.CompressFormat.PNG;
+    int quality = options.getCompressQuality();
     // Resize up to original width while keeping the aspect ratio
     int width = Math.min(capture.getWidth(), options.getWidth());
-    int height = Math.round((float) width * capture.getHeight() / capture.getWidth());
-    Bitmap scaled = Bitmap.createScaledBitmap(capture, width, height, /*filter=*/true);
-
-    // Convert to JPEG at a quality between 20% ~ 100%
-    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-    scaled.compress(Bitmap.CompressFormat.JPEG, options.getCompressQuality(), stream);
+    Bitmap scaled = scaleView(capture, width);
+    byte[] data = compress(scaled, options.getFormat(), quality);
+    while (data.length > options.getMaxBytes()) {
+      if (isLossy && quality > MIN_BUDGET_COMPRESS_QUALITY) {
+        quality = Math.max(MIN_BUDGET_COMPRESS_QUALITY, quality / 2);
+      } else if (width > MIN_BUDGET_WIDTH) {
+        width = Math.max(MIN_BUDGET_WIDTH, width * 3 / 4);
+        scaled = scaleView(capture, width);
+      } else {
+        break;
+      }
+      data = compress(scaled, options.getFormat(), quality);
+    }
+    return data;
+  }
 
-    // Convert to base64 encoded string
-    byte[] data = stream.toByteArray();
-    return Base64.encodeToString(data, Base64.DEFAULT);
+  @Nullable
+  public static Bitmap decodeScreenshotFile(@Nullable File screenshotFile) {
+    if (screenshotFile == null) {
+      return null;
+    }
+    return BitmapFactory.decodeFile(screenshotFile.getAbsolutePath());
   }
 
   @Nullable
@@ -66,6 +102,17 @@ public class ViewUtils {
     return null;
   }
 
+  private static Bitmap scaleView(@NonNull Bitmap capture, int width) {
+    int height = Math.max(1, Math.round((float) width * capture.getHeight() / capture.getWidth()));
+    return Bitmap.createScaledBitmap(capture, width, height, /*filter=*/true);
+  }
+
+  private static byte[] compress(@NonNull Bitmap bitmap, Bitmap.CompressFormat format, int quality) {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    bitmap.compress(format, quality, stream);
+    return stream.toByteArray();
+  }
+
   public static boolean isLandscape(@NonNull Context context) {
     return context.getResources().getConfiguration().orientation == Configuration.ORIENTATION_LANDSCAPE;
   }
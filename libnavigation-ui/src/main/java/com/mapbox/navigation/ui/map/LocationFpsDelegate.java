@@ -24,6 +24,7 @@ class LocationFpsDelegate implements MapboxMap.OnCameraIdleListener {
   @NonNull
   private final LocationComponent locationComponent;
   private int currentFps = MAX_ANIMATION_FPS;
+  private int puckMaxFps = MAX_ANIMATION_FPS;
   private boolean isEnabled = true;
 
   LocationFpsDelegate(@NonNull MapboxMap mapboxMap, @NonNull LocationComponent locationComponent) {
@@ -57,9 +58,19 @@ class LocationFpsDelegate implements MapboxMap.OnCameraIdleListener {
     return isEnabled;
   }
 
+  /**
+   * Caps the zoom based animation rate with the budget of the current power tier.
+   */
+  void updatePuckMaxFps(int puckMaxFps) {
+    this.puckMaxFps = puckMaxFps;
+    if (isEnabled) {
+      updateMaxFps();
+    }
+  }
+
   private void updateMaxFps() {
     double zoom = mapboxMap.getCameraPosition().zoom;
-    int maxAnimationFps = buildFpsFrom(zoom);
+    int maxAnimationFps = Math.min(buildFpsFrom(zoom), puckMaxFps);
     if (currentFps != maxAnimationFps) {
       locationComponent.setMaxAnimationFps(maxAnimationFps);
       currentFps = maxAnimationFps;
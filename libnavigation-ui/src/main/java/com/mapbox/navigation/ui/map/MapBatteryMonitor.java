@@ -4,6 +4,8 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
 import android.os.BatteryManager;
+import android.os.Build;
+import android.os.PowerManager;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -11,6 +13,7 @@ import androidx.annotation.Nullable;
 class MapBatteryMonitor {
 
   private static final int DEFAULT_BATTERY_LEVEL = -1;
+  private static final int PERCENT = 100;
 
   boolean isPluggedIn(@NonNull Context context) {
     Intent batteryStatus = registerBatteryUpdates(context);
@@ -26,6 +29,38 @@ class MapBatteryMonitor {
     return isPlugged;
   }
 
+  /**
+   * @return battery level in percent, or null if unknown
+   */
+  @Nullable
+  Integer retrieveBatteryPercent(@NonNull Context context) {
+    Intent batteryStatus = registerBatteryUpdates(context);
+    if (batteryStatus == null) {
+      return null;
+    }
+
+    int level = batteryStatus.getIntExtra(BatteryManager.EXTRA_LEVEL, DEFAULT_BATTERY_LEVEL);
+    int scale = batteryStatus.getIntExtra(BatteryManager.EXTRA_SCALE, DEFAULT_BATTERY_LEVEL);
+    if (level < 0 || scale <= 0) {
+      return null;
+    }
+    return Math.round(level * PERCENT / (float) scale);
+  }
+
+  /**
+   * @return one of the {@link PowerManager} thermal statuses, none below Android Q
+   */
+  int retrieveThermalStatus(@NonNull Context context) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+      return PowerManager.THERMAL_STATUS_NONE;
+    }
+    PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+    if (powerManager == null) {
+      return PowerManager.THERMAL_STATUS_NONE;
+    }
+    return powerManager.getCurrentThermalStatus();
+  }
+
   @Nullable
   private static Intent registerBatteryUpdates(@NonNull Context context) {
     IntentFilter filter = new IntentFilter(Intent.ACTION_BATTERY_CHANGED);
@@ -1,8 +1,10 @@
 package com.mapbox.navigation.ui.map;
 
 import android.content.Context;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.ManeuverModifier;
 import com.mapbox.mapboxsdk.maps.MapView;
@@ -15,25 +17,46 @@ import com.mapbox.navigation.ui.camera.NavigationCamera;
 import com.mapbox.navigation.ui.camera.OnTrackingModeChangedListener;
 import com.mapbox.navigation.ui.camera.OnTrackingModeTransitionListener;
 
-class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTransitionListener {
+class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTransitionListener,
+    OnPowerTierChangedListener {
 
   static final int DEFAULT_MAX_FPS_THRESHOLD = 20;
   private static final double VALID_DURATION_IN_SECONDS_UNTIL_NEXT_MANEUVER = 7d;
   private static final double VALID_DURATION_IN_SECONDS_SINCE_PREVIOUS_MANEUVER = 5d;
   private static final int DEVICE_MAX_FPS = Integer.MAX_VALUE;
-  private static final int LOW_POWER_MAX_FPS = 30;
+  private static final long POWER_STATE_REFRESH_INTERVAL_IN_MILLIS = 30_000L;
+  private static final long NO_REFRESH = -1L;
 
   private final MapView mapView;
   private final MapBatteryMonitor batteryMonitor;
+  private final PowerGovernor powerGovernor;
   private final RouteProgressObserver fpsProgressListener = new FpsDelegateProgressChangeListener(this);
   private MapboxNavigation navigation;
-  private int maxFpsThreshold = DEFAULT_MAX_FPS_THRESHOLD;
+  private long lastPowerStateRefreshMillis = NO_REFRESH;
   private boolean isTracking = true;
   private boolean isEnabled = true;
 
   MapFpsDelegate(MapView mapView, MapBatteryMonitor batteryMonitor) {
+    this(mapView, batteryMonitor, new PowerGovernor());
+  }
+
+  MapFpsDelegate(MapView mapView, MapBatteryMonitor batteryMonitor, PowerGovernor powerGovernor) {
     this.mapView = mapView;
     this.batteryMonitor = batteryMonitor;
+    this.powerGovernor = powerGovernor;
+    powerGovernor.addOnPowerTierChangedListener(this);
+  }
+
+  /**
+   * Applies the new budget right away, e.g. when the device heats up or the map goes to the
+   * background between two progress updates.
+   */
+  @Override
+  public void onPowerTierChanged(@NonNull PowerTier tier, @NonNull PowerBudget budget) {
+    if (!isEnabled || !isTracking) {
+      return;
+    }
+    mapView.setMaximumFps(budget.getMapMaxFps());
   }
 
   @Override
@@ -60,24 +83,28 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
   }
 
   /**
-   * Removes the previously registered progress change listener.
+   * Removes the previously registered progress change listener and stops listening to the power
+   * tier changes, the delegate is not used afterwards.
    */
   void removeProgressChangeListener() {
     if (navigation != null) {
       navigation.unregisterRouteProgressObserver(fpsProgressListener);
     }
+    powerGovernor.removeOnPowerTierChangedListener(this);
   }
 
   void onStart() {
     if (navigation != null) {
       navigation.registerRouteProgressObserver(fpsProgressListener);
     }
+    powerGovernor.addOnPowerTierChangedListener(this);
   }
 
   void onStop() {
     if (navigation != null) {
       navigation.unregisterRouteProgressObserver(fpsProgressListener);
     }
+    powerGovernor.removeOnPowerTierChangedListener(this);
   }
 
   void updateEnabled(boolean isEnabled) {
@@ -86,7 +113,7 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
   }
 
   void updateMaxFpsThreshold(int maxFps) {
-    this.maxFpsThreshold = maxFps;
+    powerGovernor.updatePolicy(PowerPolicy.Companion.defaultPolicy(maxFps));
   }
 
   void adjustFpsFor(@NonNull RouteProgress routeProgress) {
@@ -109,17 +136,31 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
     }
   }
 
-  private int determineMaxFpsFrom(@NonNull RouteProgress routeProgress, Context context) {
-    final boolean isPluggedIn = batteryMonitor.isPluggedIn(context);
+  private int determineMaxFpsFrom(@NonNull RouteProgress routeProgress, @Nullable Context context) {
+    refreshPowerState(context);
     RouteLegProgress routeLegProgress = routeProgress.getCurrentLegProgress();
+    boolean isManeuverAhead = routeLegProgress != null
+        && !validLowFpsManeuver(routeLegProgress) && !validLowFpsDuration(routeLegProgress);
+    powerGovernor.updateManeuverAhead(isManeuverAhead);
+    return powerGovernor.budget().getMapMaxFps();
+  }
 
-    if (isPluggedIn) {
-      return LOW_POWER_MAX_FPS;
-    } else if (validLowFpsManeuver(routeLegProgress) || validLowFpsDuration(routeLegProgress)) {
-      return maxFpsThreshold;
-    } else {
-      return LOW_POWER_MAX_FPS;
+  /**
+   * The battery and thermal state change slowly, reading them on every progress update would
+   * only cost more sticky broadcast and binder calls.
+   */
+  private void refreshPowerState(@Nullable Context context) {
+    if (context == null) {
+      return;
+    }
+    long nowMillis = SystemClock.elapsedRealtime();
+    if (lastPowerStateRefreshMillis != NO_REFRESH
+        && nowMillis - lastPowerStateRefreshMillis < POWER_STATE_REFRESH_INTERVAL_IN_MILLIS) {
+      return;
     }
+    lastPowerStateRefreshMillis = nowMillis;
+    powerGovernor.updateBattery(batteryMonitor.retrieveBatteryPercent(context), batteryMonitor.isPluggedIn(context));
+    powerGovernor.updateThermalStatus(batteryMonitor.retrieveThermalStatus(context));
   }
 
   private boolean validLowFpsManeuver(@NonNull RouteLegProgress routeLegProgress) {
@@ -0,0 +1,14 @@
+package com.mapbox.navigation.ui.map
+
+/**
+ * Power state of the map of a [NavigationMapboxMap].
+ *
+ * @param tier tier the map renders in
+ * @param tierChanges number of tier changes
+ * @param tierDurationsMillis time spent in each tier, including the current one
+ */
+data class MapPowerStats(
+    val tier: PowerTier,
+    val tierChanges: Long,
+    val tierDurationsMillis: Map<PowerTier, Long>
+)
@@ -1,8 +1,7 @@
 package com.mapbox.navigation.ui.map;
 
-import android.graphics.PointF;
 import android.location.Location;
-import android.os.AsyncTask;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -11,29 +10,34 @@ import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.Point;
 import com.mapbox.navigation.core.MapboxNavigation;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static com.mapbox.navigation.ui.map.NavigationMapboxMap.STREETS_LAYER_ID;
 
+/**
+ * Resolves the name of the road under the puck.
+ * <p>
+ * The road labels around the puck are queried once and indexed by {@link WayNameIndex}, the
+ * index is only rebuilt when the puck leaves the indexed area, instead of querying the map
+ * on every location update.
+ */
 class MapWayName {
 
-  private static final String NAME_PROPERTY = "name";
   private static final String EMPTY_CURRENT_WAY_NAME = "";
+  private static final float INDEX_HALF_SIZE_PIXELS = 256f;
+  private static final long EMPTY_INDEX_RETRY_MILLIS = 1000L;
+  private static final String[] LAYER_IDS = {STREETS_LAYER_ID};
   private final MapWayNameChangeObserver mapWayNameChangeObserver = new MapWayNameChangeObserver(this);
   @NonNull
   private final Set<OnWayNameChangedListener> onWayNameChangedListeners;
+  private final WayNameResolver wayNameResolver = new WayNameResolver();
   private WaynameFeatureFinder featureInteractor;
-  @Nullable
-  private List<Point> currentStepPoints = new ArrayList<>();
-  @Nullable
-  private Location currentLocation = null;
   private MapboxNavigation navigation;
   private boolean isAutoQueryEnabled;
-  @Nullable
-  private FeatureFilterTask filterTask;
+  private boolean isIndexEmpty;
+  private long indexBuiltAtMillis;
   private String wayName = EMPTY_CURRENT_WAY_NAME;
 
   MapWayName(WaynameFeatureFinder featureInteractor, @NonNull MapPaddingAdjustor paddingAdjustor) {
@@ -42,27 +46,18 @@ class MapWayName {
     this.onWayNameChangedListeners = new HashSet<>();
   }
 
-  void updateWayNameWithPoint(PointF point) {
+  void updateWayNameWithLocation(@NonNull Location location) {
     if (!isAutoQueryEnabled) {
       return;
     }
-    List<Feature> roadLabelFeatures = findRoadLabelFeatures(point);
-    boolean invalidLabelFeatures = roadLabelFeatures.isEmpty();
-    if (invalidLabelFeatures) {
-      return;
+    Point point = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+    if (shouldBuildIndex(point)) {
+      buildIndex(point);
     }
-    executeFeatureFilterTask(roadLabelFeatures);
-  }
-
-  void updateProgress(@Nullable List<Point> currentStepPoints) {
-    if (currentStepPoints != null && !this.currentStepPoints.equals(currentStepPoints)) {
-      this.currentStepPoints = currentStepPoints;
-    }
-  }
-
-  void updateLocation(Location currentLocation) {
-    if (this.currentLocation == null || !this.currentLocation.equals(currentLocation)) {
-      this.currentLocation = currentLocation;
+    Double bearing = location.hasBearing() ? (double) location.getBearing() : null;
+    String currentWayName = wayNameResolver.resolve(point, bearing);
+    if (currentWayName != null) {
+      updateWayNameWith(currentWayName);
     }
   }
 
@@ -92,69 +87,48 @@ class MapWayName {
   }
 
   void onStop() {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
-    }
     unregisterObservers();
   }
 
   private void registerObservers() {
     if (navigation != null) {
-      navigation.registerRouteProgressObserver(mapWayNameChangeObserver);
       navigation.registerLocationObserver(mapWayNameChangeObserver);
     }
   }
 
   private void unregisterObservers() {
     if (navigation != null) {
-      navigation.unregisterRouteProgressObserver(mapWayNameChangeObserver);
       navigation.unregisterLocationObserver(mapWayNameChangeObserver);
     }
   }
 
-  private List<Feature> findRoadLabelFeatures(PointF point) {
-    String[] layerIds = {STREETS_LAYER_ID};
-    return featureInteractor.queryRenderedFeatures(point, layerIds);
-  }
-
-  private void executeFeatureFilterTask(List<Feature> roadFeatures) {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
-    }
-
-    if (hasValidProgressData()) {
-      filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints,
-        new OnFeatureFilteredCallback() {
-          @Override
-          public void onFeatureFiltered(@NonNull Feature feature) {
-            updateWayNameLayerWithNameProperty(feature);
-          }
-        });
-      filterTask.execute();
+  /**
+   * Tiles may not be rendered yet when the index is built, an empty index is retried
+   * after a while rather than on every location update.
+   */
+  private boolean shouldBuildIndex(@NonNull Point point) {
+    if (isIndexEmpty) {
+      return SystemClock.elapsedRealtime() - indexBuiltAtMillis >= EMPTY_INDEX_RETRY_MILLIS;
     }
+    return wayNameResolver.needsIndex(point);
   }
 
-  private boolean isTaskRunning() {
-    return filterTask != null
-      && (filterTask.getStatus() == AsyncTask.Status.PENDING
-      || filterTask.getStatus() == AsyncTask.Status.RUNNING);
-  }
-
-  private boolean hasValidProgressData() {
-    return currentLocation != null && !currentStepPoints.isEmpty();
+  private void buildIndex(@NonNull Point point) {
+    List<Feature> roadLabelFeatures = featureInteractor.queryRenderedFeatures(
+      point, INDEX_HALF_SIZE_PIXELS, LAYER_IDS
+    );
+    double coveredRadiusMeters =
+      INDEX_HALF_SIZE_PIXELS * featureInteractor.getMetersPerPixelAtLatitude(point.latitude());
+    WayNameIndex index = new WayNameIndex(roadLabelFeatures, point, coveredRadiusMeters);
+    wayNameResolver.updateIndex(index);
+    isIndexEmpty = index.segmentCount() == 0;
+    indexBuiltAtMillis = SystemClock.elapsedRealtime();
   }
 
-  private void updateWayNameLayerWithNameProperty(@NonNull Feature roadFeature) {
-    boolean hasValidNameProperty = roadFeature.hasNonNullValueForProperty(NAME_PROPERTY);
-    if (hasValidNameProperty) {
-      String currentWayName = roadFeature.getStringProperty(NAME_PROPERTY);
-      boolean newWayName = !wayName.contentEquals(currentWayName);
-      if (newWayName) {
-        updateListenersWith(currentWayName);
-        wayName = currentWayName;
-      }
-    } else {
-      updateListenersWith(EMPTY_CURRENT_WAY_NAME);
+  private void updateWayNameWith(@Nullable String currentWayName) {
+    if (currentWayName != null && !wayName.contentEquals(currentWayName)) {
+      updateListenersWith(currentWayName);
+      wayName = currentWayName;
     }
   }
 
@@ -2,15 +2,13 @@ package com.mapbox.navigation.ui.map;
 
 import android.location.Location;
 
-import com.mapbox.navigation.base.trip.model.RouteProgress;
 import com.mapbox.navigation.core.trip.session.LocationObserver;
-import com.mapbox.navigation.core.trip.session.RouteProgressObserver;
 
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
-class MapWayNameChangeObserver implements RouteProgressObserver, LocationObserver {
+class MapWayNameChangeObserver implements LocationObserver {
 
   private final MapWayName mapWayName;
 
@@ -27,11 +25,6 @@ class MapWayNameChangeObserver implements RouteProgressObserver, LocationObserve
     @NotNull Location enhancedLocation,
     @NotNull List<? extends Location> keyPoints
   ) {
-    mapWayName.updateLocation(enhancedLocation);
-  }
-
-  @Override
-  public void onRouteProgressChanged(@NotNull RouteProgress routeProgress) {
-    mapWayName.updateProgress(routeProgress.getCurrentLegProgress().getCurrentStepProgress().getStepPoints());
+    mapWayName.updateWayNameWithLocation(enhancedLocation);
   }
 }
@@ -3,7 +3,6 @@ package com.mapbox.navigation.ui.map;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.PointF;
 import android.location.Location;
 import android.os.Bundle;
 import android.os.Parcelable;
@@ -28,7 +27,6 @@ import com.mapbox.navigation.core.trip.session.RouteProgressObserver;
 import com.mapbox.navigation.core.trip.session.TripSessionState;
 import com.mapbox.navigation.ui.NavigationConstants;
 import com.mapbox.navigation.ui.R;
-import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.location.LocationComponentActivationOptions;
 import com.mapbox.mapboxsdk.location.LocationComponentOptions;
@@ -116,6 +114,7 @@ public class NavigationMapboxMap implements LifecycleObserver {
   @Nullable
   private MapFpsDelegate mapFpsDelegate;
   private LocationFpsDelegate locationFpsDelegate;
+  private final PowerGovernor powerGovernor = new PowerGovernor();
   @Nullable
   private MapboxNavigation navigation;
   private float routeClickPadding;
@@ -494,7 +493,6 @@ public class NavigationMapboxMap implements LifecycleObserver {
             .animationDuration(animationDuration)
             .build()
     );
-    updateMapWayNameWithLocation(location);
   }
 
   /**
@@ -785,6 +783,16 @@ public class NavigationMapboxMap implements LifecycleObserver {
     return mapRoute;
   }
 
+  /**
+   * Returns the power tier the map renders in and the time spent in each tier.
+   *
+   * @return power statistics
+   */
+  @NonNull
+  public MapPowerStats retrieveMapPowerStats() {
+    return powerGovernor.retrieveStats();
+  }
+
   /**
    * Updates the {@link NavigationCamera.TrackingMode} that will be used when camera tracking is enabled.
    *
@@ -1048,6 +1056,8 @@ public class NavigationMapboxMap implements LifecycleObserver {
     handleWayNameOnStart();
     handleFpsOnStart();
     locationFpsDelegate.onStart();
+    // after the fps delegate listens to the power tiers again, so that it applies this change
+    powerGovernor.updateForeground(true);
 
     if (navigation != null) {
       navigation.registerMapMatcherResultObserver(mapMatcherResultObserver);
@@ -1067,6 +1077,7 @@ public class NavigationMapboxMap implements LifecycleObserver {
     handleWayNameOnStop();
     handleFpsOnStop();
     locationFpsDelegate.onStop();
+    powerGovernor.updateForeground(false);
 
     if (navigation != null) {
       navigation.unregisterMapMatcherResultObserver(mapMatcherResultObserver);
@@ -1146,6 +1157,8 @@ public class NavigationMapboxMap implements LifecycleObserver {
 
   private void initializeLocationFpsDelegate(@NonNull MapboxMap map, @NonNull LocationComponent locationComponent) {
     locationFpsDelegate = new LocationFpsDelegate(map, locationComponent);
+    locationFpsDelegate.updatePuckMaxFps(powerGovernor.budget().getPuckMaxFps());
+    powerGovernor.addOnPowerTierChangedListener(powerTierChangedListener);
   }
 
   private void initializeWayName(@NonNull MapboxMap mapboxMap, @NonNull MapPaddingAdjustor paddingAdjustor) {
@@ -1198,7 +1211,7 @@ public class NavigationMapboxMap implements LifecycleObserver {
       return;
     }
     MapBatteryMonitor batteryMonitor = new MapBatteryMonitor();
-    mapFpsDelegate = new MapFpsDelegate(mapView, batteryMonitor);
+    mapFpsDelegate = new MapFpsDelegate(mapView, batteryMonitor, powerGovernor);
     mapFpsDelegate.updateEnabled(settings.isMaxFpsEnabled());
     mapFpsDelegate.updateMaxFpsThreshold(settings.retrieveMaxFps());
     addFpsListenersToCamera();
@@ -1214,15 +1227,6 @@ public class NavigationMapboxMap implements LifecycleObserver {
     mapCamera.removeOnTrackingModeChangedListener(mapFpsDelegate);
   }
 
-  private void updateMapWayNameWithLocation(Location location) {
-    if (mapWayName == null) {
-      return;
-    }
-    LatLng latLng = new LatLng(location);
-    PointF mapPoint = mapboxMap.getProjection().toScreenLocation(latLng);
-    mapWayName.updateWayNameWithPoint(mapPoint);
-  }
-
   private void restoreMapWith(@NonNull NavigationMapSettings settings) {
     updateCameraTrackingMode(settings.retrieveCameraTrackingMode());
     updateLocationFpsThrottleEnabled(settings.isLocationFpsEnabled());
@@ -1270,8 +1274,20 @@ public class NavigationMapboxMap implements LifecycleObserver {
     }
   }
 
+  @NonNull
+  private final OnPowerTierChangedListener powerTierChangedListener = new OnPowerTierChangedListener() {
+    @Override
+    public void onPowerTierChanged(@NonNull PowerTier tier, @NonNull PowerBudget budget) {
+      if (locationFpsDelegate != null) {
+        locationFpsDelegate.updatePuckMaxFps(budget.getPuckMaxFps());
+      }
+    }
+  };
+
   @NonNull
   private final MapMatcherResultObserver mapMatcherResultObserver = mapMatcherResult -> {
+    Location enhancedLocation = mapMatcherResult.getEnhancedLocation();
+    powerGovernor.updateSpeed(enhancedLocation.hasSpeed() ? enhancedLocation.getSpeed() : null);
     Long animationDuration = mapMatcherResult.isTeleport() ? 0L : null;
     if (mapMatcherResult.getKeyPoints().isEmpty()) {
       updateLocation(mapMatcherResult.getEnhancedLocation(), animationDuration);
@@ -1,9 +0,0 @@
-package com.mapbox.navigation.ui.map;
-
-import androidx.annotation.NonNull;
-
-import com.mapbox.geojson.Feature;
-
-interface OnFeatureFilteredCallback {
-  void onFeatureFiltered(@NonNull Feature feature);
-}
@@ -0,0 +1,116 @@
+package com.mapbox.navigation.ui.map
+
+import timber.log.Timber
+import java.util.EnumMap
+import java.util.concurrent.CopyOnWriteArraySet
+
+/**
+ * Listens to the changes of the [PowerTier] of a [PowerGovernor].
+ */
+internal interface OnPowerTierChangedListener {
+    fun onPowerTierChanged(tier: PowerTier, budget: PowerBudget)
+}
+
+/**
+ * Single owner of the power state of the map. Collects the battery, thermal, speed, maneuver and
+ * visibility conditions, picks the [PowerTier] from the [PowerPolicy] and notifies the listeners
+ * applying its [PowerBudget] when the tier changes.
+ *
+ * The tier changes and the time spent in each tier are counted, see [retrieveStats].
+ *
+ * @param policy maps the conditions to a tier and its budget
+ * @param elapsedRealtimeMillis monotonic clock used to measure the time spent in each tier
+ */
+internal class PowerGovernor(
+    private var policy: PowerPolicy = PowerPolicy.defaultPolicy(),
+    private val elapsedRealtimeMillis: () -> Long = { System.nanoTime() / NANOS_PER_MILLI }
+) {
+
+    private val listeners = CopyOnWriteArraySet<OnPowerTierChangedListener>()
+    private var state = PowerState()
+    private var tierSinceMillis = elapsedRealtimeMillis()
+    private var tierChanges = 0L
+    private val tierDurationsMillis = EnumMap<PowerTier, Long>(PowerTier::class.java)
+
+    /**
+     * Current tier.
+     */
+    var tier: PowerTier = policy.tierFor(state)
+        private set
+
+    fun budget(): PowerBudget = policy.budgetFor(tier)
+
+    /**
+     * The listeners are notified only if the tier changes, the new budget of an unchanged tier is
+     * read with [budget] when it is next applied.
+     */
+    fun updatePolicy(policy: PowerPolicy) {
+        this.policy = policy
+        evaluate()
+    }
+
+    fun updateBattery(batteryPercent: Int?, isCharging: Boolean) {
+        updateState(state.copy(batteryPercent = batteryPercent, isCharging = isCharging))
+    }
+
+    fun updateThermalStatus(thermalStatus: Int) {
+        updateState(state.copy(thermalStatus = thermalStatus))
+    }
+
+    fun updateSpeed(speedMetersPerSecond: Float?) {
+        updateState(state.copy(speedMetersPerSecond = speedMetersPerSecond))
+    }
+
+    fun updateManeuverAhead(isManeuverAhead: Boolean) {
+        updateState(state.copy(isManeuverAhead = isManeuverAhead))
+    }
+
+    fun updateForeground(isForeground: Boolean) {
+        updateState(state.copy(isForeground = isForeground))
+    }
+
+    fun addOnPowerTierChangedListener(listener: OnPowerTierChangedListener) {
+        listeners.add(listener)
+    }
+
+    fun removeOnPowerTierChangedListener(listener: OnPowerTierChangedListener) {
+        listeners.remove(listener)
+    }
+
+    /**
+     * @return the current tier and the time spent in each tier, including the current one
+     */
+    fun retrieveStats(): MapPowerStats {
+        val durationsMillis = EnumMap(tierDurationsMillis)
+        durationsMillis[tier] = (durationsMillis[tier] ?: 0L) + elapsedRealtimeMillis() -
+            tierSinceMillis
+        return MapPowerStats(tier, tierChanges, durationsMillis)
+    }
+
+    private fun updateState(newState: PowerState) {
+        if (newState != state) {
+            state = newState
+            evaluate()
+        }
+    }
+
+    private fun evaluate() {
+        val newTier = policy.tierFor(state)
+        if (newTier == tier) {
+            return
+        }
+        val nowMillis = elapsedRealtimeMillis()
+        val tierDurationMillis = nowMillis - tierSinceMillis
+        Timber.d("Power tier changed from %s to %s after %d ms", tier, newTier, tierDurationMillis)
+        tierDurationsMillis[tier] = (tierDurationsMillis[tier] ?: 0L) + tierDurationMillis
+        tierChanges++
+        tier = newTier
+        tierSinceMillis = nowMillis
+        val budget = policy.budgetFor(newTier)
+        listeners.forEach { it.onPowerTierChanged(newTier, budget) }
+    }
+
+    private companion object {
+        private const val NANOS_PER_MILLI = 1_000_000L
+    }
+}
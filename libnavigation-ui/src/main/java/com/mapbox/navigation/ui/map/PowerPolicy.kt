@@ -0,0 +1,136 @@
+package com.mapbox.navigation.ui.map
+
+import android.os.PowerManager
+
+/**
+ * Power tiers of the map, from the most to the least demanding.
+ */
+enum class PowerTier {
+    /**
+     * Smooth rendering while a maneuver is ahead or the device is charging.
+     */
+    FULL,
+
+    /**
+     * Steady driving between maneuvers.
+     */
+    BALANCED,
+
+    /**
+     * Battery low or device warm.
+     */
+    SAVER,
+
+    /**
+     * Battery critically low or device hot.
+     */
+    CRITICAL,
+
+    /**
+     * Map not visible.
+     */
+    BACKGROUND
+}
+
+/**
+ * Rendering rates allowed in a [PowerTier].
+ *
+ * @param mapMaxFps maximum frames per second of the map
+ * @param puckMaxFps maximum frames per second of the location puck animation
+ */
+internal data class PowerBudget(
+    val mapMaxFps: Int,
+    val puckMaxFps: Int
+)
+
+/**
+ * Conditions the [PowerTier] is chosen from.
+ *
+ * @param batteryPercent battery level, null if unknown
+ * @param isCharging whether the device is plugged in
+ * @param thermalStatus one of the [PowerManager] thermal statuses
+ * @param speedMetersPerSecond speed of the device, null if unknown
+ * @param isManeuverAhead whether a maneuver is close enough to need smooth rendering
+ * @param isForeground whether the map is visible
+ */
+internal data class PowerState(
+    val batteryPercent: Int? = null,
+    val isCharging: Boolean = false,
+    val thermalStatus: Int = PowerManager.THERMAL_STATUS_NONE,
+    val speedMetersPerSecond: Float? = null,
+    val isManeuverAhead: Boolean = false,
+    val isForeground: Boolean = true
+)
+
+/**
+ * Maps the [PowerState] to a [PowerTier] and each tier to its [PowerBudget].
+ *
+ * The rules are checked in order, the first one which matches gives the tier.
+ *
+ * @param budgets budget of each tier
+ */
+internal class PowerPolicy(private val budgets: Map<PowerTier, PowerBudget>) {
+
+    init {
+        PowerTier.values().forEach { tier ->
+            check(budgets.containsKey(tier)) { "budgets must contain every tier: $tier is missing" }
+        }
+    }
+
+    fun tierFor(state: PowerState): PowerTier {
+        val isOnBattery = !state.isCharging
+        val batteryPercent = state.batteryPercent
+        return when {
+            !state.isForeground -> PowerTier.BACKGROUND
+            state.thermalStatus >= PowerManager.THERMAL_STATUS_SEVERE -> PowerTier.CRITICAL
+            isOnBattery && batteryPercent != null && batteryPercent <= CRITICAL_BATTERY_PERCENT ->
+                PowerTier.CRITICAL
+            state.thermalStatus >= PowerManager.THERMAL_STATUS_MODERATE -> PowerTier.SAVER
+            isOnBattery && batteryPercent != null && batteryPercent <= LOW_BATTERY_PERCENT ->
+                PowerTier.SAVER
+            state.isCharging -> PowerTier.FULL
+            state.isManeuverAhead && !isStopped(state) -> PowerTier.FULL
+            else -> PowerTier.BALANCED
+        }
+    }
+
+    fun budgetFor(tier: PowerTier): PowerBudget = budgets.getValue(tier)
+
+    private fun isStopped(state: PowerState): Boolean {
+        val speed = state.speedMetersPerSecond
+        return speed != null && speed < STOPPED_SPEED_METERS_PER_SECOND
+    }
+
+    companion object {
+        private const val CRITICAL_BATTERY_PERCENT = 10
+        private const val LOW_BATTERY_PERCENT = 20
+        private const val STOPPED_SPEED_METERS_PER_SECOND = 1f
+        private const val FULL_MAP_MAX_FPS = 30
+        private const val SAVER_MAX_FPS = 15
+        private const val CRITICAL_MAX_FPS = 10
+        private const val BACKGROUND_MAX_FPS = 1
+        private const val UNLIMITED_FPS = Int.MAX_VALUE
+
+        /**
+         * @param balancedMapMaxFps maximum frames per second of the map between maneuvers,
+         * the lower tiers never render faster
+         */
+        fun defaultPolicy(
+            balancedMapMaxFps: Int = MapFpsDelegate.DEFAULT_MAX_FPS_THRESHOLD
+        ): PowerPolicy = PowerPolicy(
+            mapOf(
+                PowerTier.FULL to PowerBudget(FULL_MAP_MAX_FPS, UNLIMITED_FPS),
+                PowerTier.BALANCED to PowerBudget(balancedMapMaxFps, UNLIMITED_FPS),
+                PowerTier.SAVER to PowerBudget(
+                    minOf(SAVER_MAX_FPS, balancedMapMaxFps),
+                    SAVER_MAX_FPS
+                ),
+                PowerTier.CRITICAL to PowerBudget(
+                    minOf(CRITICAL_MAX_FPS, balancedMapMaxFps),
+                    CRITICAL_MAX_FPS
+                ),
+                PowerTier.BACKGROUND to PowerBudget(BACKGROUND_MAX_FPS, BACKGROUND_MAX_FPS)
+            )
+        )
+    }
+}
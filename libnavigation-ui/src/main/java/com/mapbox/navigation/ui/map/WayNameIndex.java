@@ -0,0 +1,250 @@
+package com.mapbox.navigation.ui.map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of the road label segments around a point, used to find the road under the puck
+ * without querying the map on every location update.
+ * <p>
+ * Segments are projected to meters around the center of the index and bucketed in a uniform grid,
+ * so that a lookup only measures the segments of the cells around the point.
+ */
+class WayNameIndex {
+
+  private static final String NAME_PROPERTY = "name";
+  private static final String EMPTY_NAME = "";
+  private static final double METERS_PER_DEGREE = 111319.49;
+  private static final double CELL_SIZE_METERS = 25d;
+  private static final double MAX_DISTANCE_METERS = 25d;
+  private static final double MAX_HEADING_DIFFERENCE = 45d;
+  private static final double HEADING_PENALTY_METERS_PER_DEGREE = 0.2;
+  private static final int MAX_CELLS_PER_SEGMENT = 64;
+  private static final double HALF_TURN = 180d;
+
+  private final Point center;
+  private final double coveredRadiusMeters;
+  private final double metersPerDegreeLongitude;
+  private final Map<Long, List<WayNameSegment>> cells = new HashMap<>();
+  private int segmentCount;
+
+  /**
+   * @param roadFeatures        road label features with a line geometry
+   * @param center              center of the area the features were queried for
+   * @param coveredRadiusMeters radius around the center the features are complete for
+   */
+  WayNameIndex(@NonNull List<Feature> roadFeatures, @NonNull Point center, double coveredRadiusMeters) {
+    this.center = center;
+    this.coveredRadiusMeters = coveredRadiusMeters;
+    this.metersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(center.latitude()));
+    for (Feature feature : roadFeatures) {
+      addFeature(feature);
+    }
+  }
+
+  /**
+   * @return whether the point is far enough within the indexed area for the roads around it
+   * to be indexed
+   */
+  boolean covers(@NonNull Point point) {
+    double x = projectX(point);
+    double y = projectY(point);
+    double distanceToCenter = Math.sqrt(x * x + y * y);
+    return distanceToCenter + MAX_DISTANCE_METERS <= coveredRadiusMeters;
+  }
+
+  int segmentCount() {
+    return segmentCount;
+  }
+
+  /**
+   * Finds the segment closest to the point, preferring the segments aligned with the bearing.
+   *
+   * @param point   to find the road of
+   * @param bearing of the puck in degrees, segments which aren't aligned with it are ignored,
+   *                null if unknown
+   * @return the closest segment, null if there is none close enough
+   */
+  @Nullable
+  WayNameSegment findNearestSegment(@NonNull Point point, @Nullable Double bearing) {
+    double x = projectX(point);
+    double y = projectY(point);
+    long minCellX = cellIndex(x - MAX_DISTANCE_METERS);
+    long maxCellX = cellIndex(x + MAX_DISTANCE_METERS);
+    long minCellY = cellIndex(y - MAX_DISTANCE_METERS);
+    long maxCellY = cellIndex(y + MAX_DISTANCE_METERS);
+
+    WayNameSegment nearestSegment = null;
+    double nearestScore = Double.POSITIVE_INFINITY;
+    for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+      for (long cellY = minCellY; cellY <= maxCellY; cellY++) {
+        List<WayNameSegment> cellSegments = cells.get(cellKey(cellX, cellY));
+        if (cellSegments == null) {
+          continue;
+        }
+        for (WayNameSegment segment : cellSegments) {
+          double score = score(segment, x, y, bearing);
+          if (score < nearestScore) {
+            nearestScore = score;
+            nearestSegment = segment;
+          }
+        }
+      }
+    }
+    return nearestSegment;
+  }
+
+  /**
+   * @return whether the point is still on the segment, within the lookup distance and aligned
+   * with the bearing
+   */
+  boolean isOnSegment(@NonNull WayNameSegment segment, @NonNull Point point, @Nullable Double bearing,
+                      double maxDistanceMeters) {
+    double distance = segment.distanceTo(projectX(point), projectY(point));
+    return distance <= maxDistanceMeters
+      && (bearing == null || headingDifference(segment.bearing(), bearing) <= MAX_HEADING_DIFFERENCE);
+  }
+
+  private double score(@NonNull WayNameSegment segment, double x, double y, @Nullable Double bearing) {
+    double distance = segment.distanceTo(x, y);
+    if (distance > MAX_DISTANCE_METERS) {
+      return Double.POSITIVE_INFINITY;
+    }
+    if (bearing == null) {
+      return distance;
+    }
+    double headingDifference = headingDifference(segment.bearing(), bearing);
+    if (headingDifference > MAX_HEADING_DIFFERENCE) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return distance + headingDifference * HEADING_PENALTY_METERS_PER_DEGREE;
+  }
+
+  private void addFeature(@NonNull Feature feature) {
+    Geometry geometry = feature.geometry();
+    List<LineString> lineStrings;
+    if (geometry instanceof LineString) {
+      lineStrings = Collections.singletonList((LineString) geometry);
+    } else if (geometry instanceof MultiLineString) {
+      lineStrings = ((MultiLineString) geometry).lineStrings();
+    } else {
+      return;
+    }
+    String name = feature.hasNonNullValueForProperty(NAME_PROPERTY)
+      ? feature.getStringProperty(NAME_PROPERTY) : EMPTY_NAME;
+    for (LineString lineString : lineStrings) {
+      addLine(name, lineString.coordinates());
+    }
+  }
+
+  private void addLine(@NonNull String name, @NonNull List<Point> coordinates) {
+    for (int i = 1; i < coordinates.size(); i++) {
+      Point start = coordinates.get(i - 1);
+      Point end = coordinates.get(i);
+      WayNameSegment segment = new WayNameSegment(name,
+        projectX(start), projectY(start), projectX(end), projectY(end));
+      addSegment(segment);
+    }
+  }
+
+  private void addSegment(@NonNull WayNameSegment segment) {
+    long minCellX = cellIndex(Math.min(segment.startX, segment.endX));
+    long maxCellX = cellIndex(Math.max(segment.startX, segment.endX));
+    long minCellY = cellIndex(Math.min(segment.startY, segment.endY));
+    long maxCellY = cellIndex(Math.max(segment.startY, segment.endY));
+    if ((maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > MAX_CELLS_PER_SEGMENT) {
+      // far from the indexed area, e.g. a road crossing the whole tile
+      return;
+    }
+    for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+      for (long cellY = minCellY; cellY <= maxCellY; cellY++) {
+        long key = cellKey(cellX, cellY);
+        List<WayNameSegment> cellSegments = cells.get(key);
+        if (cellSegments == null) {
+          cellSegments = new ArrayList<>();
+          cells.put(key, cellSegments);
+        }
+        cellSegments.add(segment);
+      }
+    }
+    segmentCount++;
+  }
+
+  private double projectX(@NonNull Point point) {
+    return (point.longitude() - center.longitude()) * metersPerDegreeLongitude;
+  }
+
+  private double projectY(@NonNull Point point) {
+    return (point.latitude() - center.latitude()) * METERS_PER_DEGREE;
+  }
+
+  private static long cellIndex(double meters) {
+    return (long) Math.floor(meters / CELL_SIZE_METERS);
+  }
+
+  private static long cellKey(long cellX, long cellY) {
+    return (cellX << 32) ^ (cellY & 0xffffffffL);
+  }
+
+  /**
+   * Roads can be driven both ways, the difference is measured between the lines.
+   */
+  private static double headingDifference(double segmentBearing, double bearing) {
+    double difference = Math.abs(segmentBearing - bearing) % HALF_TURN;
+    return Math.min(difference, HALF_TURN - difference);
+  }
+
+  /**
+   * Straight part of a road label line, projected to meters around the center of the index.
+   */
+  static class WayNameSegment {
+
+    @NonNull
+    final String name;
+    final double startX;
+    final double startY;
+    final double endX;
+    final double endY;
+
+    WayNameSegment(@NonNull String name, double startX, double startY, double endX, double endY) {
+      this.name = name;
+      this.startX = startX;
+      this.startY = startY;
+      this.endX = endX;
+      this.endY = endY;
+    }
+
+    /**
+     * @return bearing of the segment in degrees, clockwise from the north
+     */
+    double bearing() {
+      return Math.toDegrees(Math.atan2(endX - startX, endY - startY));
+    }
+
+    double distanceTo(double x, double y) {
+      double segmentX = endX - startX;
+      double segmentY = endY - startY;
+      double lengthSquared = segmentX * segmentX + segmentY * segmentY;
+      double fraction = 0;
+      if (lengthSquared > 0) {
+        fraction = ((x - startX) * segmentX + (y - startY) * segmentY) / lengthSquared;
+        fraction = Math.max(0, Math.min(1, fraction));
+      }
+      double closestX = startX + fraction * segmentX;
+      double closestY = startY + fraction * segmentY;
+      return Math.hypot(x - closestX, y - closestY);
+    }
+  }
+}
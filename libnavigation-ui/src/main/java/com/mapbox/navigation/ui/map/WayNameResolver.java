@@ -0,0 +1,52 @@
+package com.mapbox.navigation.ui.map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Point;
+
+/**
+ * Resolves the name of the road under the puck from a {@link WayNameIndex}.
+ * <p>
+ * The segment found last is reused while the puck stays on it, so that most location updates
+ * don't search the index.
+ */
+class WayNameResolver {
+
+  private static final double SAME_SEGMENT_DISTANCE_METERS = 8d;
+
+  @Nullable
+  private WayNameIndex index;
+  @Nullable
+  private WayNameIndex.WayNameSegment currentSegment;
+
+  void updateIndex(@NonNull WayNameIndex index) {
+    this.index = index;
+    currentSegment = null;
+  }
+
+  /**
+   * @return whether the index has to be rebuilt around the point
+   */
+  boolean needsIndex(@NonNull Point point) {
+    return index == null || !index.covers(point);
+  }
+
+  /**
+   * @param point   of the puck
+   * @param bearing of the puck in degrees, null if unknown
+   * @return name of the road under the puck, empty if the road has no name,
+   * null if no road was found
+   */
+  @Nullable
+  String resolve(@NonNull Point point, @Nullable Double bearing) {
+    if (index == null) {
+      return null;
+    }
+    if (currentSegment == null
+      || !index.isOnSegment(currentSegment, point, bearing, SAME_SEGMENT_DISTANCE_METERS)) {
+      currentSegment = index.findNearestSegment(point, bearing);
+    }
+    return currentSegment != null ? currentSegment.name : null;
+  }
+}
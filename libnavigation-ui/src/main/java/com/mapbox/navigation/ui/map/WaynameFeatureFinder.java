@@ -1,11 +1,15 @@
 package com.mapbox.navigation.ui.map;
 
 import android.graphics.PointF;
+import android.graphics.RectF;
 
 import androidx.annotation.NonNull;
 
 import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
+import com.mapbox.mapboxsdk.maps.Projection;
 
 import java.util.List;
 
@@ -17,8 +21,30 @@ class WaynameFeatureFinder {
     this.mapboxMap = mapboxMap;
   }
 
+  /**
+   * Queries the rendered features in a square box around the point.
+   *
+   * @param center          of the box
+   * @param halfSizePixels  distance from the center to the sides of the box
+   * @param layerIds        layers to query
+   * @return the features intersecting the box
+   */
   @NonNull
-  List<Feature> queryRenderedFeatures(@NonNull PointF point, String[] layerIds) {
-    return mapboxMap.queryRenderedFeatures(point, layerIds);
+  List<Feature> queryRenderedFeatures(@NonNull Point center, float halfSizePixels, String[] layerIds) {
+    PointF screenPoint = mapboxMap.getProjection().toScreenLocation(
+      new LatLng(center.latitude(), center.longitude())
+    );
+    RectF box = new RectF(
+      screenPoint.x - halfSizePixels,
+      screenPoint.y - halfSizePixels,
+      screenPoint.x + halfSizePixels,
+      screenPoint.y + halfSizePixels
+    );
+    return mapboxMap.queryRenderedFeatures(box, layerIds);
+  }
+
+  double getMetersPerPixelAtLatitude(double latitude) {
+    Projection projection = mapboxMap.getProjection();
+    return projection.getMetersPerPixelAtLatitude(latitude);
   }
 }
@@ -0,0 +1,99 @@
+package com.mapbox.navigation.ui.route
+
+import com.mapbox.geojson.FeatureCollection
+import com.mapbox.mapboxsdk.style.sources.GeoJsonSource
+import java.util.WeakHashMap
+
+/**
+ * Uploads feature collections to the GeoJSON sources of the route layers.
+ *
+ * The last collection uploaded to each source is kept, and a collection equal to it is not
+ * uploaded again, since the map serializes and parses every upload. The updates made between
+ * [beginBatch] and [endBatch] are uploaded when the batch ends and only the last collection set
+ * to each source is uploaded, so that a source which is cleared and redrawn in the same pass is
+ * uploaded once.
+ */
+internal class GeoJsonSourceUpdater {
+
+    private val uploadedCollections = WeakHashMap<GeoJsonSource, FeatureCollection>()
+    private val pendingCollections = LinkedHashMap<GeoJsonSource, FeatureCollection>()
+    private var batchDepth = 0
+    private var uploadCount = 0L
+    private var uploadedFeatureCount = 0L
+    private var skipCount = 0L
+    private var coalescedCount = 0L
+
+    /**
+     * Records the collection a source was created with, so that it is not uploaded again.
+     */
+    fun onSourceCreated(source: GeoJsonSource, featureCollection: FeatureCollection) {
+        uploadedCollections[source] = featureCollection
+    }
+
+    /**
+     * Uploads the collection to the source, or when a batch is open, when the batch ends.
+     */
+    fun update(source: GeoJsonSource, featureCollection: FeatureCollection) {
+        if (batchDepth > 0) {
+            if (pendingCollections.put(source, featureCollection) != null) {
+                coalescedCount++
+            }
+        } else {
+            upload(source, featureCollection)
+        }
+    }
+
+    /**
+     * Opens a batch, batches can be nested.
+     */
+    fun beginBatch() {
+        batchDepth++
+    }
+
+    /**
+     * Closes a batch and uploads the pending collections when the outermost batch is closed.
+     */
+    fun endBatch() {
+        check(batchDepth > 0) { "endBatch must be preceded by beginBatch" }
+        batchDepth--
+        if (batchDepth == 0) {
+            val pending = pendingCollections.toList()
+            pendingCollections.clear()
+            pending.forEach { (source, featureCollection) -> upload(source, featureCollection) }
+        }
+    }
+
+    /**
+     * Runs the block in a batch.
+     */
+    fun <T> batch(block: () -> T): T {
+        beginBatch()
+        try {
+            return block()
+        } finally {
+            endBatch()
+        }
+    }
+
+    /**
+     * @return the counters of the uploads made so far
+     */
+    fun retrieveStats(): RouteSourceUpdateStats = RouteSourceUpdateStats(
+        uploadCount,
+        uploadedFeatureCount,
+        skipCount,
+        coalescedCount
+    )
+
+    private fun upload(source: GeoJsonSource, featureCollection: FeatureCollection) {
+        val uploadedCollection = uploadedCollections[source]
+        if (uploadedCollection === featureCollection || uploadedCollection == featureCollection) {
+            skipCount++
+            return
+        }
+        source.setGeoJson(featureCollection)
+        uploadedCollections[source] = featureCollection
+        uploadCount++
+        uploadedFeatureCount += featureCollection.features()?.size ?: 0
+    }
+}
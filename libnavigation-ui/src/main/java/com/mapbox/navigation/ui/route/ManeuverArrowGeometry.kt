@@ -0,0 +1,141 @@
+package com.mapbox.navigation.ui.route
+
+import com.mapbox.api.directions.v5.DirectionsCriteria
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.core.constants.Constants.PRECISION_5
+import com.mapbox.core.constants.Constants.PRECISION_6
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.utils.PolylineUtils
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.ui.internal.route.RouteConstants.DEFAULT_MANEUVER_ARROW_COUNT
+import com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_DEGREES
+import com.mapbox.navigation.ui.internal.route.RouteConstants.THIRTY
+import com.mapbox.navigation.ui.internal.route.RouteConstants.TWO_POINTS
+import com.mapbox.turf.TurfConstants
+import com.mapbox.turf.TurfMeasurement
+import com.mapbox.turf.TurfMisc
+
+/**
+ * Shape of the arrow drawn over a maneuver.
+ *
+ * @param shaftPoints points of the shaft, from the step before the maneuver to the step after it
+ * @param headPoint position of the head, the last point of the shaft
+ * @param headBearing bearing of the head in degrees, between 0 and 360
+ */
+internal data class ManeuverArrow(
+    val shaftPoints: List<Point>,
+    val headPoint: Point,
+    val headBearing: Double
+)
+
+/**
+ * Builds the arrows of the maneuvers ahead on the route.
+ *
+ * The arrow of a maneuver only depends on the geometry of the steps around it, so it's built once
+ * per step and reused for every route progress on that step. The arrows are dropped when the route
+ * changes.
+ *
+ * @param maxArrows number of maneuvers ahead of the current position an arrow is drawn for
+ */
+internal class ManeuverArrowGeometry(
+    private val maxArrows: Int = DEFAULT_MANEUVER_ARROW_COUNT
+) {
+
+    private val arrows = mutableMapOf<Long, ManeuverArrow?>()
+    private var route: DirectionsRoute? = null
+    private var precision = PRECISION_6
+
+    init {
+        check(maxArrows > 0) { "maxArrows must be greater than 0: $maxArrows" }
+    }
+
+    /**
+     * @return the arrows of the current maneuver and of the maneuvers after it on the current leg,
+     * empty if the current maneuver can't be drawn
+     */
+    fun arrowsAhead(routeProgress: RouteProgress): List<ManeuverArrow> {
+        val legProgress = routeProgress.currentLegProgress ?: return emptyList()
+        val stepProgress = legProgress.currentStepProgress ?: return emptyList()
+        updateRoute(routeProgress.route)
+
+        val legIndex = legProgress.legIndex
+        val stepIndex = stepProgress.stepIndex
+        val currentArrow = arrows.getOrPut(arrowKey(legIndex, stepIndex)) {
+            buildArrow(stepProgress.stepPoints, routeProgress.upcomingStepPoints)
+        } ?: return emptyList()
+
+        val result = mutableListOf(currentArrow)
+        val steps = routeProgress.route.legs()?.getOrNull(legIndex)?.steps() ?: return result
+        for (arrowStepIndex in stepIndex + 1 until minOf(stepIndex + maxArrows, steps.size - 1)) {
+            val arrow = arrows.getOrPut(arrowKey(legIndex, arrowStepIndex)) {
+                buildArrow(
+                    decodeStep(steps[arrowStepIndex].geometry()),
+                    decodeStep(steps[arrowStepIndex + 1].geometry())
+                )
+            } ?: break
+            result.add(arrow)
+        }
+        return result
+    }
+
+    private fun updateRoute(newRoute: DirectionsRoute) {
+        val currentRoute = route
+        if (currentRoute !== newRoute) {
+            if (currentRoute?.geometry() != newRoute.geometry()) {
+                arrows.clear()
+            }
+            route = newRoute
+            precision =
+                if (newRoute.routeOptions()?.geometries() == DirectionsCriteria.GEOMETRY_POLYLINE) {
+                    PRECISION_5
+                } else {
+                    PRECISION_6
+                }
+        }
+    }
+
+    private fun decodeStep(geometry: String?): List<Point>? =
+        geometry?.let { PolylineUtils.decode(it, precision) }
+
+    private fun arrowKey(legIndex: Int, stepIndex: Int): Long =
+        (legIndex.toLong() shl Int.SIZE_BITS) or stepIndex.toLong()
+
+    internal companion object {
+
+        /**
+         * Joins the last [THIRTY] meters of the step before the maneuver with the first [THIRTY]
+         * meters of the step after it.
+         *
+         * @return the arrow, null if a step has less than two points
+         */
+        fun buildArrow(stepPoints: List<Point>?, upcomingStepPoints: List<Point>?): ManeuverArrow? {
+            if (stepPoints == null || stepPoints.size < TWO_POINTS ||
+                upcomingStepPoints == null || upcomingStepPoints.size < TWO_POINTS
+            ) {
+                return null
+            }
+            val currentSliced = TurfMisc.lineSliceAlong(
+                LineString.fromLngLats(stepPoints.asReversed()),
+                0.0,
+                THIRTY.toDouble(),
+                TurfConstants.UNIT_METERS
+            )
+            val upcomingSliced = TurfMisc.lineSliceAlong(
+                LineString.fromLngLats(upcomingStepPoints),
+                0.0,
+                THIRTY.toDouble(),
+                TurfConstants.UNIT_METERS
+            )
+
+            val shaftPoints =
+                currentSliced.coordinates().asReversed() + upcomingSliced.coordinates()
+            val headPoint = shaftPoints[shaftPoints.size - 1]
+            val azimuth = TurfMeasurement.bearing(shaftPoints[shaftPoints.size - 2], headPoint)
+            return ManeuverArrow(shaftPoints, headPoint, wrapBearing(azimuth))
+        }
+
+        private fun wrapBearing(bearing: Double): Double =
+            ((bearing % MAX_DEGREES) + MAX_DEGREES) % MAX_DEGREES
+    }
+}
@@ -15,7 +15,6 @@ import androidx.core.graphics.drawable.DrawableCompat;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
-import com.mapbox.geojson.Point;
 import com.mapbox.navigation.ui.R;
 import com.mapbox.mapboxsdk.maps.MapView;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -27,12 +26,8 @@ import com.mapbox.mapboxsdk.style.layers.PropertyFactory;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonOptions;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
-import com.mapbox.mapboxsdk.utils.MathUtils;
 import com.mapbox.navigation.base.trip.model.RouteProgress;
 import com.mapbox.navigation.ui.internal.utils.MapImageUtils;
-import com.mapbox.turf.TurfConstants;
-import com.mapbox.turf.TurfMeasurement;
-import com.mapbox.turf.TurfMisc;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -64,7 +59,6 @@ import static com.mapbox.navigation.ui.internal.route.RouteConstants.ARROW_SHAFT
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.ARROW_SHAFT_LINE_LAYER_ID;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.ARROW_SHAFT_SOURCE_ID;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_ARROW_ZOOM;
-import static com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_DEGREES;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_ZOOM_ARROW_HEAD_CASING_SCALE;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_ZOOM_ARROW_HEAD_SCALE;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_ZOOM_ARROW_SHAFT_CASING_SCALE;
@@ -75,10 +69,7 @@ import static com.mapbox.navigation.ui.internal.route.RouteConstants.MIN_ZOOM_AR
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.MIN_ZOOM_ARROW_SHAFT_CASING_SCALE;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.MIN_ZOOM_ARROW_SHAFT_SCALE;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.OPAQUE;
-import static com.mapbox.navigation.ui.internal.route.RouteConstants.THIRTY;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.TRANSPARENT;
-import static com.mapbox.navigation.ui.internal.route.RouteConstants.TWO_POINTS;
-import static com.mapbox.navigation.ui.internal.utils.CompareUtils.areEqualContentsIgnoreOrder;
 
 class MapRouteArrow {
 
@@ -87,7 +78,9 @@ class MapRouteArrow {
   @ColorInt
   private final int arrowBorderColor;
 
-  private List<Point> maneuverPoints;
+  private final ManeuverArrowGeometry arrowGeometry;
+  @NonNull
+  private List<ManeuverArrow> arrows = Collections.emptyList();
   private List<String> arrowLayerIds;
   private GeoJsonSource arrowShaftGeoJsonSource;
   private GeoJsonSource arrowHeadGeoJsonSource;
@@ -95,13 +88,16 @@ class MapRouteArrow {
   @NonNull
   private final MapView mapView;
   private final MapboxMap mapboxMap;
+  @NonNull
+  private final GeoJsonSourceUpdater sourceUpdater;
   private boolean isVisible = true;
 
   MapRouteArrow(@NonNull MapView mapView, MapboxMap mapboxMap, @StyleRes int styleRes, @NonNull String aboveLayer,
-                int sourceMaxZoom, float sourceTolerance) {
+                int sourceMaxZoom, float sourceTolerance, int maxArrows, @NonNull GeoJsonSourceUpdater sourceUpdater) {
     this.mapView = mapView;
     this.mapboxMap = mapboxMap;
-    this.maneuverPoints = new ArrayList<>();
+    this.sourceUpdater = sourceUpdater;
+    this.arrowGeometry = new ManeuverArrowGeometry(maxArrows);
 
     Context context = mapView.getContext();
     TypedArray typedArray = context.obtainStyledAttributes(styleRes, R.styleable.MapboxStyleNavigationMapRoute);
@@ -116,24 +112,22 @@ class MapRouteArrow {
   }
 
   void addUpcomingManeuverArrow(@NonNull RouteProgress routeProgress) {
-    boolean invalidUpcomingStepPoints = routeProgress.getUpcomingStepPoints() == null
-            || routeProgress.getUpcomingStepPoints().size() < TWO_POINTS;
-    boolean invalidCurrentStepPoints = routeProgress.getCurrentLegProgress() == null
-            || routeProgress.getCurrentLegProgress().getCurrentStepProgress() == null
-            || routeProgress.getCurrentLegProgress().getCurrentStepProgress().getStepPoints() == null
-            || routeProgress.getCurrentLegProgress().getCurrentStepProgress().getStepPoints().size() < TWO_POINTS;
-    if (invalidUpcomingStepPoints || invalidCurrentStepPoints) {
+    List<ManeuverArrow> newArrows = arrowGeometry.arrowsAhead(routeProgress);
+    if (newArrows.isEmpty()) {
       updateVisibilityTo(false);
       return;
     }
     updateVisibilityTo(true);
 
-    List<Point> newManeuverPoints = obtainArrowPointsFrom(routeProgress);
-    if (!areEqualContentsIgnoreOrder(maneuverPoints, newManeuverPoints)) {
-      maneuverPoints.clear();
-      maneuverPoints.addAll(newManeuverPoints);
-      updateArrowShaftWith(maneuverPoints);
-      updateArrowHeadWith(maneuverPoints);
+    if (!newArrows.equals(arrows)) {
+      arrows = newArrows;
+      sourceUpdater.beginBatch();
+      try {
+        updateArrowShaftWith(arrows);
+        updateArrowHeadWith(arrows);
+      } finally {
+        sourceUpdater.endBatch();
+      }
     }
   }
 
@@ -157,39 +151,22 @@ class MapRouteArrow {
     return isVisible;
   }
 
-  @NonNull
-  private List<Point> obtainArrowPointsFrom(@NonNull RouteProgress routeProgress) {
-    List<Point> reversedCurrent =
-      new ArrayList<>(routeProgress.getCurrentLegProgress().getCurrentStepProgress().getStepPoints());
-    Collections.reverse(reversedCurrent);
-
-    LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
-    LineString arrowLineUpcoming = LineString.fromLngLats(routeProgress.getUpcomingStepPoints());
-
-    LineString arrowCurrentSliced =
-      TurfMisc.lineSliceAlong(arrowLineCurrent, 0, THIRTY, TurfConstants.UNIT_METERS);
-    LineString arrowUpcomingSliced =
-      TurfMisc.lineSliceAlong(arrowLineUpcoming, 0, THIRTY, TurfConstants.UNIT_METERS);
-
-    Collections.reverse(arrowCurrentSliced.coordinates());
-
-    List<Point> combined = new ArrayList<>();
-    combined.addAll(arrowCurrentSliced.coordinates());
-    combined.addAll(arrowUpcomingSliced.coordinates());
-    return combined;
-  }
-
-  private void updateArrowShaftWith(@NonNull List<Point> points) {
-    LineString shaft = LineString.fromLngLats(points);
-    Feature arrowShaftGeoJsonFeature = Feature.fromGeometry(shaft);
-    arrowShaftGeoJsonSource.setGeoJson(arrowShaftGeoJsonFeature);
+  private void updateArrowShaftWith(@NonNull List<ManeuverArrow> arrows) {
+    List<Feature> shafts = new ArrayList<>(arrows.size());
+    for (ManeuverArrow arrow : arrows) {
+      shafts.add(Feature.fromGeometry(LineString.fromLngLats(arrow.getShaftPoints())));
+    }
+    sourceUpdater.update(arrowShaftGeoJsonSource, FeatureCollection.fromFeatures(shafts));
   }
 
-  private void updateArrowHeadWith(@NonNull List<Point> points) {
-    double azimuth = TurfMeasurement.bearing(points.get(points.size() - 2), points.get(points.size() - 1));
-    Feature arrowHeadGeoJsonFeature = Feature.fromGeometry(points.get(points.size() - 1));
-    arrowHeadGeoJsonFeature.addNumberProperty(ARROW_BEARING, (float) MathUtils.wrap(azimuth, 0, MAX_DEGREES));
-    arrowHeadGeoJsonSource.setGeoJson(arrowHeadGeoJsonFeature);
+  private void updateArrowHeadWith(@NonNull List<ManeuverArrow> arrows) {
+    List<Feature> heads = new ArrayList<>(arrows.size());
+    for (ManeuverArrow arrow : arrows) {
+      Feature head = Feature.fromGeometry(arrow.getHeadPoint());
+      head.addNumberProperty(ARROW_BEARING, (float) arrow.getHeadBearing());
+      heads.add(head);
+    }
+    sourceUpdater.update(arrowHeadGeoJsonSource, FeatureCollection.fromFeatures(heads));
   }
 
   private void initialize(@NonNull String aboveLayer, int sourceMaxZoom, float sourceTolerance) {
@@ -217,11 +194,13 @@ class MapRouteArrow {
     GeoJsonOptions geoJsonOptions = new GeoJsonOptions();
     geoJsonOptions.withMaxZoom(sourceMaxZoom);
     geoJsonOptions.withTolerance(sourceTolerance);
+    FeatureCollection featureCollection = FeatureCollection.fromFeatures(new Feature[]{});
     arrowShaftGeoJsonSource = new GeoJsonSource(
             ARROW_SHAFT_SOURCE_ID,
-            FeatureCollection.fromFeatures(new Feature[]{}),
+            featureCollection,
             geoJsonOptions
     );
+    sourceUpdater.onSourceCreated(arrowShaftGeoJsonSource, featureCollection);
     mapboxMap.getStyle().addSource(arrowShaftGeoJsonSource);
   }
 
@@ -229,11 +208,13 @@ class MapRouteArrow {
     GeoJsonOptions geoJsonOptions = new GeoJsonOptions();
     geoJsonOptions.withMaxZoom(sourceMaxZoom);
     geoJsonOptions.withTolerance(sourceTolerance);
+    FeatureCollection featureCollection = FeatureCollection.fromFeatures(new Feature[]{});
     arrowHeadGeoJsonSource = new GeoJsonSource(
             ARROW_HEAD_SOURCE_ID,
-            FeatureCollection.fromFeatures(new Feature[]{}),
+            featureCollection,
             geoJsonOptions
     );
+    sourceUpdater.onSourceCreated(arrowHeadGeoJsonSource, featureCollection);
     mapboxMap.getStyle().addSource(arrowHeadGeoJsonSource);
   }
 
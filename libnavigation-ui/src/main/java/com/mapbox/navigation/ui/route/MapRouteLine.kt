@@ -1,8 +1,6 @@
 package com.mapbox.navigation.ui.route
 
 import android.content.Context
-import android.graphics.PointF
-import android.graphics.RectF
 import android.graphics.drawable.Drawable
 import android.util.SparseArray
 import androidx.annotation.AnyRes
@@ -36,14 +34,12 @@ import com.mapbox.navigation.base.trip.model.RouteProgressState
 import com.mapbox.navigation.ui.R
 import com.mapbox.navigation.ui.internal.route.MapRouteSourceProvider
 import com.mapbox.navigation.ui.internal.route.RouteConstants
-import com.mapbox.navigation.ui.internal.route.RouteConstants.ALTERNATIVE_ROUTE_CASING_LAYER_ID
 import com.mapbox.navigation.ui.internal.route.RouteConstants.ALTERNATIVE_ROUTE_LAYER_ID
 import com.mapbox.navigation.ui.internal.route.RouteConstants.ALTERNATIVE_ROUTE_SOURCE_ID
 import com.mapbox.navigation.ui.internal.route.RouteConstants.HEAVY_CONGESTION_VALUE
 import com.mapbox.navigation.ui.internal.route.RouteConstants.LOW_CONGESTION_VALUE
 import com.mapbox.navigation.ui.internal.route.RouteConstants.MAX_ELAPSED_SINCE_INDEX_UPDATE_NANO
 import com.mapbox.navigation.ui.internal.route.RouteConstants.MODERATE_CONGESTION_VALUE
-import com.mapbox.navigation.ui.internal.route.RouteConstants.PRIMARY_ROUTE_CASING_LAYER_ID
 import com.mapbox.navigation.ui.internal.route.RouteConstants.PRIMARY_ROUTE_LAYER_ID
 import com.mapbox.navigation.ui.internal.route.RouteConstants.PRIMARY_ROUTE_SOURCE_ID
 import com.mapbox.navigation.ui.internal.route.RouteConstants.PRIMARY_ROUTE_TRAFFIC_LAYER_ID
@@ -98,6 +94,7 @@ import kotlin.math.sqrt
  * @param mapRouteSourceProvider wrapper for creating GeoJsonSource objects
  * @param vanishPoint the percentage of the route line from the origin that should not be visible
  * @param routeLineInitializedCallback called to indicate that the route line layer has been added to the current style
+ * @param sourceUpdater uploads the feature collections to the sources
  */
 internal class MapRouteLine(
     context: Context,
@@ -113,7 +110,8 @@ internal class MapRouteLine(
     vanishPoint: Double,
     routeLineInitializedCallback: MapRouteLineInitializedCallback?,
     sourceMaxZoom: Int,
-    sourceTolerance: Float
+    sourceTolerance: Float,
+    private val sourceUpdater: GeoJsonSourceUpdater = GeoJsonSourceUpdater()
 ) {
 
     /**
@@ -123,6 +121,7 @@ internal class MapRouteLine(
      * @param belowLayerId determines the elevation of the route layers
      * @param layerProvider provides the layer configurations for the route layers
      * @param routeLineInitializedCallback called to indicate that the route line layer has been added to the current style
+     * @param sourceUpdater uploads the feature collections to the sources
      */
     constructor(
         context: Context,
@@ -133,7 +132,8 @@ internal class MapRouteLine(
         mapRouteSourceProvider: MapRouteSourceProvider,
         routeLineInitializedCallback: MapRouteLineInitializedCallback?,
         sourceMaxZoom: Int,
-        sourceTolerance: Float
+        sourceTolerance: Float,
+        sourceUpdater: GeoJsonSourceUpdater = GeoJsonSourceUpdater()
     ) : this(
         context,
         style,
@@ -148,7 +148,8 @@ internal class MapRouteLine(
         0.0,
         routeLineInitializedCallback,
         sourceMaxZoom,
-        sourceTolerance
+        sourceTolerance,
+        sourceUpdater
     )
 
     private var drawnWaypointsFeatureCollection: FeatureCollection =
@@ -165,6 +166,7 @@ internal class MapRouteLine(
     private val routeLayerIds = mutableSetOf<String>()
     private val directionsRoutes = mutableListOf<DirectionsRoute>()
     private val routeFeatureData = mutableListOf<RouteFeatureData>()
+    private var routeSegmentIndex: RouteSegmentIndex? = null
     private var alternativesVisible = true
     private var allLayersAreVisible = true
     private var primaryRoute: DirectionsRoute? = null
@@ -390,6 +392,7 @@ internal class MapRouteLine(
             drawnWaypointsFeatureCollection,
             wayPointGeoJsonOptions
         )
+        sourceUpdater.onSourceCreated(wayPointSource, drawnWaypointsFeatureCollection)
         style.addSource(wayPointSource)
 
         val routeLineGeoJsonOptions = GeoJsonOptions().apply {
@@ -402,6 +405,7 @@ internal class MapRouteLine(
             drawnPrimaryRouteFeatureCollection,
             routeLineGeoJsonOptions
         )
+        sourceUpdater.onSourceCreated(primaryRouteLineSource, drawnPrimaryRouteFeatureCollection)
         style.addSource(primaryRouteLineSource)
 
         val alternativeRouteLineGeoJsonOptions = GeoJsonOptions().apply {
@@ -414,6 +418,10 @@ internal class MapRouteLine(
             drawnAlternativeRouteFeatureCollection,
             alternativeRouteLineGeoJsonOptions
         )
+        sourceUpdater.onSourceCreated(
+            alternativeRouteLineSource,
+            drawnAlternativeRouteFeatureCollection
+        )
         style.addSource(alternativeRouteLineSource)
 
         val originWaypointIcon = getResourceStyledValue(
@@ -551,16 +559,20 @@ internal class MapRouteLine(
     fun draw(directionsRoutes: List<DirectionsRoute>) {
         val featureDataProvider: () -> List<RouteFeatureData> =
             getRouteFeatureDataProvider(directionsRoutes)
-        reinitializeWithRoutes(directionsRoutes, featureDataProvider)
-        drawRoutes(routeFeatureData)
+        sourceUpdater.batch {
+            reinitializeWithRoutes(directionsRoutes, featureDataProvider)
+            drawRoutes(routeFeatureData)
+        }
     }
 
     fun drawIdentifiableRoutes(directionsRoutes: List<IdentifiableRoute>) {
         val routes = directionsRoutes.map { it.route }
         val featureDataProvider: () -> List<RouteFeatureData> =
             getIdentifiableRouteFeatureDataProvider(directionsRoutes)
-        reinitializeWithRoutes(routes, featureDataProvider)
-        drawRoutes(routeFeatureData)
+        sourceUpdater.batch {
+            reinitializeWithRoutes(routes, featureDataProvider)
+            drawRoutes(routeFeatureData)
+        }
     }
 
     fun reinitializeWithRoutes(directionsRoutes: List<DirectionsRoute>) {
@@ -588,6 +600,7 @@ internal class MapRouteLine(
             alternativesVisible = directionsRoutes.size > 1
             allLayersAreVisible = true
             routeFeatureData.addAll(getRouteFeatureData())
+            routeSegmentIndex = null
             drawWayPoints()
             updateAlternativeLayersVisibility(alternativesVisible, routeLayerIds)
             updateAllLayersVisibility(allLayersAreVisible)
@@ -606,6 +619,7 @@ internal class MapRouteLine(
             clear()
             addAll(listOf(partitionedRoutes.first, partitionedRoutes.second).flatten())
         }
+        routeSegmentIndex = null
         drawRoutes(routeFeatureData)
     }
 
@@ -701,15 +715,12 @@ internal class MapRouteLine(
     }
 
     /**
-     * The map will be queried for a route line feature at the target point or a bounding box
-     * centered at the target point with a padding value determining the box's size. If a route
-     * feature is found the index of that route in this class's route collection is returned. The
-     * primary route is given precedence if more than one route is found.
+     * Finds the route closest to the target point, within the padding converted to meters at the
+     * current zoom level. The primary route is given precedence if it is within the padding.
      *
      * @param target a target latitude/longitude serving as the search point
-     * @param mapboxMap a reference to the MapboxMap that will be queried
-     * @param padding a sizing value added to all sides of the target point  for creating a bounding
-     * box to search in.
+     * @param mapboxMap a reference to the MapboxMap providing the current projection
+     * @param padding the maximum distance in pixels between the target point and a route
      *
      * @return the index of the route in this class's route collection or -1 if no routes found.
      */
@@ -718,59 +729,52 @@ internal class MapRouteLine(
         mapboxMap: MapboxMap,
         padding: Float
     ): Int {
-        val mapClickPointF = mapboxMap.projection.toScreenLocation(target)
-        val leftFloat = (mapClickPointF.x - padding)
-        val rightFloat = (mapClickPointF.x + padding)
-        val topFloat = (mapClickPointF.y - padding)
-        val bottomFloat = (mapClickPointF.y + padding)
-        val clickRectF = RectF(leftFloat, topFloat, rightFloat, bottomFloat)
-
-        val featureIndex = queryMapForFeatureIndex(
-            mapboxMap,
-            mapClickPointF,
-            clickRectF,
-            listOf(PRIMARY_ROUTE_LAYER_ID, PRIMARY_ROUTE_CASING_LAYER_ID)
+        val metersPerPixel = mapboxMap.projection.getMetersPerPixelAtLatitude(target.latitude)
+        return findClosestRoute(
+            Point.fromLngLat(target.longitude, target.latitude),
+            padding * metersPerPixel
         )
+    }
 
-        if (featureIndex >= 0) {
-            return featureIndex
-        }
-
-        return queryMapForFeatureIndex(
-            mapboxMap,
-            mapClickPointF,
-            clickRectF,
-            listOf(ALTERNATIVE_ROUTE_LAYER_ID, ALTERNATIVE_ROUTE_CASING_LAYER_ID)
-        )
+    /**
+     * Finds the route closest to the target point. The primary route is given precedence if it is
+     * within the distance.
+     *
+     * @param target a point serving as the search point
+     * @param maxDistanceMeters the maximum distance between the target point and a route
+     *
+     * @return the index of the route in this class's route collection or -1 if no routes found.
+     */
+    fun findClosestRoute(target: Point, maxDistanceMeters: Double): Int {
+        val primaryRouteIndex = routeFeatureData.indexOfFirst { it.route == primaryRoute }
+        val index = retrieveRouteSegmentIndex()
+        return index.findClosestRoute(target, maxDistanceMeters) { it == primaryRouteIndex }
+            ?.routeIndex
+            ?: index.findClosestRoute(target, maxDistanceMeters) { it != primaryRouteIndex }
+                ?.routeIndex
+            ?: -1
     }
 
-    private fun queryMapForFeatureIndex(
-        mapboxMap: MapboxMap,
-        mapClickPointF: PointF,
-        clickRectF: RectF,
-        layerIds: List<String>
-    ): Int {
-        val featureIndex = mapboxMap.queryRenderedFeatures(
-            mapClickPointF,
-            *layerIds.toTypedArray()
-        ).run { getIndexOfFirstFeature(this) }
-
-        return when (featureIndex >= 0) {
-            true -> featureIndex
-            false -> mapboxMap.queryRenderedFeatures(
-                clickRectF,
-                *layerIds.toTypedArray()
-            ).run { getIndexOfFirstFeature(this) }
-        }
+    /**
+     * Finds the alternative route closest to the target point, e.g. to detect the fork the
+     * current location is approaching.
+     *
+     * @param target a point serving as the search point
+     * @param maxDistanceMeters the maximum distance between the target point and a route
+     *
+     * @return the closest alternative route or null if none is within the distance.
+     */
+    fun findClosestAlternativeRoute(target: Point, maxDistanceMeters: Double): DirectionsRoute? {
+        val primaryRouteIndex = routeFeatureData.indexOfFirst { it.route == primaryRoute }
+        return retrieveRouteSegmentIndex()
+            .findClosestRoute(target, maxDistanceMeters) { it != primaryRouteIndex }
+            ?.let { routeFeatureData[it.routeIndex].route }
     }
 
-    private fun getIndexOfFirstFeature(features: List<Feature>): Int {
-        return features.distinct().run {
-            routeFeatureData.indexOfFirst {
-                it.featureCollection.features()?.get(0) ?.id() ?: 0 == this.firstOrNull()?.id()
-            }
+    private fun retrieveRouteSegmentIndex(): RouteSegmentIndex =
+        routeSegmentIndex ?: RouteSegmentIndex(routeFeatureData.map { it.lineString }).also {
+            routeSegmentIndex = it
         }
-    }
 
     private fun getIdentifiableRouteFeatureDataProvider(directionsRoutes: List<IdentifiableRoute>):
         () -> List<RouteFeatureData> = {
@@ -992,6 +996,7 @@ internal class MapRouteLine(
         primaryRoute = null
         directionsRoutes.clear()
         routeFeatureData.clear()
+        routeSegmentIndex = null
         routeLineExpressionData.clear()
         setPrimaryRoutesSource(FeatureCollection.fromFeatures(arrayOf()))
         setAlternativeRoutesSource(FeatureCollection.fromFeatures(arrayOf()))
@@ -1000,7 +1005,7 @@ internal class MapRouteLine(
 
     private fun setPrimaryRoutesSource(featureCollection: FeatureCollection) {
         drawnPrimaryRouteFeatureCollection = featureCollection
-        primaryRouteLineSource.setGeoJson(drawnPrimaryRouteFeatureCollection)
+        sourceUpdater.update(primaryRouteLineSource, drawnPrimaryRouteFeatureCollection)
     }
 
     /**
@@ -1041,12 +1046,12 @@ internal class MapRouteLine(
 
     private fun setAlternativeRoutesSource(featureCollection: FeatureCollection) {
         drawnAlternativeRouteFeatureCollection = featureCollection
-        alternativeRouteLineSource.setGeoJson(drawnAlternativeRouteFeatureCollection)
+        sourceUpdater.update(alternativeRouteLineSource, drawnAlternativeRouteFeatureCollection)
     }
 
     private fun setWaypointsSource(featureCollection: FeatureCollection) {
         drawnWaypointsFeatureCollection = featureCollection
-        wayPointSource.setGeoJson(drawnWaypointsFeatureCollection)
+        sourceUpdater.update(wayPointSource, drawnWaypointsFeatureCollection)
     }
 
     private fun updateAlternativeLayersVisibility(
@@ -40,6 +40,7 @@ import static com.mapbox.navigation.ui.internal.route.RouteConstants.DEFAULT_ROU
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.LAYER_ABOVE_UPCOMING_MANEUVER_ARROW;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.DEFAULT_ROUTE_SOURCES_MAX_ZOOM;
 import static com.mapbox.navigation.ui.internal.route.RouteConstants.DEFAULT_ROUTE_SOURCES_TOLERANCE;
+import static com.mapbox.navigation.ui.internal.route.RouteConstants.DEFAULT_MANEUVER_ARROW_COUNT;
 import static com.mapbox.navigation.ui.route.MapboxRouteLayerProviderFactory.getLayerProvider;
 
 /**
@@ -87,6 +88,9 @@ public class NavigationMapRoute implements LifecycleObserver {
   private OnRouteSelectionChangeListener onRouteSelectionChangeListener;
   private int sourceMaxZoom;
   private float sourceTolerance;
+  private int maneuverArrowCount = DEFAULT_MANEUVER_ARROW_COUNT;
+  @NonNull
+  private final GeoJsonSourceUpdater sourceUpdater = new GeoJsonSourceUpdater();
 
   /**
    * Construct an instance of {@link NavigationMapRoute}.
@@ -113,7 +117,8 @@ public class NavigationMapRoute implements LifecycleObserver {
       long vanishingRouteLineUpdateIntervalNano,
       float routeClickPadding,
       int sourceMaxZoom,
-      float sourceTolerance) {
+      float sourceTolerance,
+      int maneuverArrowCount) {
     this.routeStyleDescriptors = routeStyleDescriptors;
     this.vanishRouteLineEnabled = vanishRouteLineEnabled;
     this.vanishingRouteLineUpdateIntervalNano = vanishingRouteLineUpdateIntervalNano;
@@ -133,7 +138,8 @@ public class NavigationMapRoute implements LifecycleObserver {
             sourceTolerance
     );
     this.routeArrow = new MapRouteArrow(
-        mapView, mapboxMap, styleRes, LAYER_ABOVE_UPCOMING_MANEUVER_ARROW, sourceMaxZoom, sourceTolerance
+        mapView, mapboxMap, styleRes, LAYER_ABOVE_UPCOMING_MANEUVER_ARROW, sourceMaxZoom, sourceTolerance,
+        maneuverArrowCount, sourceUpdater
     );
     this.routeClickPadding = routeClickPadding;
     this.mapRouteProgressChangeListener = buildMapRouteProgressChangeListener();
@@ -141,6 +147,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.lifecycleOwner = lifecycleOwner;
     this.sourceMaxZoom = sourceMaxZoom;
     this.sourceTolerance = sourceTolerance;
+    this.maneuverArrowCount = maneuverArrowCount;
     initializeDidFinishLoadingStyleListener();
     registerLifecycleObserver();
   }
@@ -290,6 +297,19 @@ public class NavigationMapRoute implements LifecycleObserver {
     routeLine.toggleAlternativeVisibilityWith(alternativesVisible);
   }
 
+  /**
+   * Finds the alternative route closest to the point, for example to detect the fork that the
+   * current location is approaching.
+   *
+   * @param point the point to measure the distance from
+   * @param maxDistanceMeters the maximum distance between the point and an alternative route
+   * @return the closest alternative route, or null if none is within the distance
+   */
+  @Nullable
+  public DirectionsRoute findClosestAlternativeRoute(@NonNull Point point, double maxDistanceMeters) {
+    return routeLine.findClosestAlternativeRoute(point, maxDistanceMeters);
+  }
+
   /**
    * This method will allow this class to listen to route progress and adapt the route line
    * whenever {@link com.mapbox.navigation.core.trip.session.TripSessionState#STARTED}.
@@ -331,6 +351,16 @@ public class NavigationMapRoute implements LifecycleObserver {
     }
   }
 
+  /**
+   * Returns the counters of the route line and arrow uploads to the map.
+   *
+   * @return upload statistics
+   */
+  @NonNull
+  public RouteSourceUpdateStats retrieveRouteSourceUpdateStats() {
+    return sourceUpdater.retrieveStats();
+  }
+
   /**
    * Can be used to manually update the route progress.
    * <p>
@@ -404,7 +434,8 @@ public class NavigationMapRoute implements LifecycleObserver {
         new MapRouteSourceProvider(),
         routeLineInitializedCallback,
         sourceMaxZoom,
-        sourceTolerance
+        sourceTolerance,
+        sourceUpdater
     );
   }
 
@@ -460,7 +491,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     recreateRouteLine(style);
     boolean arrowVisibility = routeArrow.routeArrowIsVisible();
     routeArrow = new MapRouteArrow(mapView, mapboxMap, styleRes, routeLine.getTopLayerId(),
-        sourceMaxZoom, sourceTolerance);
+        sourceMaxZoom, sourceTolerance, maneuverArrowCount, sourceUpdater);
     routeArrow.updateVisibilityTo(arrowVisibility);
     updateProgressChangeListener();
   }
@@ -486,7 +517,8 @@ public class NavigationMapRoute implements LifecycleObserver {
         vanishingPointOffset,
         routeLineInitializedCallback,
         sourceMaxZoom,
-        sourceTolerance
+        sourceTolerance,
+        sourceUpdater
     );
   }
 
@@ -543,6 +575,7 @@ public class NavigationMapRoute implements LifecycleObserver {
         DEFAULT_VANISHING_POINT_MIN_UPDATE_INTERVAL_NANO;
     private int sourceMaxZoom = DEFAULT_ROUTE_SOURCES_MAX_ZOOM;
     private float sourceTolerance = DEFAULT_ROUTE_SOURCES_TOLERANCE;
+    private int maneuverArrowCount = DEFAULT_MANEUVER_ARROW_COUNT;
 
     /**
      * Instantiates a new Builder.
@@ -693,6 +726,20 @@ public class NavigationMapRoute implements LifecycleObserver {
       return this;
     }
 
+    /**
+     * Number of maneuvers ahead of the current position an arrow is drawn for, on the current leg.
+     *
+     * Defaults to 1, the upcoming maneuver only.
+     *
+     * @param maneuverArrowCount number of maneuvers an arrow is drawn for, greater than 0
+     * @return the builder
+     */
+    @NonNull
+    public Builder withManeuverArrowCount(int maneuverArrowCount) {
+      this.maneuverArrowCount = maneuverArrowCount;
+      return this;
+    }
+
     /**
      * Build an instance of {@link NavigationMapRoute}
      */
@@ -711,7 +758,8 @@ public class NavigationMapRoute implements LifecycleObserver {
           vanishingRouteLineUpdateIntervalNano,
           routeClickPadding,
           sourceMaxZoom,
-          sourceTolerance
+          sourceTolerance,
+          maneuverArrowCount
       );
     }
   }
@@ -0,0 +1,152 @@
+package com.mapbox.navigation.ui.route
+
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import kotlin.math.cos
+import kotlin.math.floor
+import kotlin.math.hypot
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Spatial index of the segments of a set of route lines.
+ *
+ * Each segment is bucketed in the cells of a regular grid that its bounding box overlaps, so that
+ * a query only measures the distance to the segments around the target point instead of walking
+ * every route geometry. The index is immutable, build a new one when the routes change.
+ *
+ * @param lineStrings geometries of the routes, queries return the position of a route in this list
+ */
+internal class RouteSegmentIndex(lineStrings: List<LineString>) {
+
+    private val cells = HashMap<Long, MutableList<RouteSegment>>()
+
+    init {
+        lineStrings.forEachIndexed { routeIndex, lineString ->
+            val coordinates = lineString.coordinates()
+            if (coordinates.size == 1) {
+                addSegment(RouteSegment(routeIndex, coordinates[0], coordinates[0]))
+            }
+            for (i in 1 until coordinates.size) {
+                addSegment(RouteSegment(routeIndex, coordinates[i - 1], coordinates[i]))
+            }
+        }
+    }
+
+    /**
+     * Finds the route closest to the target point.
+     *
+     * @param target point to measure the distance from
+     * @param maxDistanceMeters routes farther than this from the target are ignored
+     * @param routeFilter returns true for the positions of the routes to consider
+     *
+     * @return the closest route or null if no route is within the distance
+     */
+    fun findClosestRoute(
+        target: Point,
+        maxDistanceMeters: Double,
+        routeFilter: (Int) -> Boolean = { true }
+    ): RouteSegmentHit? {
+        check(maxDistanceMeters >= 0) {
+            "maxDistanceMeters must be greater than or equal to 0: $maxDistanceMeters"
+        }
+        val metersPerDegreeLongitude =
+            METERS_PER_DEGREE * max(cos(Math.toRadians(target.latitude())), MIN_LATITUDE_COSINE)
+        val latitudeRadius = maxDistanceMeters / METERS_PER_DEGREE
+        val longitudeRadius = maxDistanceMeters / metersPerDegreeLongitude
+        val minCellX = cellOf(target.longitude() - longitudeRadius)
+        val maxCellX = cellOf(target.longitude() + longitudeRadius)
+        val minCellY = cellOf(target.latitude() - latitudeRadius)
+        val maxCellY = cellOf(target.latitude() + latitudeRadius)
+
+        var closest: RouteSegmentHit? = null
+        val visit: (List<RouteSegment>) -> Unit = { segments ->
+            segments.forEach { segment ->
+                if (routeFilter(segment.routeIndex)) {
+                    val distance = segment.distanceMeters(target, metersPerDegreeLongitude)
+                    if (distance <= maxDistanceMeters &&
+                        (closest == null || distance < closest!!.distanceMeters)
+                    ) {
+                        closest = RouteSegmentHit(segment.routeIndex, distance)
+                    }
+                }
+            }
+        }
+        val cellCount = (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1)
+        if (cellCount > cells.size) {
+            cells.values.forEach(visit)
+        } else {
+            for (x in minCellX..maxCellX) {
+                for (y in minCellY..maxCellY) {
+                    cells[cellKey(x, y)]?.let(visit)
+                }
+            }
+        }
+        return closest
+    }
+
+    private fun addSegment(segment: RouteSegment) {
+        val minCellX = cellOf(min(segment.startLongitude, segment.endLongitude))
+        val maxCellX = cellOf(max(segment.startLongitude, segment.endLongitude))
+        val minCellY = cellOf(min(segment.startLatitude, segment.endLatitude))
+        val maxCellY = cellOf(max(segment.startLatitude, segment.endLatitude))
+        for (x in minCellX..maxCellX) {
+            for (y in minCellY..maxCellY) {
+                cells.getOrPut(cellKey(x, y)) { mutableListOf() }.add(segment)
+            }
+        }
+    }
+
+    private fun cellOf(degrees: Double): Long = floor(degrees / CELL_SIZE_DEGREES).toLong()
+
+    private fun cellKey(x: Long, y: Long): Long = (x shl Int.SIZE_BITS) or (y and CELL_MASK)
+
+    private class RouteSegment(
+        val routeIndex: Int,
+        start: Point,
+        end: Point
+    ) {
+        val startLongitude = start.longitude()
+        val startLatitude = start.latitude()
+        val endLongitude = end.longitude()
+        val endLatitude = end.latitude()
+
+        /**
+         * Distance to the target on a plane tangent to the earth at the target, which is accurate
+         * at the scale of a click or of a fork.
+         */
+        fun distanceMeters(target: Point, metersPerDegreeLongitude: Double): Double {
+            val startX = (startLongitude - target.longitude()) * metersPerDegreeLongitude
+            val startY = (startLatitude - target.latitude()) * METERS_PER_DEGREE
+            val endX = (endLongitude - target.longitude()) * metersPerDegreeLongitude
+            val endY = (endLatitude - target.latitude()) * METERS_PER_DEGREE
+            val segmentX = endX - startX
+            val segmentY = endY - startY
+            val lengthSquared = segmentX * segmentX + segmentY * segmentY
+            val fraction = if (lengthSquared == 0.0) {
+                0.0
+            } else {
+                ((-startX * segmentX - startY * segmentY) / lengthSquared).coerceIn(0.0, 1.0)
+            }
+            return hypot(startX + fraction * segmentX, startY + fraction * segmentY)
+        }
+    }
+
+    private companion object {
+        private const val CELL_SIZE_DEGREES = 0.005
+        private const val CELL_MASK = 0xFFFFFFFFL
+        private const val METERS_PER_DEGREE = 111_319.49
+        private const val MIN_LATITUDE_COSINE = 0.01
+    }
+}
+
+/**
+ * Route found by a [RouteSegmentIndex] query.
+ *
+ * @param routeIndex position of the route in the indexed routes
+ * @param distanceMeters distance between the route and the target point
+ */
+internal data class RouteSegmentHit(
+    val routeIndex: Int,
+    val distanceMeters: Double
+)
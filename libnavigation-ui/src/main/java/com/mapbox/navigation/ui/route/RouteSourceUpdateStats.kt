@@ -0,0 +1,17 @@
+package com.mapbox.navigation.ui.route
+
+/**
+ * Counters of the uploads of route line and arrow features to the map by [NavigationMapRoute].
+ * Features are counted rather than bytes, since the map serializes the collections itself.
+ *
+ * @param uploads number of feature collections uploaded to the map
+ * @param uploadedFeatures number of features in the uploaded collections
+ * @param skips number of collections not uploaded because they were equal to the last upload
+ * @param coalesced number of collections replaced by a later one before they were uploaded
+ */
+data class RouteSourceUpdateStats(
+    val uploads: Long,
+    val uploadedFeatures: Long,
+    val skips: Long,
+    val coalesced: Long
+)
@@ -23,6 +23,7 @@ import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleObserver;
 import androidx.lifecycle.LifecycleOwner;
 import androidx.lifecycle.OnLifecycleEvent;
+import androidx.lifecycle.Transformations;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.mapbox.navigation.ui.R;
@@ -34,9 +35,12 @@ import com.mapbox.navigation.core.internal.formatter.MapboxDistanceFormatter;
 import com.mapbox.navigation.core.trip.session.RouteProgressObserver;
 import com.mapbox.navigation.core.Rounding;
 import com.mapbox.navigation.ui.NavigationViewModel;
+import com.mapbox.navigation.ui.NavigationViewModelStream;
 import com.mapbox.navigation.ui.internal.utils.ViewUtils;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import static com.mapbox.navigation.base.internal.extensions.LocaleEx.getUnitTypeForLocale;
@@ -52,6 +56,7 @@ import static com.mapbox.navigation.base.TimeFormat.NONE_SPECIFIED;
 public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver {
 
   private static final String EMPTY_STRING = "";
+  private static final long SUMMARY_REFRESH_INTERVAL_IN_MILLIS = 1000L;
   private TextView distanceRemainingText;
   private TextView timeRemainingText;
   private TextView arrivalTimeText;
@@ -72,6 +77,8 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
   @Nullable
   private DistanceFormatter distanceFormatter;
   private NavigationViewModel navigationViewModel;
+  @Nullable
+  private NavigationViewModelStream<SummaryInput, SummaryModel> summaryStream;
   private LifecycleOwner lifecycleOwner;
 
   public SummaryBottomSheet(@NonNull Context context) {
@@ -113,7 +120,13 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
     lifecycleOwner.getLifecycle().addObserver(this);
     this.navigationViewModel = navigationViewModel;
 
-    navigationViewModel.retrieveRouteProgress().observe(lifecycleOwner, this::update);
+    summaryStream = new NavigationViewModelStream<>(
+        Transformations.map(navigationViewModel.retrieveRouteProgress(), this::captureSummaryInput),
+        SUMMARY_REFRESH_INTERVAL_IN_MILLIS,
+        this::buildSummaryModel,
+        this::buildSummaryKey
+    );
+    summaryStream.observe(lifecycleOwner, this::updateSummary);
     navigationViewModel.retrieveIsOffRoute().observe(lifecycleOwner, isOffRoute -> {
       if (isOffRoute != null) {
         isRerouting = isOffRoute;
@@ -134,9 +147,11 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
   @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
   public void unsubscribe() {
     if (navigationViewModel != null) {
-      navigationViewModel.retrieveRouteProgress().removeObservers(lifecycleOwner);
       navigationViewModel.retrieveIsOffRoute().removeObservers(lifecycleOwner);
     }
+    if (summaryStream != null) {
+      summaryStream.removeObservers(lifecycleOwner);
+    }
   }
 
   /**
@@ -151,9 +166,7 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
       @SuppressLint("WrongConstant")
       SummaryModel model = SummaryModel.create(getContext().getApplicationContext(),
         distanceFormatter, routeProgress, timeFormatType);
-      arrivalTimeText.setText(model.getArrivalTime());
-      timeRemainingText.setText(model.getTimeRemaining());
-      distanceRemainingText.setText(model.getDistanceRemaining());
+      updateSummary(model);
     }
   }
 
@@ -175,6 +188,9 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
    */
   public void hideRerouteState() {
     rerouteProgressBar.setVisibility(INVISIBLE);
+    if (summaryStream != null) {
+      summaryStream.invalidate();
+    }
   }
 
   /**
@@ -198,6 +214,46 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
     }
   }
 
+  /**
+   * Runs on the main thread for every route progress, so that the formatting options written by
+   * {@link #setTimeFormat(int)} and {@link #setDistanceFormatter(DistanceFormatter)} are only
+   * read on the main thread.
+   */
+  @NonNull
+  private SummaryInput captureSummaryInput(@NonNull RouteProgress routeProgress) {
+    return new SummaryInput(getContext().getApplicationContext(), routeProgress,
+      distanceFormatter, timeFormatType);
+  }
+
+  /**
+   * Runs off the main thread, the summary is refreshed once per
+   * {@link #SUMMARY_REFRESH_INTERVAL_IN_MILLIS} at most.
+   */
+  @SuppressLint("WrongConstant")
+  @NonNull
+  private SummaryModel buildSummaryModel(@NonNull SummaryInput input) {
+    return SummaryModel.create(input.context, input.distanceFormatter, input.routeProgress,
+      input.timeFormatType);
+  }
+
+  /**
+   * The views are only laid out again when one of the texts changes.
+   */
+  @NonNull
+  private List<String> buildSummaryKey(@NonNull SummaryModel model) {
+    return Arrays.asList(
+      model.getArrivalTime(), model.getTimeRemaining().toString(), model.getDistanceRemaining()
+    );
+  }
+
+  private void updateSummary(@Nullable SummaryModel model) {
+    if (model != null && !isRerouting) {
+      arrivalTimeText.setText(model.getArrivalTime());
+      timeRemainingText.setText(model.getTimeRemaining());
+      distanceRemainingText.setText(model.getDistanceRemaining());
+    }
+  }
+
   private void initAttributes(AttributeSet attributeSet) {
     TypedArray typedArray =
         getContext().obtainStyledAttributes(attributeSet, R.styleable.MapboxStyleSummaryBottomSheet);
@@ -294,4 +350,27 @@ public class SummaryBottomSheet extends FrameLayout implements LifecycleObserver
     timeRemainingText.setText(EMPTY_STRING);
     distanceRemainingText.setText(EMPTY_STRING);
   }
+
+  /**
+   * Route progress and the formatting options captured on the main thread when it was received.
+   */
+  private static final class SummaryInput {
+
+    @NonNull
+    private final Context context;
+    @NonNull
+    private final RouteProgress routeProgress;
+    @Nullable
+    private final DistanceFormatter distanceFormatter;
+    @TimeFormat.Type
+    private final int timeFormatType;
+
+    SummaryInput(@NonNull Context context, @NonNull RouteProgress routeProgress,
+                 @Nullable DistanceFormatter distanceFormatter, @TimeFormat.Type int timeFormatType) {
+      this.context = context;
+      this.routeProgress = routeProgress;
+      this.distanceFormatter = distanceFormatter;
+      this.timeFormatType = timeFormatType;
+    }
+  }
 }
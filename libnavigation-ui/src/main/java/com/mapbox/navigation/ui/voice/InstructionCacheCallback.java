@@ -2,6 +2,9 @@ package com.mapbox.navigation.ui.voice;
 
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
 
 import okhttp3.ResponseBody;
 import retrofit2.Call;
@@ -12,14 +15,37 @@ import timber.log.Timber;
 class InstructionCacheCallback implements Callback<ResponseBody> {
 
   private final VoiceInstructionLoader loader;
+  @Nullable
+  private final String instruction;
+  @Nullable
+  private final String textType;
 
   InstructionCacheCallback(VoiceInstructionLoader loader) {
+    this(loader, null, null);
+  }
+
+  /**
+   * @param instruction if not null, the response is written to the voice instruction disk cache
+   */
+  InstructionCacheCallback(VoiceInstructionLoader loader, @Nullable String instruction, @Nullable String textType) {
     this.loader = loader;
+    this.instruction = instruction;
+    this.textType = textType;
   }
 
   @Override
   public void onResponse(@NonNull Call<ResponseBody> call, @NonNull Response<ResponseBody> response) {
-    if (closeResponseBody(response)) {
+    ResponseBody body = response.body();
+    if (body != null && instruction != null && textType != null) {
+      String url = call.request().url().toString();
+      loader.addCachedUrl(url);
+      loader.cacheInstruction(instruction, textType, body, new VoiceInstructionDiskCache.Callback() {
+        @Override
+        public void onCached(@Nullable File file) {
+          // prefetched, it will be played from the cache
+        }
+      });
+    } else if (closeResponseBody(response)) {
       String url = call.request().url().toString();
       loader.addCachedUrl(url);
     }
@@ -1,8 +1,7 @@
 package com.mapbox.navigation.ui.voice;
 
-import android.content.Context;
 import android.media.MediaPlayer;
-import android.os.AsyncTask;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
@@ -12,8 +11,6 @@ import androidx.core.util.Pair;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -27,21 +24,32 @@ import timber.log.Timber;
 /**
  * <p>
  * Will retrieve synthesized speech mp3s from Mapbox's API Voice.
+ * Instructions are played from the voice instruction disk cache, instructions which
+ * were not prefetched are downloaded into it.
+ * </p>
+ * <p>
+ * Two {@link MediaPlayer}s are reused for all the announcements: one plays the current announcement
+ * while the other one is prepared with the next instruction to be announced, so that it starts
+ * playing without being decoded when it is triggered.
  * </p>
  */
-class MapboxSpeechPlayer implements SpeechPlayer {
+class MapboxSpeechPlayer implements SpeechPlayer, VoiceInstructionLoader.UpcomingInstructionListener {
 
-  private static final String MAPBOX_INSTRUCTION_CACHE = "mapbox_instruction_cache";
   private static final String ERROR_TEXT = "Unable to set data source for the media mediaPlayer! %s";
   private static final VoiceInstructionMap VOICE_INSTRUCTION_MAP = new VoiceInstructionMap();
-  private static final String MP3_POSTFIX = "mp3";
 
   @Nullable
   private VoiceInstructions announcement;
   private VoiceListener voiceListener;
+  @Nullable
   private MediaPlayer mediaPlayer;
-  private Queue<File> instructionQueue;
-  private File mapboxCache;
+  @Nullable
+  private MediaPlayer standbyPlayer;
+  @Nullable
+  private File standbyInstruction;
+  private boolean isStandbyPrepared;
+  private long triggeredAtMillis;
+  private Queue<QueuedInstruction> instructionQueue;
   private boolean isPlaying;
   private boolean isMuted;
   private VoiceInstructionLoader voiceInstructionLoader;
@@ -49,15 +57,13 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   /**
    * Construct an instance of {@link MapboxSpeechPlayer}
    *
-   * @param context                to setup the caches
    * @param voiceInstructionLoader voice instruction loader
    */
-  MapboxSpeechPlayer(@NonNull Context context, @NonNull VoiceListener voiceListener,
-                     VoiceInstructionLoader voiceInstructionLoader) {
+  MapboxSpeechPlayer(@NonNull VoiceListener voiceListener, VoiceInstructionLoader voiceInstructionLoader) {
     this.voiceListener = voiceListener;
     this.voiceInstructionLoader = voiceInstructionLoader;
-    setupCaches(context);
-    instructionQueue = new ConcurrentLinkedQueue();
+    instructionQueue = new ConcurrentLinkedQueue<>();
+    voiceInstructionLoader.setUpcomingInstructionListener(this);
   }
 
   /**
@@ -95,12 +101,31 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   @Override
   public void onDestroy() {
     stopMediaPlayerPlaying();
+    voiceInstructionLoader.setUpcomingInstructionListener(null);
+    releasePlayers();
     voiceInstructionLoader.flushCache();
   }
 
-  private void setupCaches(@NonNull Context context) {
-    mapboxCache = new File(context.getCacheDir(), MAPBOX_INSTRUCTION_CACHE);
-    mapboxCache.mkdirs();
+  /**
+   * Prepares the next instruction to be announced on the standby player.
+   *
+   * @param file cached file of the next instruction to be announced
+   */
+  @Override
+  public void onUpcomingInstructionCached(@NonNull File file) {
+    if (isMuted || file.equals(standbyInstruction)) {
+      return;
+    }
+    standbyInstruction = null;
+    isStandbyPrepared = false;
+    if (standbyPlayer == null) {
+      standbyPlayer = createMediaPlayer();
+    } else {
+      standbyPlayer.reset();
+    }
+    if (prepare(standbyPlayer, file)) {
+      standbyInstruction = file;
+    }
   }
 
   private void playAnnouncementTextAndTypeFrom(@NonNull VoiceInstructions announcement) {
@@ -125,22 +150,42 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     if (isPlaying) {
       isPlaying = false;
       mediaPlayer.stop();
-      mediaPlayer.release();
+      mediaPlayer.reset();
       voiceListener.onDone(SpeechPlayerState.IDLE);
     }
   }
 
-  private void downloadVoiceFile(final String instruction, String textType) {
+  private void releasePlayers() {
+    if (mediaPlayer != null) {
+      mediaPlayer.release();
+      mediaPlayer = null;
+    }
+    if (standbyPlayer != null) {
+      standbyPlayer.release();
+      standbyPlayer = null;
+    }
+    standbyInstruction = null;
+    isStandbyPrepared = false;
+  }
+
+  private void downloadVoiceFile(final String instruction, final String textType) {
     boolean isInvalidInstruction = TextUtils.isEmpty(instruction);
     if (isMuted || isInvalidInstruction) {
       return;
     }
 
+    final long triggeredAtMillis = SystemClock.elapsedRealtime();
+    File cachedInstruction = voiceInstructionLoader.retrieveCachedInstruction(instruction, textType);
+    if (cachedInstruction != null) {
+      onInstructionReady(new QueuedInstruction(cachedInstruction, triggeredAtMillis));
+      return;
+    }
+
     voiceInstructionLoader.requestInstruction(instruction, textType, new Callback<ResponseBody>() {
       @Override
       public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
-        if (response.isSuccessful()) {
-          executeInstructionTask(response.body());
+        if (response.isSuccessful() && response.body() != null) {
+          cacheInstruction(instruction, textType, response.body(), triggeredAtMillis);
         } else {
           try {
             onError(response.errorBody().string());
@@ -161,28 +206,54 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     voiceListener.onError(errorText, announcement);
   }
 
-  private void playInstruction(@NonNull File instruction) {
-    setupMediaPlayer(instruction);
+  private void playInstruction(@NonNull QueuedInstruction instruction) {
+    triggeredAtMillis = instruction.triggeredAtMillis;
+    if (standbyPlayer != null && instruction.file.equals(standbyInstruction)) {
+      playStandbyPlayer();
+      return;
+    }
+
+    if (mediaPlayer == null) {
+      mediaPlayer = createMediaPlayer();
+    } else {
+      mediaPlayer.reset();
+    }
+    prepare(mediaPlayer, instruction.file);
   }
 
-  private void setupMediaPlayer(@NonNull File instruction) {
+  /**
+   * Swaps the players, the standby player starts right away if it is prepared, or as soon as
+   * it is. The previous player becomes the standby one.
+   */
+  private void playStandbyPlayer() {
+    MediaPlayer previousPlayer = mediaPlayer;
+    mediaPlayer = standbyPlayer;
+    standbyPlayer = previousPlayer;
+    standbyInstruction = null;
+    if (standbyPlayer != null) {
+      standbyPlayer.reset();
+    }
+    if (isStandbyPrepared) {
+      isStandbyPrepared = false;
+      startPlaying(mediaPlayer, true);
+    }
+  }
+
+  private boolean prepare(@NonNull MediaPlayer player, @NonNull File instruction) {
     if (!instruction.canRead()) {
       String msg = "Cannot read file " + instruction.getAbsolutePath();
       Timber.e(ERROR_TEXT, msg);
-      return;
+      return false;
     }
 
-    try (FileInputStream fis = new FileInputStream(instruction)) {
-      mediaPlayer = new MediaPlayer();
-      setDataSource(fis);
-      mediaPlayer.prepareAsync();
-      addListeners();
-    } catch (FileNotFoundException ex) {
-      String msg = "Instructions file not found for " + instruction.getAbsolutePath() + ". " + ex.getMessage();
-      Timber.e(ERROR_TEXT, msg);
-    } catch (IOException ex) {
+    try {
+      player.setDataSource(instruction.getAbsolutePath());
+      player.prepareAsync();
+      return true;
+    } catch (IOException | IllegalStateException ex) {
       String msg = "Error for " + instruction.getAbsolutePath() + ". " + ex.getMessage();
       Timber.e(ERROR_TEXT, msg);
+      return false;
     }
   }
 
@@ -193,50 +264,51 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     }
   }
 
-  private void setDataSource(FileInputStream fis) {
-    try {
-      mediaPlayer.setDataSource(fis.getFD());
-    } catch (IOException ioException) {
-      Timber.e(ERROR_TEXT, ioException.getMessage());
-    }
-  }
-
-  private void addListeners() {
-    mediaPlayer.setOnErrorListener(new MediaPlayer.OnErrorListener() {
+  @NonNull
+  private MediaPlayer createMediaPlayer() {
+    MediaPlayer player = new MediaPlayer();
+    player.setOnErrorListener(new MediaPlayer.OnErrorListener() {
       @Override
       public boolean onError(MediaPlayer mp, int what, int extra) {
         Timber.e(ERROR_TEXT, "code_what: " + what + " code_extra: " + extra);
+        if (mp == standbyPlayer) {
+          standbyInstruction = null;
+          isStandbyPrepared = false;
+        }
         return false;
       }
     });
-    mediaPlayer.setOnPreparedListener(new MediaPlayer.OnPreparedListener() {
+    player.setOnPreparedListener(new MediaPlayer.OnPreparedListener() {
       @Override
       public void onPrepared(@NonNull MediaPlayer mp) {
-        voiceListener.onStart(SpeechPlayerState.ONLINE_PLAYING);
-        isPlaying = true;
-        mp.start();
+        if (mp == mediaPlayer) {
+          startPlaying(mp, false);
+        } else if (mp == standbyPlayer) {
+          isStandbyPrepared = true;
+        }
       }
     });
-    mediaPlayer.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
+    player.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
       @Override
       public void onCompletion(@NonNull MediaPlayer mp) {
-        mp.release();
         isPlaying = false;
         voiceListener.onDone(SpeechPlayerState.IDLE);
         onInstructionFinishedPlaying();
       }
     });
+    return player;
   }
 
-  private void onInstructionFinishedPlaying() {
-    deleteLastInstructionPlayed();
-    startNextInstruction();
+  private void startPlaying(@NonNull MediaPlayer player, boolean wasPrepared) {
+    voiceInstructionLoader.onAnnouncementStarted(SystemClock.elapsedRealtime() - triggeredAtMillis, wasPrepared);
+    voiceListener.onStart(SpeechPlayerState.ONLINE_PLAYING);
+    isPlaying = true;
+    player.start();
   }
 
-  private void deleteLastInstructionPlayed() {
-    if (!instructionQueue.isEmpty()) {
-      instructionQueue.poll().delete();
-    }
+  private void onInstructionFinishedPlaying() {
+    instructionQueue.poll();
+    startNextInstruction();
   }
 
   private void startNextInstruction() {
@@ -246,29 +318,42 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void clearInstructionUrls() {
-    while (!instructionQueue.isEmpty()) {
-      instructionQueue.remove().delete();
-    }
+    instructionQueue.clear();
   }
 
-  private void executeInstructionTask(ResponseBody responseBody) {
-    new DownloadTask(mapboxCache.getPath(), MP3_POSTFIX, new DownloadTask.DownloadListener() {
-      @Override
-      public void onFinishedDownloading(@NonNull File instructionFile) {
-        playInstructionIfUpNext(instructionFile);
-        instructionQueue.add(instructionFile);
-      }
+  private void cacheInstruction(String instruction, String textType, @NonNull ResponseBody responseBody,
+                                final long triggeredAtMillis) {
+    voiceInstructionLoader.cacheInstruction(instruction, textType, responseBody,
+      new VoiceInstructionDiskCache.Callback() {
+        @Override
+        public void onCached(@Nullable File file) {
+          if (file == null) {
+            onError("There was an error downloading the voice files.");
+          } else {
+            onInstructionReady(new QueuedInstruction(file, triggeredAtMillis));
+          }
+        }
+      });
+  }
 
-      @Override
-      public void onErrorDownloading() {
-        onError("There was an error downloading the voice files.");
-      }
-    }).executeOnExecutor(AsyncTask.SERIAL_EXECUTOR, responseBody);
+  private void onInstructionReady(@NonNull QueuedInstruction instruction) {
+    playInstructionIfUpNext(instruction);
+    instructionQueue.add(instruction);
   }
 
-  private void playInstructionIfUpNext(@NonNull File instructionFile) {
+  private void playInstructionIfUpNext(@NonNull QueuedInstruction instruction) {
     if (instructionQueue.isEmpty()) {
-      playInstruction(instructionFile);
+      playInstruction(instruction);
+    }
+  }
+
+  private static class QueuedInstruction {
+    final File file;
+    final long triggeredAtMillis;
+
+    QueuedInstruction(File file, long triggeredAtMillis) {
+      this.file = file;
+      this.triggeredAtMillis = triggeredAtMillis;
     }
   }
 }
@@ -137,7 +137,7 @@ public class SpeechPlayerProvider {
     AudioFocusDelegateProvider provider = buildAudioFocusDelegateProvider(context);
     SpeechAudioFocusManager audioFocusManager = new SpeechAudioFocusManager(provider);
     VoiceListener voiceListener = new NavigationVoiceListener(this, audioFocusManager);
-    initializeMapboxSpeechPlayer(context, language, voiceLanguageSupported, voiceListener, voiceInstructionLoader);
+    initializeMapboxSpeechPlayer(language, voiceLanguageSupported, voiceListener, voiceInstructionLoader);
     initializeAndroidSpeechPlayer(context, language, voiceListener);
     this.voiceInstructionLoader = voiceInstructionLoader;
     connectivityStatus = new ConnectivityStatusProvider(context);
@@ -150,7 +150,6 @@ public class SpeechPlayerProvider {
   }
 
   private void initializeMapboxSpeechPlayer(
-          @NonNull Context context,
           String language,
           boolean voiceLanguageSupported,
           @NonNull VoiceListener listener,
@@ -159,7 +158,7 @@ public class SpeechPlayerProvider {
       return;
     }
     voiceInstructionLoader.setupMapboxSpeechBuilder(language);
-    MapboxSpeechPlayer mapboxSpeechPlayer = new MapboxSpeechPlayer(context, listener, voiceInstructionLoader);
+    MapboxSpeechPlayer mapboxSpeechPlayer = new MapboxSpeechPlayer(listener, voiceInstructionLoader);
     speechPlayers.add(mapboxSpeechPlayer);
   }
 
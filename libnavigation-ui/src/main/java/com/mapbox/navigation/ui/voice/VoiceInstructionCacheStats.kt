@@ -0,0 +1,36 @@
+package com.mapbox.navigation.ui.voice
+
+/**
+ * State of the voice instructions cached by [VoiceInstructionLoader].
+ * The loaders of an app share the cache, its hits, misses and size count all of them.
+ *
+ * @param hits number of announcements played from the cache
+ * @param misses number of announcements downloaded when they were played
+ * @param cachedInstructions number of instructions in the cache
+ * @param cachedBytes size of the cache
+ * @param announcements number of announcements which started playing
+ * @param preparedAnnouncements number of announcements which were prepared before being triggered
+ * @param averageLatencyMillis average time between an announcement being triggered and its
+ * audio starting
+ * @param maxLatencyMillis longest time between an announcement being triggered and its
+ * audio starting
+ */
+data class VoiceInstructionCacheStats(
+    val hits: Long,
+    val misses: Long,
+    val cachedInstructions: Int,
+    val cachedBytes: Long,
+    val announcements: Long,
+    val preparedAnnouncements: Long,
+    val averageLatencyMillis: Long,
+    val maxLatencyMillis: Long
+) {
+
+    /**
+     * @return ratio of announcements played from the cache, 0 if none was played
+     */
+    fun hitRate(): Double {
+        val lookups = hits + misses
+        return if (lookups == 0L) 0.0 else hits.toDouble() / lookups
+    }
+}
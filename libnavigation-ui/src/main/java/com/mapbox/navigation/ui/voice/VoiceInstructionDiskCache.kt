@@ -0,0 +1,213 @@
+package com.mapbox.navigation.ui.voice
+
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
+import kotlinx.coroutines.launch
+import okhttp3.ResponseBody
+import timber.log.Timber
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+
+/**
+ * Disk LRU cache of synthesized voice instructions, kept between sessions.
+ *
+ * Files are named after a hash of the instruction text, text type and language, so the same
+ * announcement is only downloaded once across routes. The least recently played files are
+ * deleted when the cache grows over [maxBytes]. Recency is kept in the file modification time.
+ *
+ * Lookups are in memory, files are read, written and deleted on a background thread.
+ *
+ * A cache evicts the files of its directory that it doesn't know about, so there must be
+ * a single cache per directory, use [forDirectory] to get it.
+ *
+ * @param directory where the voice instructions are stored
+ * @param maxBytes size budget of the cache
+ */
+internal class VoiceInstructionDiskCache @JvmOverloads constructor(
+    private val directory: File,
+    private val maxBytes: Long,
+    private val ioJobControl: JobControl = ThreadController.getIOScopeAndRootJob(),
+    private val mainJobControl: JobControl = ThreadController.getMainScopeAndRootJob()
+) {
+
+    private var entries = LinkedHashMap<String, Long>(INITIAL_CAPACITY, LOAD_FACTOR, true)
+    private var sizeBytes = 0L
+
+    /**
+     * Number of lookups which found the instruction cached.
+     */
+    @get:Synchronized
+    var hitCount = 0L
+        private set
+
+    /**
+     * Number of lookups which didn't find the instruction cached.
+     */
+    @get:Synchronized
+    var missCount = 0L
+        private set
+
+    init {
+        ioJobControl.scope.launch { load() }
+    }
+
+    /**
+     * @return the cached file of the instruction, or null if it isn't cached
+     */
+    @Synchronized
+    fun get(key: String): File? {
+        if (entries[key] == null) {
+            missCount++
+            return null
+        }
+        hitCount++
+        val file = fileOf(key)
+        ioJobControl.scope.launch {
+            file.setLastModified(System.currentTimeMillis())
+        }
+        return file
+    }
+
+    /**
+     * @return true if the instruction is cached, doesn't count as a lookup
+     */
+    @Synchronized
+    fun contains(key: String): Boolean = entries.containsKey(key)
+
+    /**
+     * @return the cached file of the instruction, or null if it isn't cached. Doesn't count as
+     * a lookup and doesn't make the instruction recently used.
+     */
+    @Synchronized
+    fun peek(key: String): File? = if (entries.containsKey(key)) fileOf(key) else null
+
+    /**
+     * Writes the body to the cache on a background thread and closes it.
+     *
+     * @param callback receives the cached file on the main thread, or null if it couldn't be written
+     */
+    fun put(key: String, body: ResponseBody, callback: Callback) {
+        ioJobControl.scope.launch {
+            val file = try {
+                write(key, body)
+            } catch (exception: IOException) {
+                Timber.e(exception, "Unable to cache voice instruction")
+                null
+            }
+            mainJobControl.scope.launch {
+                callback.onCached(file)
+            }
+        }
+    }
+
+    @Synchronized
+    fun sizeBytes(): Long = sizeBytes
+
+    @Synchronized
+    fun entryCount(): Int = entries.size
+
+    private fun write(key: String, body: ResponseBody): File {
+        directory.mkdirs()
+        val file = fileOf(key)
+        val tempFile = File(directory, "$key$TEMP_EXTENSION")
+        body.use {
+            tempFile.outputStream().use { output -> body.byteStream().copyTo(output) }
+        }
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete()
+            throw IOException("Unable to rename ${tempFile.name}")
+        }
+        val evictedKeys = synchronized(this) {
+            entries.put(key, file.length())?.let { sizeBytes -= it }
+            sizeBytes += file.length()
+            trim(key)
+        }
+        evictedKeys.forEach { fileOf(it).delete() }
+        return file
+    }
+
+    private fun load() {
+        val files = directory.listFiles { file -> file.name.endsWith(EXTENSION) } ?: return
+        files.sortBy { it.lastModified() }
+        val evictedKeys = synchronized(this) {
+            val loaded = LinkedHashMap<String, Long>(INITIAL_CAPACITY, LOAD_FACTOR, true)
+            files.forEach { file ->
+                loaded[file.name.removeSuffix(EXTENSION)] = file.length()
+            }
+            // entries cached before the files were listed are the most recent ones
+            loaded.putAll(entries)
+            entries = loaded
+            sizeBytes = loaded.values.sum()
+            trim(null)
+        }
+        evictedKeys.forEach { fileOf(it).delete() }
+    }
+
+    /**
+     * @return the keys removed to get under [maxBytes], their files should be deleted
+     */
+    private fun trim(keep: String?): List<String> {
+        val evictedKeys = ArrayList<String>()
+        val iterator = entries.entries.iterator()
+        while (sizeBytes > maxBytes && iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.key == keep) {
+                continue
+            }
+            sizeBytes -= entry.value
+            evictedKeys.add(entry.key)
+            iterator.remove()
+        }
+        return evictedKeys
+    }
+
+    private fun fileOf(key: String) = File(directory, "$key$EXTENSION")
+
+    /**
+     * Receives the result of [put].
+     */
+    interface Callback {
+
+        /**
+         * @param file the cached file, null if it couldn't be written
+         */
+        fun onCached(file: File?)
+    }
+
+    companion object {
+        private const val EXTENSION = ".mp3"
+        private const val TEMP_EXTENSION = ".tmp"
+        private const val INITIAL_CAPACITY = 16
+        private const val LOAD_FACTOR = 0.75f
+        private const val HASH_ALGORITHM = "SHA-1"
+
+        private val caches = HashMap<String, VoiceInstructionDiskCache>()
+
+        /**
+         * @param directory where the voice instructions are stored
+         * @param maxBytes size budget of the cache, used when the cache of the directory is
+         * created
+         * @return the cache of the directory, shared with the other callers
+         */
+        @JvmStatic
+        fun forDirectory(directory: File, maxBytes: Long): VoiceInstructionDiskCache =
+            synchronized(caches) {
+                caches.getOrPut(directory.absolutePath) {
+                    VoiceInstructionDiskCache(directory, maxBytes)
+                }
+            }
+
+        /**
+         * @return the cache key of the instruction, a hash of its text, text type and language
+         */
+        @JvmStatic
+        fun key(instruction: String, textType: String, language: String?): String {
+            val digest = MessageDigest.getInstance(HASH_ALGORITHM)
+                .digest("$language\n$textType\n$instruction".toByteArray(Charsets.UTF_8))
+            val key = StringBuilder(digest.size * 2)
+            digest.forEach { byte -> key.append(String.format("%02x", byte)) }
+            return key.toString()
+        }
+    }
+}
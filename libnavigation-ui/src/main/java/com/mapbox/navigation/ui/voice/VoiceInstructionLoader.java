@@ -13,10 +13,13 @@ import com.mapbox.navigation.ui.internal.ConnectivityStatusProvider;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.Cache;
@@ -32,6 +35,8 @@ import timber.log.Timber;
 public class VoiceInstructionLoader {
   private static final int VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD = 4;
   private static final String SSML_TEXT_TYPE = "ssml";
+  private static final String VOICE_INSTRUCTION_CACHE = "mapbox-voice-instruction-cache";
+  private static final long VOICE_INSTRUCTION_CACHE_SIZE = 20 * 1024 * 1024;
   private final ConnectivityStatusProvider connectivityStatus;
   private final String accessToken;
   private List<String> urlsCached;
@@ -41,6 +46,17 @@ public class VoiceInstructionLoader {
   private MapboxSpeech.Builder mapboxSpeechBuilder = null;
   private UrlSkuTokenProvider urlSkuTokenProvider;
   private String baseUrl;
+  @Nullable
+  private final VoiceInstructionDiskCache diskCache;
+  @Nullable
+  private String language;
+  private final List<String> upcomingInstructions = new ArrayList<>();
+  @Nullable
+  private UpcomingInstructionListener upcomingInstructionListener;
+  private long announcementCount = 0;
+  private long preparedAnnouncementCount = 0;
+  private long totalLatencyMillis = 0;
+  private long maxLatencyMillis = 0;
 
   public VoiceInstructionLoader(@NonNull Context context, String accessToken, Cache cache) {
     this(context, accessToken, cache, null);
@@ -54,54 +70,113 @@ public class VoiceInstructionLoader {
     this.cache = cache;
     this.urlSkuTokenProvider = MapboxNavigationAccounts.getInstance(context.getApplicationContext());
     this.baseUrl = baseUrl;
+    this.diskCache = VoiceInstructionDiskCache.forDirectory(
+      new File(context.getCacheDir(), VOICE_INSTRUCTION_CACHE), VOICE_INSTRUCTION_CACHE_SIZE);
   }
 
   // Package private (no modifier) for testing purposes
   VoiceInstructionLoader(Context context, String accessToken, Cache cache, MapboxSpeech.Builder mapboxSpeechBuilder,
                          ConnectivityStatusProvider connectivityStatus) {
+    this(context, accessToken, cache, mapboxSpeechBuilder, connectivityStatus, null);
+  }
+
+  // Package private (no modifier) for testing purposes
+  VoiceInstructionLoader(Context context, String accessToken, Cache cache, MapboxSpeech.Builder mapboxSpeechBuilder,
+                         ConnectivityStatusProvider connectivityStatus, @Nullable VoiceInstructionDiskCache diskCache) {
     this.accessToken = accessToken;
     this.context = context;
     this.urlsCached = new ArrayList<>();
     this.cache = cache;
     this.mapboxSpeechBuilder = mapboxSpeechBuilder;
     this.connectivityStatus = connectivityStatus;
+    this.diskCache = diskCache;
   }
 
+  /**
+   * Evicts the oldest prefetched instructions from the HTTP cache, they are kept in the
+   * voice instruction disk cache. The HTTP cache is scanned once for all of them.
+   *
+   * @return the evicted urls
+   */
   @NonNull
   public List<String> evictVoiceInstructions() {
-    List<String> urlsToRemove = new ArrayList<>();
+    Set<String> urlsToEvict = new HashSet<>();
     for (int i = 0; i < urlsCached.size() && i < VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD; i++) {
-      String urlToRemove = urlsCached.get(i);
-      try {
-        Iterator<String> urlsCurrentlyCached = cache.urls();
-        for (Iterator<String> urlCached = urlsCurrentlyCached; urlCached.hasNext(); ) {
-          String url = urlCached.next();
-          if (url.equals(urlToRemove)) {
-            urlCached.remove();
-            urlsToRemove.add(urlToRemove);
+      urlsToEvict.add(urlsCached.get(i));
+    }
+    List<String> urlsToRemove = new ArrayList<>();
+    if (urlsToEvict.isEmpty()) {
+      return urlsToRemove;
+    }
+    try {
+      for (Iterator<String> urlCached = cache.urls(); urlCached.hasNext(); ) {
+        String url = urlCached.next();
+        if (urlsToEvict.contains(url)) {
+          urlCached.remove();
+          urlsToRemove.add(url);
+          if (urlsToRemove.size() == urlsToEvict.size()) {
             break;
           }
         }
-      } catch (IOException exception) {
-        exception.printStackTrace();
       }
+    } catch (IOException exception) {
+      exception.printStackTrace();
     }
     urlsCached.removeAll(urlsToRemove);
     return urlsToRemove;
   }
 
+  /**
+   * Downloads the SSML instructions which are not in the voice instruction disk cache yet.
+   *
+   * @param instructions SSML instructions to prefetch
+   */
   public void cacheInstructions(@NonNull List<String> instructions) {
     for (String instruction : instructions) {
       cacheInstruction(instruction);
     }
   }
 
+  /**
+   * Sets the SSML instructions which will be announced next, in order. The next one is handed
+   * to the speech player to be prepared as soon as it is in the voice instruction disk cache,
+   * so that it starts playing without delay when it is triggered.
+   *
+   * @param instructions SSML instructions which will be announced next
+   */
+  public void setUpcomingInstructions(@NonNull List<String> instructions) {
+    upcomingInstructions.clear();
+    upcomingInstructions.addAll(instructions);
+    notifyUpcomingInstruction();
+  }
+
+  /**
+   * @return the state of the voice instruction cache and the announcement latency
+   */
+  @NonNull
+  public synchronized VoiceInstructionCacheStats getCacheStats() {
+    long hits = 0;
+    long misses = 0;
+    int cachedInstructions = 0;
+    long cachedBytes = 0;
+    if (diskCache != null) {
+      hits = diskCache.getHitCount();
+      misses = diskCache.getMissCount();
+      cachedInstructions = diskCache.entryCount();
+      cachedBytes = diskCache.sizeBytes();
+    }
+    long averageLatencyMillis = announcementCount == 0 ? 0 : totalLatencyMillis / announcementCount;
+    return new VoiceInstructionCacheStats(hits, misses, cachedInstructions, cachedBytes,
+      announcementCount, preparedAnnouncementCount, averageLatencyMillis, maxLatencyMillis);
+  }
+
   // Package private (no modifier) for testing purposes
   void addStubUrlsToCache(List<String> urlsToCache) {
     this.urlsCached = urlsToCache;
   }
 
   void setupMapboxSpeechBuilder(String language) {
+    this.language = language;
     if (mapboxSpeechBuilder == null) {
       mapboxSpeechBuilder = MapboxSpeech.builder()
         .accessToken(accessToken)
@@ -126,7 +201,54 @@ public class VoiceInstructionLoader {
   }
 
   boolean hasCache() {
-    return !urlsCached.isEmpty();
+    return !urlsCached.isEmpty() || (diskCache != null && diskCache.entryCount() > 0);
+  }
+
+  /**
+   * @return the cached file of the instruction, or null if it has to be downloaded
+   */
+  @Nullable
+  File retrieveCachedInstruction(@NonNull String instruction, @NonNull String textType) {
+    if (diskCache == null) {
+      return null;
+    }
+    return diskCache.get(VoiceInstructionDiskCache.key(instruction, textType, language));
+  }
+
+  /**
+   * Writes a downloaded instruction to the voice instruction disk cache and closes the body.
+   */
+  void cacheInstruction(@NonNull String instruction, @NonNull String textType, @NonNull ResponseBody body,
+                        @NonNull VoiceInstructionDiskCache.Callback callback) {
+    if (diskCache == null) {
+      body.close();
+      callback.onCached(null);
+      return;
+    }
+    diskCache.put(VoiceInstructionDiskCache.key(instruction, textType, language), body,
+      new VoiceInstructionDiskCache.Callback() {
+        @Override
+        public void onCached(@Nullable File file) {
+          callback.onCached(file);
+          if (file != null) {
+            notifyUpcomingInstruction();
+          }
+        }
+      });
+  }
+
+  void setUpcomingInstructionListener(@Nullable UpcomingInstructionListener listener) {
+    this.upcomingInstructionListener = listener;
+    notifyUpcomingInstruction();
+  }
+
+  synchronized void onAnnouncementStarted(long latencyMillis, boolean wasPrepared) {
+    announcementCount++;
+    if (wasPrepared) {
+      preparedAnnouncementCount++;
+    }
+    totalLatencyMillis += latencyMillis;
+    maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
   }
 
   void flushCache() {
@@ -142,8 +264,22 @@ public class VoiceInstructionLoader {
   }
 
   private void cacheInstruction(@NonNull String instruction) {
-    if (!TextUtils.isEmpty(instruction)) {
-      requestInstruction(instruction, SSML_TEXT_TYPE, new InstructionCacheCallback(this));
+    if (TextUtils.isEmpty(instruction)) {
+      return;
+    }
+    if (diskCache != null && diskCache.contains(VoiceInstructionDiskCache.key(instruction, SSML_TEXT_TYPE, language))) {
+      return;
+    }
+    requestInstruction(instruction, SSML_TEXT_TYPE, new InstructionCacheCallback(this, instruction, SSML_TEXT_TYPE));
+  }
+
+  private void notifyUpcomingInstruction() {
+    if (upcomingInstructionListener == null || diskCache == null || upcomingInstructions.isEmpty()) {
+      return;
+    }
+    File file = diskCache.peek(VoiceInstructionDiskCache.key(upcomingInstructions.get(0), SSML_TEXT_TYPE, language));
+    if (file != null) {
+      upcomingInstructionListener.onUpcomingInstructionCached(file);
     }
   }
 
@@ -171,4 +307,15 @@ public class VoiceInstructionLoader {
       }
     };
   }
+
+  /**
+   * Notified when the next instruction to be announced is in the voice instruction disk cache.
+   */
+  interface UpcomingInstructionListener {
+
+    /**
+     * @param file cached file of the next instruction to be announced
+     */
+    void onUpcomingInstructionCached(@NonNull File file);
+  }
 }
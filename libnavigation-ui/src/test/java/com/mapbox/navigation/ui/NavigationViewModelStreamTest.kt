@@ -0,0 +1,162 @@
+package com.mapbox.navigation.ui
+
+import androidx.lifecycle.MutableLiveData
+import androidx.lifecycle.Observer
+import com.mapbox.navigation.testing.MainCoroutineRule
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import org.junit.Assert.assertEquals
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@ExperimentalCoroutinesApi
+@RunWith(RobolectricTestRunner::class)
+class NavigationViewModelStreamTest {
+
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
+    private val source = MutableLiveData<Int>()
+    private val emitted = mutableListOf<String>()
+    private val observer = Observer<String> { emitted.add(it) }
+    private var mappings = 0
+
+    @Test
+    fun `values are mapped`() {
+        val stream = stream(refreshIntervalMillis = 0L)
+        stream.observeForever(observer)
+
+        source.value = 1
+        source.value = 2
+
+        assertEquals(listOf("1", "2"), emitted)
+    }
+
+    @Test
+    fun `values with an unchanged key are not emitted`() {
+        val stream = stream(refreshIntervalMillis = 0L, keySelector = { it.length })
+        stream.observeForever(observer)
+
+        source.value = 1
+        source.value = 2
+        source.value = 10
+
+        assertEquals(listOf("1", "10"), emitted)
+    }
+
+    @Test
+    fun `values within the refresh interval are conflated`() {
+        val stream = stream(refreshIntervalMillis = 1000L)
+        stream.observeForever(observer)
+
+        source.value = 1
+        source.value = 2
+        source.value = 3
+        coroutineRule.testDispatcher.advanceTimeBy(999L)
+        assertEquals(listOf("1"), emitted)
+
+        coroutineRule.testDispatcher.advanceTimeBy(1L)
+
+        assertEquals(listOf("1", "3"), emitted)
+        assertEquals(2, mappings)
+    }
+
+    @Test
+    fun `value after the refresh interval is mapped right away`() {
+        val stream = stream(refreshIntervalMillis = 1000L)
+        stream.observeForever(observer)
+        source.value = 1
+        coroutineRule.testDispatcher.advanceTimeBy(5000L)
+
+        source.value = 2
+
+        assertEquals(listOf("1", "2"), emitted)
+    }
+
+    @Test
+    fun `null mapping is skipped`() {
+        val stream = NavigationViewModelStream<Int, String>(
+            source,
+            0L,
+            { if (it % 2 == 0) it.toString() else null },
+            { it },
+            { coroutineRule.testDispatcher.currentTime },
+            coroutineRule.testDispatcher
+        )
+        stream.observeForever(observer)
+
+        source.value = 1
+        source.value = 2
+
+        assertEquals(listOf("2"), emitted)
+    }
+
+    @Test
+    fun `source is not mapped without observers`() {
+        stream(refreshIntervalMillis = 0L)
+
+        source.value = 1
+
+        assertEquals(0, mappings)
+    }
+
+    @Test
+    fun `pending value is dropped when the last observer is removed`() {
+        val stream = stream(refreshIntervalMillis = 1000L)
+        stream.observeForever(observer)
+        source.value = 1
+        source.value = 2
+
+        stream.removeObserver(observer)
+        coroutineRule.testDispatcher.advanceTimeBy(1000L)
+
+        assertEquals(listOf("1"), emitted)
+        assertEquals(1, mappings)
+    }
+
+    @Test
+    fun `unchanged value is emitted after invalidation`() {
+        val stream = stream(refreshIntervalMillis = 0L)
+        stream.observeForever(observer)
+        source.value = 1
+
+        stream.invalidate()
+        source.value = 1
+
+        assertEquals(listOf("1", "1"), emitted)
+    }
+
+    @Test
+    fun `distinct stream drops repeated values`() {
+        val stream = NavigationViewModelStream.distinct(source)
+        val values = mutableListOf<Int>()
+        stream.observeForever { values.add(it) }
+
+        source.value = 1
+        source.value = 1
+        source.value = 2
+
+        assertEquals(listOf(1, 2), values)
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `refresh interval must not be negative`() {
+        stream(refreshIntervalMillis = -1L)
+    }
+
+    private fun stream(
+        refreshIntervalMillis: Long,
+        keySelector: (String) -> Any? = { it }
+    ): NavigationViewModelStream<Int, String> = NavigationViewModelStream(
+        source,
+        refreshIntervalMillis,
+        {
+            mappings++
+            it.toString()
+        },
+        keySelector,
+        { coroutineRule.testDispatcher.currentTime },
+        coroutineRule.testDispatcher
+    )
+}
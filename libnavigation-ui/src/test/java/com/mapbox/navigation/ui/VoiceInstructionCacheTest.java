@@ -2,7 +2,6 @@ package com.mapbox.navigation.ui;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.navigation.core.MapboxNavigation;
 import com.mapbox.navigation.ui.internal.ConnectivityStatusProvider;
 import com.mapbox.navigation.ui.voice.VoiceInstructionLoader;
 
@@ -13,7 +12,10 @@ import java.io.IOException;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -25,13 +27,12 @@ public class VoiceInstructionCacheTest extends BaseTest {
   private static final String DIRECTIONS_PRECISION_6 = "directions_v5_precision_6.json";
 
   @Test
-  public void checksPreCachingCachesNineInstructions() throws Exception {
-    MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksInitCacheDoesNotCacheInstructions() throws Exception {
     VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(mockedConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedMapboxNavigation,
-      mockedVoiceInstructionLoader, mockedConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
     DirectionsRoute twentyOneInstructionsRoute = buildDirectionsRoute();
     ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
 
@@ -44,74 +45,107 @@ public class VoiceInstructionCacheTest extends BaseTest {
   }
 
   @Test
-  public void checksCacheIsNotCalledIfIsVoiceInstructionsToCacheThresholdNotReached() {
-    MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksCacheIsNotCalledWithoutRoute() {
     VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedMapboxNavigation,
-      mockedVoiceInstructionLoader, mockedConnectivityStatus);
+    when(mockedConnectivityStatus.isConnected()).thenReturn(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
 
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.cache(0);
 
     verifyZeroInteractions(mockedVoiceInstructionLoader);
   }
 
   @Test
-  public void checksCaching() throws Exception {
-    MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksCachingAheadOfDistanceTraveled() throws Exception {
     VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(mockedConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedMapboxNavigation,
-      mockedVoiceInstructionLoader, mockedConnectivityStatus);
-    DirectionsRoute twentyOneInstructionsRoute = buildDirectionsRoute();
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
+    DirectionsRoute theDirectionsRoute = buildDirectionsRoute();
 
-    theVoiceInstructionCache.initCache(twentyOneInstructionsRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
-    theVoiceInstructionCache.update(10);
-    theVoiceInstructionCache.cache();
-    theVoiceInstructionCache.update(15);
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.initCache(theDirectionsRoute);
+    theVoiceInstructionCache.cache(0);
+    theVoiceInstructionCache.cache(100);
+    theVoiceInstructionCache.cache(3000);
+    theVoiceInstructionCache.cache(70000);
 
     ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
     verify(mockedVoiceInstructionLoader, times(3))
       .cacheInstructions(voiceInstructionsToCache.capture());
     List<List> capturedVoiceInstructionsToCache = voiceInstructionsToCache.getAllValues();
-    assertEquals(9, capturedVoiceInstructionsToCache.get(0).size());
-    assertEquals(10, capturedVoiceInstructionsToCache.get(1).size());
+    assertEquals(8, capturedVoiceInstructionsToCache.get(0).size());
+    assertEquals(3, capturedVoiceInstructionsToCache.get(1).size());
     assertEquals(2, capturedVoiceInstructionsToCache.get(2).size());
   }
 
+  @Test
+  public void checksNewRouteRestartsCaching() throws Exception {
+    VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
+    when(mockedConnectivityStatus.isConnected()).thenReturn(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
+    DirectionsRoute theDirectionsRoute = buildDirectionsRoute();
+
+    theVoiceInstructionCache.initCache(theDirectionsRoute);
+    theVoiceInstructionCache.cache(0);
+    theVoiceInstructionCache.initCache(theDirectionsRoute);
+    theVoiceInstructionCache.cache(0);
+
+    verify(mockedVoiceInstructionLoader, times(2)).cacheInstructions(anyList());
+  }
+
   @Test
   public void checksEvictVoiceInstructionsIsCalledWhenCaching() throws Exception {
-    MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
     VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(mockedConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedMapboxNavigation,
-      mockedVoiceInstructionLoader, mockedConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
     DirectionsRoute theDirectionsRoute = buildDirectionsRoute();
 
     theVoiceInstructionCache.initCache(theDirectionsRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.cache(0);
 
     verify(mockedVoiceInstructionLoader, times(1)).evictVoiceInstructions();
   }
 
   @Test
-  public void noConnectivityDoesNotAllowCaching() {
-    MapboxNavigation mockedMapboxNavigation = mock(MapboxNavigation.class);
+  public void noConnectivityDoesNotAllowCaching() throws Exception {
     VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(mockedConnectivityStatus.isConnected()).thenReturn(false);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedMapboxNavigation,
-      mockedVoiceInstructionLoader, mockedConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
 
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.initCache(buildDirectionsRoute());
+    theVoiceInstructionCache.cache(0);
 
-    verifyZeroInteractions(mockedVoiceInstructionLoader);
+    verify(mockedVoiceInstructionLoader, never()).evictVoiceInstructions();
+    verify(mockedVoiceInstructionLoader, never()).cacheInstructions(anyList());
+  }
+
+  @Test
+  public void checksUpcomingInstructionsAreUpdatedWhenAnnouncementsArePassed() throws Exception {
+    VoiceInstructionLoader mockedVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider mockedConnectivityStatus = mock(ConnectivityStatusProvider.class);
+    when(mockedConnectivityStatus.isConnected()).thenReturn(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(mockedVoiceInstructionLoader,
+      mockedConnectivityStatus);
+
+    theVoiceInstructionCache.initCache(buildDirectionsRoute());
+    theVoiceInstructionCache.cache(0);
+    theVoiceInstructionCache.cache(0);
+    theVoiceInstructionCache.cache(100);
+
+    ArgumentCaptor<List> upcomingInstructions = ArgumentCaptor.forClass(List.class);
+    verify(mockedVoiceInstructionLoader, times(2)).setUpcomingInstructions(upcomingInstructions.capture());
+    List<List> capturedUpcomingInstructions = upcomingInstructions.getAllValues();
+    assertEquals(2, capturedUpcomingInstructions.get(0).size());
+    assertNotEquals(capturedUpcomingInstructions.get(0).get(0), capturedUpcomingInstructions.get(1).get(0));
   }
 
   private DirectionsRoute buildDirectionsRoute() throws IOException {
@@ -120,4 +154,4 @@ public class VoiceInstructionCacheTest extends BaseTest {
     return response.routes().get(0);
   }
 
-}
\ No newline at end of file
+}
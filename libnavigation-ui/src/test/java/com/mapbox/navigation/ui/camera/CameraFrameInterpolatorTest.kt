@@ -0,0 +1,117 @@
+package com.mapbox.navigation.ui.camera
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class CameraFrameInterpolatorTest {
+
+    private val interpolator = CameraFrameInterpolator(
+        zoomSmoothingMillis = 100.0,
+        tiltSmoothingMillis = 100.0,
+        zoomThreshold = 0.001,
+        tiltThreshold = 0.05
+    )
+
+    @Test
+    fun `no frame without target`() {
+        assertNull(interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0)))
+    }
+
+    @Test
+    fun `frame is skipped when the camera is at its target`() {
+        interpolator.updateTarget(CameraZoomTilt(15.0, 45.0))
+
+        assertNull(interpolator.onFrame(0L, CameraZoomTilt(15.0005, 45.01)))
+    }
+
+    @Test
+    fun `camera moves towards its target`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 60.0))
+
+        val result = interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0))!!
+
+        assertTrue(result.zoom > 15.0 && result.zoom < 16.0)
+        assertTrue(result.tilt > 45.0 && result.tilt < 60.0)
+    }
+
+    @Test
+    fun `first frame covers a nominal frame duration`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 45.0))
+
+        val result = interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0))!!
+
+        assertEquals(15.0 + 1 - Math.exp(-16.0 / 100.0), result.zoom, 0.000001)
+        assertEquals(45.0, result.tilt, 0.0)
+    }
+
+    @Test
+    fun `progress depends on the frame duration`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 45.0))
+        interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0))
+
+        val result = interpolator.onFrame(50_000_000L, CameraZoomTilt(15.0, 45.0))!!
+
+        assertEquals(15.0 + 1 - Math.exp(-50.0 / 100.0), result.zoom, 0.000001)
+    }
+
+    @Test
+    fun `long frames are capped`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 45.0))
+        interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0))
+
+        val result = interpolator.onFrame(5_000_000_000L, CameraZoomTilt(15.0, 45.0))!!
+
+        assertEquals(15.0 + 1 - Math.exp(-1.0), result.zoom, 0.000001)
+    }
+
+    @Test
+    fun `camera snaps to its target within the threshold`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 45.0))
+
+        val result = interpolator.onFrame(0L, CameraZoomTilt(15.9995 - 0.0005, 45.0))!!
+
+        assertEquals(16.0, result.zoom, 0.0)
+    }
+
+    @Test
+    fun `camera moves at least the threshold`() {
+        interpolator.updateTarget(CameraZoomTilt(15.0, 45.2))
+
+        val result = interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0))!!
+
+        assertEquals(45.05, result.tilt, 0.000001)
+    }
+
+    @Test
+    fun `camera reaches its target`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 60.0))
+        var camera = CameraZoomTilt(15.0, 45.0)
+        var frameTimeNanos = 0L
+        var frames = 0
+
+        while (true) {
+            camera = interpolator.onFrame(frameTimeNanos, camera) ?: break
+            frameTimeNanos += 16_000_000L
+            frames++
+        }
+
+        assertEquals(CameraZoomTilt(16.0, 60.0), camera)
+        assertTrue(frames < 100)
+    }
+
+    @Test
+    fun `no frame after reset`() {
+        interpolator.updateTarget(CameraZoomTilt(16.0, 60.0))
+
+        interpolator.reset()
+
+        assertNull(interpolator.onFrame(0L, CameraZoomTilt(15.0, 45.0)))
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `smoothing must be positive`() {
+        CameraFrameInterpolator(zoomSmoothingMillis = 0.0)
+    }
+}
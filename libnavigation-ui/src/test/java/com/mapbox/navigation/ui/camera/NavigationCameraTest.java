@@ -272,19 +272,57 @@ public class NavigationCameraTest extends BaseTest {
     // verify no crash
   }
 
+  @Test
+  public void onRouteProgressChanged_frameIsRequested() {
+    CameraFrameScheduler frameScheduler = mock(CameraFrameScheduler.class);
+    NavigationCamera camera = new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class),
+      mock(LocationComponent.class), frameScheduler);
+
+    camera.routeProgressObserver.onRouteProgressChanged(mock(RouteProgress.class));
+
+    verify(frameScheduler).requestFrame();
+  }
+
+  @Test
+  public void onRouteProgressChangedWithoutTracking_frameIsNotRequested() {
+    CameraFrameScheduler frameScheduler = mock(CameraFrameScheduler.class);
+    NavigationCamera camera = new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class),
+      mock(LocationComponent.class), frameScheduler);
+    camera.updateCameraTrackingMode(NavigationCamera.NAVIGATION_TRACKING_MODE_NONE);
+
+    camera.routeProgressObserver.onRouteProgressChanged(mock(RouteProgress.class));
+
+    verify(frameScheduler, times(0)).requestFrame();
+  }
+
+  @Test
+  public void onStop_frameIsCancelled() {
+    CameraFrameScheduler frameScheduler = mock(CameraFrameScheduler.class);
+    NavigationCamera camera = new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class),
+      mock(LocationComponent.class), frameScheduler);
+
+    camera.onStop();
+
+    verify(frameScheduler).cancel();
+  }
+
   private NavigationCamera buildCamera() {
-    return new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class), mock(LocationComponent.class));
+    return new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class), mock(LocationComponent.class),
+      mock(CameraFrameScheduler.class));
   }
 
   private NavigationCamera buildCamera(MapboxMap mapboxMap) {
-    return new NavigationCamera(mapboxMap, mock(MapboxNavigation.class), mock(LocationComponent.class));
+    return new NavigationCamera(mapboxMap, mock(MapboxNavigation.class), mock(LocationComponent.class),
+      mock(CameraFrameScheduler.class));
   }
 
   private NavigationCamera buildCamera(LocationComponent locationComponent) {
-    return new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class), locationComponent);
+    return new NavigationCamera(mock(MapboxMap.class), mock(MapboxNavigation.class), locationComponent,
+      mock(CameraFrameScheduler.class));
   }
 
   private NavigationCamera buildCamera(MapboxMap mapboxMap, MapboxNavigation mapboxNavigation) {
-    return new NavigationCamera(mapboxMap, mapboxNavigation, mock(LocationComponent.class));
+    return new NavigationCamera(mapboxMap, mapboxNavigation, mock(LocationComponent.class),
+      mock(CameraFrameScheduler.class));
   }
 }
@@ -0,0 +1,183 @@
+package com.mapbox.navigation.ui.instruction
+
+import com.mapbox.api.directions.v5.models.BannerComponents
+import com.mapbox.api.directions.v5.models.BannerInstructions
+import com.mapbox.api.directions.v5.models.BannerText
+import com.mapbox.api.directions.v5.models.BannerView
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.api.directions.v5.models.RouteLeg
+import com.mapbox.navigation.base.trip.model.RouteLegProgress
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.base.trip.model.RouteStepProgress
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class BannerImageUrlCollectorTest {
+
+    private val collector = BannerImageUrlCollector()
+
+    @Test
+    fun `shields are collected within the lookahead distance`() {
+        val routeProgress = routeProgress(
+            listOf(
+                listOf(step(100.0, SHIELD_1), step(500.0, SHIELD_2), step(500.0, SHIELD_3))
+            )
+        )
+
+        val urls = collector.collect(routeProgress, 550.0, TOKEN)
+
+        assertEquals(listOf(SHIELD_1, SHIELD_2), urls.shieldBaseUrls)
+    }
+
+    @Test
+    fun `distance traveled on the current step is taken into account`() {
+        val routeProgress = routeProgress(
+            listOf(listOf(step(1000.0, SHIELD_1), step(500.0, SHIELD_2))),
+            distanceTraveled = 600f
+        )
+
+        val urls = collector.collect(routeProgress, 450.0, TOKEN)
+
+        assertEquals(listOf(SHIELD_1, SHIELD_2), urls.shieldBaseUrls)
+    }
+
+    @Test
+    fun `steps of the next legs are collected`() {
+        val routeProgress = routeProgress(
+            listOf(listOf(step(100.0, SHIELD_1)), listOf(step(100.0, SHIELD_2)))
+        )
+
+        val urls = collector.collect(routeProgress, 1000.0, TOKEN)
+
+        assertEquals(listOf(SHIELD_1, SHIELD_2), urls.shieldBaseUrls)
+    }
+
+    @Test
+    fun `urls are only collected once`() {
+        val routeProgress = routeProgress(
+            listOf(listOf(step(100.0, SHIELD_1), step(100.0, SHIELD_1)))
+        )
+
+        val first = collector.collect(routeProgress, 1000.0, TOKEN)
+        val second = collector.collect(routeProgress, 1000.0, TOKEN)
+
+        assertEquals(listOf(SHIELD_1), first.shieldBaseUrls)
+        assertTrue(second.shieldBaseUrls.isEmpty())
+    }
+
+    @Test
+    fun `urls are collected again after reset`() {
+        val routeProgress = routeProgress(listOf(listOf(step(100.0, SHIELD_1))))
+        collector.collect(routeProgress, 1000.0, TOKEN)
+
+        collector.reset()
+
+        assertEquals(
+            listOf(SHIELD_1),
+            collector.collect(routeProgress, 1000.0, TOKEN).shieldBaseUrls
+        )
+    }
+
+    @Test
+    fun `guidance views are collected with the access token`() {
+        val routeProgress = routeProgress(
+            listOf(listOf(step(100.0, SHIELD_1, GUIDANCE_VIEW)))
+        )
+
+        val urls = collector.collect(routeProgress, 1000.0, TOKEN)
+
+        assertEquals(listOf("$GUIDANCE_VIEW&access_token=$TOKEN"), urls.guidanceViewUrls)
+    }
+
+    @Test
+    fun `guidance views are not collected without access token`() {
+        val routeProgress = routeProgress(
+            listOf(listOf(step(100.0, SHIELD_1, GUIDANCE_VIEW)))
+        )
+
+        val urls = collector.collect(routeProgress, 1000.0, null)
+
+        assertEquals(listOf(SHIELD_1), urls.shieldBaseUrls)
+        assertTrue(urls.guidanceViewUrls.isEmpty())
+    }
+
+    @Test
+    fun `forgotten url is collected again`() {
+        val routeProgress = routeProgress(listOf(listOf(step(100.0, SHIELD_1))))
+        collector.collect(routeProgress, 1000.0, TOKEN)
+
+        collector.forget(SHIELD_1)
+
+        assertEquals(
+            listOf(SHIELD_1),
+            collector.collect(routeProgress, 1000.0, TOKEN).shieldBaseUrls
+        )
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `max collected urls must be positive`() {
+        BannerImageUrlCollector(0)
+    }
+
+    private fun routeProgress(
+        legSteps: List<List<LegStep>>,
+        distanceTraveled: Float = 0f
+    ): RouteProgress {
+        val legs = legSteps.map { steps ->
+            mockk<RouteLeg> { every { steps() } returns steps }
+        }
+        val route = mockk<DirectionsRoute> { every { legs() } returns legs }
+        val stepProgress = mockk<RouteStepProgress> {
+            every { stepIndex } returns 0
+            every { this@mockk.distanceTraveled } returns distanceTraveled
+        }
+        val legProgress = mockk<RouteLegProgress> {
+            every { legIndex } returns 0
+            every { currentStepProgress } returns stepProgress
+        }
+        return mockk {
+            every { this@mockk.route } returns route
+            every { currentLegProgress } returns legProgress
+        }
+    }
+
+    private fun step(distance: Double, shieldBaseUrl: String, guidanceViewUrl: String? = null): LegStep {
+        val shield = BannerComponents.builder()
+            .type(BannerComponents.ICON)
+            .text("I 80")
+            .imageBaseUrl(shieldBaseUrl)
+            .build()
+        val primary = mockk<BannerText> { every { components() } returns listOf(shield) }
+        val view = guidanceViewUrl?.let { url ->
+            val guidanceView = BannerComponents.builder()
+                .type(BannerComponents.GUIDANCE_VIEW)
+                .text("")
+                .imageUrl(url)
+                .build()
+            mockk<BannerView> { every { components() } returns listOf(guidanceView) }
+        }
+        val bannerInstructions = mockk<BannerInstructions> {
+            every { primary() } returns primary
+            every { secondary() } returns null
+            every { sub() } returns null
+            every { view() } returns view
+        }
+        return mockk {
+            every { distance() } returns distance
+            every { bannerInstructions() } returns listOf(bannerInstructions)
+        }
+    }
+
+    private companion object {
+        private const val TOKEN = "pk.token"
+        private const val SHIELD_1 = "https://s3.amazonaws.com/mapbox/shields/v3/i-80"
+        private const val SHIELD_2 = "https://s3.amazonaws.com/mapbox/shields/v3/i-5"
+        private const val SHIELD_3 = "https://s3.amazonaws.com/mapbox/shields/v3/us-50"
+        private const val GUIDANCE_VIEW =
+            "https://api.mapbox.com/guidance-views/v1/1580515200/jct/CA075101?arrow_ids=CA07510E"
+    }
+}
@@ -10,8 +10,10 @@ import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.navigation.base.formatter.DistanceFormatter;
 import com.mapbox.navigation.base.trip.model.RouteProgress;
+import com.mapbox.navigation.testing.MainCoroutineRule;
 import com.mapbox.navigation.ui.BaseTest;
 
+import org.junit.Rule;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -24,6 +26,9 @@ import static org.mockito.Mockito.*;
 
 public class InstructionListPresenterTest extends BaseTest {
 
+  @Rule
+  public MainCoroutineRule coroutineRule = new MainCoroutineRule();
+
   @Test
   public void onBindInstructionListView_distanceTextIsUpdated() throws Exception {
     SpannableString spannableString = mock(SpannableString.class);
@@ -99,7 +104,7 @@ public class InstructionListPresenterTest extends BaseTest {
     RouteProgress routeProgress = buildRouteProgressWithProgress();
     InstructionListAdapter adapter = mock(InstructionListAdapter.class);
     DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
-    InstructionListPresenter presenter = new InstructionListPresenter(distanceFormatter);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
 
     presenter.update(routeProgress, adapter);
 
@@ -111,7 +116,7 @@ public class InstructionListPresenterTest extends BaseTest {
     RouteProgress routeProgress = buildRouteProgress();
     InstructionListAdapter adapter = mock(InstructionListAdapter.class);
     DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
-    InstructionListPresenter presenter = new InstructionListPresenter(distanceFormatter);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
 
     presenter.update(routeProgress, adapter);
 
@@ -124,7 +129,7 @@ public class InstructionListPresenterTest extends BaseTest {
     RouteProgress updatedRouteProgress = buildRouteProgressWithProgress();
     InstructionListAdapter adapter = mock(InstructionListAdapter.class);
     DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
-    InstructionListPresenter presenter = new InstructionListPresenter(distanceFormatter);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
 
     presenter.update(initialRouteProgress, adapter);
     presenter.update(updatedRouteProgress, adapter);
@@ -132,6 +137,51 @@ public class InstructionListPresenterTest extends BaseTest {
     verify(adapter).notifyItemRangeRemoved(0, 3);
   }
 
+  @Test
+  public void update_sameProgressStructureIsNotDiffedAgain() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    InstructionListAdapter adapter = mock(InstructionListAdapter.class);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
+
+    presenter.update(routeProgress, adapter);
+    presenter.update(routeProgress, adapter);
+
+    verify(adapter, times(1)).notifyItemRangeInserted(0, 12);
+  }
+
+  @Test
+  public void update_rowIdsAreStableAcrossSteps() throws Exception {
+    RouteProgress initialRouteProgress = buildRouteProgress();
+    RouteProgress updatedRouteProgress = buildRouteProgressWithProgress();
+    InstructionListAdapter adapter = mock(InstructionListAdapter.class);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
+    presenter.update(initialRouteProgress, adapter);
+    long lastRowId = presenter.retrieveItemId(presenter.retrieveBannerInstructionListSize() - 1);
+
+    presenter.update(updatedRouteProgress, adapter);
+
+    assertEquals(lastRowId, presenter.retrieveItemId(presenter.retrieveBannerInstructionListSize() - 1));
+    assertNotEquals(presenter.retrieveItemId(0), presenter.retrieveItemId(1));
+  }
+
+  @Test
+  public void cancel_pendingDiffIsDropped() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    InstructionListAdapter adapter = mock(InstructionListAdapter.class);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
+    coroutineRule.getTestDispatcher().pauseDispatcher();
+
+    presenter.update(routeProgress, adapter);
+    presenter.cancel();
+    coroutineRule.getTestDispatcher().resumeDispatcher();
+
+    assertEquals(0, presenter.retrieveBannerInstructionListSize());
+    verify(adapter, never()).notifyItemRangeInserted(anyInt(), anyInt());
+  }
+
   @Test
   public void updateDistanceFormatter_newFormatterIsUsed() throws Exception {
     RouteProgress routeProgress = buildRouteProgress();
@@ -197,7 +247,7 @@ public class InstructionListPresenterTest extends BaseTest {
     InstructionListAdapter adapter = mock(InstructionListAdapter.class);
     RouteProgress routeProgress = buildRouteProgress();
     DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
-    InstructionListPresenter presenter = new InstructionListPresenter(distanceFormatter);
+    InstructionListPresenter presenter = buildPresenter(distanceFormatter);
 
     presenter.update(routeProgress, adapter);
 
@@ -264,12 +314,14 @@ public class InstructionListPresenterTest extends BaseTest {
   private InstructionListPresenter buildPresenter(SpannableString spannableString) {
     DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
     when(distanceFormatter.formatDistance(anyDouble())).thenReturn(spannableString);
-    return new InstructionListPresenter(distanceFormatter);
+    return buildPresenter(distanceFormatter);
   }
 
   @NonNull
   private InstructionListPresenter buildPresenter(DistanceFormatter distanceFormatter) {
-    return new InstructionListPresenter(distanceFormatter);
+    return new InstructionListPresenter(
+      distanceFormatter, new InstructionListDiffer(coroutineRule.getTestDispatcher())
+    );
   }
 
   @NonNull
@@ -1,5 +1,6 @@
 package com.mapbox.navigation.ui.internal.utils
 
+import android.graphics.Bitmap
 import com.mapbox.navigation.testing.BuilderTest
 import org.junit.Test
 import kotlin.reflect.KClass
@@ -10,6 +11,8 @@ class BitmapEncodeOptionsTest : BuilderTest<BitmapEncodeOptions, BitmapEncodeOpt
         return BitmapEncodeOptions.Builder()
             .compressQuality(88)
             .width(456)
+            .maxBytes(1024)
+            .format(Bitmap.CompressFormat.PNG)
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.mapbox.navigation.ui.internal.utils
+
+import android.graphics.Bitmap
+import com.mapbox.navigation.testing.MainCoroutineRule
+import com.mapbox.navigation.utils.internal.JobControl
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.unmockkStatic
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.test.TestCoroutineDispatcher
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import java.io.File
+
+@ExperimentalCoroutinesApi
+@RunWith(RobolectricTestRunner::class)
+class ScreenshotEncoderTest {
+
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
+    private val ioDispatcher = TestCoroutineDispatcher()
+    private val ioJob = SupervisorJob()
+    private val mainJob = SupervisorJob()
+    private val ioJobControl = JobControl(ioJob, CoroutineScope(ioJob + ioDispatcher))
+    private val mainJobControl =
+        JobControl(mainJob, CoroutineScope(mainJob + coroutineRule.testDispatcher))
+    private val capture: Bitmap = mockk()
+    private val options: BitmapEncodeOptions = mockk()
+    private val directory = createTempDir()
+    private val encoder = ScreenshotEncoder(directory, options, ioJobControl, mainJobControl)
+    private val results = mutableListOf<Any?>()
+
+    @Before
+    fun setUp() {
+        mockkStatic(ViewUtils::class)
+        every { ViewUtils.encodeView(capture, options) } returns "encoded"
+        every { ViewUtils.compressView(capture, options) } returns byteArrayOf(1, 2, 3)
+        every { options.format } returns Bitmap.CompressFormat.JPEG
+        coroutineRule.testDispatcher.pauseDispatcher()
+    }
+
+    @After
+    fun tearDown() {
+        unmockkStatic(ViewUtils::class)
+        ioDispatcher.cleanupTestCoroutines()
+        directory.deleteRecursively()
+    }
+
+    @Test
+    fun `encoded capture is delivered on the main thread`() {
+        encoder.encodeToBase64(capture, callback())
+        assertTrue(results.isEmpty())
+
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertEquals(listOf("encoded"), results)
+    }
+
+    @Test
+    fun `result waiting for the main thread is dropped after cancel`() {
+        encoder.encodeToBase64(capture, callback())
+
+        encoder.cancel()
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertTrue(results.isEmpty())
+    }
+
+    @Test
+    fun `file of a dropped result is deleted`() {
+        encoder.encodeToFile(capture, callback())
+
+        encoder.cancel()
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertTrue(results.isEmpty())
+        assertFalse(directory.listFiles().orEmpty().any { it.isFile })
+    }
+
+    @Test
+    fun `encoding started after cancel is delivered`() {
+        encoder.cancel()
+
+        encoder.encodeToFile(capture, callback())
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        val file = results.single() as File
+        assertTrue(file.exists())
+    }
+
+    @Test
+    fun `files left by another process are deleted`() {
+        val otherDirectory = createTempDir()
+        val staleFile = File(otherDirectory, "screenshot_stale.jpg")
+        staleFile.writeBytes(byteArrayOf(1))
+
+        ScreenshotEncoder(otherDirectory, options, ioJobControl, mainJobControl)
+            .encodeToFile(capture, callback())
+        coroutineRule.testDispatcher.resumeDispatcher()
+
+        assertFalse(staleFile.exists())
+        assertTrue((results.single() as File).exists())
+        otherDirectory.deleteRecursively()
+    }
+
+    private fun <T> callback() = object : ScreenshotEncoder.Callback<T> {
+        override fun onEncoded(result: T?) {
+            results.add(result)
+        }
+    }
+}
@@ -8,6 +8,7 @@ import io.mockk.mockkStatic
 import io.mockk.slot
 import org.junit.Assert.assertEquals
 import org.junit.Test
+import java.io.OutputStream
 
 private const val LOW_DENSITY_BITMAP_WIDTH = 160
 private const val HIGH_DENSITY_BITMAP_WIDTH = 1080
@@ -118,6 +119,54 @@ class ViewUtilsTest {
         ViewUtils.encodeView(aBitmap, options)
     }
 
+    @Test
+    fun compressViewLowersQualityToFitMaxBytes() {
+        val aBitmap: Bitmap = mockk()
+        every { aBitmap.width }.returns(HIGH_DENSITY_BITMAP_WIDTH)
+        every { aBitmap.height }.returns(BITMAP_HEIGHT)
+        val scaledBitmap: Bitmap = mockk()
+        val compressQualities = mutableListOf<Int>()
+        every { scaledBitmap.compress(any(), capture(compressQualities), any()) } answers {
+            thirdArg<OutputStream>().write(ByteArray(secondArg<Int>() * 10))
+            true
+        }
+        mockkStatic(Bitmap::class)
+        every { Bitmap.createScaledBitmap(any(), any(), any(), any()) } answers { scaledBitmap }
+        val options = BitmapEncodeOptions.Builder().compressQuality(80).maxBytes(200).build()
+
+        val data = ViewUtils.compressView(aBitmap, options)
+
+        assertEquals(listOf(80, 40, 20), compressQualities)
+        assertEquals(200, data.size)
+    }
+
+    @Test
+    fun compressViewLowersWidthWhenQualityCantBeLowered() {
+        val aBitmap: Bitmap = mockk()
+        every { aBitmap.width }.returns(HIGH_DENSITY_BITMAP_WIDTH)
+        every { aBitmap.height }.returns(BITMAP_HEIGHT)
+        val widths = mutableListOf<Int>()
+        mockkStatic(Bitmap::class)
+        every { Bitmap.createScaledBitmap(any(), capture(widths), any(), any()) } answers {
+            val width = secondArg<Int>()
+            mockk {
+                every { compress(any(), any(), any()) } answers {
+                    thirdArg<OutputStream>().write(ByteArray(width))
+                    true
+                }
+            }
+        }
+        val options = BitmapEncodeOptions.Builder()
+            .format(Bitmap.CompressFormat.PNG)
+            .maxBytes(150)
+            .build()
+
+        val data = ViewUtils.compressView(aBitmap, options)
+
+        assertEquals(listOf(250, 187, 140), widths)
+        assertEquals(140, data.size)
+    }
+
     private fun mockBitmapForCheckingWidth(width: Int = HIGH_DENSITY_BITMAP_WIDTH): BitmapWithSlot {
         val aBitmap: Bitmap = mockk()
         every { aBitmap.width }.returns(width)
@@ -28,6 +28,19 @@ public class LocationFpsDelegateTest {
     verify(locationComponent).setMaxAnimationFps(eq(25));
   }
 
+  @Test
+  public void updatePuckMaxFps_zoomFpsIsCapped() {
+    double zoom = 16d;
+    MapboxMap mapboxMap = mock(MapboxMap.class);
+    when(mapboxMap.getCameraPosition()).thenReturn(buildCameraPosition(zoom));
+    LocationComponent locationComponent = mock(LocationComponent.class);
+    LocationFpsDelegate locationFpsDelegate = new LocationFpsDelegate(mapboxMap, locationComponent);
+
+    locationFpsDelegate.updatePuckMaxFps(10);
+
+    verify(locationComponent).setMaxAnimationFps(eq(10));
+  }
+
   @Test
   public void onCameraIdle_newFpsIsSetZoom14() {
     double zoom = 14d;
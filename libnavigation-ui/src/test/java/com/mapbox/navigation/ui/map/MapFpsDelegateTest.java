@@ -58,6 +58,31 @@ public class MapFpsDelegateTest {
     verify(navigation).unregisterRouteProgressObserver(any(FpsDelegateProgressChangeListener.class));
   }
 
+  @Test
+  public void onStop_powerTierChangesIgnored() {
+    MapView mapView = mock(MapView.class);
+    PowerGovernor powerGovernor = new PowerGovernor();
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, mock(MapBatteryMonitor.class), powerGovernor);
+
+    delegate.onStop();
+    powerGovernor.updateForeground(false);
+
+    verify(mapView, never()).setMaximumFps(anyInt());
+  }
+
+  @Test
+  public void onStart_powerTierChangesApplied() {
+    MapView mapView = mock(MapView.class);
+    PowerGovernor powerGovernor = new PowerGovernor();
+    MapFpsDelegate delegate = new MapFpsDelegate(mapView, mock(MapBatteryMonitor.class), powerGovernor);
+    delegate.onStop();
+
+    delegate.onStart();
+    powerGovernor.updateForeground(false);
+
+    verify(mapView).setMaximumFps(eq(powerGovernor.budget().getMapMaxFps()));
+  }
+
   @Test
   public void updateEnabledFalse_maxFpsReset() {
     MapView mapView = mock(MapView.class);
@@ -1,23 +1,27 @@
 package com.mapbox.navigation.ui.map;
 
-import android.graphics.PointF;
+import android.location.Location;
 
 import androidx.annotation.NonNull;
 
 import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
-import com.mapbox.mapboxsdk.style.layers.PropertyValue;
-import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -26,29 +30,57 @@ import static org.mockito.Mockito.when;
 @RunWith(RobolectricTestRunner.class)
 public class MapWayNameTest {
 
+  private static final String[] LAYER_IDS = {"streetsLayer"};
+  private static final double METERS_PER_PIXEL = 1d;
+
   @Test
-  public void onUpdateWaynameWithPoint_queryRenderedFeaturesIsCalled() {
-    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
-    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
-    String[] layerIds = {"streetsLayer"};
-    PointF point = mock(PointF.class);
-    MapWayName mapWayName = new MapWayName(featureFinder, paddingAdjustor);
-    mapWayName.updateWayNameQueryMap(true);
+  public void onUpdateWayNameWithLocation_queryRenderedFeaturesIsCalled() {
+    WaynameFeatureFinder featureFinder = buildFeatureFinder(buildRoadFeatureList("roadName"));
+    MapWayName mapWayName = buildMapWayName(featureFinder);
+
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9000, 0f));
+
+    verify(featureFinder).queryRenderedFeatures(any(Point.class), anyFloat(), eq(LAYER_IDS));
+  }
+
+  @Test
+  public void onUpdateWayNameWithNearbyLocations_queryRenderedFeaturesIsCalledOnce() {
+    WaynameFeatureFinder featureFinder = buildFeatureFinder(buildRoadFeatureList("roadName"));
+    MapWayName mapWayName = buildMapWayName(featureFinder);
+
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9000, 0f));
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9001, 0f));
+
+    verify(featureFinder, times(1)).queryRenderedFeatures(any(Point.class), anyFloat(), eq(LAYER_IDS));
+  }
+
+  @Test
+  public void onUpdateWayNameWithLocation_listenerIsUpdated() {
+    WaynameFeatureFinder featureFinder = buildFeatureFinder(buildRoadFeatureList("roadName"));
+    MapWayName mapWayName = buildMapWayName(featureFinder);
+    OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
+    mapWayName.addOnWayNameChangedListener(listener);
+
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9000, 0f));
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9001, 180f));
+
+    verify(listener, times(1)).onWayNameChanged("roadName");
+  }
 
-    mapWayName.updateWayNameWithPoint(point);
+  @Test
+  public void onUpdateWayNameWithLocationAndQueryDisabled_queryRenderedFeaturesIsNotCalled() {
+    WaynameFeatureFinder featureFinder = buildFeatureFinder(buildRoadFeatureList("roadName"));
+    MapWayName mapWayName = buildMapWayName(featureFinder);
+    mapWayName.updateWayNameQueryMap(false);
+
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9000, 0f));
 
-    verify(featureFinder).queryRenderedFeatures(point, layerIds);
+    verify(featureFinder, times(0)).queryRenderedFeatures(any(Point.class), anyFloat(), eq(LAYER_IDS));
   }
 
   @Test
   public void addOnWayNameChangedListener_duplicateListenerIgnored() {
-    String roadName = "roadName";
-    PointF point = mock(PointF.class);
-    List<Feature> roads = buildRoadFeatureList(roadName);
-    MapWayName mapWayName = buildMapWayname(point, roads);
-    List<Point> stepPoints = new ArrayList<>();
-    stepPoints.add(mock(Point.class));
-    mapWayName.updateProgress(stepPoints);
+    MapWayName mapWayName = buildMapWayName(buildFeatureFinder(buildRoadFeatureList("roadName")));
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
 
     mapWayName.addOnWayNameChangedListener(listener);
@@ -59,13 +91,7 @@ public class MapWayNameTest {
 
   @Test
   public void removeOnWayNameChangedListener_duplicateListenerIgnored() {
-    String roadName = "roadName";
-    PointF point = mock(PointF.class);
-    List<Feature> roads = buildRoadFeatureList(roadName);
-    MapWayName mapWayName = buildMapWayname(point, roads);
-    List<Point> stepPoints = new ArrayList<>();
-    stepPoints.add(mock(Point.class));
-    mapWayName.updateProgress(stepPoints);
+    MapWayName mapWayName = buildMapWayName(buildFeatureFinder(buildRoadFeatureList("roadName")));
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
 
     mapWayName.removeOnWayNameChangedListener(listener);
@@ -75,37 +101,53 @@ public class MapWayNameTest {
   }
 
   @Test
-  public void onFeatureWithoutNamePropertyReturned_updateIsIgnored() {
-    PointF point = mock(PointF.class);
-    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+  public void onFeatureWithoutGeometryReturned_updateIsIgnored() {
     List<Feature> roads = new ArrayList<>();
-    Feature road = mock(Feature.class);
-    roads.add(road);
-    MapWayName mapWayName = buildMapWayname(point, roads);
+    roads.add(mock(Feature.class));
+    MapWayName mapWayName = buildMapWayName(buildFeatureFinder(roads));
+    OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
+    mapWayName.addOnWayNameChangedListener(listener);
 
-    mapWayName.updateWayNameWithPoint(point);
+    mapWayName.updateWayNameWithLocation(buildLocation(-77.03195, 38.9000, 0f));
 
-    verify(waynameLayer, times(0)).setProperties(any(PropertyValue.class));
+    verify(listener, times(0)).onWayNameChanged(anyString());
   }
 
   @NonNull
-  private MapWayName buildMapWayname(PointF point, List<Feature> roads) {
-    String[] layerIds = {"streetsLayer"};
-    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
-    when(featureInteractor.queryRenderedFeatures(point, layerIds)).thenReturn(roads);
+  private MapWayName buildMapWayName(WaynameFeatureFinder featureFinder) {
     MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
-    MapWayName mapWayName = new MapWayName(featureInteractor, paddingAdjustor);
+    MapWayName mapWayName = new MapWayName(featureFinder, paddingAdjustor);
     mapWayName.updateWayNameQueryMap(true);
     return mapWayName;
   }
 
+  @NonNull
+  private WaynameFeatureFinder buildFeatureFinder(List<Feature> roads) {
+    WaynameFeatureFinder featureFinder = mock(WaynameFeatureFinder.class);
+    when(featureFinder.queryRenderedFeatures(any(Point.class), anyFloat(), eq(LAYER_IDS))).thenReturn(roads);
+    when(featureFinder.getMetersPerPixelAtLatitude(anyDouble())).thenReturn(METERS_PER_PIXEL);
+    return featureFinder;
+  }
+
+  @NonNull
+  private Location buildLocation(double longitude, double latitude, float bearing) {
+    Location location = new Location("test");
+    location.setLongitude(longitude);
+    location.setLatitude(latitude);
+    location.setBearing(bearing);
+    return location;
+  }
+
   @NonNull
   private List<Feature> buildRoadFeatureList(String roadName) {
+    LineString road = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.03195, 38.8990),
+      Point.fromLngLat(-77.03195, 38.9010)
+    ));
+    Feature feature = Feature.fromGeometry(road);
+    feature.addStringProperty("name", roadName);
     List<Feature> roads = new ArrayList<>();
-    Feature road = mock(Feature.class);
-    when(road.hasNonNullValueForProperty("name")).thenReturn(true);
-    when(road.getStringProperty("name")).thenReturn(roadName);
-    roads.add(road);
+    roads.add(feature);
     return roads;
   }
-}
\ No newline at end of file
+}
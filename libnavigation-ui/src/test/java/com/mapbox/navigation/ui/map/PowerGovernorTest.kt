@@ -0,0 +1,91 @@
+package com.mapbox.navigation.ui.map
+
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class PowerGovernorTest {
+
+    private val governor = PowerGovernor()
+
+    @Test
+    fun `starts balanced`() {
+        assertEquals(PowerTier.BALANCED, governor.tier)
+        assertEquals(
+            PowerBudget(MapFpsDelegate.DEFAULT_MAX_FPS_THRESHOLD, Int.MAX_VALUE),
+            governor.budget()
+        )
+    }
+
+    @Test
+    fun `listeners are notified when the tier changes`() {
+        val listener = mockk<OnPowerTierChangedListener>(relaxed = true)
+        governor.addOnPowerTierChangedListener(listener)
+
+        governor.updateBattery(8, false)
+
+        verify(exactly = 1) { listener.onPowerTierChanged(PowerTier.CRITICAL, PowerBudget(10, 10)) }
+    }
+
+    @Test
+    fun `listeners are not notified when the tier is unchanged`() {
+        val listener = mockk<OnPowerTierChangedListener>(relaxed = true)
+        governor.addOnPowerTierChangedListener(listener)
+
+        governor.updateBattery(80, false)
+        governor.updateSpeed(12f)
+
+        verify(exactly = 0) { listener.onPowerTierChanged(any(), any()) }
+    }
+
+    @Test
+    fun `removed listeners are not notified`() {
+        val listener = mockk<OnPowerTierChangedListener>(relaxed = true)
+        governor.addOnPowerTierChangedListener(listener)
+        governor.removeOnPowerTierChangedListener(listener)
+
+        governor.updateForeground(false)
+
+        verify(exactly = 0) { listener.onPowerTierChanged(any(), any()) }
+    }
+
+    @Test
+    fun `maneuver ahead raises the tier until the device stops`() {
+        governor.updateSpeed(10f)
+        governor.updateManeuverAhead(true)
+        assertEquals(PowerTier.FULL, governor.tier)
+
+        governor.updateSpeed(0f)
+
+        assertEquals(PowerTier.BALANCED, governor.tier)
+    }
+
+    @Test
+    fun `policy update changes the budget`() {
+        governor.updatePolicy(PowerPolicy.defaultPolicy(5))
+
+        assertEquals(5, governor.budget().mapMaxFps)
+    }
+
+    @Test
+    fun `time spent in each tier is counted`() {
+        var nowMillis = 1_000L
+        val governor = PowerGovernor(elapsedRealtimeMillis = { nowMillis })
+
+        nowMillis += 300
+        governor.updateForeground(false)
+        nowMillis += 200
+        governor.updateForeground(true)
+        nowMillis += 50
+
+        assertEquals(
+            MapPowerStats(
+                PowerTier.BALANCED,
+                2,
+                mapOf(PowerTier.BALANCED to 350L, PowerTier.BACKGROUND to 200L)
+            ),
+            governor.retrieveStats()
+        )
+    }
+}
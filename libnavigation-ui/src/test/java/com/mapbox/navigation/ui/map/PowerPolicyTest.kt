@@ -0,0 +1,102 @@
+package com.mapbox.navigation.ui.map
+
+import android.os.PowerManager
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class PowerPolicyTest {
+
+    private val policy = PowerPolicy.defaultPolicy()
+
+    @Test
+    fun `balanced between maneuvers`() {
+        assertEquals(PowerTier.BALANCED, policy.tierFor(PowerState(batteryPercent = 80)))
+    }
+
+    @Test
+    fun `full with a maneuver ahead`() {
+        val state = PowerState(
+            batteryPercent = 80,
+            isManeuverAhead = true,
+            speedMetersPerSecond = 10f
+        )
+
+        assertEquals(PowerTier.FULL, policy.tierFor(state))
+    }
+
+    @Test
+    fun `balanced with a maneuver ahead while stopped`() {
+        val state = PowerState(
+            batteryPercent = 80,
+            isManeuverAhead = true,
+            speedMetersPerSecond = 0f
+        )
+
+        assertEquals(PowerTier.BALANCED, policy.tierFor(state))
+    }
+
+    @Test
+    fun `full while charging`() {
+        val state = PowerState(batteryPercent = 15, isCharging = true)
+
+        assertEquals(PowerTier.FULL, policy.tierFor(state))
+    }
+
+    @Test
+    fun `saver with low battery`() {
+        val state = PowerState(batteryPercent = 20, isManeuverAhead = true)
+
+        assertEquals(PowerTier.SAVER, policy.tierFor(state))
+    }
+
+    @Test
+    fun `critical with critically low battery`() {
+        assertEquals(PowerTier.CRITICAL, policy.tierFor(PowerState(batteryPercent = 10)))
+    }
+
+    @Test
+    fun `saver when the device is warm even while charging`() {
+        val state = PowerState(
+            isCharging = true,
+            thermalStatus = PowerManager.THERMAL_STATUS_MODERATE
+        )
+
+        assertEquals(PowerTier.SAVER, policy.tierFor(state))
+    }
+
+    @Test
+    fun `critical when the device is hot`() {
+        val state = PowerState(
+            isCharging = true,
+            thermalStatus = PowerManager.THERMAL_STATUS_SEVERE
+        )
+
+        assertEquals(PowerTier.CRITICAL, policy.tierFor(state))
+    }
+
+    @Test
+    fun `background when not visible`() {
+        val state = PowerState(
+            thermalStatus = PowerManager.THERMAL_STATUS_SEVERE,
+            isForeground = false
+        )
+
+        assertEquals(PowerTier.BACKGROUND, policy.tierFor(state))
+    }
+
+    @Test
+    fun `lower tiers never render faster than the balanced threshold`() {
+        val policy = PowerPolicy.defaultPolicy(5)
+
+        assertEquals(PowerBudget(30, Int.MAX_VALUE), policy.budgetFor(PowerTier.FULL))
+        assertEquals(PowerBudget(5, Int.MAX_VALUE), policy.budgetFor(PowerTier.BALANCED))
+        assertEquals(PowerBudget(5, 15), policy.budgetFor(PowerTier.SAVER))
+        assertEquals(PowerBudget(5, 10), policy.budgetFor(PowerTier.CRITICAL))
+        assertEquals(PowerBudget(1, 1), policy.budgetFor(PowerTier.BACKGROUND))
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `every tier needs a budget`() {
+        PowerPolicy(mapOf(PowerTier.FULL to PowerBudget(30, 30)))
+    }
+}
@@ -0,0 +1,113 @@
+package com.mapbox.navigation.ui.map;
+
+import androidx.annotation.NonNull;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WayNameIndexTest {
+
+  private static final Point INTERSECTION = Point.fromLngLat(-77.03195, 38.9013348);
+
+  @Test
+  public void findNearestSegment_pointOnRoadReturnsRoad() {
+    WayNameIndex index = buildIndex();
+
+    WayNameIndex.WayNameSegment segment = index.findNearestSegment(Point.fromLngLat(-77.03196, 38.9005), null);
+
+    assertEquals("14th St NW", segment.name);
+  }
+
+  @Test
+  public void findNearestSegment_intersectionWithNorthBearingReturnsNorthSouthRoad() {
+    WayNameIndex index = buildIndex();
+
+    WayNameIndex.WayNameSegment segment = index.findNearestSegment(INTERSECTION, 0d);
+
+    assertEquals("14th St NW", segment.name);
+  }
+
+  @Test
+  public void findNearestSegment_intersectionWithEastBearingReturnsEastWestRoad() {
+    WayNameIndex index = buildIndex();
+
+    WayNameIndex.WayNameSegment segment = index.findNearestSegment(INTERSECTION, 90d);
+
+    assertEquals("I St NW", segment.name);
+  }
+
+  @Test
+  public void findNearestSegment_oppositeBearingMatchesRoad() {
+    WayNameIndex index = buildIndex();
+
+    WayNameIndex.WayNameSegment segment = index.findNearestSegment(INTERSECTION, 270d);
+
+    assertEquals("I St NW", segment.name);
+  }
+
+  @Test
+  public void findNearestSegment_pointFarFromRoadsReturnsNull() {
+    WayNameIndex index = buildIndex();
+
+    WayNameIndex.WayNameSegment segment = index.findNearestSegment(Point.fromLngLat(-77.0330, 38.9030), null);
+
+    assertNull(segment);
+  }
+
+  @Test
+  public void findNearestSegment_bearingAcrossRoadReturnsNull() {
+    WayNameIndex index = buildIndex();
+
+    WayNameIndex.WayNameSegment segment = index.findNearestSegment(Point.fromLngLat(-77.03196, 38.9005), 90d);
+
+    assertNull(segment);
+  }
+
+  @Test
+  public void covers_pointWithinRadiusIsCovered() {
+    WayNameIndex index = buildIndex();
+
+    assertTrue(index.covers(Point.fromLngLat(-77.03195, 38.9020)));
+  }
+
+  @Test
+  public void covers_pointNearEdgeIsNotCovered() {
+    WayNameIndex index = buildIndex();
+
+    assertFalse(index.covers(Point.fromLngLat(-77.03195, 38.9040)));
+  }
+
+  @Test
+  public void segmentCount_allSegmentsAreIndexed() {
+    WayNameIndex index = buildIndex();
+
+    assertEquals(11, index.segmentCount());
+  }
+
+  @NonNull
+  private WayNameIndex buildIndex() {
+    List<Feature> roadFeatures = new ArrayList<>();
+    roadFeatures.add(Feature.fromJson(loadJsonFixture("feature_one.json")));
+    roadFeatures.add(Feature.fromJson(loadJsonFixture("feature_two.json")));
+    return new WayNameIndex(roadFeatures, INTERSECTION, 300d);
+  }
+
+  private String loadJsonFixture(String filename) {
+    ClassLoader classLoader = getClass().getClassLoader();
+    InputStream inputStream = classLoader.getResourceAsStream(filename);
+    Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A");
+    return scanner.hasNext() ? scanner.next() : "";
+  }
+}
@@ -0,0 +1,106 @@
+package com.mapbox.navigation.ui.map;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WayNameResolverTest {
+
+  private static final Point CENTER = Point.fromLngLat(-77.03195, 38.9000);
+
+  @Test
+  public void needsIndex_withoutIndexIsTrue() {
+    WayNameResolver resolver = new WayNameResolver();
+
+    assertTrue(resolver.needsIndex(CENTER));
+  }
+
+  @Test
+  public void needsIndex_pointCoveredByIndexIsFalse() {
+    WayNameResolver resolver = new WayNameResolver();
+    resolver.updateIndex(new WayNameIndex(buildRoads(), CENTER, 200d));
+
+    assertFalse(resolver.needsIndex(Point.fromLngLat(-77.03195, 38.9005)));
+  }
+
+  @Test
+  public void needsIndex_pointOutsideIndexIsTrue() {
+    WayNameResolver resolver = new WayNameResolver();
+    resolver.updateIndex(new WayNameIndex(buildRoads(), CENTER, 200d));
+
+    assertTrue(resolver.needsIndex(Point.fromLngLat(-77.03195, 38.9020)));
+  }
+
+  @Test
+  public void resolve_withoutIndexReturnsNull() {
+    WayNameResolver resolver = new WayNameResolver();
+
+    assertNull(resolver.resolve(CENTER, 0d));
+  }
+
+  @Test
+  public void resolve_returnsNameOfRoadUnderPoint() {
+    WayNameResolver resolver = new WayNameResolver();
+    resolver.updateIndex(new WayNameIndex(buildRoads(), CENTER, 200d));
+
+    assertEquals("14th St NW", resolver.resolve(CENTER, 0d));
+  }
+
+  @Test
+  public void resolve_keepsCurrentRoadAlongSegment() {
+    WayNameResolver resolver = new WayNameResolver();
+    resolver.updateIndex(new WayNameIndex(buildRoads(), CENTER, 200d));
+    resolver.resolve(CENTER, 0d);
+
+    assertEquals("14th St NW", resolver.resolve(Point.fromLngLat(-77.03195, 38.9003), 0d));
+  }
+
+  @Test
+  public void resolve_switchesRoadWhenBearingChanges() {
+    WayNameResolver resolver = new WayNameResolver();
+    resolver.updateIndex(new WayNameIndex(buildRoads(), CENTER, 200d));
+    resolver.resolve(CENTER, 0d);
+
+    assertEquals("Cross St", resolver.resolve(CENTER, 90d));
+  }
+
+  @Test
+  public void resolve_roadWithoutNameReturnsEmptyName() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.03195, 38.8990),
+      Point.fromLngLat(-77.03195, 38.9010)
+    ));
+    WayNameResolver resolver = new WayNameResolver();
+    resolver.updateIndex(new WayNameIndex(Collections.singletonList(Feature.fromGeometry(line)), CENTER, 200d));
+
+    assertEquals("", resolver.resolve(CENTER, null));
+  }
+
+  private List<Feature> buildRoads() {
+    return Arrays.asList(
+      buildRoad("14th St NW", -77.03195, 38.8990, -77.03195, 38.9010),
+      buildRoad("Cross St", -77.0322, 38.90001, -77.0317, 38.90001)
+    );
+  }
+
+  private Feature buildRoad(String name, double startLng, double startLat, double endLng, double endLat) {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(startLng, startLat),
+      Point.fromLngLat(endLng, endLat)
+    ));
+    Feature feature = Feature.fromGeometry(line);
+    feature.addStringProperty("name", name);
+    return feature;
+  }
+}
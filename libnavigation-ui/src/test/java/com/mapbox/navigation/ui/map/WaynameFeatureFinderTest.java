@@ -1,25 +1,54 @@
 package com.mapbox.navigation.ui.map;
 
 import android.graphics.PointF;
+import android.graphics.RectF;
 
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
+import com.mapbox.mapboxsdk.maps.Projection;
 
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+@RunWith(RobolectricTestRunner.class)
 public class WaynameFeatureFinderTest {
 
   @Test
-  public void queryRenderedFeatures_mapboxMapIsCalled() {
+  public void queryRenderedFeatures_mapboxMapIsCalledWithBoxAroundPoint() {
     MapboxMap mapboxMap = mock(MapboxMap.class);
+    Projection projection = mock(Projection.class);
+    when(mapboxMap.getProjection()).thenReturn(projection);
+    when(projection.toScreenLocation(any(LatLng.class))).thenReturn(new PointF(100f, 200f));
     WaynameFeatureFinder featureFinder = new WaynameFeatureFinder(mapboxMap);
-    PointF point = mock(PointF.class);
     String[] layerIds = {"id", "id"};
 
-    featureFinder.queryRenderedFeatures(point, layerIds);
+    featureFinder.queryRenderedFeatures(Point.fromLngLat(-77.03195, 38.9013), 50f, layerIds);
 
-    verify(mapboxMap).queryRenderedFeatures(point, layerIds);
+    ArgumentCaptor<RectF> box = ArgumentCaptor.forClass(RectF.class);
+    verify(mapboxMap).queryRenderedFeatures(box.capture(), eq(layerIds));
+    assertEquals(new RectF(50f, 150f, 150f, 250f), box.getValue());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void getMetersPerPixelAtLatitude_projectionIsCalled() {
+    MapboxMap mapboxMap = mock(MapboxMap.class);
+    Projection projection = mock(Projection.class);
+    when(mapboxMap.getProjection()).thenReturn(projection);
+    when(projection.getMetersPerPixelAtLatitude(38.9)).thenReturn(2.5);
+    WaynameFeatureFinder featureFinder = new WaynameFeatureFinder(mapboxMap);
+
+    double metersPerPixel = featureFinder.getMetersPerPixelAtLatitude(38.9);
+
+    assertEquals(2.5, metersPerPixel, 0.0);
+  }
+}
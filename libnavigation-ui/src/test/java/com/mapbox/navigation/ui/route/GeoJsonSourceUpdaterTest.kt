@@ -0,0 +1,127 @@
+package com.mapbox.navigation.ui.route
+
+import com.mapbox.geojson.Feature
+import com.mapbox.geojson.FeatureCollection
+import com.mapbox.geojson.Point
+import com.mapbox.mapboxsdk.style.sources.GeoJsonSource
+import io.mockk.mockk
+import io.mockk.verify
+import io.mockk.verifyOrder
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class GeoJsonSourceUpdaterTest {
+
+    private val source: GeoJsonSource = mockk(relaxUnitFun = true)
+    private val otherSource: GeoJsonSource = mockk(relaxUnitFun = true)
+    private val updater = GeoJsonSourceUpdater()
+
+    @Test
+    fun `collection is uploaded`() {
+        val featureCollection = collectionOf(1.0)
+
+        updater.update(source, featureCollection)
+
+        verify(exactly = 1) { source.setGeoJson(featureCollection) }
+    }
+
+    @Test
+    fun `equal collection is not uploaded again`() {
+        updater.update(source, collectionOf(1.0))
+
+        updater.update(source, collectionOf(1.0))
+
+        verify(exactly = 1) { source.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    @Test
+    fun `different collection is uploaded`() {
+        val featureCollection = collectionOf(2.0)
+        updater.update(source, collectionOf(1.0))
+
+        updater.update(source, featureCollection)
+
+        verify(exactly = 1) { source.setGeoJson(featureCollection) }
+    }
+
+    @Test
+    fun `collection the source was created with is not uploaded`() {
+        updater.onSourceCreated(source, collectionOf(1.0))
+
+        updater.update(source, collectionOf(1.0))
+
+        verify(exactly = 0) { source.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    @Test
+    fun `sources are compared to their own uploads`() {
+        updater.update(source, collectionOf(1.0))
+
+        updater.update(otherSource, collectionOf(1.0))
+
+        verify(exactly = 1) { otherSource.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    @Test
+    fun `last collection of a batch is uploaded when the batch ends`() {
+        val lastCollection = collectionOf(3.0)
+        val otherCollection = collectionOf(4.0)
+        updater.beginBatch()
+        updater.update(source, collectionOf(1.0))
+        updater.update(otherSource, otherCollection)
+        updater.update(source, lastCollection)
+        verify(exactly = 0) { source.setGeoJson(any<FeatureCollection>()) }
+
+        updater.endBatch()
+
+        verify(exactly = 1) { source.setGeoJson(any<FeatureCollection>()) }
+        verifyOrder {
+            source.setGeoJson(lastCollection)
+            otherSource.setGeoJson(otherCollection)
+        }
+    }
+
+    @Test
+    fun `nested batch is uploaded when the outermost batch ends`() {
+        updater.beginBatch()
+        updater.batch { updater.update(source, collectionOf(1.0)) }
+        verify(exactly = 0) { source.setGeoJson(any<FeatureCollection>()) }
+
+        updater.endBatch()
+
+        verify(exactly = 1) { source.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    @Test
+    fun `uploads skips and coalesced collections are counted`() {
+        updater.update(source, collectionOf(1.0, 2.0))
+        updater.update(source, collectionOf(1.0, 2.0))
+        updater.batch {
+            updater.update(otherSource, collectionOf(3.0))
+            updater.update(otherSource, collectionOf(4.0))
+        }
+
+        val stats = updater.retrieveStats()
+
+        assertEquals(RouteSourceUpdateStats(2L, 3L, 1L, 1L), stats)
+    }
+
+    @Test
+    fun `batch is closed when the block throws`() {
+        runCatching { updater.batch { throw IllegalArgumentException() } }
+
+        updater.update(source, collectionOf(1.0))
+
+        verify(exactly = 1) { source.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `batch must be opened before it is closed`() {
+        updater.endBatch()
+    }
+
+    private fun collectionOf(vararg longitudes: Double): FeatureCollection =
+        FeatureCollection.fromFeatures(
+            longitudes.map { Feature.fromGeometry(Point.fromLngLat(it, 52.5)) }
+        )
+}
@@ -0,0 +1,182 @@
+package com.mapbox.navigation.ui.route
+
+import com.mapbox.api.directions.v5.DirectionsCriteria
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.api.directions.v5.models.RouteLeg
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.core.constants.Constants.PRECISION_5
+import com.mapbox.core.constants.Constants.PRECISION_6
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.utils.PolylineUtils
+import com.mapbox.navigation.base.trip.model.RouteLegProgress
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.base.trip.model.RouteStepProgress
+import com.mapbox.turf.TurfConstants
+import com.mapbox.turf.TurfMeasurement
+import com.mapbox.turf.TurfMisc
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ManeuverArrowGeometryTest {
+
+    private val steps = listOf(
+        listOf(Point.fromLngLat(-122.4230, 37.7600), Point.fromLngLat(-122.4230, 37.7610)),
+        listOf(Point.fromLngLat(-122.4230, 37.7610), Point.fromLngLat(-122.4220, 37.7610)),
+        listOf(Point.fromLngLat(-122.4220, 37.7610), Point.fromLngLat(-122.4220, 37.7620)),
+        listOf(Point.fromLngLat(-122.4220, 37.7620), Point.fromLngLat(-122.4210, 37.7620))
+    )
+
+    @Test
+    fun `arrow matches the sliced step geometries`() {
+        val arrow = ManeuverArrowGeometry.buildArrow(steps[0], steps[1])!!
+
+        val expectedPoints = legacyArrowPoints(steps[0], steps[1])
+        assertEquals(expectedPoints, arrow.shaftPoints)
+        assertEquals(expectedPoints.last(), arrow.headPoint)
+        val expectedBearing = TurfMeasurement.bearing(
+            expectedPoints[expectedPoints.size - 2],
+            expectedPoints.last()
+        )
+        assertEquals((expectedBearing + 360) % 360, arrow.headBearing, 0.0001)
+    }
+
+    @Test
+    fun `arrow is not built for a step with less than two points`() {
+        assertNull(ManeuverArrowGeometry.buildArrow(steps[0], listOf(steps[1][0])))
+        assertNull(ManeuverArrowGeometry.buildArrow(null, steps[1]))
+    }
+
+    @Test
+    fun `arrow is built once per step`() {
+        val route = route()
+        val stepProgress = stepProgress(0)
+        val geometry = ManeuverArrowGeometry()
+
+        val first = geometry.arrowsAhead(routeProgress(route, stepProgress))
+        val second = geometry.arrowsAhead(routeProgress(route, stepProgress))
+
+        assertSame(first[0], second[0])
+        verify(exactly = 1) { stepProgress.stepPoints }
+    }
+
+    @Test
+    fun `arrows are built for the maneuvers ahead on the leg`() {
+        val geometry = ManeuverArrowGeometry(3)
+
+        val arrows = geometry.arrowsAhead(routeProgress(route(), stepProgress(0)))
+
+        assertEquals(3, arrows.size)
+        assertEquals(ManeuverArrowGeometry.buildArrow(steps[1], steps[2]), arrows[1])
+        assertEquals(ManeuverArrowGeometry.buildArrow(steps[2], steps[3]), arrows[2])
+    }
+
+    @Test
+    fun `arrows ahead are decoded with the precision of a polyline5 route`() {
+        val geometry = ManeuverArrowGeometry(2)
+        val route = route(geometries = DirectionsCriteria.GEOMETRY_POLYLINE)
+
+        val arrows = geometry.arrowsAhead(routeProgress(route, stepProgress(0)))
+
+        assertEquals(ManeuverArrowGeometry.buildArrow(steps[1], steps[2]), arrows[1])
+    }
+
+    @Test
+    fun `arrows ahead stop at the last maneuver of the leg`() {
+        val geometry = ManeuverArrowGeometry(3)
+
+        val arrows = geometry.arrowsAhead(routeProgress(route(), stepProgress(2)))
+
+        assertEquals(1, arrows.size)
+    }
+
+    @Test
+    fun `arrows are rebuilt when the route changes`() {
+        val geometry = ManeuverArrowGeometry()
+        val stepProgress = stepProgress(0)
+        geometry.arrowsAhead(routeProgress(route("first"), stepProgress))
+
+        geometry.arrowsAhead(routeProgress(route("second"), stepProgress))
+
+        verify(exactly = 2) { stepProgress.stepPoints }
+    }
+
+    @Test
+    fun `no arrow without step progress`() {
+        val routeProgress = mockk<RouteProgress> {
+            every { route } returns route()
+            every { currentLegProgress } returns null
+        }
+
+        assertTrue(ManeuverArrowGeometry().arrowsAhead(routeProgress).isEmpty())
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `max arrows must be positive`() {
+        ManeuverArrowGeometry(0)
+    }
+
+    private fun legacyArrowPoints(current: List<Point>, upcoming: List<Point>): List<Point> {
+        val currentSliced = TurfMisc.lineSliceAlong(
+            LineString.fromLngLats(current.reversed()),
+            0.0,
+            30.0,
+            TurfConstants.UNIT_METERS
+        )
+        val upcomingSliced = TurfMisc.lineSliceAlong(
+            LineString.fromLngLats(upcoming),
+            0.0,
+            30.0,
+            TurfConstants.UNIT_METERS
+        )
+        return currentSliced.coordinates().reversed() + upcomingSliced.coordinates()
+    }
+
+    private fun route(
+        geometry: String = "route",
+        geometries: String = DirectionsCriteria.GEOMETRY_POLYLINE6
+    ): DirectionsRoute {
+        val precision = if (geometries == DirectionsCriteria.GEOMETRY_POLYLINE) {
+            PRECISION_5
+        } else {
+            PRECISION_6
+        }
+        val legSteps = steps.map { points ->
+            mockk<LegStep> { every { geometry() } returns PolylineUtils.encode(points, precision) }
+        }
+        val leg = mockk<RouteLeg> { every { steps() } returns legSteps }
+        val options = mockk<RouteOptions> { every { geometries() } returns geometries }
+        return mockk {
+            every { geometry() } returns geometry
+            every { legs() } returns listOf(leg)
+            every { routeOptions() } returns options
+        }
+    }
+
+    private fun stepProgress(stepIndex: Int): RouteStepProgress = mockk {
+        every { this@mockk.stepIndex } returns stepIndex
+        every { stepPoints } returns steps[stepIndex]
+    }
+
+    private fun routeProgress(
+        route: DirectionsRoute,
+        stepProgress: RouteStepProgress
+    ): RouteProgress {
+        val legProgress = mockk<RouteLegProgress> {
+            every { legIndex } returns 0
+            every { currentStepProgress } returns stepProgress
+        }
+        return mockk {
+            every { this@mockk.route } returns route
+            every { currentLegProgress } returns legProgress
+            every { upcomingStepPoints } returns steps.getOrNull(stepProgress.stepIndex + 1)
+        }
+    }
+}
@@ -3,12 +3,9 @@ package com.mapbox.navigation.ui.route
 import android.content.Context
 import android.content.res.Resources
 import android.content.res.TypedArray
-import android.graphics.PointF
-import android.graphics.RectF
 import androidx.test.core.app.ApplicationProvider
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.core.constants.Constants
-import com.mapbox.geojson.Feature
 import com.mapbox.geojson.FeatureCollection
 import com.mapbox.geojson.LineString
 import com.mapbox.geojson.Point
@@ -2168,287 +2165,120 @@ class MapRouteLineTest {
     }
 
     @Test
-    fun findClosestRouteWhenMapQueryReturnsPrimaryViaPoint() {
-        val clickPoint = PointF(200f, 200f)
-        val targetPoint = LatLng(37.97, -122.52)
-        val mockProjection = mockk<Projection> {
-            every { toScreenLocation(targetPoint) } returns clickPoint
-        }
-        every { style.layers } returns listOf(primaryRouteLayer)
-        val primaryRoute: DirectionsRoute = getDirectionsRoute(true)
-        val alternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val mapRouteLine = MapRouteLine(
-            ctx,
-            style,
-            styleRes,
-            null,
-            layerProvider,
-            mapRouteSourceProvider,
-            null,
-            16,
-            0.375f
-        ).also { it.draw(listOf(primaryRoute, alternativeRoute)) }
-        val featurePrimary = mockk<Feature> {
-            every { id() } returns mapRouteLine.retrieveRouteFeatureData()[0]
-                .featureCollection
-                .features()!![0]
-                .id()
-        }
-        val featureAlternative = mockk<Feature> {
-            every { id() } returns mapRouteLine.retrieveRouteFeatureData()[1]
-                .featureCollection
-                .features()!![0]
-                .id()
-        }
-        val mockMap = mockk<MapboxMap> {
-            every { projection } returns mockProjection
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featurePrimary)
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featureAlternative)
-        }
+    fun findClosestRouteReturnsPrimaryRoute() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+        val targetPoint = LatLng(37.97514, -122.523348)
 
-        val result = mapRouteLine.findClosestRoute(targetPoint, mockMap, 40f)
+        val result = mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(), 10f)
 
         assertEquals(0, result)
     }
 
     @Test
-    fun findClosestRouteWhenMapQueryReturnsPrimaryInRect() {
-        val clickPoint = PointF(200f, 200f)
-        val targetPoint = LatLng(37.97, -122.52)
-        val mockProjection = mockk<Projection> {
-            every { toScreenLocation(targetPoint) } returns clickPoint
-        }
-        every { style.layers } returns listOf(primaryRouteLayer)
-        val primaryRoute: DirectionsRoute = getDirectionsRoute(true)
-        val alternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val mapRouteLine = MapRouteLine(
-            ctx,
-            style,
-            styleRes,
-            null,
-            layerProvider,
-            mapRouteSourceProvider,
-            null,
-            16,
-            0.375f
-        ).also { it.draw(listOf(primaryRoute, alternativeRoute)) }
-        val featurePrimary = mockk<Feature> {
-            every { id() } returns mapRouteLine.retrieveRouteFeatureData()[0]
-                .featureCollection
-                .features()!![0]
-                .id()
-        }
-        val featureAlternative = mockk<Feature> {
-            every { id() } returns mapRouteLine.retrieveRouteFeatureData()[1]
-                .featureCollection
-                .features()!![0]
-                .id()
-        }
-        val mockMap = mockk<MapboxMap> {
-            every { projection } returns mockProjection
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featurePrimary)
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featureAlternative)
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featureAlternative)
-        }
+    fun findClosestRouteGivesPrecedenceToPrimaryRoute() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+        val targetPoint = LatLng(37.975207, -122.523816)
 
-        val result = mapRouteLine.findClosestRoute(targetPoint, mockMap, 40f)
+        val result = mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(), 30f)
 
         assertEquals(0, result)
     }
 
     @Test
-    fun findClosestRouteWhenMapQueryReturnsAlternativeViaPoint() {
-        val clickPoint = PointF(200f, 200f)
-        val targetPoint = LatLng(37.97, -122.52)
-        val mockProjection = mockk<Projection> {
-            every { toScreenLocation(targetPoint) } returns clickPoint
-        }
-        every { style.layers } returns listOf(primaryRouteLayer)
-        val primaryRoute: DirectionsRoute = getDirectionsRoute(true)
-        val firstAlternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val secondAlternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val mapRouteLine = MapRouteLine(
-            ctx,
-            style,
-            styleRes,
-            null,
-            layerProvider,
-            mapRouteSourceProvider,
-            null,
-            16,
-            0.375f
-        ).also { it.draw(listOf(primaryRoute, firstAlternativeRoute, secondAlternativeRoute)) }
-        val featureAlternative = mockk<Feature> {
-            every { id() } returns mapRouteLine.retrieveRouteFeatureData()[2]
-                .featureCollection
-                .features()!![0]
-                .id()
-        }
-        val mockMap = mockk<MapboxMap> {
-            every { projection } returns mockProjection
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featureAlternative)
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-        }
+    fun findClosestRouteReturnsAlternativeRoute() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+        val targetPoint = LatLng(37.9725, -122.52611)
 
-        val result = mapRouteLine.findClosestRoute(targetPoint, mockMap, 40f)
+        val result = mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(), 10f)
 
-        assertEquals(2, result)
+        assertEquals(1, result)
     }
 
     @Test
-    fun findClosestRouteWhenMapQueryReturnsAlternativeInRect() {
-        val clickPoint = PointF(200f, 200f)
+    fun findClosestRouteWhenNotFound() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
         val targetPoint = LatLng(37.97, -122.52)
-        val mockProjection = mockk<Projection> {
-            every { toScreenLocation(targetPoint) } returns clickPoint
-        }
-        every { style.layers } returns listOf(primaryRouteLayer)
-        val primaryRoute: DirectionsRoute = getDirectionsRoute(true)
-        val firstAlternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val secondAlternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val mapRouteLine = MapRouteLine(
-            ctx,
-            style,
-            styleRes,
-            null,
-            layerProvider,
-            mapRouteSourceProvider,
-            null,
-            16,
-            0.375f
-        ).also { it.draw(listOf(primaryRoute, firstAlternativeRoute, secondAlternativeRoute)) }
-        val featureAlternative = mockk<Feature> {
-            every { id() } returns mapRouteLine.retrieveRouteFeatureData()[2]
-                .featureCollection
-                .features()!![0]
-                .id()
-        }
-        val mockMap = mockk<MapboxMap> {
-            every { projection } returns mockProjection
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featureAlternative)
-        }
 
-        val result = mapRouteLine.findClosestRoute(targetPoint, mockMap, 40f)
+        val result = mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(), 10f)
 
-        assertEquals(2, result)
+        assertEquals(-1, result)
     }
 
     @Test
-    fun findClosestRouteWhenNotFound() {
-        val clickPoint = PointF(200f, 200f)
-        val targetPoint = LatLng(37.97, -122.52)
-        val mockProjection = mockk<Projection> {
-            every { toScreenLocation(targetPoint) } returns clickPoint
-        }
+    fun findClosestRouteAfterPrimaryRouteIndexUpdated() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+        val targetPoint = LatLng(37.97514, -122.523348)
+        mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(), 10f)
+
+        mapRouteLine.updatePrimaryRouteIndex(mapRouteLine.retrieveRouteFeatureData()[1].route)
+        val result = mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(), 10f)
+
+        assertEquals(1, result)
+    }
+
+    @Test
+    fun findClosestRouteUsesPaddingAtZoomLevel() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+        val targetPoint = LatLng(37.9725, -122.5265)
+
+        val resultZoomedIn =
+            mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(0.5), 10f)
+        val resultZoomedOut =
+            mapRouteLine.findClosestRoute(targetPoint, mockMapForClosestRouteTest(10.0), 10f)
+
+        assertEquals(-1, resultZoomedIn)
+        assertEquals(1, resultZoomedOut)
+    }
+
+    @Test
+    fun findClosestAlternativeRoute() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+        val alternativeRoute = mapRouteLine.retrieveRouteFeatureData()[1].route
+
+        val result = mapRouteLine.findClosestAlternativeRoute(
+            Point.fromLngLat(-122.523816, 37.975207),
+            30.0
+        )
+
+        assertEquals(alternativeRoute, result)
+    }
+
+    @Test
+    fun findClosestAlternativeRouteWhenNotFound() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+
+        val result = mapRouteLine.findClosestAlternativeRoute(
+            Point.fromLngLat(-122.523348, 37.97514),
+            10.0
+        )
+
+        assertNull(result)
+    }
+
+    @Test
+    fun routeSourcesAreUploadedOncePerDraw() {
+        getMapRouteLineForClosestRouteTest()
+
+        verify(exactly = 1) { primaryRouteLineSource.setGeoJson(any<FeatureCollection>()) }
+        verify(exactly = 1) { alternativeRouteLineSource.setGeoJson(any<FeatureCollection>()) }
+        verify(exactly = 1) { wayPointSource.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    @Test
+    fun unchangedRouteSourcesAreNotUploadedAgain() {
+        val mapRouteLine = getMapRouteLineForClosestRouteTest()
+
+        mapRouteLine.updatePrimaryRouteIndex(mapRouteLine.retrieveRouteFeatureData()[0].route)
+
+        verify(exactly = 1) { primaryRouteLineSource.setGeoJson(any<FeatureCollection>()) }
+        verify(exactly = 1) { alternativeRouteLineSource.setGeoJson(any<FeatureCollection>()) }
+    }
+
+    private fun getMapRouteLineForClosestRouteTest(): MapRouteLine {
         every { style.layers } returns listOf(primaryRouteLayer)
         val primaryRoute: DirectionsRoute = getDirectionsRoute(true)
-        val firstAlternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val secondAlternativeRoute: DirectionsRoute = getDirectionsRoute(true)
-        val mapRouteLine = MapRouteLine(
+        val alternativeRoute: DirectionsRoute = getDirectionsRoute()
+        return MapRouteLine(
             ctx,
             style,
             styleRes,
@@ -2458,48 +2288,16 @@ class MapRouteLineTest {
             null,
             16,
             0.375f
-        ).also { it.draw(listOf(primaryRoute, firstAlternativeRoute, secondAlternativeRoute)) }
-        val featurePrimary = mockk<Feature> {
-            every { id() } returns "whatever"
-        }
-        val featureAlternative = mockk<Feature> {
-            every { id() } returns "foobar"
+        ).also { it.draw(listOf(primaryRoute, alternativeRoute)) }
+    }
+
+    private fun mockMapForClosestRouteTest(metersPerPixel: Double = 1.0): MapboxMap {
+        val mockProjection = mockk<Projection> {
+            every { getMetersPerPixelAtLatitude(any()) } returns metersPerPixel
         }
-        val mockMap = mockk<MapboxMap> {
+        return mockk {
             every { projection } returns mockProjection
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featurePrimary)
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    PRIMARY_ROUTE_LAYER_ID,
-                    PRIMARY_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
-            every {
-                queryRenderedFeatures(
-                    clickPoint,
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf(featureAlternative)
-            every {
-                queryRenderedFeatures(
-                    any<RectF>(),
-                    ALTERNATIVE_ROUTE_LAYER_ID,
-                    ALTERNATIVE_ROUTE_CASING_LAYER_ID
-                )
-            } returns listOf()
         }
-
-        val result = mapRouteLine.findClosestRoute(targetPoint, mockMap, 40f)
-
-        assertEquals(-1, result)
     }
 
     private fun getMultilegRoute(): DirectionsRoute {
@@ -0,0 +1,98 @@
+package com.mapbox.navigation.ui.route
+
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+
+class RouteSegmentIndexTest {
+
+    @Test
+    fun `closest route is found`() {
+        val index = RouteSegmentIndex(listOf(northRoute(), southRoute()))
+
+        val result = index.findClosestRoute(Point.fromLngLat(13.25, 52.5003), 100.0)
+
+        assertEquals(0, result!!.routeIndex)
+        assertEquals(22.3, result.distanceMeters, 0.5)
+    }
+
+    @Test
+    fun `route farther than the distance is not found`() {
+        val index = RouteSegmentIndex(listOf(northRoute(), southRoute()))
+
+        val result = index.findClosestRoute(Point.fromLngLat(13.25, 52.51), 100.0)
+
+        assertNull(result)
+    }
+
+    @Test
+    fun `distance is measured to the segment between the points`() {
+        val lineString = LineString.fromLngLats(
+            listOf(Point.fromLngLat(13.0, 52.5), Point.fromLngLat(13.1, 52.5))
+        )
+        val index = RouteSegmentIndex(listOf(lineString))
+
+        val result = index.findClosestRoute(Point.fromLngLat(13.05, 52.5001), 50.0)
+
+        assertEquals(0, result!!.routeIndex)
+        assertEquals(11.1, result.distanceMeters, 0.5)
+    }
+
+    @Test
+    fun `filtered routes are ignored`() {
+        val index = RouteSegmentIndex(listOf(northRoute(), southRoute()))
+
+        val result = index.findClosestRoute(Point.fromLngLat(13.25, 52.5003), 100.0) { it != 0 }
+
+        assertEquals(1, result!!.routeIndex)
+    }
+
+    @Test
+    fun `route is found with a distance larger than the indexed area`() {
+        val index = RouteSegmentIndex(listOf(northRoute(), southRoute()))
+
+        val result = index.findClosestRoute(Point.fromLngLat(14.0, 53.0), 200_000.0)
+
+        assertEquals(0, result!!.routeIndex)
+    }
+
+    @Test
+    fun `single point route is found`() {
+        val lineString = LineString.fromLngLats(listOf(Point.fromLngLat(13.0, 52.5)))
+        val index = RouteSegmentIndex(listOf(lineString))
+
+        val result = index.findClosestRoute(Point.fromLngLat(13.0, 52.5), 1.0)
+
+        assertEquals(0, result!!.routeIndex)
+        assertEquals(0.0, result.distanceMeters, 0.0)
+    }
+
+    @Test
+    fun `no route is found without routes`() {
+        val index = RouteSegmentIndex(emptyList())
+
+        assertNull(index.findClosestRoute(Point.fromLngLat(13.0, 52.5), 100.0))
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `distance must not be negative`() {
+        RouteSegmentIndex(listOf(northRoute())).findClosestRoute(Point.fromLngLat(13.0, 52.5), -1.0)
+    }
+
+    /**
+     * About 50 km of route with a point every 7 m.
+     */
+    private fun northRoute(): LineString = LineString.fromLngLats(
+        (0 until ROUTE_POINTS).map { Point.fromLngLat(13.0 + it * 0.0001, 52.5005) }
+    )
+
+    private fun southRoute(): LineString = LineString.fromLngLats(
+        (0 until ROUTE_POINTS).map { Point.fromLngLat(13.0 + it * 0.0001, 52.4995) }
+    )
+
+    private companion object {
+        private const val ROUTE_POINTS = 7_000
+    }
+}
@@ -8,6 +8,7 @@ import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Response;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -46,6 +47,23 @@ public class InstructionCacheCallbackTest {
     verify(body).close();
   }
 
+  @Test
+  public void onResponse_bodyIsWrittenToDiskCache() {
+    VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
+    Response<ResponseBody> response = mock(Response.class);
+    ResponseBody body = mock(ResponseBody.class);
+    when(response.body()).thenReturn(body);
+    String url = "http://some.url";
+    Call call = buildMockCall(url);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, "instruction", "ssml");
+
+    callback.onResponse(call, response);
+
+    verify(loader).addCachedUrl(eq(url));
+    verify(loader).cacheInstruction(eq("instruction"), eq("ssml"), eq(body),
+      any(VoiceInstructionDiskCache.Callback.class));
+  }
+
   @Test
   public void onResponse_nullBodyIsIgnored() {
     VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
@@ -0,0 +1,138 @@
+package com.mapbox.navigation.ui.voice
+
+import com.mapbox.navigation.testing.MainCoroutineRule
+import com.mapbox.navigation.utils.internal.JobControl
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.SupervisorJob
+import okhttp3.MediaType
+import okhttp3.ResponseBody
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+
+class VoiceInstructionDiskCacheTest {
+
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
+    @get:Rule
+    var temporaryFolder = TemporaryFolder()
+
+    private val job = SupervisorJob()
+    private val jobControl = JobControl(job, CoroutineScope(job + coroutineRule.testDispatcher))
+
+    @Test
+    fun `cached instruction is found`() {
+        val cache = diskCache(MAX_BYTES)
+
+        val file = put(cache, "a", 10)
+
+        assertNotNull(file)
+        assertEquals(file, cache.get("a"))
+        assertEquals(10, file!!.length())
+        assertEquals(1L, cache.hitCount)
+    }
+
+    @Test
+    fun `missing instruction counts a miss`() {
+        val cache = diskCache(MAX_BYTES)
+
+        assertNull(cache.get("a"))
+        assertEquals(1L, cache.missCount)
+        assertFalse(cache.contains("a"))
+    }
+
+    @Test
+    fun `least recently used instructions are evicted over the budget`() {
+        val cache = diskCache(25)
+        put(cache, "a", 10)
+        put(cache, "b", 10)
+        cache.get("a")
+
+        put(cache, "c", 10)
+
+        assertTrue(cache.contains("a"))
+        assertFalse(cache.contains("b"))
+        assertTrue(cache.contains("c"))
+        assertEquals(20L, cache.sizeBytes())
+        assertEquals(2, temporaryFolder.root.listFiles()!!.size)
+    }
+
+    @Test
+    fun `instructions are reused by a new cache`() {
+        put(diskCache(MAX_BYTES), "a", 10)
+
+        val cache = diskCache(MAX_BYTES)
+
+        assertTrue(cache.contains("a"))
+        assertEquals(10L, cache.sizeBytes())
+    }
+
+    @Test
+    fun `new cache evicts the oldest files over the budget`() {
+        val older = File(temporaryFolder.root, "a.mp3").apply { writeBytes(ByteArray(10)) }
+        older.setLastModified(1000L)
+        File(temporaryFolder.root, "b.mp3").apply { writeBytes(ByteArray(10)) }
+            .setLastModified(2000L)
+
+        val cache = diskCache(15)
+
+        assertFalse(cache.contains("a"))
+        assertTrue(cache.contains("b"))
+        assertFalse(older.exists())
+    }
+
+    @Test
+    fun `caches of the same directory are shared`() {
+        val directory = temporaryFolder.newFolder("shared")
+
+        val cache = VoiceInstructionDiskCache.forDirectory(directory, MAX_BYTES)
+
+        assertSame(cache, VoiceInstructionDiskCache.forDirectory(File(directory.path), MAX_BYTES))
+        assertNotSame(
+            cache,
+            VoiceInstructionDiskCache.forDirectory(temporaryFolder.newFolder("other"), MAX_BYTES)
+        )
+    }
+
+    @Test
+    fun `key depends on text, type and language`() {
+        val key = VoiceInstructionDiskCache.key("turn left", "ssml", "en")
+
+        assertEquals(key, VoiceInstructionDiskCache.key("turn left", "ssml", "en"))
+        assertNotEquals(key, VoiceInstructionDiskCache.key("turn right", "ssml", "en"))
+        assertNotEquals(key, VoiceInstructionDiskCache.key("turn left", "text", "en"))
+        assertNotEquals(key, VoiceInstructionDiskCache.key("turn left", "ssml", "de"))
+    }
+
+    private fun diskCache(maxBytes: Long) =
+        VoiceInstructionDiskCache(temporaryFolder.root, maxBytes, jobControl, jobControl)
+
+    private fun put(cache: VoiceInstructionDiskCache, key: String, size: Int): File? {
+        var result: File? = null
+        val body = ResponseBody.create(MediaType.parse("audio/mpeg"), ByteArray(size))
+        cache.put(
+            key,
+            body,
+            object : VoiceInstructionDiskCache.Callback {
+                override fun onCached(file: File?) {
+                    result = file
+                }
+            }
+        )
+        return result
+    }
+
+    private companion object {
+        private const val MAX_BYTES = 1024L
+    }
+}
@@ -8,7 +8,9 @@ import com.mapbox.navigation.ui.internal.ConnectivityStatusProvider;
 
 import org.junit.Test;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -100,6 +102,27 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     verify(aSpeech, times(0)).enqueueCall(eq(aCallback));
   }
 
+  @Test
+  public void checksNextUpcomingInstructionIsNotifiedWhenCached() {
+    Cache anyCache = mock(Cache.class);
+    MapboxSpeech.Builder anySpeechBuilder = mock(MapboxSpeech.Builder.class);
+    ConnectivityStatusProvider connectivityStatus = mock(ConnectivityStatusProvider.class);
+    Context context = mock(Context.class);
+    VoiceInstructionDiskCache diskCache = mock(VoiceInstructionDiskCache.class);
+    File cachedFile = new File("next.mp3");
+    when(diskCache.peek(VoiceInstructionDiskCache.key("next", "ssml", null))).thenReturn(cachedFile);
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(context, "any_access_token",
+      anyCache, anySpeechBuilder, connectivityStatus, diskCache);
+    VoiceInstructionLoader.UpcomingInstructionListener listener =
+      mock(VoiceInstructionLoader.UpcomingInstructionListener.class);
+    theVoiceInstructionLoader.setUpcomingInstructionListener(listener);
+
+    theVoiceInstructionLoader.setUpcomingInstructions(Arrays.asList("missing", "next"));
+    theVoiceInstructionLoader.setUpcomingInstructions(Arrays.asList("next", "missing"));
+
+    verify(listener, times(1)).onUpcomingInstructionCached(eq(cachedFile));
+  }
+
   private List<String> buildUrlsToCache() {
     List<String> urlsCached = new ArrayList<>();
     urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody"
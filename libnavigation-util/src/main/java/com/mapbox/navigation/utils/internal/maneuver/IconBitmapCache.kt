@@ -0,0 +1,78 @@
+package com.mapbox.navigation.utils.internal.maneuver
+
+import android.graphics.Bitmap
+
+/**
+ * LRU cache of rasterized icons, bounded by the size of the bitmaps in bytes.
+ *
+ * Evicted bitmaps are not recycled, they may still be displayed by a view or a notification.
+ *
+ * @param maxBytes size budget of the cache
+ */
+class IconBitmapCache<K : Any>(private val maxBytes: Int) {
+
+    private val bitmaps = LinkedHashMap<K, Bitmap>(INITIAL_CAPACITY, LOAD_FACTOR, true)
+    private var sizeBytes = 0
+
+    init {
+        check(maxBytes > 0) { "maxBytes must be greater than 0: $maxBytes" }
+    }
+
+    /**
+     * @return the cached icon, or null if it isn't cached
+     */
+    @Synchronized
+    fun get(key: K): Bitmap? = bitmaps[key]
+
+    /**
+     * Caches the icon and evicts the least recently used ones over the budget.
+     * An icon bigger than the whole budget isn't cached.
+     */
+    @Synchronized
+    fun put(key: K, bitmap: Bitmap) {
+        val bytes = bitmap.byteCount
+        if (bytes > maxBytes) {
+            return
+        }
+        bitmaps.put(key, bitmap)?.let { sizeBytes -= it.byteCount }
+        sizeBytes += bytes
+        val iterator = bitmaps.entries.iterator()
+        while (sizeBytes > maxBytes && iterator.hasNext()) {
+            val entry = iterator.next()
+            if (entry.key == key) {
+                continue
+            }
+            sizeBytes -= entry.value.byteCount
+            iterator.remove()
+        }
+    }
+
+    /**
+     * @return the cached icon, or the one created by [render] which is then cached.
+     * [render] is called without holding the cache lock.
+     */
+    fun getOrRender(key: K, render: () -> Bitmap?): Bitmap? {
+        get(key)?.let { return it }
+        val bitmap = render() ?: return null
+        return synchronized(this) {
+            bitmaps[key] ?: bitmap.also { put(key, it) }
+        }
+    }
+
+    @Synchronized
+    fun size(): Int = bitmaps.size
+
+    @Synchronized
+    fun sizeBytes(): Int = sizeBytes
+
+    @Synchronized
+    fun clear() {
+        bitmaps.clear()
+        sizeBytes = 0
+    }
+
+    private companion object {
+        private const val INITIAL_CAPACITY = 16
+        private const val LOAD_FACTOR = 0.75f
+    }
+}
@@ -0,0 +1,225 @@
+package com.mapbox.navigation.utils.internal.maneuver
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.Canvas
+import android.graphics.PointF
+import android.graphics.drawable.Drawable
+import androidx.annotation.ColorInt
+import androidx.annotation.DrawableRes
+import androidx.annotation.StyleRes
+import androidx.core.content.ContextCompat
+import androidx.core.util.Pair
+import com.mapbox.api.directions.v5.models.StepManeuver
+import com.mapbox.navigation.utils.internal.JobControl
+import com.mapbox.navigation.utils.internal.ThreadController
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.MANEUVER_ICON_DRAWER_MAP
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.MANEUVER_TYPES_WITH_NULL_MODIFIERS
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.ROUNDABOUT_MANEUVER_TYPES
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.adjustRoundaboutAngle
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.isManeuverIconNeedFlip
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.launch
+import kotlin.math.roundToInt
+
+/**
+ * Describes a maneuver icon to rasterize.
+ *
+ * @param maneuverType type of the maneuver
+ * @param maneuverModifier modifier of the maneuver
+ * @param drivingSide driving side of the step
+ * @param roundaboutAngle roundabout angle, only used by roundabout maneuver types
+ * @param width of the icon in pixels
+ * @param height of the icon in pixels
+ * @param primaryColor primary color of the icon
+ * @param secondaryColor secondary color of the icon
+ * @param defaultRoundaboutAngle angle a roundabout maneuver type without an angle is drawn with
+ */
+data class ManeuverIconSpec @JvmOverloads constructor(
+    val maneuverType: String?,
+    val maneuverModifier: String?,
+    val drivingSide: String,
+    val roundaboutAngle: Float?,
+    val width: Int,
+    val height: Int,
+    @ColorInt val primaryColor: Int,
+    @ColorInt val secondaryColor: Int,
+    val defaultRoundaboutAngle: Float = 0f
+)
+
+/**
+ * Describes a turn lane icon to rasterize.
+ *
+ * @param drawableRes vector drawable of the lane
+ * @param themeRes theme the drawable is inflated with
+ * @param width of the icon in pixels
+ * @param height of the icon in pixels
+ */
+data class TurnLaneIconSpec(
+    @DrawableRes val drawableRes: Int,
+    @StyleRes val themeRes: Int,
+    val width: Int,
+    val height: Int
+)
+
+/**
+ * Rasterizes maneuver and turn lane icons once and shares them between the maneuver views,
+ * the turn lane views and the trip notification.
+ *
+ * Icons are kept in bounded LRU caches. Roundabout angles are bucketed, so that close angles
+ * share an icon. Icons which need to be flipped for the maneuver and driving side are
+ * rasterized flipped, so that they can be drawn as they are.
+ */
+object ManeuverIconAtlas {
+
+    private const val MANEUVER_ICONS_MAX_BYTES = 4 * 1024 * 1024
+    private const val TURN_LANE_ICONS_MAX_BYTES = 1024 * 1024
+    private const val ROUNDABOUT_ANGLE_BUCKET_DEGREES = 5f
+    private const val NO_ROUNDABOUT_ANGLE = 0f
+
+    internal val maneuverIcons = IconBitmapCache<ManeuverIconSpec>(MANEUVER_ICONS_MAX_BYTES)
+    private val turnLaneIcons = IconBitmapCache<TurnLaneIconSpec>(TURN_LANE_ICONS_MAX_BYTES)
+
+    // not a child of the ThreadController root job, the atlas outlives MapboxNavigation instances
+    internal val preloadJobControl: JobControl = SupervisorJob().let { job ->
+        JobControl(job, CoroutineScope(job + ThreadController.IODispatcher))
+    }
+
+    // ManeuversStyleKit draws with shared static paints and paths
+    private val renderLock = Any()
+
+    /**
+     * @return the rasterized maneuver icon, or null if there is no icon for the maneuver
+     */
+    @JvmStatic
+    fun getManeuverIcon(context: Context, spec: ManeuverIconSpec): Bitmap? {
+        if (spec.width <= 0 || spec.height <= 0) {
+            return null
+        }
+        val key = atlasKey(spec)
+        return maneuverIcons.getOrRender(key) { renderManeuverIcon(context, key) }
+    }
+
+    /**
+     * @param drawable creates the drawable of the lane if the icon isn't cached
+     * @return the rasterized turn lane icon, or null if the drawable couldn't be created
+     */
+    @JvmStatic
+    fun getTurnLaneIcon(spec: TurnLaneIconSpec, drawable: () -> Drawable?): Bitmap? {
+        if (spec.width <= 0 || spec.height <= 0) {
+            return null
+        }
+        return turnLaneIcons.getOrRender(spec) {
+            drawable()?.let { renderDrawable(it, spec.width, spec.height) }
+        }
+    }
+
+    /**
+     * Rasterizes the maneuver icons on a background thread, e.g. for the upcoming steps.
+     */
+    @JvmStatic
+    fun preloadManeuverIcons(context: Context, specs: List<ManeuverIconSpec>) {
+        if (specs.isEmpty()) {
+            return
+        }
+        val applicationContext = context.applicationContext ?: context
+        preloadJobControl.scope.launch {
+            specs.forEach { getManeuverIcon(applicationContext, it) }
+        }
+    }
+
+    /**
+     * Drops all the rasterized icons, e.g. when the memory is low.
+     */
+    @JvmStatic
+    fun clear() {
+        maneuverIcons.clear()
+        turnLaneIcons.clear()
+    }
+
+    /**
+     * @return the spec icons are cached with, the roundabout angle is bucketed and only kept
+     * for roundabout maneuver types, the default angle only for those without an angle
+     */
+    internal fun atlasKey(spec: ManeuverIconSpec): ManeuverIconSpec {
+        val isRoundabout = ROUNDABOUT_MANEUVER_TYPES.contains(spec.maneuverType)
+        val roundaboutAngle = if (isRoundabout) {
+            spec.roundaboutAngle?.let { angle ->
+                val bucket = (adjustRoundaboutAngle(angle) / ROUNDABOUT_ANGLE_BUCKET_DEGREES)
+                    .roundToInt()
+                bucket * ROUNDABOUT_ANGLE_BUCKET_DEGREES
+            }
+        } else {
+            null
+        }
+        val defaultRoundaboutAngle = if (isRoundabout && roundaboutAngle == null) {
+            spec.defaultRoundaboutAngle
+        } else {
+            NO_ROUNDABOUT_ANGLE
+        }
+        return if (
+            roundaboutAngle == spec.roundaboutAngle &&
+            defaultRoundaboutAngle == spec.defaultRoundaboutAngle
+        ) {
+            spec
+        } else {
+            spec.copy(
+                roundaboutAngle = roundaboutAngle,
+                defaultRoundaboutAngle = defaultRoundaboutAngle
+            )
+        }
+    }
+
+    private fun renderManeuverIcon(context: Context, spec: ManeuverIconSpec): Bitmap? {
+        val maneuverType = spec.maneuverType
+        val maneuverModifier = spec.maneuverModifier
+        val maneuver = when {
+            MANEUVER_TYPES_WITH_NULL_MODIFIERS.contains(maneuverType) -> Pair(maneuverType, null)
+            StepManeuver.ARRIVE != maneuverType && maneuverModifier != null -> Pair(
+                null,
+                maneuverModifier
+            )
+            else -> Pair(maneuverType, maneuverModifier)
+        }
+        val maneuverIconDrawer = MANEUVER_ICON_DRAWER_MAP[maneuver] ?: return null
+
+        // FIXME temp solution, data issue: roundabout turn 360 degree are set with null angle
+        if (maneuverType == StepManeuver.ROUNDABOUT && spec.roundaboutAngle == null) {
+            val drawable = ContextCompat.getDrawable(
+                context,
+                ManeuverIconHelper.provideGenericRoundabout(spec.drivingSide)
+            ) ?: return null
+            return renderDrawable(drawable, spec.width, spec.height)
+        }
+
+        val maneuverImage = Bitmap.createBitmap(spec.width, spec.height, Bitmap.Config.ARGB_8888)
+        val maneuverCanvas = Canvas(maneuverImage)
+        if (isManeuverIconNeedFlip(maneuverType, maneuverModifier, spec.drivingSide)) {
+            maneuverCanvas.scale(-1f, 1f, spec.width / 2f, spec.height / 2f)
+        }
+        synchronized(renderLock) {
+            maneuverIconDrawer.drawManeuverIcon(
+                maneuverCanvas,
+                spec.primaryColor,
+                spec.secondaryColor,
+                PointF(spec.width.toFloat(), spec.height.toFloat()),
+                spec.roundaboutAngle ?: spec.defaultRoundaboutAngle
+            )
+        }
+        return maneuverImage
+    }
+
+    private fun renderDrawable(drawable: Drawable, width: Int, height: Int): Bitmap {
+        val bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+        val canvas = Canvas(bitmap)
+        synchronized(renderLock) {
+            // drawables from resources share their state, their bounds are restored after drawing
+            val bounds = drawable.copyBounds()
+            drawable.setBounds(0, 0, width, height)
+            drawable.draw(canvas)
+            drawable.bounds = bounds
+        }
+        return bitmap
+    }
+}
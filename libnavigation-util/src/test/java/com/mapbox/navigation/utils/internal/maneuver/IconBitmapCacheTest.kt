@@ -0,0 +1,94 @@
+package com.mapbox.navigation.utils.internal.maneuver
+
+import android.graphics.Bitmap
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class IconBitmapCacheTest {
+
+    @Test
+    fun `icon is rendered once`() {
+        val cache = IconBitmapCache<String>(100)
+        val icon = bitmap(10)
+        var renders = 0
+
+        repeat(3) {
+            cache.getOrRender("left") {
+                renders++
+                icon
+            }
+        }
+
+        assertEquals(1, renders)
+        assertSame(icon, cache.get("left"))
+    }
+
+    @Test
+    fun `least recently used icons are evicted over the budget`() {
+        val cache = IconBitmapCache<String>(100)
+        val left = bitmap(40)
+        cache.put("left", left)
+        cache.put("right", bitmap(40))
+        cache.get("left")
+
+        cache.put("straight", bitmap(40))
+
+        assertSame(left, cache.get("left"))
+        assertNull(cache.get("right"))
+        assertEquals(2, cache.size())
+        assertEquals(80, cache.sizeBytes())
+    }
+
+    @Test
+    fun `replaced icon is not counted twice`() {
+        val cache = IconBitmapCache<String>(100)
+
+        cache.put("left", bitmap(40))
+        cache.put("left", bitmap(30))
+
+        assertEquals(1, cache.size())
+        assertEquals(30, cache.sizeBytes())
+    }
+
+    @Test
+    fun `icon bigger than the budget is not cached`() {
+        val cache = IconBitmapCache<String>(100)
+        val icon = bitmap(101)
+
+        assertSame(icon, cache.getOrRender("left") { icon })
+        assertEquals(0, cache.size())
+    }
+
+    @Test
+    fun `missing icon is not cached`() {
+        val cache = IconBitmapCache<String>(100)
+
+        cache.getOrRender("left") { null }
+
+        assertEquals(0, cache.size())
+    }
+
+    @Test
+    fun `clear drops all icons`() {
+        val cache = IconBitmapCache<String>(100)
+        cache.put("left", bitmap(40))
+
+        cache.clear()
+
+        assertEquals(0, cache.size())
+        assertEquals(0, cache.sizeBytes())
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun `max bytes must be positive`() {
+        IconBitmapCache<String>(0)
+    }
+
+    private fun bitmap(byteCount: Int): Bitmap = mockk {
+        every { this@mockk.byteCount } returns byteCount
+    }
+}
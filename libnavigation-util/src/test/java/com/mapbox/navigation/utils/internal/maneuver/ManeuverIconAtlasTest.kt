@@ -0,0 +1,107 @@
+package com.mapbox.navigation.utils.internal.maneuver
+
+import androidx.test.core.app.ApplicationProvider
+import com.mapbox.api.directions.v5.models.StepManeuver
+import com.mapbox.navigation.utils.internal.ThreadController
+import kotlinx.coroutines.joinAll
+import kotlinx.coroutines.runBlocking
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class ManeuverIconAtlasTest {
+
+    @After
+    fun tearDown() {
+        ManeuverIconAtlas.clear()
+    }
+
+    @Test
+    fun `close roundabout angles share an icon`() {
+        val first = ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROUNDABOUT, 91f))
+        val second = ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROUNDABOUT, 92.4f))
+
+        assertEquals(90f, first.roundaboutAngle)
+        assertEquals(first, second)
+    }
+
+    @Test
+    fun `roundabout angle is kept within the drawable range`() {
+        val key = ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROUNDABOUT, 10f))
+
+        assertEquals(60f, key.roundaboutAngle)
+    }
+
+    @Test
+    fun `missing roundabout angle is kept`() {
+        val key = ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROUNDABOUT, null))
+
+        assertNull(key.roundaboutAngle)
+    }
+
+    @Test
+    fun `default angle is kept for roundabout without angle`() {
+        val key = ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROTARY, null, 60f))
+
+        assertEquals(60f, key.defaultRoundaboutAngle)
+        assertNotEquals(ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROTARY, null)), key)
+    }
+
+    @Test
+    fun `default angle is ignored when the angle is set`() {
+        val key = ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROTARY, 90f, 60f))
+
+        assertEquals(ManeuverIconAtlas.atlasKey(spec(StepManeuver.ROTARY, 90f)), key)
+    }
+
+    @Test
+    fun `angle is ignored for other maneuver types`() {
+        val key = ManeuverIconAtlas.atlasKey(spec(StepManeuver.TURN, 90f))
+
+        assertNull(key.roundaboutAngle)
+        assertEquals(ManeuverIconAtlas.atlasKey(spec(StepManeuver.TURN, null)), key)
+    }
+
+    @Test
+    fun `normalized spec is reused`() {
+        val spec = spec(StepManeuver.TURN, null)
+
+        assertSame(spec, ManeuverIconAtlas.atlasKey(spec))
+    }
+
+    @Test
+    fun `icons are preloaded after the navigation coroutines are cancelled`() {
+        ManeuverIconAtlas.clear()
+        ThreadController.cancelAllNonUICoroutines()
+
+        ManeuverIconAtlas.preloadManeuverIcons(
+            ApplicationProvider.getApplicationContext(),
+            listOf(spec(StepManeuver.TURN, null))
+        )
+        runBlocking { ManeuverIconAtlas.preloadJobControl.job.children.toList().joinAll() }
+
+        assertEquals(1, ManeuverIconAtlas.maneuverIcons.size())
+    }
+
+    private fun spec(
+        maneuverType: String,
+        roundaboutAngle: Float?,
+        defaultRoundaboutAngle: Float = 0f
+    ) = ManeuverIconSpec(
+        maneuverType,
+        "left",
+        "right",
+        roundaboutAngle,
+        64,
+        64,
+        0,
+        0,
+        defaultRoundaboutAngle
+    )
+}
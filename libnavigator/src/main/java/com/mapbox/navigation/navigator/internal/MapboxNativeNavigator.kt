@@ -53,13 +53,13 @@ interface MapboxNativeNavigator {
     suspend fun updateLocation(rawLocation: Location): Boolean
 
     /**
-     * Passes in the current sensor data of the user.
+     * Passes in a batch of sensor data of the user, in a single dispatch to the navigator thread.
      *
-     * @param sensorData The current sensor data of user.
+     * @param sensorData The sensor data of user, ordered by time.
      *
-     * @return true if the sensor data was usable, false if not.
+     * @return the number of sensor data that were usable.
      */
-    fun updateSensorData(sensorData: SensorData): Boolean
+    suspend fun updateSensorData(sensorData: List<SensorData>): Int
 
     /**
      * Gets the status as an offset in time from the last fixed location. This
@@ -83,15 +83,16 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
         }
 
     /**
-     * Passes in the current sensor data of the user.
+     * Passes in a batch of sensor data of the user, in a single dispatch to the navigator thread.
      *
-     * @param sensorData The current sensor data of user.
+     * @param sensorData The sensor data of user, ordered by time.
      *
-     * @return true if the sensor data was usable, false if not.
+     * @return the number of sensor data that were usable.
      */
-    override fun updateSensorData(sensorData: SensorData): Boolean {
-        return navigator!!.updateSensorData(sensorData)
-    }
+    override suspend fun updateSensorData(sensorData: List<SensorData>): Int =
+        withContext(NavigatorDispatcher) {
+            sensorData.count { navigator!!.updateSensorData(it) }
+        }
 
     /**
      * Gets the status as an offset in time from the last fixed location. This
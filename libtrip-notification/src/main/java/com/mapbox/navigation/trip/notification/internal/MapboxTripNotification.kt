@@ -8,26 +8,19 @@ import android.content.BroadcastReceiver
 import android.content.Context
 import android.content.Intent
 import android.content.IntentFilter
-import android.graphics.Bitmap
-import android.graphics.Canvas
-import android.graphics.Matrix
-import android.graphics.PointF
 import android.os.Build
 import android.text.SpannableString
-import android.text.TextUtils
 import android.text.format.DateFormat
 import android.view.View.GONE
 import android.view.View.VISIBLE
 import android.widget.RemoteViews
 import androidx.core.app.NotificationCompat
 import androidx.core.content.ContextCompat
-import androidx.core.util.Pair
 import com.mapbox.annotation.module.MapboxModule
 import com.mapbox.annotation.module.MapboxModuleType
 import com.mapbox.api.directions.v5.models.BannerInstructions
 import com.mapbox.api.directions.v5.models.BannerText
 import com.mapbox.api.directions.v5.models.ManeuverModifier
-import com.mapbox.api.directions.v5.models.StepManeuver
 import com.mapbox.api.directions.v5.models.StepManeuver.StepManeuverType
 import com.mapbox.navigation.base.formatter.DistanceFormatter
 import com.mapbox.navigation.base.internal.time.TimeFormatter.formatTime
@@ -45,12 +38,10 @@ import com.mapbox.navigation.utils.internal.NOTIFICATION_ID
 import com.mapbox.navigation.utils.internal.SET_BACKGROUND_COLOR
 import com.mapbox.navigation.utils.internal.ifChannelException
 import com.mapbox.navigation.utils.internal.ifNonNull
-import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper
-import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.MANEUVER_ICON_DRAWER_MAP
-import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.MANEUVER_TYPES_WITH_NULL_MODIFIERS
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconAtlas
 import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.ROUNDABOUT_MANEUVER_TYPES
 import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.adjustRoundaboutAngle
-import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconHelper.isManeuverIconNeedFlip
+import com.mapbox.navigation.utils.internal.maneuver.ManeuverIconSpec
 import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.channels.ClosedReceiveChannelException
 import kotlinx.coroutines.channels.ClosedSendChannelException
@@ -75,6 +66,9 @@ class MapboxTripNotification constructor(
          */
         var notificationActionButtonChannel = Channel<NotificationAction>(1)
 
+        // updates stored in the RemoteViews before they are rebuilt
+        private const val MAX_REMOTE_VIEWS_UPDATES = 64
+
         private const val MAPBOX_NAVIGATION_NOTIFICATION_FORMATTER_EXCEPTION =
             "You need to provide a DistanceFormatter in order to use the default " +
                 "TripNotification. Also see MapboxNavigation#defaultNavigationOptionsBuilder"
@@ -91,6 +85,10 @@ class MapboxTripNotification constructor(
 
     private var currentInstructionText: String? = null
     private var currentDistanceText: SpannableString? = null
+    private var currentArrivalText: String? = null
+    private var currentManeuverIcon: ManeuverIconSpec? = null
+    private var currentFreeDriveMode: Boolean? = null
+    private var remoteViewsUpdates = 0
     private var collapsedNotificationRemoteViews: RemoteViews? = null
     private var expandedNotificationRemoteViews: RemoteViews? = null
     private var pendingOpenIntent: PendingIntent? = null
@@ -149,10 +147,19 @@ class MapboxTripNotification constructor(
      */
     override fun updateNotification(routeProgress: RouteProgress?) {
         // RemoteView has an internal mActions, which stores every change and cannot be cleared.
-        // As we set new bitmaps, the mActions parcelable size will grow and eventually cause a crash.
-        // buildRemoteViews() will rebuild the RemoteViews and clear the stored mActions.
-        buildRemoteViews()
-        updateNotificationViews(routeProgress)
+        // As we set new values, the mActions parcelable size will grow and eventually cause a crash.
+        // The RemoteViews are kept between updates and only the changed values are set,
+        // buildRemoteViews() rebuilds them and clears the stored mActions once enough are stored.
+        if (remoteViewsUpdates >= MAX_REMOTE_VIEWS_UPDATES) {
+            buildRemoteViews()
+            clearViewsState()
+        }
+        val updates = updateNotificationViews(routeProgress)
+        if (updates == 0) {
+            // nothing visible changed, e.g. the distance still rounds to the same text
+            return
+        }
+        remoteViewsUpdates += updates
         notification = NavigationNotificationProvider.buildNotification(getNotificationBuilder())
         notificationManager.notify(NOTIFICATION_ID, notification)
     }
@@ -175,8 +182,8 @@ class MapboxTripNotification constructor(
     override fun onTripSessionStopped() {
         currentManeuverType = null
         currentManeuverModifier = null
-        currentInstructionText = null
-        currentDistanceText = null
+        currentRoundaboutAngle = null
+        clearViewsState()
 
         collapsedNotificationRemoteViews?.apply {
             setTextViewText(R.id.notificationDistanceText, "")
@@ -201,6 +208,15 @@ class MapboxTripNotification constructor(
         }
     }
 
+    private fun clearViewsState() {
+        currentInstructionText = null
+        currentDistanceText = null
+        currentArrivalText = null
+        currentManeuverIcon = null
+        currentFreeDriveMode = null
+        remoteViewsUpdates = 0
+    }
+
     private fun registerReceiver() {
         applicationContext.registerReceiver(
             notificationReceiver,
@@ -298,32 +314,45 @@ class MapboxTripNotification constructor(
         }
     }
 
-    private fun updateNotificationViews(routeProgress: RouteProgress?) {
-        routeProgress?.let {
-            updateInstructionText(routeProgress.bannerInstructions)
-            updateDistanceText(routeProgress)
+    /**
+     * Sets the values which changed since the last update to the RemoteViews.
+     *
+     * @return number of values set
+     */
+    private fun updateNotificationViews(routeProgress: RouteProgress?): Int {
+        var updates = 0
+        if (routeProgress != null) {
+            if (setFreeDriveMode(false)) updates++
+            if (updateInstructionText(routeProgress.bannerInstructions)) updates++
+            if (updateDistanceText(routeProgress)) updates++
             generateArrivalTime(routeProgress)?.let { formattedTime ->
-                updateViewsWithArrival(formattedTime)
+                if (updateViewsWithArrival(formattedTime)) updates++
             }
             routeProgress.bannerInstructions?.let { bannerInstructions ->
-                if (isManeuverStateChanged(bannerInstructions)) {
-                    updateManeuverImage(
-                        routeProgress.currentLegProgress?.currentStepProgress?.step?.drivingSide()
-                            ?: ManeuverModifier.RIGHT
-                    )
-                }
+                updateManeuverState(bannerInstructions)
+                val drivingSide =
+                    routeProgress.currentLegProgress?.currentStepProgress?.step?.drivingSide()
+                        ?: ManeuverModifier.RIGHT
+                if (updateManeuverImage(drivingSide)) updates++
             }
-            setFreeDriveMode(false)
-        } ?: setFreeDriveMode(true)
+        } else {
+            if (setFreeDriveMode(true)) updates++
+        }
+        return updates
     }
 
-    private fun setFreeDriveMode(isFreeDriveMode: Boolean) {
+    private fun setFreeDriveMode(isFreeDriveMode: Boolean): Boolean {
+        if (currentFreeDriveMode == isFreeDriveMode) {
+            return false
+        }
+        currentFreeDriveMode = isFreeDriveMode
         updateEtaContentVisibility(isFreeDriveMode)
         updateInstructionTextVisibility(isFreeDriveMode)
         updateFreeDriveTextVisibility(isFreeDriveMode)
         updateManeuverImageResource(isFreeDriveMode)
         updateEndNavigationBtnText(isFreeDriveMode)
         updateCurrentManeuverToDefault(isFreeDriveMode)
+        return true
     }
 
     private fun updateEtaContentVisibility(isFreeDriveMode: Boolean) {
@@ -384,7 +413,7 @@ class MapboxTripNotification constructor(
         }
     }
 
-    private fun updateInstructionText(bannerInstruction: BannerInstructions?) {
+    private fun updateInstructionText(bannerInstruction: BannerInstructions?): Boolean {
         bannerInstruction?.let { bannerIns ->
             val primaryText = bannerIns.primary().text()
             if (currentInstructionText.isNullOrEmpty() || currentInstructionText != primaryText) {
@@ -397,18 +426,21 @@ class MapboxTripNotification constructor(
                     primaryText
                 )
                 currentInstructionText = primaryText
+                return true
             }
         }
+        return false
     }
 
-    private fun updateDistanceText(routeProgress: RouteProgress) {
+    private fun updateDistanceText(routeProgress: RouteProgress): Boolean {
         val distanceRemaining =
             routeProgress.currentLegProgress?.currentStepProgress?.distanceRemaining
         val formattedDistance = distanceRemaining?.let { distanceRemaining ->
             distanceFormatter.formatDistance(distanceRemaining.toDouble())
-        } ?: return
+        } ?: return false
 
-        if (currentDistanceText != formattedDistance) {
+        // compared as text, the formatter returns a new SpannableString for every distance
+        if (currentDistanceText?.toString() != formattedDistance.toString()) {
             currentDistanceText = formattedDistance
             collapsedNotificationRemoteViews?.setTextViewText(
                 R.id.notificationDistanceText,
@@ -418,7 +450,9 @@ class MapboxTripNotification constructor(
                 R.id.notificationDistanceText,
                 currentDistanceText.toString()
             )
+            return true
         }
+        return false
     }
 
     private fun generateArrivalTime(
@@ -437,9 +471,14 @@ class MapboxTripNotification constructor(
             String.format(etaFormat, arrivalTime)
         }
 
-    private fun updateViewsWithArrival(time: String) {
+    private fun updateViewsWithArrival(time: String): Boolean {
+        if (currentArrivalText == time) {
+            return false
+        }
+        currentArrivalText = time
         collapsedNotificationRemoteViews?.setTextViewText(R.id.notificationArrivalText, time)
         expandedNotificationRemoteViews?.setTextViewText(R.id.notificationArrivalText, time)
+        return true
     }
 
     private fun updateCurrentManeuverToDefault(isFreeDriveMode: Boolean) {
@@ -447,87 +486,22 @@ class MapboxTripNotification constructor(
             currentManeuverType = null
             currentManeuverModifier = null
             currentRoundaboutAngle = null
+            currentManeuverIcon = null
         }
     }
 
-    private fun updateManeuverImage(drivingSide: String) {
-        getManeuverBitmap(
-            currentManeuverType ?: "",
+    private fun updateManeuverImage(drivingSide: String): Boolean {
+        val maneuverIcon = ManeuverIconSpec(
+            currentManeuverType,
             currentManeuverModifier,
             drivingSide,
-            currentRoundaboutAngle
-        )?.let { bitmap ->
-            collapsedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
-            expandedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
-        }
-    }
-
-    private fun isManeuverStateChanged(bannerInstruction: BannerInstructions): Boolean {
-        val previousManeuverType = currentManeuverType
-        val previousManeuverModifier = currentManeuverModifier
-        val previousRoundaboutAngle = currentRoundaboutAngle
-
-        updateManeuverState(bannerInstruction)
-
-        return !TextUtils.equals(currentManeuverType, previousManeuverType) ||
-            !TextUtils.equals(currentManeuverModifier, previousManeuverModifier) ||
-            currentRoundaboutAngle != previousRoundaboutAngle
-    }
-
-    private fun updateManeuverState(bannerInstruction: BannerInstructions) {
-        currentManeuverType = bannerInstruction.primary().type()
-        currentManeuverModifier = bannerInstruction.primary().modifier()
-
-        currentRoundaboutAngle = if (ROUNDABOUT_MANEUVER_TYPES.contains(currentManeuverType)) {
-            bannerInstruction.primary().degrees()?.toFloat()?.let {
-                adjustRoundaboutAngle(it)
-            }
-        } else {
-            null
-        }
-    }
-
-    private fun getManeuverBitmap(
-        maneuverType: String,
-        maneuverModifier: String?,
-        drivingSide: String,
-        roundaboutAngle: Float?
-    ): Bitmap? {
-        val maneuver = when {
-            MANEUVER_TYPES_WITH_NULL_MODIFIERS.contains(maneuverType) -> Pair(maneuverType, null)
-            !StepManeuver.ARRIVE.contentEquals(maneuverType) && maneuverModifier != null -> Pair(
-                null,
-                maneuverModifier
-            )
-            else -> Pair(maneuverType, maneuverModifier)
-        }
-
-        val width =
+            currentRoundaboutAngle,
             applicationContext
                 .resources
-                .getDimensionPixelSize(R.dimen.mapbox_notification_maneuver_image_width)
-        val height =
+                .getDimensionPixelSize(R.dimen.mapbox_notification_maneuver_image_width),
             applicationContext
                 .resources
-                .getDimensionPixelSize(R.dimen.mapbox_notification_maneuver_image_height)
-
-        val maneuverImage = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
-        val maneuverCanvas = Canvas(maneuverImage)
-
-        // FIXME temp solution, data issue: roundabout turn 360 degree are set with null angle
-        if (maneuverType == StepManeuver.ROUNDABOUT && roundaboutAngle == null) {
-            val drawable =
-                ContextCompat.getDrawable(
-                    applicationContext,
-                    ManeuverIconHelper.provideGenericRoundabout(drivingSide)
-                )
-            drawable?.setBounds(0, 0, maneuverCanvas.width, maneuverCanvas.height)
-            drawable?.draw(maneuverCanvas)
-            return maneuverImage
-        }
-
-        MANEUVER_ICON_DRAWER_MAP[maneuver]?.drawManeuverIcon(
-            maneuverCanvas,
+                .getDimensionPixelSize(R.dimen.mapbox_notification_maneuver_image_height),
             ContextCompat.getColor(
                 applicationContext,
                 R.color.mapbox_navigation_view_color_banner_maneuver_primary
@@ -535,27 +509,29 @@ class MapboxTripNotification constructor(
             ContextCompat.getColor(
                 applicationContext,
                 R.color.mapbox_navigation_view_color_banner_maneuver_secondary
-            ),
-            PointF(width.toFloat(), height.toFloat()),
-            roundaboutAngle ?: 0f
+            )
         )
+        if (maneuverIcon == currentManeuverIcon) {
+            return false
+        }
+        val bitmap =
+            ManeuverIconAtlas.getManeuverIcon(applicationContext, maneuverIcon) ?: return false
+        currentManeuverIcon = maneuverIcon
+        collapsedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
+        expandedNotificationRemoteViews?.setImageViewBitmap(R.id.maneuverImage, bitmap)
+        return true
+    }
 
-        maneuverCanvas.restoreToCount(maneuverCanvas.saveCount)
-
-        return if (
-            isManeuverIconNeedFlip(currentManeuverType, currentManeuverModifier, drivingSide)
-        ) {
-            Bitmap.createBitmap(
-                maneuverImage,
-                0,
-                0,
-                width,
-                height,
-                Matrix().apply { preScale(-1f, 1f) },
-                false
-            )
+    private fun updateManeuverState(bannerInstruction: BannerInstructions) {
+        currentManeuverType = bannerInstruction.primary().type()
+        currentManeuverModifier = bannerInstruction.primary().modifier()
+
+        currentRoundaboutAngle = if (ROUNDABOUT_MANEUVER_TYPES.contains(currentManeuverType)) {
+            bannerInstruction.primary().degrees()?.toFloat()?.let {
+                adjustRoundaboutAngle(it)
+            }
         } else {
-            maneuverImage
+            null
         }
     }
 
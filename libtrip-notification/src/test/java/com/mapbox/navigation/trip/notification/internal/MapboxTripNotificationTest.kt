@@ -274,6 +274,47 @@ class MapboxTripNotificationTest {
         assertEquals(notification.currentManeuverModifier, MANEUVER_MODIFIER)
     }
 
+    @Test
+    fun whenUpdateNotificationCalledTwiceWithSameDataThenNotificationIsPostedOnce() {
+        val notificationManager =
+            mockedContext.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockBannerText(routeProgress, { "Primary Text" })
+        mockLegProgress(routeProgress, 30f, 112.4)
+        mockUpdateNotificationAndroidInteractions()
+        mockTimeFormatter("at ")
+
+        notification.updateNotification(routeProgress)
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { notificationManager.notify(NOTIFICATION_ID, any()) }
+    }
+
+    @Test
+    fun whenUpdateNotificationCalledWithChangedDataThenRemoteViewsAreNotRebuilt() {
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        var primaryText = "Primary Text"
+        mockBannerText(routeProgress, { primaryText })
+        mockUpdateNotificationAndroidInteractions()
+
+        notification.updateNotification(routeProgress)
+        primaryText = "Changed Primary Text"
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) {
+            RemoteViewsProvider.createRemoteViews(
+                any(),
+                R.layout.mapbox_notification_navigation_collapsed
+            )
+        }
+        verify(exactly = 1) {
+            RemoteViewsProvider.createRemoteViews(
+                any(),
+                R.layout.mapbox_notification_navigation_expanded
+            )
+        }
+    }
+
     @Test
     fun whenGoThroughStartUpdateStopCycleThenNotificationCacheDropped() {
         val routeProgress = mockk<RouteProgress>(relaxed = true)
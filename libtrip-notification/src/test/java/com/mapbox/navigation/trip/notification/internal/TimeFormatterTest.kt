@@ -9,7 +9,10 @@ import com.mapbox.navigation.base.TimeFormat.NONE_SPECIFIED
 import com.mapbox.navigation.base.TimeFormat.TWELVE_HOURS
 import com.mapbox.navigation.base.TimeFormat.TWENTY_FOUR_HOURS
 import com.mapbox.navigation.base.internal.time.TimeFormatter
+import io.mockk.spyk
+import io.mockk.verify
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -27,6 +30,7 @@ class TimeFormatterTest {
     @Before
     fun setup() {
         ctx = ApplicationProvider.getApplicationContext<Context>()
+        TimeFormatter.clearCache()
     }
 
     @Config(qualifiers = "en")
@@ -184,4 +188,25 @@ class TimeFormatterTest {
 
         assertEquals("5 hr ", result.toString())
     }
+
+    @Config(qualifiers = "en")
+    @Test
+    fun formatTimeRemainingResolvesLocalizedResourcesOnce() {
+        val context = spyk(ctx)
+
+        repeat(10) { TimeFormatter.formatTimeRemaining(context, 428.0 + it * 60, Locale("it")) }
+
+        verify(exactly = 1) { context.createConfigurationContext(any()) }
+    }
+
+    @Config(qualifiers = "en")
+    @Test
+    fun formatTimeRemainingSameMinuteIsFormattedOnce() {
+        val first = TimeFormatter.formatTimeRemaining(ctx, 4286.3, null)
+        val second = TimeFormatter.formatTimeRemaining(ctx, 4289.0, null)
+
+        assertEquals("1 hr 11 min ", first.toString())
+        assertEquals("1 hr 11 min ", second.toString())
+        assertNotSame(first, second)
+    }
 }